@@ -1,14 +1,20 @@
 package com.creatureadoption.adoptions;
 
-import org.apache.hc.client5.http.classic.HttpClient;
-import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import com.creatureadoption.adoptions.domainclientlayer.HttpClientProperties;
+import com.creatureadoption.adoptions.domainclientlayer.PooledRequestFactory;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.MongoTransactionManager;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.web.client.RestTemplate;
 
 @SpringBootApplication
+@EnableScheduling
+@EnableConfigurationProperties(HttpClientProperties.class)
 public class AdoptionsServiceApplication {
 
 	public static void main(String[] args) {
@@ -16,11 +22,20 @@ public class AdoptionsServiceApplication {
 	}
 
 	@Bean
-	RestTemplate restTemplate() {
+	PooledRequestFactory pooledRequestFactory(HttpClientProperties httpClientProperties, MeterRegistry meterRegistry) {
+		return new PooledRequestFactory(httpClientProperties, meterRegistry);
+	}
+
+	@Bean
+	RestTemplate restTemplate(PooledRequestFactory pooledRequestFactory) {
 		RestTemplate restTemplate = new RestTemplate();
-		HttpClient httpClient = HttpClientBuilder.create().build();
-		HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(httpClient);
-		restTemplate.setRequestFactory(requestFactory);
+		restTemplate.setRequestFactory(pooledRequestFactory);
 		return restTemplate;
 	}
+
+	// Adoption writes and their outbox entries commit together; needs MongoDB running as a replica set
+	@Bean
+	MongoTransactionManager transactionManager(MongoDatabaseFactory databaseFactory) {
+		return new MongoTransactionManager(databaseFactory);
+	}
 }
\ No newline at end of file
@@ -0,0 +1,120 @@
+package com.creatureadoption.adoptions.businesslayer;
+
+import com.creatureadoption.adoptions.dataaccesslayer.Adoption;
+import com.creatureadoption.adoptions.dataaccesslayer.archive.AdoptionArchive;
+import com.creatureadoption.adoptions.dataaccesslayer.archive.AdoptionArchiveCheckpoint;
+import com.creatureadoption.adoptions.dataaccesslayer.archive.AdoptionArchiveCheckpointRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Sweeps CANCELLED and RETURNED adoptions older than the minimum age into the archive, a bounded batch at a
+ * time. Each run moves at most a fixed number of batches; a sweep that does not finish within one run is
+ * picked up from its checkpoint by the next, and a new sweep starts once the previous one has completed.
+ */
+@Slf4j
+@Component
+public class AdoptionArchiver {
+
+    static final String CHECKPOINT_ID = "adoptions";
+
+    private final AdoptionArchive archive;
+    private final AdoptionArchiveCheckpointRepository checkpointRepository;
+    private final boolean enabled;
+    private final int minAgeDays;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final long batchPauseMs;
+    private final Counter archived;
+
+    public AdoptionArchiver(AdoptionArchive archive,
+                            AdoptionArchiveCheckpointRepository checkpointRepository,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.archive.enabled:true}") boolean enabled,
+                            @Value("${app.archive.min-age-days:90}") int minAgeDays,
+                            @Value("${app.archive.batch-size:500}") int batchSize,
+                            @Value("${app.archive.max-batches-per-run:200}") int maxBatchesPerRun,
+                            @Value("${app.archive.batch-pause-ms:100}") long batchPauseMs) {
+        this.archive = archive;
+        this.checkpointRepository = checkpointRepository;
+        this.enabled = enabled;
+        this.minAgeDays = minAgeDays;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.batchPauseMs = batchPauseMs;
+        this.archived = Counter.builder("adoptions.archive.moved")
+                .description("Adoptions moved into the archive")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.archive.interval-ms:3600000}",
+            initialDelayString = "${app.archive.interval-ms:3600000}")
+    public void archive() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            long started = System.currentTimeMillis();
+            int moved = archiveBatches();
+            if (moved > 0) {
+                log.info("Archived {} adoptions in {} ms", moved, System.currentTimeMillis() - started);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not archive adoptions, the next run resumes from the checkpoint: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Runs up to the per-run number of batches of the current sweep, starting a new sweep when none is in progress.
+     *
+     * @return the number of adoptions archived
+     */
+    int archiveBatches() {
+        LocalDateTime now = LocalDateTime.now();
+        AdoptionArchiveCheckpoint checkpoint = checkpointRepository.findById(CHECKPOINT_ID)
+                .orElseGet(() -> AdoptionArchiveCheckpoint.builder().id(CHECKPOINT_ID).build());
+        if (!checkpoint.isInProgress()) {
+            checkpoint.start(now.minusDays(minAgeDays), now);
+        }
+
+        int moved = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            List<Adoption> adoptions = archive.findArchivable(checkpoint, batchSize);
+            if (!adoptions.isEmpty()) {
+                checkpoint.advanceTo(adoptions.get(adoptions.size() - 1));
+            }
+            // A short batch is the end of the sweep, recorded together with its last moves
+            if (adoptions.size() < batchSize) {
+                checkpoint.setCompletedAt(LocalDateTime.now());
+            }
+            int archivedInBatch = archive.archive(adoptions, checkpoint);
+            moved += archivedInBatch;
+            archived.increment(archivedInBatch);
+            if (!checkpoint.isInProgress() || !pause()) {
+                break;
+            }
+        }
+        return moved;
+    }
+
+    // Returns false when interrupted, so the run stops and leaves the rest of the sweep to the next one
+    private boolean pause() {
+        if (batchPauseMs <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(batchPauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
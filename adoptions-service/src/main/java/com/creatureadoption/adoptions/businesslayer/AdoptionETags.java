@@ -0,0 +1,107 @@
+package com.creatureadoption.adoptions.businesslayer;
+
+import com.creatureadoption.adoptions.presentationlayer.AdoptionResponseModel;
+import com.creatureadoption.adoptions.utils.exceptions.InvalidInputException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Set;
+
+/**
+ * Strong entity tags for a single adoption, in the form {@code "<version>-<digest>"}: the adoption version,
+ * followed by a digest of the customer, creature and training details shown with it. The tag therefore
+ * changes when the adoption is written and when one of its enrichment sources changes.
+ */
+public final class AdoptionETags {
+
+    private static final int DIGEST_BYTES = 8;
+
+    private AdoptionETags() {
+    }
+
+    /**
+     * @return the tag of the given response, or null for an adoption stored before it was versioned
+     */
+    public static String of(AdoptionResponseModel adoption) {
+        if (adoption.getVersion() == null) {
+            return null;
+        }
+        MessageDigest digest = sha256();
+        Object[] details = {
+                adoption.getCustomerFirstName(), adoption.getCustomerLastName(),
+                adoption.getCreatureName(), adoption.getCreatureSpecies(), adoption.getCreatureStatus(),
+                adoption.getTrainingName(), adoption.getTrainingLocation()
+        };
+        for (Object detail : details) {
+            digest.update(String.valueOf(detail).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        }
+        return "\"" + adoption.getVersion() + "-" + HexFormat.of().formatHex(digest.digest(), 0, DIGEST_BYTES) + "\"";
+    }
+
+    /**
+     * If-None-Match check: true when the header is {@code *} or names the tag, compared weakly as RFC 9110 asks.
+     */
+    public static boolean matches(String ifNoneMatch, String eTag) {
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || stripWeak(tag).equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The adoption version an If-Match header requires, or null for {@code *}. Only the version part of a tag
+     * is used, since a write depends on the adoption alone. Weak tags never match; a header naming no tag of
+     * this service yields -1, which no adoption has.
+     */
+    public static Long requiredVersion(String ifMatch) {
+        Set<Long> versions = new HashSet<>();
+        for (String candidate : ifMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return null;
+            }
+            Long version = versionOf(tag);
+            if (version != null) {
+                versions.add(version);
+            }
+        }
+        if (versions.size() > 1) {
+            throw new InvalidInputException("If-Match may name only one version of an adoption: " + ifMatch);
+        }
+        return versions.isEmpty() ? -1L : versions.iterator().next();
+    }
+
+    private static Long versionOf(String tag) {
+        if (tag.length() < 2 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            return null;
+        }
+        int separator = tag.indexOf('-');
+        if (separator < 0) {
+            return null;
+        }
+        try {
+            return Long.parseLong(tag.substring(1, separator));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static String stripWeak(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.creatureadoption.adoptions.businesslayer;
+
+import com.creatureadoption.adoptions.utils.TimeBudget;
+import com.creatureadoption.adoptions.utils.exceptions.DownstreamUnavailableException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Runs the downstream lookups of an enrichment concurrently on virtual threads.
+ * All branches forked from one scope share a single deadline, so the latency of an
+ * enrichment is the slowest branch (bounded by the deadline) instead of the sum of all branches.
+ * The deadline is never later than the request's own {@link TimeBudget}, and branches run under it,
+ * so their downstream calls give up when it passes instead of outliving the scope.
+ */
+@Slf4j
+@Component
+public class AdoptionEnrichmentExecutor {
+
+    private final ExecutorService executor;
+    private final long deadlineMs;
+
+    public AdoptionEnrichmentExecutor(@Value("${app.enrichment.deadline-ms:2000}") long deadlineMs) {
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.deadlineMs = deadlineMs;
+    }
+
+    public EnrichmentScope open() {
+        return new EnrichmentScope(TimeBudget.tighten(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadlineMs)));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * A group of lookups forked for one request. Results are read back on the calling thread
+     * once {@link #join()} returns, so the response model is never touched concurrently.
+     */
+    public class EnrichmentScope {
+
+        private final long deadlineNanos;
+        private final List<Branch<?>> branches = new ArrayList<>();
+        private boolean partial;
+
+        private EnrichmentScope(long deadlineNanos) {
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        public <T> Branch<T> fork(String name, Callable<T> lookup) {
+            Branch<T> branch = new Branch<>(name, executor.submit(TimeBudget.bind(deadlineNanos, lookup)));
+            branches.add(branch);
+            return branch;
+        }
+
+        /**
+         * Waits for every branch until the shared deadline. Branches still running at the deadline
+         * are cancelled and the scope is flagged as partial, as are branches that failed.
+         */
+        public void join() {
+            for (Branch<?> branch : branches) {
+                branch.await(deadlineNanos - System.nanoTime());
+                if (branch.failure != null) {
+                    partial = true;
+                }
+            }
+        }
+
+        public boolean isPartial() {
+            return partial;
+        }
+    }
+
+    public static class Branch<T> {
+
+        private final String name;
+        private final Future<T> future;
+        private T result;
+        private RuntimeException failure;
+
+        private Branch(String name, Future<T> future) {
+            this.name = name;
+            this.future = future;
+        }
+
+        private void await(long remainingNanos) {
+            try {
+                result = future.get(Math.max(remainingNanos, 0), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                failure = new DownstreamUnavailableException("Timed out fetching " + name + " details");
+                log.warn("Timed out fetching {} details", name);
+            } catch (ExecutionException e) {
+                failure = e.getCause() instanceof RuntimeException runtimeException
+                        ? runtimeException
+                        : new DownstreamUnavailableException("Could not fetch " + name + " details: " + e.getCause().getMessage());
+                log.warn("Could not fetch {} details: {}", name, e.getCause().getMessage());
+            } catch (InterruptedException e) {
+                future.cancel(true);
+                failure = new DownstreamUnavailableException("Interrupted while fetching " + name + " details");
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        /**
+         * @return the lookup result, or null when the branch failed or ran past the deadline
+         */
+        public T get() {
+            return result;
+        }
+
+        /**
+         * For lookups the request cannot do without: rethrows the failure of the branch
+         * (for example a NotFoundException from the domain client) instead of returning null.
+         * A branch that ran past the deadline throws a {@link DownstreamUnavailableException}, answered with 503.
+         */
+        public T getOrThrow() {
+            if (failure != null) {
+                throw failure;
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.creatureadoption.adoptions.businesslayer;
+
+import com.creatureadoption.adoptions.presentationlayer.AdoptionEventModel;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class AdoptionEvent {
+
+    public static final String ADOPTION = "adoption";
+    // Tells a listener it may have missed changes and should read the adoptions it follows again
+    public static final String RESYNC = "resync";
+
+    // The change stream resume token of the change; null on a resync nothing can be resumed after
+    private String id;
+    private String name;
+    private AdoptionEventModel data;
+}
@@ -0,0 +1,211 @@
+package com.creatureadoption.adoptions.businesslayer;
+
+import com.creatureadoption.adoptions.dataaccesslayer.Adoption;
+import com.creatureadoption.adoptions.dataaccesslayer.AdoptionChangeStream;
+import com.creatureadoption.adoptions.dataaccesslayer.AdoptionFilter;
+import com.creatureadoption.adoptions.presentationlayer.AdoptionEventModel;
+import com.mongodb.MongoCommandException;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.OperationType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pushes adoption changes to listeners as they happen. One change stream per instance serves every
+ * listener; it is opened when the first one subscribes and waits on the server between changes, so a
+ * quiet collection costs one idle cursor. Events are identified by their resume tokens and the latest
+ * ones are kept, so a listener reconnecting with the id of the last event it saw is sent the ones it
+ * missed. When that id is no longer kept the listener is told to resync and follows on from there.
+ */
+@Slf4j
+@Component
+public class AdoptionEventFeed {
+
+    private final AdoptionChangeStream changeStream;
+    private final int replaySize;
+    private final int queueSize;
+    private final long maxAwaitMs;
+    private final long retryBackoffMs;
+    private final Counter dropped;
+
+    // Guards the replay buffer, and starting the stream, so a new listener sees every event exactly once
+    private final Deque<AdoptionEvent> replay = new ArrayDeque<>();
+    private final Set<AdoptionEventSubscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor;
+    private BsonDocument resumeToken;
+    private Thread tailer;
+    private volatile boolean stopped;
+
+    public AdoptionEventFeed(AdoptionChangeStream changeStream,
+                             MeterRegistry meterRegistry,
+                             @Value("${app.events.replay-size:10000}") int replaySize,
+                             @Value("${app.events.queue-size:1000}") int queueSize,
+                             @Value("${app.events.max-await-ms:10000}") long maxAwaitMs,
+                             @Value("${app.events.retry-backoff-ms:1000}") long retryBackoffMs) {
+        this.changeStream = changeStream;
+        this.replaySize = replaySize;
+        this.queueSize = queueSize;
+        this.maxAwaitMs = maxAwaitMs;
+        this.retryBackoffMs = retryBackoffMs;
+
+        Gauge.builder("adoptions.events.subscribers", subscriptions, Set::size)
+                .description("Listeners connected to the adoption events feed")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("adoptions.events.dropped")
+                .description("Listeners cut off because they fell a whole queue behind")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param lastEventId the id of the last event the listener saw before reconnecting, or null
+     */
+    public AdoptionEventSubscription subscribe(AdoptionFilter filter, String lastEventId) {
+        synchronized (replay) {
+            if (tailer == null) {
+                cursor = changeStream.open(null, maxAwaitMs);
+                resumeToken = cursor.getResumeToken();
+                tailer = Thread.ofVirtual().name("adoption-events").start(this::tail);
+            }
+            List<AdoptionEvent> missed = lastEventId != null ? missedSince(lastEventId) : List.of();
+            AdoptionEventSubscription subscription =
+                    new AdoptionEventSubscription(filter, missed.size() + queueSize, subscriptions::remove);
+            missed.forEach(subscription::offer);
+            subscriptions.add(subscription);
+            return subscription;
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        stopped = true;
+        subscriptions.forEach(AdoptionEventSubscription::close);
+        Thread running;
+        synchronized (replay) {
+            running = tailer;
+        }
+        if (running != null) {
+            // Interrupting a virtual thread closes the socket its getMore is waiting on
+            running.interrupt();
+        }
+    }
+
+    private List<AdoptionEvent> missedSince(String lastEventId) {
+        List<AdoptionEvent> missed = new ArrayList<>();
+        boolean found = false;
+        for (AdoptionEvent event : replay) {
+            if (found) {
+                missed.add(event);
+            } else {
+                found = lastEventId.equals(event.getId());
+            }
+        }
+        return found ? missed : List.of(resync());
+    }
+
+    private void tail() {
+        try {
+            while (!stopped) {
+                try {
+                    ChangeStreamDocument<Document> change = cursor.tryNext();
+                    if (change != null) {
+                        publish(change);
+                    }
+                    resumeToken = cursor.getResumeToken();
+                } catch (RuntimeException e) {
+                    if (stopped) {
+                        return;
+                    }
+                    log.warn("Adoption change stream failed, resuming it: {}", e.getMessage());
+                    reopen();
+                }
+            }
+        } finally {
+            closeCursor();
+        }
+    }
+
+    private void reopen() {
+        closeCursor();
+        while (!stopped) {
+            try {
+                Thread.sleep(retryBackoffMs);
+                cursor = changeStream.open(resumeToken, maxAwaitMs);
+                return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (MongoCommandException e) {
+                if (e.getErrorCode() != AdoptionChangeStream.HISTORY_LOST) {
+                    log.warn("Could not resume the adoption change stream: {}", e.getMessage());
+                    continue;
+                }
+                // Too long down to resume: carry on from the present and have every listener read again
+                log.warn("Adoption changes since the last event are no longer in the oplog; listeners must resync");
+                resumeToken = null;
+                synchronized (replay) {
+                    replay.clear();
+                    broadcast(resync());
+                }
+            } catch (RuntimeException e) {
+                log.warn("Could not resume the adoption change stream: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void publish(ChangeStreamDocument<Document> change) {
+        // Null when the adoption was deleted before the change was read
+        if (change.getFullDocument() == null) {
+            return;
+        }
+        Adoption adoption = changeStream.read(change.getFullDocument());
+        AdoptionEventModel.Change type = change.getOperationType() == OperationType.INSERT
+                ? AdoptionEventModel.Change.CREATED
+                : AdoptionEventModel.Change.UPDATED;
+        AdoptionEvent event = new AdoptionEvent(change.getResumeToken().getString("_data").getValue(),
+                AdoptionEvent.ADOPTION, AdoptionEventModel.from(adoption, type));
+        synchronized (replay) {
+            replay.addLast(event);
+            if (replay.size() > replaySize) {
+                replay.removeFirst();
+            }
+            broadcast(event);
+        }
+    }
+
+    private void broadcast(AdoptionEvent event) {
+        for (AdoptionEventSubscription subscription : subscriptions) {
+            if (!subscription.offer(event) && subscriptions.remove(subscription)) {
+                dropped.increment();
+            }
+        }
+    }
+
+    // Resuming after the newest kept event is right once the listener has read everything again
+    private AdoptionEvent resync() {
+        AdoptionEvent newest = replay.peekLast();
+        return new AdoptionEvent(newest != null ? newest.getId() : null, AdoptionEvent.RESYNC, null);
+    }
+
+    private void closeCursor() {
+        try {
+            cursor.close();
+        } catch (RuntimeException e) {
+            log.debug("Could not close the adoption change stream: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.creatureadoption.adoptions.businesslayer;
+
+import com.creatureadoption.adoptions.dataaccesslayer.AdoptionFilter;
+import com.creatureadoption.adoptions.presentationlayer.AdoptionEventModel;
+
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * A listener on the {@link AdoptionEventFeed}: the events that pass its filter, queued until its
+ * connection takes them. A listener whose queue fills up is cut off instead of holding up the feed;
+ * it gets what is already queued and then reconnects with the id of the last event it saw.
+ */
+public class AdoptionEventSubscription implements AutoCloseable {
+
+    private final AdoptionFilter filter;
+    private final BlockingQueue<AdoptionEvent> queue;
+    private final Consumer<AdoptionEventSubscription> onClose;
+    private volatile boolean closed;
+
+    AdoptionEventSubscription(AdoptionFilter filter, int capacity, Consumer<AdoptionEventSubscription> onClose) {
+        this.filter = filter;
+        this.queue = new LinkedBlockingQueue<>(capacity);
+        this.onClose = onClose;
+    }
+
+    /**
+     * @return false when the event did not fit in the queue, which closes the subscription
+     */
+    boolean offer(AdoptionEvent event) {
+        if (closed || (event.getData() != null && !matches(event.getData()))) {
+            return true;
+        }
+        if (queue.offer(event)) {
+            return true;
+        }
+        closed = true;
+        return false;
+    }
+
+    /**
+     * @return the next event, or null when none came within the timeout
+     */
+    public AdoptionEvent poll(Duration timeout) throws InterruptedException {
+        return queue.poll(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    // Still open, or closed with events left to take
+    public boolean isOpen() {
+        return !closed || !queue.isEmpty();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        onClose.accept(this);
+    }
+
+    private boolean matches(AdoptionEventModel event) {
+        return (filter.getCustomerId() == null || filter.getCustomerId().equals(event.getCustomerId()))
+                && (filter.getCreatureId() == null || filter.getCreatureId().equals(event.getCreatureId()))
+                && (filter.getAdoptionStatus() == null || filter.getAdoptionStatus() == event.getAdoptionStatus());
+    }
+}
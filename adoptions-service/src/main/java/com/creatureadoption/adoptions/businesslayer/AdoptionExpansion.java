@@ -0,0 +1,40 @@
+package com.creatureadoption.adoptions.businesslayer;
+
+import com.creatureadoption.adoptions.utils.exceptions.InvalidInputException;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * The details an adoption read joins in from the other services, chosen with the expand query parameter,
+ * e.g. {@code expand=customer,creature}. Without the parameter every detail is joined; {@code expand=none}
+ * or an empty value joins none, and the read is then answered from the adoptions collection alone.
+ */
+public enum AdoptionExpansion {
+    CUSTOMER,
+    CREATURE,
+    TRAINING;
+
+    public static final Set<AdoptionExpansion> ALL = Collections.unmodifiableSet(EnumSet.allOf(AdoptionExpansion.class));
+
+    public static Set<AdoptionExpansion> parse(String expand) {
+        if (expand == null) {
+            return ALL;
+        }
+        Set<AdoptionExpansion> expansions = EnumSet.noneOf(AdoptionExpansion.class);
+        for (String name : expand.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty() || trimmed.equalsIgnoreCase("none")) {
+                continue;
+            }
+            try {
+                expansions.add(valueOf(trimmed.toUpperCase()));
+            } catch (IllegalArgumentException e) {
+                throw new InvalidInputException("Invalid expand provided: " + trimmed
+                        + ". Supported: customer, creature, training or none");
+            }
+        }
+        return expansions;
+    }
+}
@@ -0,0 +1,117 @@
+package com.creatureadoption.adoptions.businesslayer;
+
+import com.creatureadoption.adoptions.dataaccesslayer.migration.AdoptionIdMigration;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Rewrites adoptions still stored in the old shape while the service keeps serving requests, a bounded batch
+ * at a time with a pause in between. Needs no checkpoint: a legacy document is gone once rewritten, so every
+ * run simply takes the next ones left. When a run finds none in either collection, the legacy indexes are
+ * dropped and later runs do nothing.
+ */
+@Slf4j
+@Component
+public class AdoptionIdMigrator {
+
+    private final AdoptionIdMigration migration;
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final long batchPauseMs;
+    private final Counter migrated;
+    private volatile boolean completed;
+
+    public AdoptionIdMigrator(AdoptionIdMigration migration,
+                              MeterRegistry meterRegistry,
+                              @Value("${app.id-migration.enabled:true}") boolean enabled,
+                              @Value("${app.id-migration.batch-size:500}") int batchSize,
+                              @Value("${app.id-migration.max-batches-per-run:1000}") int maxBatchesPerRun,
+                              @Value("${app.id-migration.batch-pause-ms:50}") long batchPauseMs) {
+        this.migration = migration;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.batchPauseMs = batchPauseMs;
+        this.migrated = Counter.builder("adoptions.id-migration.migrated")
+                .description("Adoptions rewritten with their adoptionId as a binary _id")
+                .register(meterRegistry);
+    }
+
+    // Starts right away: until its batch is rewritten, an adoption is found by its adoptionId only through the
+    // legacy index, and cannot be written
+    @Scheduled(fixedDelayString = "${app.id-migration.interval-ms:60000}")
+    public void migrate() {
+        if (!enabled || completed) {
+            return;
+        }
+        try {
+            long started = System.currentTimeMillis();
+            int rewritten = migrateBatches();
+            if (rewritten > 0) {
+                log.info("Rewrote {} adoptions in {} ms", rewritten, System.currentTimeMillis() - started);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not rewrite adoptions, the next run carries on: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Runs up to the per-run number of batches over the adoptions and then the archive.
+     *
+     * @return the number of adoptions rewritten
+     */
+    int migrateBatches() {
+        int rewritten = 0;
+        int batches = 0;
+        for (String collection : AdoptionIdMigration.COLLECTIONS) {
+            while (true) {
+                if (batches++ >= maxBatchesPerRun) {
+                    return rewritten;
+                }
+                List<Document> legacy = migration.findLegacy(collection, batchSize);
+                int rewrittenInBatch = migration.migrate(collection, legacy);
+                rewritten += rewrittenInBatch;
+                migrated.increment(rewrittenInBatch);
+                if (legacy.size() < batchSize) {
+                    break;
+                }
+                if (!pause()) {
+                    return rewritten;
+                }
+            }
+        }
+
+        for (String collection : AdoptionIdMigration.COLLECTIONS) {
+            migration.dropLegacyIndex(collection);
+        }
+        completed = true;
+        log.info("Every adoption is stored under its adoptionId");
+        return rewritten;
+    }
+
+    boolean isCompleted() {
+        return completed;
+    }
+
+    // Returns false when interrupted, so the run stops and leaves the rest to the next one
+    private boolean pause() {
+        if (batchPauseMs <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(batchPauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
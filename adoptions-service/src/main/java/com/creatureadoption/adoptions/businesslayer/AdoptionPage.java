@@ -0,0 +1,18 @@
+package com.creatureadoption.adoptions.businesslayer;
+
+import com.creatureadoption.adoptions.presentationlayer.AdoptionResponseModel;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class AdoptionPage {
+
+    private List<AdoptionResponseModel> adoptions;
+    private int limit;
+
+    // Encoded cursor of the last adoption on this page, or null when there is no next page
+    private String nextCursor;
+}
@@ -0,0 +1,269 @@
+package com.creatureadoption.adoptions.businesslayer;
+
+import com.creatureadoption.adoptions.dataaccesslayer.readmodel.CreatureSummary;
+import com.creatureadoption.adoptions.dataaccesslayer.readmodel.CreatureSummaryRepository;
+import com.creatureadoption.adoptions.dataaccesslayer.readmodel.CustomerSummary;
+import com.creatureadoption.adoptions.dataaccesslayer.readmodel.CustomerSummaryRepository;
+import com.creatureadoption.adoptions.dataaccesslayer.readmodel.TrainingSummary;
+import com.creatureadoption.adoptions.dataaccesslayer.readmodel.TrainingSummaryRepository;
+import com.creatureadoption.adoptions.domainclientlayer.CreatureServiceClient;
+import com.creatureadoption.adoptions.domainclientlayer.CustomerServiceClient;
+import com.creatureadoption.adoptions.domainclientlayer.TrainingServiceClient;
+import com.creatureadoption.adoptions.domainclientlayer.models.CreatureResponseModel;
+import com.creatureadoption.adoptions.domainclientlayer.models.CustomerResponseModel;
+import com.creatureadoption.adoptions.domainclientlayer.models.TrainingResponseModel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Local, denormalized copy of the customer, creature and training fields shown on an adoption.
+ * Reads are served from the summary collections; a miss falls through to the owning service and
+ * the result is stored so the next read is local. Change notifications keep the summaries fresh
+ * and the reconciliation sweep repairs anything a lost notification left stale. A notification also
+ * drops the entity from the domain client cache, so validation lookups see the change too.
+ */
+@Slf4j
+@Component
+public class AdoptionReadModel {
+
+    private static final int RECONCILE_PAGE_SIZE = 500;
+
+    private final CustomerSummaryRepository customerSummaryRepository;
+    private final CreatureSummaryRepository creatureSummaryRepository;
+    private final TrainingSummaryRepository trainingSummaryRepository;
+    private final CustomerServiceClient customerServiceClient;
+    private final CreatureServiceClient creatureServiceClient;
+    private final TrainingServiceClient trainingServiceClient;
+
+    public AdoptionReadModel(CustomerSummaryRepository customerSummaryRepository,
+                             CreatureSummaryRepository creatureSummaryRepository,
+                             TrainingSummaryRepository trainingSummaryRepository,
+                             CustomerServiceClient customerServiceClient,
+                             CreatureServiceClient creatureServiceClient,
+                             TrainingServiceClient trainingServiceClient) {
+        this.customerSummaryRepository = customerSummaryRepository;
+        this.creatureSummaryRepository = creatureSummaryRepository;
+        this.trainingSummaryRepository = trainingSummaryRepository;
+        this.customerServiceClient = customerServiceClient;
+        this.creatureServiceClient = creatureServiceClient;
+        this.trainingServiceClient = trainingServiceClient;
+    }
+
+    public CustomerResponseModel findCustomer(String customerId) {
+        Optional<CustomerSummary> summary = customerSummaryRepository.findById(customerId);
+        if (summary.isPresent()) {
+            return summary.get().toResponseModel();
+        }
+        CustomerResponseModel customer = customerServiceClient.getCustomerByCustomerId(customerId);
+        if (customer != null) {
+            customerSummaryRepository.save(CustomerSummary.from(customer));
+        }
+        return customer;
+    }
+
+    public CreatureResponseModel findCreature(String creatureId) {
+        Optional<CreatureSummary> summary = creatureSummaryRepository.findById(creatureId);
+        if (summary.isPresent()) {
+            return summary.get().toResponseModel();
+        }
+        CreatureResponseModel creature = creatureServiceClient.getCreatureByCreatureId(creatureId);
+        if (creature != null) {
+            creatureSummaryRepository.save(CreatureSummary.from(creature));
+        }
+        return creature;
+    }
+
+    public TrainingResponseModel findTraining(String trainingId) {
+        Optional<TrainingSummary> summary = trainingSummaryRepository.findById(trainingId);
+        if (summary.isPresent()) {
+            return summary.get().toResponseModel();
+        }
+        TrainingResponseModel training = trainingServiceClient.getTrainingByTrainingId(trainingId);
+        if (training != null) {
+            trainingSummaryRepository.save(TrainingSummary.from(training));
+        }
+        return training;
+    }
+
+    // The stored summaries only, never falling through to the owning service; null when not stored locally
+
+    public CustomerResponseModel findStoredCustomer(String customerId) {
+        return customerSummaryRepository.findById(customerId).map(CustomerSummary::toResponseModel).orElse(null);
+    }
+
+    public CreatureResponseModel findStoredCreature(String creatureId) {
+        return creatureSummaryRepository.findById(creatureId).map(CreatureSummary::toResponseModel).orElse(null);
+    }
+
+    public TrainingResponseModel findStoredTraining(String trainingId) {
+        return trainingSummaryRepository.findById(trainingId).map(TrainingSummary::toResponseModel).orElse(null);
+    }
+
+    public List<CustomerResponseModel> findCustomers(Collection<String> customerIds) {
+        return findAll(customerIds,
+                customerSummaryRepository::findAllById, CustomerSummary::getCustomerId, CustomerSummary::toResponseModel,
+                customerServiceClient::getCustomersByCustomerIds,
+                customers -> customerSummaryRepository.saveAll(customers.stream().map(CustomerSummary::from).toList()));
+    }
+
+    public List<CreatureResponseModel> findCreatures(Collection<String> creatureIds) {
+        return findAll(creatureIds,
+                creatureSummaryRepository::findAllById, CreatureSummary::getCreatureId, CreatureSummary::toResponseModel,
+                creatureServiceClient::getCreaturesByCreatureIds,
+                creatures -> creatureSummaryRepository.saveAll(creatures.stream().map(CreatureSummary::from).toList()));
+    }
+
+    public List<TrainingResponseModel> findTrainings(Collection<String> trainingIds) {
+        return findAll(trainingIds,
+                trainingSummaryRepository::findAllById, TrainingSummary::getTrainingId, TrainingSummary::toResponseModel,
+                trainingServiceClient::getTrainingsByTrainingIds,
+                trainings -> trainingSummaryRepository.saveAll(trainings.stream().map(TrainingSummary::from).toList()));
+    }
+
+    public void upsertCustomer(CustomerResponseModel customer) {
+        customerSummaryRepository.save(CustomerSummary.from(customer));
+        customerServiceClient.evictCustomer(customer.getCustomerId());
+    }
+
+    public void upsertCreature(CreatureResponseModel creature) {
+        creatureSummaryRepository.save(CreatureSummary.from(creature));
+        creatureServiceClient.evictCreature(creature.getCreatureId());
+    }
+
+    public void upsertTraining(TrainingResponseModel training) {
+        trainingSummaryRepository.save(TrainingSummary.from(training));
+        trainingServiceClient.evictTraining(training.getTrainingId());
+    }
+
+    public void removeCustomer(String customerId) {
+        customerSummaryRepository.deleteById(customerId);
+        customerServiceClient.evictCustomer(customerId);
+    }
+
+    public void removeCreature(String creatureId) {
+        creatureSummaryRepository.deleteById(creatureId);
+        creatureServiceClient.evictCreature(creatureId);
+    }
+
+    public void removeTraining(String trainingId) {
+        trainingSummaryRepository.deleteById(trainingId);
+        trainingServiceClient.evictTraining(trainingId);
+    }
+
+    /**
+     * Re-reads every customer, creature and training from the owning services a page at a time, overwrites
+     * the summaries the pages are not older than and drops summaries whose source no longer exists.
+     * A failing service only skips its own collection.
+     */
+    @Scheduled(fixedDelayString = "${app.read-model.reconcile-interval-ms:300000}",
+            initialDelayString = "${app.read-model.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        try {
+            reconcileCustomers();
+        } catch (RuntimeException e) {
+            log.warn("Could not reconcile customer summaries: {}", e.getMessage());
+        }
+        try {
+            reconcileCreatures();
+        } catch (RuntimeException e) {
+            log.warn("Could not reconcile creature summaries: {}", e.getMessage());
+        }
+        try {
+            reconcileTrainings();
+        } catch (RuntimeException e) {
+            log.warn("Could not reconcile training summaries: {}", e.getMessage());
+        }
+    }
+
+    void reconcileCustomers() {
+        reconcile(customerServiceClient::getCustomersPage, CustomerResponseModel::getCustomerId, CustomerSummary::from,
+                CustomerSummary::getCustomerId, CustomerSummary::getLastSynced, customerSummaryRepository);
+    }
+
+    void reconcileCreatures() {
+        reconcile(creatureServiceClient::getCreaturesPage, CreatureResponseModel::getCreatureId, CreatureSummary::from,
+                CreatureSummary::getCreatureId, CreatureSummary::getLastSynced, creatureSummaryRepository);
+    }
+
+    void reconcileTrainings() {
+        reconcile(trainingServiceClient::getTrainingsPage, TrainingResponseModel::getTrainingId, TrainingSummary::from,
+                TrainingSummary::getTrainingId, TrainingSummary::getLastSynced, trainingSummaryRepository);
+    }
+
+    /**
+     * Walks the owning service one page at a time and stores each page, except the rows whose summary was
+     * written after the page was read: a change notification landed in between and is newer than the page.
+     * Summaries not written since the sweep started are then dropped, as their source no longer exists.
+     */
+    private static <M, S> void reconcile(BiFunction<String, Integer, List<M>> readPage,
+                                         Function<M, String> idOfModel,
+                                         Function<M, S> toSummary,
+                                         Function<S, String> idOf,
+                                         Function<S, LocalDateTime> lastSyncedOf,
+                                         MongoRepository<S, String> repository) {
+        LocalDateTime sweepStart = LocalDateTime.now();
+        String after = null;
+        List<M> page;
+        do {
+            LocalDateTime readAt = LocalDateTime.now();
+            page = readPage.apply(after, RECONCILE_PAGE_SIZE);
+            if (page.isEmpty()) {
+                break;
+            }
+            Set<String> newer = new HashSet<>();
+            for (S stored : repository.findAllById(page.stream().map(idOfModel).toList())) {
+                LocalDateTime lastSynced = lastSyncedOf.apply(stored);
+                if (lastSynced != null && lastSynced.isAfter(readAt)) {
+                    newer.add(idOf.apply(stored));
+                }
+            }
+            repository.saveAll(page.stream()
+                    .filter(model -> !newer.contains(idOfModel.apply(model)))
+                    .map(toSummary)
+                    .toList());
+            after = idOfModel.apply(page.get(page.size() - 1));
+        } while (page.size() == RECONCILE_PAGE_SIZE);
+
+        repository.deleteAll(repository.findAll().stream()
+                .filter(summary -> lastSyncedOf.apply(summary) == null || lastSyncedOf.apply(summary).isBefore(sweepStart))
+                .toList());
+    }
+
+    private static <S, M> List<M> findAll(Collection<String> ids,
+                                          Function<Set<String>, List<S>> localLookup,
+                                          Function<S, String> idOf,
+                                          Function<S, M> toModel,
+                                          Function<Set<String>, List<M>> remoteLookup,
+                                          Consumer<List<M>> store) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Set<String> missing = new HashSet<>(ids);
+        List<M> found = new ArrayList<>();
+        for (S summary : localLookup.apply(new HashSet<>(ids))) {
+            missing.remove(idOf.apply(summary));
+            found.add(toModel.apply(summary));
+        }
+        if (!missing.isEmpty()) {
+            List<M> fetched = remoteLookup.apply(missing);
+            if (!fetched.isEmpty()) {
+                store.accept(fetched);
+                found.addAll(fetched);
+            }
+        }
+        return found;
+    }
+}
@@ -1,17 +1,31 @@
 package com.creatureadoption.adoptions.businesslayer;
 
+import com.creatureadoption.adoptions.presentationlayer.AdoptionFunnelResponseModel;
 import com.creatureadoption.adoptions.presentationlayer.AdoptionRequestModel;
 import com.creatureadoption.adoptions.presentationlayer.AdoptionResponseModel;
+import com.creatureadoption.adoptions.presentationlayer.AdoptionStatsResponseModel;
+import com.creatureadoption.adoptions.presentationlayer.AdoptionStatusHistoryEntryModel;
+import com.creatureadoption.adoptions.presentationlayer.AdoptionStatusTransitionRequestModel;
+import com.creatureadoption.adoptions.presentationlayer.AdoptionStatusTransitionResultModel;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public interface AdoptionService {
 
-    List<AdoptionResponseModel> getAdoptions(Map<String, String> queryParams);
-    AdoptionResponseModel getAdoptionByAdoptionId(String adoptionId);
+    AdoptionPage getAdoptions(Map<String, String> queryParams);
+    void exportAdoptions(Map<String, String> queryParams, Consumer<List<AdoptionResponseModel>> batchConsumer);
+    AdoptionResponseModel getAdoptionByAdoptionId(String adoptionId, Set<AdoptionExpansion> expand);
+    String getAdoptionETag(String adoptionId, Set<AdoptionExpansion> expand);
     AdoptionResponseModel addAdoption(AdoptionRequestModel adoptionRequestModel);
-    AdoptionResponseModel updateAdoption(AdoptionRequestModel updatedAdoption, String adoptionId);
-    AdoptionResponseModel updateAdoptionStatus(String adoptionId, String newStatus);
+    AdoptionResponseModel updateAdoption(AdoptionRequestModel updatedAdoption, String adoptionId, Long expectedVersion);
+    AdoptionResponseModel updateAdoptionStatus(String adoptionId, String newStatus, Long expectedVersion);
+    List<AdoptionStatusTransitionResultModel> transitionAdoptionStatuses(AdoptionStatusTransitionRequestModel request);
     void removeAdoption(String adoptionId);
+    AdoptionStatsResponseModel getAdoptionStats(Map<String, String> queryParams);
+    void rebuildAdoptionStats();
+    List<AdoptionStatusHistoryEntryModel> getAdoptionStatusHistory(String adoptionId, Map<String, String> queryParams);
+    AdoptionFunnelResponseModel getAdoptionFunnel(Map<String, String> queryParams);
 }
\ No newline at end of file
@@ -1,40 +1,82 @@
 package com.creatureadoption.adoptions.businesslayer;
 
 import com.creatureadoption.adoptions.dataaccesslayer.*;
+import com.creatureadoption.adoptions.dataaccesslayer.archive.AdoptionArchive;
+import com.creatureadoption.adoptions.dataaccesslayer.history.AdoptionStatusEvent;
+import com.creatureadoption.adoptions.dataaccesslayer.history.AdoptionStatusEventRepository;
+import com.creatureadoption.adoptions.dataaccesslayer.history.AdoptionStatusTransitionCount;
 import com.creatureadoption.adoptions.domainclientlayer.CreatureServiceClient;
 import com.creatureadoption.adoptions.domainclientlayer.CustomerServiceClient;
-import com.creatureadoption.adoptions.domainclientlayer.TrainingServiceClient;
 import com.creatureadoption.adoptions.domainclientlayer.models.CreatureResponseModel;
 import com.creatureadoption.adoptions.domainclientlayer.models.CustomerResponseModel;
 import com.creatureadoption.adoptions.domainclientlayer.models.TrainingResponseModel;
 import com.creatureadoption.adoptions.mappinglayer.AdoptionRequestMapper;
 import com.creatureadoption.adoptions.mappinglayer.AdoptionResponseMapper;
+import com.creatureadoption.adoptions.presentationlayer.AdoptionFunnelResponseModel;
 import com.creatureadoption.adoptions.presentationlayer.AdoptionRequestModel;
 import com.creatureadoption.adoptions.presentationlayer.AdoptionResponseModel;
+import com.creatureadoption.adoptions.presentationlayer.AdoptionStatsResponseModel;
+import com.creatureadoption.adoptions.presentationlayer.AdoptionStatusHistoryEntryModel;
+import com.creatureadoption.adoptions.presentationlayer.AdoptionStatusTransitionOutcome;
+import com.creatureadoption.adoptions.presentationlayer.AdoptionStatusTransitionRequestModel;
+import com.creatureadoption.adoptions.presentationlayer.AdoptionStatusTransitionResultModel;
 import com.creatureadoption.adoptions.utils.exceptions.AdoptionLimitExceededException;
 import com.creatureadoption.adoptions.utils.exceptions.InvalidInputException;
 import com.creatureadoption.adoptions.utils.exceptions.NotFoundException;
+import com.creatureadoption.adoptions.utils.exceptions.PreconditionFailedException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
 public class AdoptionServiceImpl implements AdoptionService {
 
     private static final int MAX_ADOPTIONS_PER_CUSTOMER = 2;
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int MAX_TRANSITION_SIZE = 1000;
+    private static final int MAX_FUNNEL_BUCKETS = 1000;
+    private static final int DEFAULT_FUNNEL_DAYS = 30;
+    private static final Map<String, ChronoUnit> FUNNEL_BUCKETS = Map.of(
+            "hour", ChronoUnit.HOURS, "day", ChronoUnit.DAYS, "week", ChronoUnit.WEEKS, "month", ChronoUnit.MONTHS);
 
     private final AdoptionRepository adoptionRepository;
     private final AdoptionResponseMapper adoptionResponseMapper;
     private final AdoptionRequestMapper adoptionRequestMapper;
     private final CustomerServiceClient customerServiceClient;
     private final CreatureServiceClient creatureServiceClient;
-    private final TrainingServiceClient trainingServiceClient;
+    private final AdoptionEnrichmentExecutor enrichmentExecutor;
+    private final AdoptionReadModel readModel;
+    private final CustomerAdoptionStatsRepository customerAdoptionStatsRepository;
+    private final AdoptionWriter adoptionWriter;
+    private final AdoptionStatsRepository adoptionStatsRepository;
+    private final AdoptionStatusEventRepository statusEventRepository;
+    private final int exportBatchSize;
 
     @Autowired
     public AdoptionServiceImpl(AdoptionRepository adoptionRepository,
@@ -42,50 +84,87 @@ public class AdoptionServiceImpl implements AdoptionService {
                                AdoptionRequestMapper adoptionRequestMapper,
                                CustomerServiceClient customerServiceClient,
                                CreatureServiceClient creatureServiceClient,
-                               TrainingServiceClient trainingServiceClient) {
+                               AdoptionEnrichmentExecutor enrichmentExecutor,
+                               AdoptionReadModel readModel,
+                               CustomerAdoptionStatsRepository customerAdoptionStatsRepository,
+                               AdoptionWriter adoptionWriter,
+                               AdoptionStatsRepository adoptionStatsRepository,
+                               AdoptionStatusEventRepository statusEventRepository,
+                               @Value("${app.export.batch-size:500}") int exportBatchSize) {
         this.adoptionRepository = adoptionRepository;
         this.adoptionResponseMapper = adoptionResponseMapper;
         this.adoptionRequestMapper = adoptionRequestMapper;
         this.customerServiceClient = customerServiceClient;
         this.creatureServiceClient = creatureServiceClient;
-        this.trainingServiceClient = trainingServiceClient;
+        this.enrichmentExecutor = enrichmentExecutor;
+        this.readModel = readModel;
+        this.customerAdoptionStatsRepository = customerAdoptionStatsRepository;
+        this.adoptionWriter = adoptionWriter;
+        this.adoptionStatsRepository = adoptionStatsRepository;
+        this.statusEventRepository = statusEventRepository;
+        this.exportBatchSize = exportBatchSize;
     }
 
     @Override
-    public List<AdoptionResponseModel> getAdoptions(Map<String, String> queryParams) {
-        List<Adoption> adoptions = adoptionRepository.findAll();
+    public AdoptionPage getAdoptions(Map<String, String> queryParams) {
+        AdoptionFilter filter = buildFilter(queryParams);
 
-        String customerId = queryParams.get("customerId");
-        String creatureId = queryParams.get("creatureId");
-        String profileStatus = queryParams.get("profileStatus");
-        String adoptionStatus = queryParams.get("adoptionStatus");
+        int limit = parseLimit(queryParams.get("limit"));
+        Sort.Direction direction = parseSortDirection(queryParams.get("sort"));
+        String after = emptyToNull(queryParams.get("after"));
 
-        if (customerId != null && !customerId.isEmpty()) {
-            adoptions = adoptionRepository.findByCustomerId(customerId);
-        }
-        if (creatureId != null && !creatureId.isEmpty()) {
-            adoptions = adoptionRepository.findByCreatureId(creatureId);
-        }
-        if (profileStatus != null && !profileStatus.isEmpty()) {
-            //adoptions = adoptionRepository.findByProfileStatus(AdoptionStatus.valueOf(profileStatus.toUpperCase()));
-            adoptions = adoptionRepository.findByProfileStatus(ProfileStatus.valueOf(profileStatus.toUpperCase()));
+        AdoptionCursor cursor = after != null ? AdoptionCursor.decode(after) : null;
+
+        boolean includeArchived = parseIncludeArchived(queryParams.get("includeArchived"));
+        if (includeArchived && !AdoptionArchive.isIndexed(filter)) {
+            throw new InvalidInputException("includeArchived needs an adoptionId, customerId or creatureId filter alongside other filters");
         }
-        if (adoptionStatus != null && !adoptionStatus.isEmpty()) {
-            adoptions = adoptionRepository.findByAdoptionStatus(AdoptionStatus.valueOf(adoptionStatus.toUpperCase()));
+
+        // One extra row tells us whether there is a next page without a separate count
+        List<Adoption> adoptions = includeArchived
+                ? adoptionRepository.findPageByFilterIncludingArchive(filter, cursor, direction, limit + 1)
+                : adoptionRepository.findPageByFilter(filter, cursor, direction, limit + 1);
+        String nextCursor = null;
+        if (adoptions.size() > limit) {
+            adoptions = adoptions.subList(0, limit);
+            nextCursor = AdoptionCursor.of(adoptions.get(limit - 1)).encode();
         }
 
         List<AdoptionResponseModel> responseModels = adoptionResponseMapper.entityListToResponseModelList(adoptions);
 
-        // Apply additional details to each response model
-        for (int i = 0; i < adoptions.size(); i++) {
-            populateAdditionalDetails(responseModels.get(i), adoptions.get(i));
-        }
+        // Apply additional details with one bulk lookup per downstream service instead of one per adoption
+        populateAdditionalDetails(responseModels, adoptions, AdoptionExpansion.parse(queryParams.get("expand")));
 
-        return responseModels;
+        return new AdoptionPage(responseModels, limit, nextCursor);
+    }
+
+    /**
+     * Walks the matching adoptions over a single cursor and hands them on one enriched batch at a time,
+     * so memory stays bounded by the batch size. The consumer writes each batch out before the next one
+     * is read, which keeps the cursor no faster than the client reading the export.
+     */
+    @Override
+    public void exportAdoptions(Map<String, String> queryParams, Consumer<List<AdoptionResponseModel>> batchConsumer) {
+        AdoptionFilter filter = buildFilter(queryParams);
+        Set<AdoptionExpansion> expand = AdoptionExpansion.parse(queryParams.get("expand"));
+
+        try (Stream<Adoption> adoptions = adoptionRepository.streamByFilter(filter, exportBatchSize)) {
+            Iterator<Adoption> cursor = adoptions.iterator();
+            List<Adoption> batch = new ArrayList<>(exportBatchSize);
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() == exportBatchSize || !cursor.hasNext()) {
+                    List<AdoptionResponseModel> responseModels = adoptionResponseMapper.entityListToResponseModelList(batch);
+                    populateAdditionalDetails(responseModels, batch, expand);
+                    batchConsumer.accept(responseModels);
+                    batch = new ArrayList<>(exportBatchSize);
+                }
+            }
+        }
     }
 
     @Override
-    public AdoptionResponseModel getAdoptionByAdoptionId(String adoptionId) {
+    public AdoptionResponseModel getAdoptionByAdoptionId(String adoptionId, Set<AdoptionExpansion> expand) {
         Adoption adoption = adoptionRepository.findByAdoptionIdentifier_AdoptionId(adoptionId);
 
         if (adoption == null) {
@@ -93,19 +172,61 @@ public class AdoptionServiceImpl implements AdoptionService {
         }
 
         AdoptionResponseModel responseModel = adoptionResponseMapper.entityToResponseModel(adoption);
-        populateAdditionalDetails(responseModel, adoption);
+        populateAdditionalDetails(responseModel, adoption, expand);
 
         return responseModel;
     }
 
+    /**
+     * Computes the current ETag of an adoption from the adoption and the locally stored summaries alone,
+     * so a conditional GET for an unchanged adoption makes no enrichment call. Only the expanded details
+     * count, as in the representation they tag. Returns null when a summary is not stored locally, in
+     * which case only the full read can tell.
+     */
+    @Override
+    public String getAdoptionETag(String adoptionId, Set<AdoptionExpansion> expand) {
+        Adoption adoption = adoptionRepository.findByAdoptionIdentifier_AdoptionId(adoptionId);
+
+        if (adoption == null) {
+            throw new NotFoundException("Provided adoptionId not found: " + adoptionId);
+        }
+
+        String customerId = expand.contains(AdoptionExpansion.CUSTOMER) ? adoption.getCustomerId() : null;
+        String creatureId = expand.contains(AdoptionExpansion.CREATURE) ? adoption.getCreatureId() : null;
+        String trainingId = expand.contains(AdoptionExpansion.TRAINING) ? adoption.getTrainingId() : null;
+        CustomerResponseModel customer = customerId != null ? readModel.findStoredCustomer(customerId) : null;
+        CreatureResponseModel creature = creatureId != null ? readModel.findStoredCreature(creatureId) : null;
+        TrainingResponseModel training = trainingId != null ? readModel.findStoredTraining(trainingId) : null;
+        if ((customerId != null && customer == null)
+                || (creatureId != null && creature == null)
+                || (trainingId != null && training == null)) {
+            return null;
+        }
+
+        AdoptionResponseModel details = new AdoptionResponseModel();
+        details.setVersion(adoption.getVersion());
+        applyCustomerDetails(details, customer);
+        applyCreatureDetails(details, creature);
+        applyTrainingDetails(details, training);
+        return AdoptionETags.of(details);
+    }
+
     @Override
     public AdoptionResponseModel addAdoption(AdoptionRequestModel adoptionRequestModel) {
-        CustomerResponseModel customer = customerServiceClient.getCustomerByCustomerId(adoptionRequestModel.getCustomerId());
+        // Both lookups are required for validation, so they run concurrently and failures are rethrown
+        AdoptionEnrichmentExecutor.EnrichmentScope scope = enrichmentExecutor.open();
+        AdoptionEnrichmentExecutor.Branch<CustomerResponseModel> customerBranch = scope.fork("customer",
+                () -> customerServiceClient.getCustomerByCustomerId(adoptionRequestModel.getCustomerId()));
+        AdoptionEnrichmentExecutor.Branch<CreatureResponseModel> creatureBranch = scope.fork("creature",
+                () -> creatureServiceClient.getCreatureByCreatureId(adoptionRequestModel.getCreatureId()));
+        scope.join();
+
+        CustomerResponseModel customer = customerBranch.getOrThrow();
         if (customer == null) {
             throw new NotFoundException("Customer not found with ID: " + adoptionRequestModel.getCustomerId());
         }
 
-        CreatureResponseModel creature = creatureServiceClient.getCreatureByCreatureId(adoptionRequestModel.getCreatureId());
+        CreatureResponseModel creature = creatureBranch.getOrThrow();
         if (creature == null) {
             throw new NotFoundException("Creature not found with ID: " + adoptionRequestModel.getCreatureId());
         }
@@ -116,27 +237,27 @@ public class AdoptionServiceImpl implements AdoptionService {
             throw new InvalidInputException("Creature is not available for adoption. Current status: " + creature.getStatus());
         }
 
-        // Count completed adoptions for current customer
-        long completedAdoptions = adoptionRepository.findByCustomerId(adoptionRequestModel.getCustomerId()).stream()
-                .filter(a -> a.getAdoptionStatus() == AdoptionStatus.COMPLETED)
-                .count();
+        // Aggregate invariant: the customer's slot is reserved in the same atomic update that checks the limit
+        recordStatusChange(adoptionRequestModel.getCustomerId(), null, AdoptionStatus.PENDING);
 
-        // Aggregate invariant: Check if customer has reached max adoptions limit
-        if (completedAdoptions >= MAX_ADOPTIONS_PER_CUSTOMER) {
-            throw new AdoptionLimitExceededException("Customer has reached the maximum limit of " + MAX_ADOPTIONS_PER_CUSTOMER + " adoptions");
-        }
+        Adoption savedAdoption;
+        try {
+            Adoption adoption = adoptionRequestMapper.requestModelToEntity(adoptionRequestModel, new AdoptionIdentifier(null));
 
-        Adoption adoption = adoptionRequestMapper.requestModelToEntity(adoptionRequestModel, new AdoptionIdentifier(null));
+            if (adoption.getAdoptionStatus() == null) {
+                adoption.setAdoptionStatus(AdoptionStatus.PENDING);
+            }
 
-        if (adoption.getAdoptionStatus() == null) {
-            adoption.setAdoptionStatus(AdoptionStatus.PENDING);
+            // Let the aggregate root determine the appropriate creature status
+            CreatureStatus newCreatureStatus = adoption.updateAdoptionStatus(AdoptionStatus.PENDING);
+            // Delivered later by the relay, conditional on the statuses checked above so a creature
+            // claimed in the meantime is not overwritten
+            savedAdoption = adoptionWriter.save(adoption, newCreatureStatus,
+                    CreatureStatus.AVAILABLE, CreatureStatus.RESERVED);
+        } catch (RuntimeException e) {
+            undoStatusChange(adoptionRequestModel.getCustomerId(), null, AdoptionStatus.PENDING);
+            throw e;
         }
-
-        // Let the aggregate root determine the appropriate creature status
-        CreatureStatus newCreatureStatus = adoption.updateAdoptionStatus(AdoptionStatus.PENDING);
-        creatureServiceClient.updateCreatureStatus(adoptionRequestModel.getCreatureId(), newCreatureStatus);
-
-        Adoption savedAdoption = adoptionRepository.save(adoption);
         AdoptionResponseModel responseModel = adoptionResponseMapper.entityToResponseModel(savedAdoption);
         populateAdditionalDetails(responseModel, savedAdoption);
 
@@ -144,12 +265,14 @@ public class AdoptionServiceImpl implements AdoptionService {
     }
 
     @Override
-    public AdoptionResponseModel updateAdoption(AdoptionRequestModel adoptionRequestModel, String adoptionId) {
+    public AdoptionResponseModel updateAdoption(AdoptionRequestModel adoptionRequestModel, String adoptionId,
+                                                Long expectedVersion) {
         Adoption existingAdoption = adoptionRepository.findByAdoptionIdentifier_AdoptionId(adoptionId);
 
         if (existingAdoption == null) {
             throw new NotFoundException("Provided adoptionId not found: " + adoptionId);
         }
+        checkVersion(existingAdoption, expectedVersion);
 
         AdoptionStatus previousStatus = existingAdoption.getAdoptionStatus();
 
@@ -157,14 +280,37 @@ public class AdoptionServiceImpl implements AdoptionService {
         Adoption updatedAdoption = adoptionRequestMapper.requestModelToEntity(adoptionRequestModel,
                 existingAdoption.getAdoptionIdentifier());
         updatedAdoption.setId(existingAdoption.getId());
+        updatedAdoption.setVersion(existingAdoption.getVersion());
         updatedAdoption.setLastUpdated(LocalDateTime.now());
 
-        if (previousStatus != updatedAdoption.getAdoptionStatus()) {
-            CreatureStatus newCreatureStatus = updatedAdoption.updateAdoptionStatus(updatedAdoption.getAdoptionStatus());
-            creatureServiceClient.updateCreatureStatus(updatedAdoption.getCreatureId(), newCreatureStatus);
+        String previousCustomerId = existingAdoption.getCustomerId();
+        AdoptionStatus newStatus = updatedAdoption.getAdoptionStatus();
+        boolean customerChanged = !Objects.equals(previousCustomerId, updatedAdoption.getCustomerId());
+        if (customerChanged) {
+            // The adoption leaves one customer's counts and joins the other's, under the new customer's limit
+            recordStatusChange(updatedAdoption.getCustomerId(), null, newStatus);
+            recordStatusChange(previousCustomerId, previousStatus, null);
+        } else {
+            recordStatusChange(previousCustomerId, previousStatus, newStatus);
         }
 
-        Adoption savedAdoption = adoptionRepository.save(updatedAdoption);
+        Adoption savedAdoption;
+        try {
+            if (previousStatus != newStatus) {
+                CreatureStatus newCreatureStatus = updatedAdoption.updateAdoptionStatus(newStatus);
+                savedAdoption = adoptionWriter.save(updatedAdoption, newCreatureStatus);
+            } else {
+                savedAdoption = adoptionWriter.save(updatedAdoption);
+            }
+        } catch (RuntimeException e) {
+            if (customerChanged) {
+                undoStatusChange(updatedAdoption.getCustomerId(), null, newStatus);
+                undoStatusChange(previousCustomerId, previousStatus, null);
+            } else {
+                undoStatusChange(previousCustomerId, previousStatus, newStatus);
+            }
+            throw versionConflict(e, adoptionId, expectedVersion);
+        }
         AdoptionResponseModel responseModel = adoptionResponseMapper.entityToResponseModel(savedAdoption);
         populateAdditionalDetails(responseModel, savedAdoption);
 
@@ -172,23 +318,30 @@ public class AdoptionServiceImpl implements AdoptionService {
     }
 
     @Override
-    public AdoptionResponseModel updateAdoptionStatus(String adoptionId, String newStatusStr) {
+    public AdoptionResponseModel updateAdoptionStatus(String adoptionId, String newStatusStr, Long expectedVersion) {
         Adoption existingAdoption = adoptionRepository.findByAdoptionIdentifier_AdoptionId(adoptionId);
 
         if (existingAdoption == null) {
             throw new NotFoundException("Provided adoptionId not found: " + adoptionId);
         }
+        checkVersion(existingAdoption, expectedVersion);
 
         try {
             AdoptionStatus newStatus = AdoptionStatus.valueOf(newStatusStr.toUpperCase());
+            AdoptionStatus previousStatus = existingAdoption.getAdoptionStatus();
+            recordStatusChange(existingAdoption.getCustomerId(), previousStatus, newStatus);
 
-            // Let the aggregate root determine the appropriate creature status
-            CreatureStatus newCreatureStatus = existingAdoption.updateAdoptionStatus(newStatus);
-
-            // Update creature based on aggregate root's decision
-            creatureServiceClient.updateCreatureStatus(existingAdoption.getCreatureId(), newCreatureStatus);
-
-            Adoption savedAdoption = adoptionRepository.save(existingAdoption);
+            Adoption savedAdoption;
+            try {
+                // Let the aggregate root determine the appropriate creature status
+                CreatureStatus newCreatureStatus = existingAdoption.updateAdoptionStatus(newStatus);
+
+                // The creature follows the aggregate root's decision once the relay delivers it
+                savedAdoption = adoptionWriter.save(existingAdoption, newCreatureStatus);
+            } catch (RuntimeException e) {
+                undoStatusChange(existingAdoption.getCustomerId(), previousStatus, newStatus);
+                throw versionConflict(e, adoptionId, expectedVersion);
+            }
             AdoptionResponseModel responseModel = adoptionResponseMapper.entityToResponseModel(savedAdoption);
             populateAdditionalDetails(responseModel, savedAdoption);
 
@@ -198,7 +351,81 @@ public class AdoptionServiceImpl implements AdoptionService {
         }
     }
 
+    /**
+     * Moves many adoptions to one status. Each adoption is checked on its own and gets its own result;
+     * the accepted changes are then written with one bulk write, in the same transaction as the creature
+     * status changes they imply, so the relay can deliver those in batches.
+     */
     @Override
+    public List<AdoptionStatusTransitionResultModel> transitionAdoptionStatuses(AdoptionStatusTransitionRequestModel request) {
+        if (request.getStatus() == null) {
+            throw new InvalidInputException("A target adoption status is required");
+        }
+        AdoptionStatus newStatus;
+        try {
+            newStatus = AdoptionStatus.valueOf(request.getStatus().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidInputException("Invalid adoption status: " + request.getStatus());
+        }
+
+        List<AdoptionStatusTransitionResultModel> results = new ArrayList<>();
+        List<Adoption> changedAdoptions = new ArrayList<>();
+        List<AdoptionStatus> previousStatuses = new ArrayList<>();
+        List<CreatureStatus> creatureStatuses = new ArrayList<>();
+        for (Map.Entry<String, Adoption> target : findTransitionTargets(request).entrySet()) {
+            Adoption adoption = target.getValue();
+            if (adoption == null) {
+                results.add(AdoptionStatusTransitionResultModel.builder()
+                        .adoptionId(target.getKey())
+                        .outcome(AdoptionStatusTransitionOutcome.NOT_FOUND)
+                        .message("Provided adoptionId not found: " + target.getKey())
+                        .build());
+                continue;
+            }
+
+            AdoptionStatus previousStatus = adoption.getAdoptionStatus();
+            AdoptionStatusTransitionResultModel result = AdoptionStatusTransitionResultModel.builder()
+                    .adoptionId(target.getKey())
+                    .previousStatus(previousStatus)
+                    .adoptionStatus(previousStatus)
+                    .build();
+            results.add(result);
+            if (previousStatus == newStatus) {
+                result.setOutcome(AdoptionStatusTransitionOutcome.UNCHANGED);
+                continue;
+            }
+            try {
+                recordStatusChange(adoption.getCustomerId(), previousStatus, newStatus);
+            } catch (AdoptionLimitExceededException e) {
+                result.setOutcome(AdoptionStatusTransitionOutcome.REJECTED);
+                result.setMessage(e.getMessage());
+                continue;
+            }
+
+            // Let the aggregate root determine the appropriate creature status
+            creatureStatuses.add(adoption.updateAdoptionStatus(newStatus));
+            changedAdoptions.add(adoption);
+            previousStatuses.add(previousStatus);
+            result.setOutcome(AdoptionStatusTransitionOutcome.UPDATED);
+            result.setAdoptionStatus(newStatus);
+        }
+
+        if (!changedAdoptions.isEmpty()) {
+            try {
+                adoptionWriter.saveStatuses(changedAdoptions, creatureStatuses);
+            } catch (RuntimeException e) {
+                for (int i = 0; i < changedAdoptions.size(); i++) {
+                    undoStatusChange(changedAdoptions.get(i).getCustomerId(), previousStatuses.get(i), newStatus);
+                }
+                throw e;
+            }
+        }
+        return results;
+    }
+
+    // The customer's counts move in the same transaction as the removal
+    @Override
+    @Transactional
     public void removeAdoption(String adoptionId) {
         Adoption existingAdoption = adoptionRepository.findByAdoptionIdentifier_AdoptionId(adoptionId);
 
@@ -210,46 +437,418 @@ public class AdoptionServiceImpl implements AdoptionService {
         existingAdoption.validateDeletion();
 
         // Reset creature status to AVAILABLE
-        creatureServiceClient.updateCreatureStatus(existingAdoption.getCreatureId(), CreatureStatus.AVAILABLE);
+        adoptionWriter.delete(existingAdoption, CreatureStatus.AVAILABLE);
+        // Removals are never refused by the limit
+        recordUncheckedStatusChange(existingAdoption.getCustomerId(), existingAdoption.getAdoptionStatus(), null);
+    }
+
+    /**
+     * Answers from the statistics rollup, a few documents per location and month, instead of reading adoptions.
+     * Optional filters: location, and fromMonth / toMonth in yyyy-MM form, both inclusive.
+     */
+    @Override
+    public AdoptionStatsResponseModel getAdoptionStats(Map<String, String> queryParams) {
+        String fromMonth = parseMonth("fromMonth", queryParams.get("fromMonth"));
+        String toMonth = parseMonth("toMonth", queryParams.get("toMonth"));
+
+        Map<String, Long> byStatus = new LinkedHashMap<>();
+        for (AdoptionStatus status : AdoptionStatus.values()) {
+            byStatus.put(status.name(), 0L);
+        }
+        Map<String, Map<String, Long>> byLocation = new TreeMap<>();
+        Map<String, Map<String, Long>> byMonth = new TreeMap<>();
+        long total = 0;
+        for (AdoptionStatsBucket bucket : adoptionStatsRepository.findBuckets(
+                emptyToNull(queryParams.get("location")), fromMonth, toMonth)) {
+            for (Map.Entry<String, Long> count : bucket.getCounts().entrySet()) {
+                if (count.getValue() == 0) {
+                    continue;
+                }
+                total += count.getValue();
+                byStatus.merge(count.getKey(), count.getValue(), Long::sum);
+                byLocation.computeIfAbsent(orUnknown(bucket.getLocation()), location -> new TreeMap<>())
+                        .merge(count.getKey(), count.getValue(), Long::sum);
+                byMonth.computeIfAbsent(orUnknown(bucket.getMonth()), month -> new TreeMap<>())
+                        .merge(count.getKey(), count.getValue(), Long::sum);
+            }
+        }
 
-        adoptionRepository.delete(existingAdoption);
+        return AdoptionStatsResponseModel.builder()
+                .total(total)
+                .byStatus(byStatus)
+                .byLocation(byLocation)
+                .byMonth(byMonth)
+                .build();
     }
 
-    private void populateAdditionalDetails(AdoptionResponseModel response, Adoption adoption) {
-        try {
-            CustomerResponseModel customer = customerServiceClient.getCustomerByCustomerId(adoption.getCustomerId());
-            if (customer != null) {
-                response.setCustomerFirstName(customer.getFirstName());
-                response.setCustomerLastName(customer.getLastName());
+    @Override
+    public void rebuildAdoptionStats() {
+        long started = System.currentTimeMillis();
+        adoptionStatsRepository.rebuild();
+        log.info("Rebuilt adoption statistics in {} ms", System.currentTimeMillis() - started);
+    }
+
+    /**
+     * The status changes of one adoption, oldest first, optionally limited to from (inclusive) and to (exclusive).
+     * History is kept after the adoption is removed, so it is only a 404 when neither exists.
+     */
+    @Override
+    public List<AdoptionStatusHistoryEntryModel> getAdoptionStatusHistory(String adoptionId, Map<String, String> queryParams) {
+        LocalDateTime from = parseTime("from", queryParams.get("from"));
+        LocalDateTime to = parseTime("to", queryParams.get("to"));
+
+        List<AdoptionStatusEvent> events = statusEventRepository.findHistory(adoptionId, from, to);
+        if (events.isEmpty() && adoptionRepository.findByAdoptionIdentifier_AdoptionId(adoptionId) == null
+                && (from == null && to == null || statusEventRepository.findHistory(adoptionId, null, null).isEmpty())) {
+            throw new NotFoundException("Provided adoptionId not found: " + adoptionId);
+        }
+        return events.stream().map(AdoptionStatusHistoryEntryModel::from).toList();
+    }
+
+    /**
+     * Aggregated from the status history alone. Optional: from and to (ISO dates or date-times, to exclusive,
+     * the last 30 days by default) and bucket (hour, day, week or month, day by default).
+     */
+    @Override
+    public AdoptionFunnelResponseModel getAdoptionFunnel(Map<String, String> queryParams) {
+        String bucket = Objects.requireNonNullElse(emptyToNull(queryParams.get("bucket")), "day").toLowerCase();
+        if (!FUNNEL_BUCKETS.containsKey(bucket)) {
+            throw new InvalidInputException("Invalid bucket provided: " + bucket + ". Supported: hour, day, week or month");
+        }
+        LocalDateTime to = Objects.requireNonNullElseGet(parseTime("to", queryParams.get("to")), LocalDateTime::now);
+        LocalDateTime from = Objects.requireNonNullElse(parseTime("from", queryParams.get("from")),
+                to.minusDays(DEFAULT_FUNNEL_DAYS));
+        if (!from.isBefore(to)) {
+            throw new InvalidInputException("from must be before to");
+        }
+        if (FUNNEL_BUCKETS.get(bucket).between(from, to) >= MAX_FUNNEL_BUCKETS) {
+            throw new InvalidInputException("A funnel can span at most " + MAX_FUNNEL_BUCKETS + " buckets; use a wider bucket or a shorter range");
+        }
+
+        Map<AdoptionStatus, StatusFlow> totals = new EnumMap<>(AdoptionStatus.class);
+        for (AdoptionStatus status : AdoptionStatus.values()) {
+            totals.put(status, new StatusFlow());
+        }
+        Map<LocalDateTime, Map<AdoptionStatus, StatusFlow>> buckets = new TreeMap<>();
+        for (AdoptionStatusTransitionCount count : statusEventRepository.countTransitions(from, to, bucket)) {
+            Map<AdoptionStatus, StatusFlow> inBucket = buckets.computeIfAbsent(count.getBucket(),
+                    start -> new EnumMap<>(AdoptionStatus.class));
+            for (Map<AdoptionStatus, StatusFlow> flows : List.of(inBucket, totals)) {
+                flows.computeIfAbsent(count.getStatus(), status -> new StatusFlow()).entered += count.getCount();
+                if (count.getPreviousStatus() != null) {
+                    flows.computeIfAbsent(count.getPreviousStatus(), status -> new StatusFlow()).add(count);
+                }
             }
-        } catch (Exception e) {
-            log.warn("Could not fetch customer details: {}", e.getMessage());
         }
 
+        return AdoptionFunnelResponseModel.builder()
+                .from(from)
+                .to(to)
+                .bucket(bucket)
+                .totals(StatusFlow.toModels(totals))
+                .buckets(buckets.entrySet().stream()
+                        .map(entry -> new AdoptionFunnelResponseModel.Bucket(entry.getKey(), StatusFlow.toModels(entry.getValue())))
+                        .toList())
+                .build();
+    }
+
+    // Keyed by adoptionId in result order; listed ids that do not exist map to null
+    private Map<String, Adoption> findTransitionTargets(AdoptionStatusTransitionRequestModel request) {
+        boolean byIds = request.getAdoptionIds() != null && !request.getAdoptionIds().isEmpty();
+        boolean byFilter = request.getFilter() != null && !request.getFilter().isEmpty();
+        if (byIds == byFilter) {
+            throw new InvalidInputException("Provide either adoptionIds or a filter");
+        }
+
+        Map<String, Adoption> targets = new LinkedHashMap<>();
+        if (byIds) {
+            request.getAdoptionIds().forEach(adoptionId -> targets.put(adoptionId, null));
+            validateTransitionSize(targets.size());
+            adoptionRepository.findByAdoptionIdentifier_AdoptionIdIn(targets.keySet())
+                    .forEach(adoption -> targets.put(adoption.getAdoptionIdentifier().getAdoptionId(), adoption));
+        } else {
+            // One row past the limit tells us the filter matches too many adoptions
+            List<Adoption> matching = adoptionRepository.findPageByFilter(buildFilter(request.getFilter()), null,
+                    Sort.Direction.ASC, MAX_TRANSITION_SIZE + 1);
+            validateTransitionSize(matching.size());
+            matching.forEach(adoption -> targets.put(adoption.getAdoptionIdentifier().getAdoptionId(), adoption));
+        }
+        return targets;
+    }
+
+    private static void validateTransitionSize(int size) {
+        if (size > MAX_TRANSITION_SIZE) {
+            throw new InvalidInputException("A status transition can change at most " + MAX_TRANSITION_SIZE + " adoptions");
+        }
+    }
+
+    // All supplied filters are combined into one query instead of each replacing the previous result
+    private static AdoptionFilter buildFilter(Map<String, String> queryParams) {
+        String profileStatus = emptyToNull(queryParams.get("profileStatus"));
+        String adoptionStatus = emptyToNull(queryParams.get("adoptionStatus"));
+
+        return AdoptionFilter.builder()
+                .adoptionId(emptyToNull(queryParams.get("adoptionId")))
+                .customerId(emptyToNull(queryParams.get("customerId")))
+                .creatureId(emptyToNull(queryParams.get("creatureId")))
+                .trainingId(emptyToNull(queryParams.get("trainingId")))
+                .adoptionLocation(emptyToNull(queryParams.get("adoptionLocation")))
+                .profileStatus(profileStatus != null ? ProfileStatus.valueOf(profileStatus.toUpperCase()) : null)
+                .adoptionStatus(adoptionStatus != null ? AdoptionStatus.valueOf(adoptionStatus.toUpperCase()) : null)
+                .build();
+    }
+
+    // Archived adoptions are left out unless asked for, so ordinary reads never touch the archive
+    private static boolean parseIncludeArchived(String includeArchived) {
+        if (includeArchived == null || includeArchived.isEmpty() || includeArchived.equalsIgnoreCase("false")) {
+            return false;
+        }
+        if (includeArchived.equalsIgnoreCase("true")) {
+            return true;
+        }
+        throw new InvalidInputException("Invalid includeArchived provided: " + includeArchived + ". Must be true or false");
+    }
+
+    private static int parseLimit(String limit) {
+        if (limit == null || limit.isEmpty()) {
+            return DEFAULT_PAGE_SIZE;
+        }
         try {
-            CreatureResponseModel creature = creatureServiceClient.getCreatureByCreatureId(adoption.getCreatureId());
-            if (creature != null) {
-                response.setCreatureName(creature.getName());
-                response.setCreatureSpecies(creature.getSpecies());
-                response.setCreatureStatus(CreatureStatus.valueOf(creature.getStatus()));
+            int parsed = Integer.parseInt(limit);
+            if (parsed >= 1 && parsed <= MAX_PAGE_SIZE) {
+                return parsed;
             }
-        } catch (Exception e) {
-            log.warn("Could not fetch creature details: {}", e.getMessage());
+        } catch (NumberFormatException ignored) {
+            // reported below
         }
+        throw new InvalidInputException("Invalid limit provided: " + limit + ". Must be between 1 and " + MAX_PAGE_SIZE);
+    }
 
-        if (adoption.getTrainingId() != null) {
-            try {
-                TrainingResponseModel training = trainingServiceClient.getTrainingByTrainingId(adoption.getTrainingId());
-                if (training != null) {
-                    response.setTrainingName(training.getName());
-                    response.setTrainingLocation(training.getLocation());
-                }
-            } catch (Exception e) {
-                log.warn("Could not fetch training details: {}", e.getMessage());
+    // Pages are keyed on (lastUpdated, _id), so lastUpdated is the only sortable field; newest first by default
+    private static Sort.Direction parseSortDirection(String sort) {
+        if (sort == null || sort.isEmpty()) {
+            return Sort.Direction.DESC;
+        }
+        String[] parts = sort.split(",");
+        if (!parts[0].equals("lastUpdated") || parts.length > 2) {
+            throw new InvalidInputException("Invalid sort provided: " + sort + ". Supported: lastUpdated,asc or lastUpdated,desc");
+        }
+        if (parts.length == 1) {
+            return Sort.Direction.DESC;
+        }
+        return Sort.Direction.fromOptionalString(parts[1]).orElseThrow(() ->
+                new InvalidInputException("Invalid sort direction provided: " + parts[1]));
+    }
+
+    private static String parseMonth(String name, String month) {
+        if (month == null || month.isEmpty()) {
+            return null;
+        }
+        try {
+            return YearMonth.parse(month).toString();
+        } catch (DateTimeParseException e) {
+            throw new InvalidInputException("Invalid " + name + " provided: " + month + ". Expected yyyy-MM");
+        }
+    }
+
+    /**
+     * If-Match: the write only goes ahead on the version the client last saw. The save itself is conditional
+     * on the version read here, so a write landing in between is refused too.
+     */
+    private static void checkVersion(Adoption adoption, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(adoption.getVersion())) {
+            throw new PreconditionFailedException("Adoption " + adoption.getAdoptionIdentifier().getAdoptionId()
+                    + " has changed, current version: " + adoption.getVersion());
+        }
+    }
+
+    // A concurrent write answers 412 to a client that sent If-Match, and 409 otherwise
+    private static RuntimeException versionConflict(RuntimeException e, String adoptionId, Long expectedVersion) {
+        if (expectedVersion != null && e instanceof OptimisticLockingFailureException) {
+            return new PreconditionFailedException("Adoption " + adoptionId + " was changed concurrently");
+        }
+        return e;
+    }
+
+    // An ISO date, meaning the start of that day, or an ISO date-time
+    private static LocalDateTime parseTime(String name, String value) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        try {
+            return value.contains("T") ? LocalDateTime.parse(value) : LocalDate.parse(value).atStartOfDay();
+        } catch (DateTimeParseException e) {
+            throw new InvalidInputException("Invalid " + name + " provided: " + value + ". Expected yyyy-MM-dd or yyyy-MM-ddTHH:mm:ss");
+        }
+    }
+
+    private static String orUnknown(String value) {
+        return value != null ? value : "unknown";
+    }
+
+    private static String emptyToNull(String value) {
+        return value != null && !value.isEmpty() ? value : null;
+    }
+
+    private void recordStatusChange(String customerId, AdoptionStatus from, AdoptionStatus to) {
+        if (from == to) {
+            return;
+        }
+        if (!customerAdoptionStatsRepository.recordTransition(customerId, from, to, MAX_ADOPTIONS_PER_CUSTOMER)) {
+            throw new AdoptionLimitExceededException("Customer has reached the maximum limit of " + MAX_ADOPTIONS_PER_CUSTOMER + " adoptions");
+        }
+    }
+
+    // Gives back a change recorded for a write that did not go through; giving it back is never refused by the limit
+    private void undoStatusChange(String customerId, AdoptionStatus from, AdoptionStatus to) {
+        recordUncheckedStatusChange(customerId, to, from);
+    }
+
+    private void recordUncheckedStatusChange(String customerId, AdoptionStatus from, AdoptionStatus to) {
+        if (from == to) {
+            return;
+        }
+        if (!customerAdoptionStatsRepository.recordUncheckedTransition(customerId, from, to)) {
+            log.error("No adoption counts of customer {} to move from {} to {}, the counts need a rebuild", customerId, from, to);
+        }
+    }
+
+    // Writes answer with every detail, since the client has no way to ask for less
+    private void populateAdditionalDetails(AdoptionResponseModel response, Adoption adoption) {
+        populateAdditionalDetails(response, adoption, AdoptionExpansion.ALL);
+    }
+
+    private void populateAdditionalDetails(AdoptionResponseModel response, Adoption adoption,
+                                           Set<AdoptionExpansion> expand) {
+        if (expand.isEmpty()) {
+            return;
+        }
+        AdoptionEnrichmentExecutor.EnrichmentScope scope = enrichmentExecutor.open();
+        AdoptionEnrichmentExecutor.Branch<CustomerResponseModel> customer = expand.contains(AdoptionExpansion.CUSTOMER)
+                ? scope.fork("customer", () -> readModel.findCustomer(adoption.getCustomerId()))
+                : null;
+        AdoptionEnrichmentExecutor.Branch<CreatureResponseModel> creature = expand.contains(AdoptionExpansion.CREATURE)
+                ? scope.fork("creature", () -> readModel.findCreature(adoption.getCreatureId()))
+                : null;
+        AdoptionEnrichmentExecutor.Branch<TrainingResponseModel> training =
+                expand.contains(AdoptionExpansion.TRAINING) && adoption.getTrainingId() != null
+                        ? scope.fork("training", () -> readModel.findTraining(adoption.getTrainingId()))
+                        : null;
+        scope.join();
+
+        if (customer != null) {
+            applyCustomerDetails(response, customer.get());
+        }
+        if (creature != null) {
+            applyCreatureDetails(response, creature.get());
+        }
+        if (training != null) {
+            applyTrainingDetails(response, training.get());
+        }
+        response.setPartialDetails(scope.isPartial());
+    }
+
+    /**
+     * Enriches a page of adoptions by collecting the distinct customer, creature and training ids,
+     * resolving each set by _id against the local summary collections and joining the results back in memory.
+     * Only ids missing from the read model reach the downstream services, with a single batch call per service,
+     * and the lookups run concurrently under one deadline. Details left out of expand are not looked up at all.
+     */
+    private void populateAdditionalDetails(List<AdoptionResponseModel> responses, List<Adoption> adoptions,
+                                           Set<AdoptionExpansion> expand) {
+        if (adoptions.isEmpty() || expand.isEmpty()) {
+            return;
+        }
+
+        Set<String> customerIds = new HashSet<>();
+        Set<String> creatureIds = new HashSet<>();
+        Set<String> trainingIds = new HashSet<>();
+        for (Adoption adoption : adoptions) {
+            if (adoption.getCustomerId() != null && expand.contains(AdoptionExpansion.CUSTOMER)) {
+                customerIds.add(adoption.getCustomerId());
             }
-        } else {
-            response.setTrainingName(null);
-            response.setTrainingLocation(null);
+            if (adoption.getCreatureId() != null && expand.contains(AdoptionExpansion.CREATURE)) {
+                creatureIds.add(adoption.getCreatureId());
+            }
+            if (adoption.getTrainingId() != null && expand.contains(AdoptionExpansion.TRAINING)) {
+                trainingIds.add(adoption.getTrainingId());
+            }
+        }
+
+        AdoptionEnrichmentExecutor.EnrichmentScope scope = enrichmentExecutor.open();
+        AdoptionEnrichmentExecutor.Branch<List<CustomerResponseModel>> customerBranch = customerIds.isEmpty() ? null
+                : scope.fork("customer", () -> readModel.findCustomers(customerIds));
+        AdoptionEnrichmentExecutor.Branch<List<CreatureResponseModel>> creatureBranch = creatureIds.isEmpty() ? null
+                : scope.fork("creature", () -> readModel.findCreatures(creatureIds));
+        AdoptionEnrichmentExecutor.Branch<List<TrainingResponseModel>> trainingBranch = trainingIds.isEmpty() ? null
+                : scope.fork("training", () -> readModel.findTrainings(trainingIds));
+        scope.join();
+
+        Map<String, CustomerResponseModel> customers = new HashMap<>();
+        if (customerBranch != null && customerBranch.get() != null) {
+            customerBranch.get().forEach(customer -> customers.put(customer.getCustomerId(), customer));
+        }
+        Map<String, CreatureResponseModel> creatures = new HashMap<>();
+        if (creatureBranch != null && creatureBranch.get() != null) {
+            creatureBranch.get().forEach(creature -> creatures.put(creature.getCreatureId(), creature));
+        }
+        Map<String, TrainingResponseModel> trainings = new HashMap<>();
+        if (trainingBranch != null && trainingBranch.get() != null) {
+            trainingBranch.get().forEach(training -> trainings.put(training.getTrainingId(), training));
+        }
+
+        for (int i = 0; i < adoptions.size(); i++) {
+            Adoption adoption = adoptions.get(i);
+            AdoptionResponseModel response = responses.get(i);
+
+            applyCustomerDetails(response, customers.get(adoption.getCustomerId()));
+            applyCreatureDetails(response, creatures.get(adoption.getCreatureId()));
+            applyTrainingDetails(response, trainings.get(adoption.getTrainingId()));
+            response.setPartialDetails(scope.isPartial());
+        }
+    }
+
+    private void applyCustomerDetails(AdoptionResponseModel response, CustomerResponseModel customer) {
+        if (customer != null) {
+            response.setCustomerFirstName(customer.getFirstName());
+            response.setCustomerLastName(customer.getLastName());
+        }
+    }
+
+    private void applyCreatureDetails(AdoptionResponseModel response, CreatureResponseModel creature) {
+        if (creature != null) {
+            response.setCreatureName(creature.getName());
+            response.setCreatureSpecies(creature.getSpecies());
+            response.setCreatureStatus(CreatureStatus.valueOf(creature.getStatus()));
+        }
+    }
+
+    private void applyTrainingDetails(AdoptionResponseModel response, TrainingResponseModel training) {
+        if (training != null) {
+            response.setTrainingName(training.getName());
+            response.setTrainingLocation(training.getLocation());
+        }
+    }
+
+    // Running totals for one status in one funnel bucket
+    private static final class StatusFlow {
+
+        private long entered;
+        private long left;
+        private long timedLeft;
+        private long totalTimeMs;
+
+        void add(AdoptionStatusTransitionCount leaving) {
+            left += leaving.getCount();
+            timedLeft += leaving.getTimedCount();
+            totalTimeMs += leaving.getTotalTimeInPreviousStatusMs();
+        }
+
+        static Map<String, AdoptionFunnelResponseModel.StatusFlow> toModels(Map<AdoptionStatus, StatusFlow> flows) {
+            Map<String, AdoptionFunnelResponseModel.StatusFlow> models = new LinkedHashMap<>();
+            flows.forEach((status, flow) -> models.put(status.name(), new AdoptionFunnelResponseModel.StatusFlow(
+                    flow.entered, flow.left, flow.timedLeft > 0 ? flow.totalTimeMs / flow.timedLeft : null)));
+            return models;
         }
     }
-}
\ No newline at end of file
+}
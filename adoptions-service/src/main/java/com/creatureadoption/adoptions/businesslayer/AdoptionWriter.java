@@ -0,0 +1,134 @@
+package com.creatureadoption.adoptions.businesslayer;
+
+import com.creatureadoption.adoptions.dataaccesslayer.Adoption;
+import com.creatureadoption.adoptions.dataaccesslayer.AdoptionRepository;
+import com.creatureadoption.adoptions.dataaccesslayer.AdoptionStatsRepository;
+import com.creatureadoption.adoptions.dataaccesslayer.AdoptionStatus;
+import com.creatureadoption.adoptions.dataaccesslayer.CreatureStatus;
+import com.creatureadoption.adoptions.dataaccesslayer.CustomerAdoptionStatsRepository;
+import com.creatureadoption.adoptions.dataaccesslayer.history.AdoptionStatusEventRepository;
+import com.creatureadoption.adoptions.dataaccesslayer.outbox.CreatureStatusOutbox;
+import com.creatureadoption.adoptions.dataaccesslayer.outbox.CreatureStatusOutboxEntry;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Writes adoptions together with everything that moves with them, in one MongoDB transaction: the adoption
+ * statistics rollup goes from the stored state of the adoption to the written one, the status change is
+ * appended to the adoption's history, and the creature status change the write implies is handed to the
+ * {@link CreatureStatusOutbox}, so it is recorded if and only if the write commits.
+ */
+@Component
+public class AdoptionWriter {
+
+    private final AdoptionRepository adoptionRepository;
+    private final AdoptionStatsRepository adoptionStatsRepository;
+    private final AdoptionStatusEventRepository statusEventRepository;
+    private final CustomerAdoptionStatsRepository customerAdoptionStatsRepository;
+    private final CreatureStatusOutbox creatureStatusOutbox;
+
+    public AdoptionWriter(AdoptionRepository adoptionRepository, AdoptionStatsRepository adoptionStatsRepository,
+                          AdoptionStatusEventRepository statusEventRepository,
+                          CustomerAdoptionStatsRepository customerAdoptionStatsRepository,
+                          CreatureStatusOutbox creatureStatusOutbox) {
+        this.adoptionRepository = adoptionRepository;
+        this.adoptionStatsRepository = adoptionStatsRepository;
+        this.statusEventRepository = statusEventRepository;
+        this.customerAdoptionStatsRepository = customerAdoptionStatsRepository;
+        this.creatureStatusOutbox = creatureStatusOutbox;
+    }
+
+    /**
+     * Saves an adoption whose change leaves its creature alone; the location or adoption date may still move it
+     * to another statistics bucket.
+     */
+    @Transactional
+    public Adoption save(Adoption adoption) {
+        return write(adoption);
+    }
+
+    /**
+     * Saves an adoption and records the creature status change it implies, to be applied only while the
+     * creature is in one of {@code expectedStatuses}; none makes the change unconditional.
+     */
+    @Transactional
+    public Adoption save(Adoption adoption, CreatureStatus creatureStatus, CreatureStatus... expectedStatuses) {
+        Adoption saved = write(adoption);
+        creatureStatusOutbox.add(saved, creatureStatus, List.of(expectedStatuses));
+        return saved;
+    }
+
+    /**
+     * Writes the new status of every adoption with one bulk write and records the creature status change
+     * each one implies, {@code creatureStatuses.get(i)} belonging to {@code adoptions.get(i)}. If any adoption
+     * moved past the version it was read at, nothing is written.
+     */
+    @Transactional
+    public void saveStatuses(List<Adoption> adoptions, List<CreatureStatus> creatureStatuses) {
+        if (adoptions.size() != creatureStatuses.size()) {
+            throw new IllegalArgumentException("Expected one creature status per adoption");
+        }
+        Map<UUID, Adoption> previous = adoptionRepository.findAllById(adoptions.stream().map(Adoption::getId).toList())
+                .stream().collect(Collectors.toMap(Adoption::getId, Function.identity()));
+        if (adoptionRepository.updateStatuses(adoptions) != adoptions.size()) {
+            throw new OptimisticLockingFailureException("An adoption was changed while its status was being transitioned");
+        }
+        List<Adoption> before = adoptions.stream().map(adoption -> previous.get(adoption.getId())).toList();
+        adoptionStatsRepository.recordChanges(before, adoptions);
+        statusEventRepository.recordTransitions(before, adoptions);
+        creatureStatusOutbox.addAll(adoptions, creatureStatuses);
+    }
+
+    // The removal closes the adoption's history, which is kept after the adoption is gone
+    @Transactional
+    public void delete(Adoption adoption, CreatureStatus creatureStatus) {
+        adoptionRepository.delete(adoption);
+        adoptionStatsRepository.recordChange(adoption, null);
+        statusEventRepository.recordTransitions(List.of(adoption), Collections.singletonList(null));
+        creatureStatusOutbox.add(adoption, creatureStatus, List.of());
+    }
+
+    /**
+     * Cancels the adoption whose conditional creature status change the creatures service refused, in the same
+     * transaction that marks the change FAILED: the adoption's customer count and statistics move to CANCELLED,
+     * the cancellation goes into its history, and the changes it queued after the refused one are dropped, since
+     * the creature is not the adoption's to change. An adoption already CANCELLED or RETURNED is left as it is.
+     *
+     * @return the cancelled adoption, or null when there was none left to cancel
+     */
+    @Transactional
+    public Adoption compensate(CreatureStatusOutboxEntry refused, String error) {
+        creatureStatusOutbox.fail(refused, error);
+
+        Adoption adoption = adoptionRepository.findByAdoptionIdentifier_AdoptionId(refused.getAdoptionId());
+        if (adoption == null || adoption.getAdoptionStatus() == AdoptionStatus.CANCELLED
+                || adoption.getAdoptionStatus() == AdoptionStatus.RETURNED) {
+            return null;
+        }
+        AdoptionStatus previousStatus = adoption.getAdoptionStatus();
+        adoption.updateAdoptionStatus(AdoptionStatus.CANCELLED);
+        Adoption cancelled = write(adoption);
+        // Giving the slot back is never refused by the limit
+        customerAdoptionStatsRepository.recordUncheckedTransition(adoption.getCustomerId(), previousStatus,
+                AdoptionStatus.CANCELLED);
+        return cancelled;
+    }
+
+    // Saves the adoption and moves its statistics and history from the stored state to the written one
+    private Adoption write(Adoption adoption) {
+        // Callers change the adoption in place, so its previous state is read back inside the transaction
+        Adoption previous = adoption.getId() != null ? adoptionRepository.findById(adoption.getId()).orElse(null) : null;
+        Adoption saved = adoptionRepository.save(adoption);
+        adoptionStatsRepository.recordChange(previous, saved);
+        statusEventRepository.recordTransitions(Collections.singletonList(previous), List.of(saved));
+        return saved;
+    }
+}
@@ -0,0 +1,254 @@
+package com.creatureadoption.adoptions.businesslayer;
+
+import com.creatureadoption.adoptions.dataaccesslayer.outbox.CreatureStatusOutboxEntry;
+import com.creatureadoption.adoptions.dataaccesslayer.outbox.CreatureStatusOutboxRepository;
+import com.creatureadoption.adoptions.dataaccesslayer.outbox.OutboxEntryState;
+import com.creatureadoption.adoptions.domainclientlayer.CreatureServiceClient;
+import com.creatureadoption.adoptions.domainclientlayer.models.CreatureResponseModel;
+import com.creatureadoption.adoptions.utils.exceptions.InvalidInputException;
+import com.creatureadoption.adoptions.utils.exceptions.NotFoundException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Drains the creature status outbox into the creatures service. Each pass reads a batch of pending entries
+ * oldest first and delivers the entries of different creatures concurrently, while the entries of one creature
+ * are delivered one after the other: an entry that has to be retried holds back the later ones for its creature.
+ * When the creatures service refuses a conditional change, the adoption that wrote it is cancelled instead.
+ */
+@Slf4j
+@Component
+public class CreatureStatusRelay {
+
+    private final CreatureStatusOutboxRepository outboxRepository;
+    private final AdoptionWriter adoptionWriter;
+    private final CreatureServiceClient creatureServiceClient;
+    private final AdoptionReadModel readModel;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long baseBackoffMs;
+    private final long maxBackoffMs;
+
+    private final Timer deliveryLag;
+    private final Counter delivered;
+    private final Counter superseded;
+    private final Counter retried;
+    private final Counter failed;
+    private final Counter compensated;
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicReference<LocalDateTime> oldestPending = new AtomicReference<>();
+
+    public CreatureStatusRelay(CreatureStatusOutboxRepository outboxRepository,
+                               AdoptionWriter adoptionWriter,
+                               CreatureServiceClient creatureServiceClient,
+                               AdoptionReadModel readModel,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.outbox.batch-size:200}") int batchSize,
+                               @Value("${app.outbox.max-attempts:10}") int maxAttempts,
+                               @Value("${app.outbox.base-backoff-ms:1000}") long baseBackoffMs,
+                               @Value("${app.outbox.max-backoff-ms:60000}") long maxBackoffMs) {
+        this.outboxRepository = outboxRepository;
+        this.adoptionWriter = adoptionWriter;
+        this.creatureServiceClient = creatureServiceClient;
+        this.readModel = readModel;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.baseBackoffMs = baseBackoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+
+        this.deliveryLag = Timer.builder("adoptions.outbox.delivery.lag")
+                .description("Time from an adoption write to its creature status change reaching the creatures service")
+                .register(meterRegistry);
+        this.delivered = outcomeCounter(meterRegistry, "delivered");
+        this.superseded = outcomeCounter(meterRegistry, "superseded");
+        this.retried = outcomeCounter(meterRegistry, "retried");
+        this.failed = outcomeCounter(meterRegistry, "failed");
+        this.compensated = outcomeCounter(meterRegistry, "compensated");
+        Gauge.builder("adoptions.outbox.pending", pending, AtomicLong::get)
+                .description("Creature status changes waiting to be delivered")
+                .register(meterRegistry);
+        Gauge.builder("adoptions.outbox.lag.seconds", oldestPending, CreatureStatusRelay::ageInSeconds)
+                .description("Age of the oldest undelivered creature status change")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval-ms:500}")
+    public void relay() {
+        try {
+            // A full batch means more may be waiting, so keep going instead of sleeping until the next poll
+            while (relayBatch()) {
+                log.debug("Outbox batch was full, relaying the next one");
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not relay creature status changes: {}", e.getMessage());
+        } finally {
+            refreshBacklog();
+        }
+    }
+
+    /**
+     * Relays one batch.
+     *
+     * @return true when the batch was full and at least one of its entries was dealt with, so another batch may be due
+     */
+    boolean relayBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<CreatureStatusOutboxEntry> batch = outboxRepository.findByStateAndNextAttemptAtLessThanEqualOrderByCreatedAtAscIdAsc(
+                OutboxEntryState.PENDING, now, PageRequest.of(0, batchSize));
+        if (batch.isEmpty()) {
+            return false;
+        }
+
+        Map<String, List<CreatureStatusOutboxEntry>> byCreature = new LinkedHashMap<>();
+        for (CreatureStatusOutboxEntry entry : batch) {
+            byCreature.computeIfAbsent(entry.getCreatureId(), id -> new ArrayList<>()).add(entry);
+        }
+
+        AtomicInteger held = new AtomicInteger();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            byCreature.values().forEach(entries -> executor.submit(() -> held.addAndGet(deliverInOrder(entries, now))));
+        }
+        // A batch of only entries held back behind a retry must not loop
+        return batch.size() == batchSize && held.get() < batch.size();
+    }
+
+    // Returns the number of entries left for a later pass
+    private int deliverInOrder(List<CreatureStatusOutboxEntry> entries, LocalDateTime now) {
+        // Changes written while an earlier one for the creature waits out its backoff are due but must wait with it
+        String creatureId = entries.get(0).getCreatureId();
+        CreatureStatusOutboxEntry waiting = outboxRepository.findFirstByCreatureIdAndStateAndNextAttemptAtAfter(
+                creatureId, OutboxEntryState.PENDING, now);
+        if (waiting != null) {
+            outboxRepository.holdBack(creatureId, waiting.getNextAttemptAt());
+            return entries.size();
+        }
+        // The later changes of a cancelled adoption were dropped with the compensation
+        Set<String> cancelledAdoptionIds = new HashSet<>();
+        for (int i = 0; i < entries.size(); i++) {
+            CreatureStatusOutboxEntry entry = entries.get(i);
+            if (cancelledAdoptionIds.contains(entry.getAdoptionId())) {
+                continue;
+            }
+            // A later unconditional change overwrites an unconditional one anyway, so only the last of a run is sent.
+            // A conditional change is always sent: if it is refused, the adoption that wrote it has to be compensated
+            if (entry.isUnconditional() && i + 1 < entries.size() && entries.get(i + 1).isUnconditional()
+                    && !cancelledAdoptionIds.contains(entries.get(i + 1).getAdoptionId())) {
+                outboxRepository.delete(entry);
+                superseded.increment();
+                continue;
+            }
+            try {
+                CreatureResponseModel creature = creatureServiceClient.updateCreatureStatus(
+                        entry.getCreatureId(), entry.getStatus(), entry.getExpectedStatuses());
+                outboxRepository.delete(entry);
+                delivered.increment();
+                deliveryLag.record(Duration.between(entry.getCreatedAt(), LocalDateTime.now()));
+                if (creature != null) {
+                    readModel.upsertCreature(creature);
+                }
+            } catch (NotFoundException | InvalidInputException e) {
+                // The creatures service refused the change; retrying cannot make it succeed
+                if (entry.isUnconditional()) {
+                    markFailed(entry, e);
+                } else if (compensate(entry, e)) {
+                    cancelledAdoptionIds.add(entry.getAdoptionId());
+                } else if (scheduleRetry(entry, e, now)) {
+                    // Sending the change again gets it refused again, which retries the compensation
+                    return entries.size() - i;
+                }
+            } catch (RuntimeException e) {
+                if (scheduleRetry(entry, e, now)) {
+                    return entries.size() - i;
+                }
+            }
+        }
+        return 0;
+    }
+
+    private void markFailed(CreatureStatusOutboxEntry entry, RuntimeException e) {
+        log.warn("Creature status change {} for creature {} was refused: {}",
+                entry.getStatus(), entry.getCreatureId(), e.getMessage());
+        entry.setState(OutboxEntryState.FAILED);
+        entry.setLastError(e.getMessage());
+        outboxRepository.save(entry);
+        failed.increment();
+    }
+
+    // Returns false when the compensation could not be written; its transaction then left nothing behind
+    private boolean compensate(CreatureStatusOutboxEntry entry, RuntimeException e) {
+        log.warn("Conditional creature status change {} for creature {} was refused, cancelling adoption {}: {}",
+                entry.getStatus(), entry.getCreatureId(), entry.getAdoptionId(), e.getMessage());
+        try {
+            adoptionWriter.compensate(entry, e.getMessage());
+        } catch (RuntimeException compensationFailure) {
+            log.warn("Could not cancel adoption {}: {}", entry.getAdoptionId(), compensationFailure.getMessage());
+            entry.setState(OutboxEntryState.PENDING);
+            return false;
+        }
+        failed.increment();
+        compensated.increment();
+        return true;
+    }
+
+    // Returns false when the entry has used up its attempts and was marked FAILED instead
+    private boolean scheduleRetry(CreatureStatusOutboxEntry entry, RuntimeException e, LocalDateTime now) {
+        int attempts = entry.getAttempts() + 1;
+        entry.setAttempts(attempts);
+        if (attempts >= maxAttempts) {
+            markFailed(entry, e);
+            return false;
+        }
+        long backoffMs = Math.min(baseBackoffMs << Math.min(attempts - 1, 20), maxBackoffMs);
+        entry.setNextAttemptAt(now.plus(Duration.ofMillis(backoffMs)));
+        entry.setLastError(e.getMessage());
+        outboxRepository.save(entry);
+        outboxRepository.holdBack(entry.getCreatureId(), entry.getNextAttemptAt());
+        retried.increment();
+        log.debug("Retrying creature status change for creature {} in {} ms (attempt {})",
+                entry.getCreatureId(), backoffMs, attempts);
+        return true;
+    }
+
+    private void refreshBacklog() {
+        try {
+            pending.set(outboxRepository.countByState(OutboxEntryState.PENDING));
+            CreatureStatusOutboxEntry oldest = outboxRepository.findFirstByStateOrderByCreatedAtAsc(OutboxEntryState.PENDING);
+            oldestPending.set(oldest != null ? oldest.getCreatedAt() : null);
+        } catch (RuntimeException e) {
+            log.warn("Could not read the outbox backlog: {}", e.getMessage());
+        }
+    }
+
+    private static double ageInSeconds(AtomicReference<LocalDateTime> oldest) {
+        LocalDateTime createdAt = oldest.get();
+        return createdAt == null ? 0 : Duration.between(createdAt, LocalDateTime.now()).toMillis() / 1000.0;
+    }
+
+    private static Counter outcomeCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("adoptions.outbox.entries")
+                .description("Creature status changes handled by the relay, by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
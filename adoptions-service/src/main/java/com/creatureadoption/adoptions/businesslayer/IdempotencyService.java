@@ -0,0 +1,120 @@
+package com.creatureadoption.adoptions.businesslayer;
+
+import com.creatureadoption.adoptions.dataaccesslayer.IdempotencyRecord;
+import com.creatureadoption.adoptions.dataaccesslayer.IdempotencyRecordRepository;
+import com.creatureadoption.adoptions.utils.exceptions.IdempotencyConflictException;
+import com.creatureadoption.adoptions.utils.exceptions.InvalidInputException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Runs a request at most once per Idempotency-Key. The key is claimed with an insert on its _id, so of any
+ * number of concurrent retries exactly one runs the action; the others get the stored response once it is
+ * there, or a conflict while the first attempt is still running. Failed attempts release the key. The key is
+ * leased to the attempt running it, so one that died without completing or releasing it does not block the key
+ * until the record expires: once the lease has run out, the next retry takes the key over and runs the action.
+ */
+@Slf4j
+@Service
+public class IdempotencyService {
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final ObjectMapper objectMapper;
+    private final long leaseMs;
+
+    public IdempotencyService(IdempotencyRecordRepository idempotencyRecordRepository, ObjectMapper objectMapper,
+                              @Value("${app.idempotency.lease-ms:30000}") long leaseMs) {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.objectMapper = objectMapper;
+        this.leaseMs = leaseMs;
+    }
+
+    public <T> T execute(String key, Object request, Class<T> responseType, Supplier<T> action) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new InvalidInputException("Invalid Idempotency-Key provided: must be 1 to " + MAX_KEY_LENGTH + " characters");
+        }
+        String requestHash = hash(request);
+
+        String owner = UUID.randomUUID().toString();
+        IdempotencyRecord record = IdempotencyRecord.builder()
+                .key(key)
+                .requestHash(requestHash)
+                .owner(owner)
+                .leaseExpiresAt(leaseExpiry())
+                .createdAt(LocalDateTime.now())
+                .build();
+        try {
+            idempotencyRecordRepository.insert(record);
+        } catch (DuplicateKeyException e) {
+            if (!idempotencyRecordRepository.takeOverExpiredLease(key, requestHash, owner, leaseExpiry())) {
+                return replay(key, requestHash, responseType);
+            }
+            log.warn("Took over Idempotency-Key {} from an attempt whose lease expired", key);
+        }
+
+        T response;
+        try {
+            response = action.get();
+        } catch (RuntimeException e) {
+            idempotencyRecordRepository.release(key, owner);
+            throw e;
+        }
+
+        if (!idempotencyRecordRepository.complete(key, owner, write(response))) {
+            log.warn("Idempotency-Key {} was taken over before this attempt completed, its response is not stored", key);
+        }
+        return response;
+    }
+
+    private LocalDateTime leaseExpiry() {
+        return LocalDateTime.now().plus(Duration.ofMillis(leaseMs));
+    }
+
+    private <T> T replay(String key, String requestHash, Class<T> responseType) {
+        IdempotencyRecord record = idempotencyRecordRepository.findById(key).orElseThrow(() ->
+                new IdempotencyConflictException("A request with Idempotency-Key " + key + " was just released, retry it"));
+        if (!record.getRequestHash().equals(requestHash)) {
+            throw new InvalidInputException("Idempotency-Key " + key + " was already used for a different request");
+        }
+        if (!record.isCompleted()) {
+            throw new IdempotencyConflictException("A request with Idempotency-Key " + key + " is still in progress");
+        }
+        log.debug("Replaying stored response for Idempotency-Key {}", key);
+        try {
+            return objectMapper.readValue(record.getResponseBody(), responseType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Stored response for Idempotency-Key " + key + " is unreadable", e);
+        }
+    }
+
+    private String hash(Object request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Could not fingerprint request", e);
+        }
+    }
+
+    private String write(Object response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not store response", e);
+        }
+    }
+}
@@ -6,21 +6,44 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Transient;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.convert.ValueConverter;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 @Document(collection = "adoptions")
+// One index per getAdoptions filter so every combination of filters can be answered with an index scan
+@CompoundIndexes({
+        @CompoundIndex(name = "customer_status_idx", def = "{'customerId': 1, 'adoptionStatus': 1}"),
+        @CompoundIndex(name = "creature_status_idx", def = "{'creatureId': 1, 'adoptionStatus': 1}"),
+        @CompoundIndex(name = "status_profile_idx", def = "{'adoptionStatus': 1, 'profileStatus': 1}"),
+        @CompoundIndex(name = "profile_idx", def = "{'profileStatus': 1}"),
+        @CompoundIndex(name = "training_idx", def = "{'trainingId': 1}"),
+        @CompoundIndex(name = "location_status_idx", def = "{'adoptionLocation': 1, 'adoptionStatus': 1}"),
+        @CompoundIndex(name = "keyset_idx", def = "{'lastUpdated': -1, '_id': -1}"),
+        // Lets the archiver find terminal adoptions oldest first without reading the ones still in play
+        @CompoundIndex(name = "status_updated_idx", def = "{'adoptionStatus': 1, 'lastUpdated': 1, '_id': 1}")
+})
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class Adoption {
 
+    // The adoptionId; stored as the _id, in binary, so looking an adoption up by it is a primary key lookup
     @Id
-    private String id;
-    private AdoptionIdentifier adoptionIdentifier;
+    private UUID id;
+    private String adoptionCode;
+
+    // Incremented on every write; saving an adoption read at an older version fails instead of overwriting
+    @Version
+    private Long version;
 
     private String summary;
     private Integer totalAdoptions;
@@ -33,10 +56,23 @@ public class Adoption {
     private String specialNotes;
 
     // ids from other subdomains as aggregate root
+    @ValueConverter(BinaryUuidConverter.class)
     private String customerId;
+    @ValueConverter(BinaryUuidConverter.class)
     private String creatureId;
+    @ValueConverter(BinaryUuidConverter.class)
     private String trainingId;
 
+    @Transient
+    public AdoptionIdentifier getAdoptionIdentifier() {
+        return new AdoptionIdentifier(id != null ? id.toString() : null, adoptionCode);
+    }
+
+    public void setAdoptionIdentifier(AdoptionIdentifier adoptionIdentifier) {
+        this.id = adoptionIdentifier != null ? UUID.fromString(adoptionIdentifier.getAdoptionId()) : null;
+        this.adoptionCode = adoptionIdentifier != null ? adoptionIdentifier.getAdoptionCode() : null;
+    }
+
     /**
      * Updates the adoption status and determines the appropriate creature status that should result.
      * This enforces the invariant that adoption status and creature status must be consistent.
@@ -89,4 +125,12 @@ public class Adoption {
             throw new InvalidInputException("Customer has reached the maximum limit of " + maxAllowedAdoptions + " adoptions");
         }
     }
+
+    public static class AdoptionBuilder {
+
+        public AdoptionBuilder adoptionIdentifier(AdoptionIdentifier adoptionIdentifier) {
+            return id(adoptionIdentifier != null ? UUID.fromString(adoptionIdentifier.getAdoptionId()) : null)
+                    .adoptionCode(adoptionIdentifier != null ? adoptionIdentifier.getAdoptionCode() : null);
+        }
+    }
 }
\ No newline at end of file
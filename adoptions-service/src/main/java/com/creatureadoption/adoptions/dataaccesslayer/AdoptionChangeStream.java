@@ -0,0 +1,60 @@
+package com.creatureadoption.adoptions.dataaccesslayer;
+
+import com.creatureadoption.adoptions.dataaccesslayer.migration.AdoptionIdMigration;
+import com.mongodb.client.ChangeStreamIterable;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Change streams on the adoptions collection, narrowed on the server to new adoptions, rewritten ones
+ * and status updates. Every change carries the adoption as it stands when the change is read. The
+ * id migration's inserts are left out: they store adoptions that already existed under a new _id.
+ */
+@Component
+public class AdoptionChangeStream {
+
+    // The code MongoDB answers with when a resume token has fallen off the oplog
+    public static final int HISTORY_LOST = 286;
+
+    private final MongoTemplate mongoTemplate;
+
+    public AdoptionChangeStream(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /**
+     * Opens a change stream after {@code resumeAfter}, or at the present when it is null. Each
+     * {@code tryNext} on the cursor waits on the server for up to {@code maxAwaitMs} for a change.
+     */
+    public MongoChangeStreamCursor<ChangeStreamDocument<Document>> open(BsonDocument resumeAfter, long maxAwaitMs) {
+        ChangeStreamIterable<Document> stream = mongoTemplate.getCollection(mongoTemplate.getCollectionName(Adoption.class))
+                .watch(List.of(Aggregates.match(Filters.or(
+                        Filters.and(
+                                Filters.eq("operationType", "insert"),
+                                Filters.exists("fullDocument." + AdoptionIdMigration.MIGRATED, false)),
+                        Filters.eq("operationType", "replace"),
+                        Filters.and(
+                                Filters.eq("operationType", "update"),
+                                Filters.exists("updateDescription.updatedFields.adoptionStatus"))))))
+                .fullDocument(FullDocument.UPDATE_LOOKUP)
+                .maxAwaitTime(maxAwaitMs, TimeUnit.MILLISECONDS);
+        if (resumeAfter != null) {
+            stream = stream.resumeAfter(resumeAfter);
+        }
+        return stream.cursor();
+    }
+
+    public Adoption read(Document document) {
+        return mongoTemplate.getConverter().read(Adoption.class, document);
+    }
+}
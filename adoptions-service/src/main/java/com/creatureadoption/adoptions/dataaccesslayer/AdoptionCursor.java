@@ -0,0 +1,47 @@
+package com.creatureadoption.adoptions.dataaccesslayer;
+
+import com.creatureadoption.adoptions.utils.exceptions.InvalidInputException;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position of the last adoption on a page, keyed on (lastUpdated, _id). Clients only ever see
+ * the encoded form and hand it back unchanged in the {@code after} parameter.
+ */
+@Data
+@AllArgsConstructor
+public class AdoptionCursor {
+
+    private LocalDateTime lastUpdated;
+    private UUID id;
+
+    public static AdoptionCursor of(Adoption adoption) {
+        return new AdoptionCursor(adoption.getLastUpdated(), adoption.getId());
+    }
+
+    public String encode() {
+        // An adoption without lastUpdated is encoded with nothing before the separator
+        String raw = (lastUpdated != null ? lastUpdated.toString() : "") + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static AdoptionCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            if (separator < 0) {
+                throw new InvalidInputException("Invalid cursor provided: " + cursor);
+            }
+            LocalDateTime lastUpdated = separator > 0 ? LocalDateTime.parse(raw.substring(0, separator)) : null;
+            return new AdoptionCursor(lastUpdated, UUID.fromString(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidInputException("Invalid cursor provided: " + cursor);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.creatureadoption.adoptions.dataaccesslayer;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Filters supported by GET /api/v1/adoptions. Null fields are not filtered on;
+ * all non-null fields must match.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdoptionFilter {
+
+    private String adoptionId;
+    private String customerId;
+    private String creatureId;
+    private String trainingId;
+    private String adoptionLocation;
+    private AdoptionStatus adoptionStatus;
+    private ProfileStatus profileStatus;
+}
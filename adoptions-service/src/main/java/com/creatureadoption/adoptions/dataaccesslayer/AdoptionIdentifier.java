@@ -6,6 +6,10 @@ import lombok.NoArgsConstructor;
 
 import java.util.UUID;
 
+/**
+ * The adoptionId and adoptionCode taken together. Not stored as such: an {@link Adoption} keeps the adoptionId
+ * as its _id and the adoptionCode beside it.
+ */
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
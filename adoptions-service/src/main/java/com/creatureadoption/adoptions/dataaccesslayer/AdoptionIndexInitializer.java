@@ -0,0 +1,46 @@
+package com.creatureadoption.adoptions.dataaccesslayer;
+
+import lombok.extern.slf4j.Slf4j;
+import com.creatureadoption.adoptions.dataaccesslayer.archive.AdoptionArchive;
+import com.creatureadoption.adoptions.dataaccesslayer.history.AdoptionStatusEvent;
+import com.creatureadoption.adoptions.dataaccesslayer.outbox.CreatureStatusOutboxEntry;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Creates the indexes declared on {@link Adoption}, {@link IdempotencyRecord}, {@link CreatureStatusOutboxEntry} and
+ * {@link AdoptionStatusEvent} at startup, and the smaller set kept on the {@link AdoptionArchive}. Spring Boot leaves
+ * automatic index creation off, so without this the annotations are only documentation.
+ */
+@Slf4j
+@Component
+public class AdoptionIndexInitializer {
+
+    private static final List<Class<?>> INDEXED_DOCUMENTS = List.of(Adoption.class, IdempotencyRecord.class,
+            CreatureStatusOutboxEntry.class, AdoptionStatusEvent.class);
+
+    private final MongoTemplate mongoTemplate;
+
+    public AdoptionIndexInitializer(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @EventListener(ContextRefreshedEvent.class)
+    public void createIndexes() {
+        MongoPersistentEntityIndexResolver resolver =
+                new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext());
+        for (Class<?> document : INDEXED_DOCUMENTS) {
+            IndexOperations indexOps = mongoTemplate.indexOps(document);
+            resolver.resolveIndexFor(document)
+                    .forEach(index -> log.debug("Ensured {} index {}", document.getSimpleName(), indexOps.ensureIndex(index)));
+        }
+        IndexOperations archiveOps = mongoTemplate.indexOps(AdoptionArchive.COLLECTION);
+        AdoptionArchive.INDEXES.forEach(index -> log.debug("Ensured archive index {}", archiveOps.ensureIndex(index)));
+    }
+}
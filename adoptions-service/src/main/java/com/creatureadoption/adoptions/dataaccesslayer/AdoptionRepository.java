@@ -3,11 +3,27 @@ package com.creatureadoption.adoptions.dataaccesslayer;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
-
-public interface AdoptionRepository extends MongoRepository<Adoption, String> {
-
-    Adoption findByAdoptionIdentifier_AdoptionId(String adoptionId);
+import java.util.Objects;
+import java.util.UUID;
+
+public interface AdoptionRepository extends MongoRepository<Adoption, UUID>, AdoptionRepositoryCustom {
+
+    // The adoptionId is the _id, so both are primary key lookups; an adoptionId that is no UUID matches nothing.
+    // Until the id migration is done, an adoption not found by its _id may still be stored in the old shape
+    default Adoption findByAdoptionIdentifier_AdoptionId(String adoptionId) {
+        UUID id = BinaryUuidConverter.parse(adoptionId);
+        if (id == null) {
+            return null;
+        }
+        return findById(id).orElseGet(() -> findLegacyByAdoptionId(adoptionId));
+    }
+
+    default List<Adoption> findByAdoptionIdentifier_AdoptionIdIn(Collection<String> adoptionIds) {
+        List<UUID> ids = adoptionIds.stream().map(BinaryUuidConverter::parse).filter(Objects::nonNull).toList();
+        return ids.isEmpty() ? List.of() : findAllById(ids);
+    }
 
     @Query("{'customerId': ?0}")
     List<Adoption> findByCustomerId(String customerId);
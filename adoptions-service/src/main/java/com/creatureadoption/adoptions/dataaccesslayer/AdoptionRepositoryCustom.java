@@ -0,0 +1,46 @@
+package com.creatureadoption.adoptions.dataaccesslayer;
+
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface AdoptionRepositoryCustom {
+
+    List<Adoption> findByFilter(AdoptionFilter filter);
+
+    /**
+     * Returns at most {@code limit} adoptions matching the filter, ordered by (lastUpdated, _id)
+     * in the given direction and starting strictly after the cursor when one is given.
+     */
+    List<Adoption> findPageByFilter(AdoptionFilter filter, AdoptionCursor after, Sort.Direction direction, int limit);
+
+    /**
+     * Same as {@link #findPageByFilter}, over the adoptions and the archive together. An adoption keeps its _id
+     * when it is archived, so the first {@code limit} of both pages merged, each adoption taken once, is exactly
+     * the page over both. The filter should be one the archive has indexes for, see {@link
+     * com.creatureadoption.adoptions.dataaccesslayer.archive.AdoptionArchive#isIndexed}.
+     */
+    List<Adoption> findPageByFilterIncludingArchive(AdoptionFilter filter, AdoptionCursor after, Sort.Direction direction, int limit);
+
+    /**
+     * Looks up an adoption the id migration has not rewritten yet, through the index on its nested adoptionId,
+     * and reads it as if it had been. Saving it fails as written concurrently until the migration has rewritten
+     * it. Once the migration has dropped that index no legacy adoption is left, and this finds nothing.
+     */
+    Adoption findLegacyByAdoptionId(String adoptionId);
+
+    /**
+     * Streams every adoption matching the filter from an open cursor that fetches {@code batchSize}
+     * documents per round trip. The stream holds the cursor and must be closed.
+     */
+    Stream<Adoption> streamByFilter(AdoptionFilter filter, int batchSize);
+
+    /**
+     * Writes the adoptionStatus and lastUpdated of every given adoption with one unordered bulk write,
+     * matching each adoption by _id and by the version it was read at, and moves each one to its next version.
+     *
+     * @return the number of adoptions that were matched; fewer than given means some changed in the meantime
+     */
+    int updateStatuses(List<Adoption> adoptions);
+}
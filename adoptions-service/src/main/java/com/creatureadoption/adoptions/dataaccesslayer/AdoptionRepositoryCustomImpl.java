@@ -0,0 +1,186 @@
+package com.creatureadoption.adoptions.dataaccesslayer;
+
+import com.creatureadoption.adoptions.dataaccesslayer.archive.AdoptionArchive;
+import com.creatureadoption.adoptions.dataaccesslayer.migration.AdoptionIdMigration;
+import org.bson.Document;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+public class AdoptionRepositoryCustomImpl implements AdoptionRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    public AdoptionRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public List<Adoption> findByFilter(AdoptionFilter filter) {
+        return mongoTemplate.find(buildQuery(filter), Adoption.class);
+    }
+
+    @Override
+    public List<Adoption> findPageByFilter(AdoptionFilter filter, AdoptionCursor after, Sort.Direction direction, int limit) {
+        return mongoTemplate.find(buildPageQuery(filter, after, direction, limit), Adoption.class);
+    }
+
+    @Override
+    public List<Adoption> findPageByFilterIncludingArchive(AdoptionFilter filter, AdoptionCursor after,
+                                                           Sort.Direction direction, int limit) {
+        Map<UUID, Adoption> merged = new LinkedHashMap<>();
+        findPageByFilter(filter, after, direction, limit).forEach(adoption -> merged.put(adoption.getId(), adoption));
+        // Read after the live page: archiving moves an adoption in one transaction, so one archived in between is
+        // seen in both tiers, never in neither, and is kept once
+        if (AdoptionArchive.mayHold(filter)) {
+            mongoTemplate.find(buildPageQuery(filter, after, direction, limit), Adoption.class, AdoptionArchive.COLLECTION)
+                    .forEach(adoption -> merged.put(adoption.getId(), adoption));
+        }
+        List<Adoption> page = new ArrayList<>(merged.values());
+        // The order both queries sort by. Binary _ids compare byte by byte, unsigned, which UUID.compareTo does not
+        Comparator<Adoption> order = Comparator.comparing(Adoption::getLastUpdated, Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparing(Adoption::getId, AdoptionRepositoryCustomImpl::compareAsStored);
+        page.sort(direction.isAscending() ? order : order.reversed());
+        return page.size() > limit ? page.subList(0, limit) : page;
+    }
+
+    @Override
+    public Adoption findLegacyByAdoptionId(String adoptionId) {
+        String collection = mongoTemplate.getCollectionName(Adoption.class);
+        if (!hasLegacyIndex(collection)) {
+            return null;
+        }
+        // The hint keeps this from ever scanning the collection
+        Query query = new Query(Criteria.where(AdoptionIdMigration.LEGACY_ADOPTION_ID).is(adoptionId))
+                .withHint(AdoptionIdMigration.LEGACY_INDEX);
+        Document legacy;
+        try {
+            legacy = mongoTemplate.findOne(query, Document.class, collection);
+        } catch (DataAccessException e) {
+            // The migration finished and dropped the index since it was checked
+            if (!hasLegacyIndex(collection)) {
+                return null;
+            }
+            throw e;
+        }
+        Document rewritten = legacy != null ? AdoptionIdMigration.rewrite(legacy) : null;
+        if (rewritten == null) {
+            return null;
+        }
+        rewritten.put("_id", BinaryUuidConverter.parse(adoptionId));
+        return mongoTemplate.getConverter().read(Adoption.class, rewritten);
+    }
+
+    @Override
+    public Stream<Adoption> streamByFilter(AdoptionFilter filter, int batchSize) {
+        return mongoTemplate.stream(buildQuery(filter).cursorBatchSize(batchSize), Adoption.class);
+    }
+
+    @Override
+    public int updateStatuses(List<Adoption> adoptions) {
+        if (adoptions.isEmpty()) {
+            return 0;
+        }
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Adoption.class);
+        for (Adoption adoption : adoptions) {
+            bulk.updateOne(Query.query(Criteria.where("id").is(adoption.getId()).and("version").is(adoption.getVersion())),
+                    new Update().set("adoptionStatus", adoption.getAdoptionStatus())
+                            .set("lastUpdated", adoption.getLastUpdated())
+                            .inc("version", 1));
+        }
+        int matched = bulk.execute().getMatchedCount();
+        adoptions.forEach(adoption -> adoption.setVersion(adoption.getVersion() != null ? adoption.getVersion() + 1 : 1));
+        return matched;
+    }
+
+    private boolean hasLegacyIndex(String collection) {
+        return mongoTemplate.indexOps(collection).getIndexInfo().stream()
+                .anyMatch(index -> index.getName().equals(AdoptionIdMigration.LEGACY_INDEX));
+    }
+
+    private static int compareAsStored(UUID left, UUID right) {
+        int order = Long.compareUnsigned(left.getMostSignificantBits(), right.getMostSignificantBits());
+        return order != 0 ? order : Long.compareUnsigned(left.getLeastSignificantBits(), right.getLeastSignificantBits());
+    }
+
+    static Query buildPageQuery(AdoptionFilter filter, AdoptionCursor after, Sort.Direction direction, int limit) {
+        Criteria criteria = buildCriteria(filter);
+        if (after != null) {
+            criteria.orOperator(pastCursor(after, direction));
+        }
+        return new Query(criteria).with(Sort.by(direction, "lastUpdated", "id")).limit(limit);
+    }
+
+    /**
+     * Keyset condition: strictly past (lastUpdated, _id) of the cursor in the sort direction. A missing
+     * lastUpdated sorts before every date, as MongoDB sorts null, and a range operator never matches it,
+     * so adoptions without one are matched by their own branch.
+     */
+    private static Criteria[] pastCursor(AdoptionCursor after, Sort.Direction direction) {
+        LocalDateTime lastUpdated = after.getLastUpdated();
+        if (lastUpdated == null) {
+            return direction.isAscending()
+                    ? new Criteria[]{
+                            Criteria.where("lastUpdated").is(null).and("id").gt(after.getId()),
+                            Criteria.where("lastUpdated").ne(null)}
+                    : new Criteria[]{
+                            Criteria.where("lastUpdated").is(null).and("id").lt(after.getId())};
+        }
+        return direction.isAscending()
+                ? new Criteria[]{
+                        Criteria.where("lastUpdated").gt(lastUpdated),
+                        Criteria.where("lastUpdated").is(lastUpdated).and("id").gt(after.getId())}
+                : new Criteria[]{
+                        Criteria.where("lastUpdated").lt(lastUpdated),
+                        Criteria.where("lastUpdated").is(lastUpdated).and("id").lt(after.getId()),
+                        Criteria.where("lastUpdated").is(null)};
+    }
+
+    static Query buildQuery(AdoptionFilter filter) {
+        return new Query(buildCriteria(filter));
+    }
+
+    /**
+     * Combines every supplied filter into a single query, so the filters narrow each other
+     * instead of the last one replacing the others.
+     */
+    private static Criteria buildCriteria(AdoptionFilter filter) {
+        Criteria criteria = new Criteria();
+        if (filter.getAdoptionId() != null) {
+            // An adoptionId that is no UUID parses to null, which no _id equals
+            criteria.and("id").is(BinaryUuidConverter.parse(filter.getAdoptionId()));
+        }
+        if (filter.getCustomerId() != null) {
+            criteria.and("customerId").is(filter.getCustomerId());
+        }
+        if (filter.getCreatureId() != null) {
+            criteria.and("creatureId").is(filter.getCreatureId());
+        }
+        if (filter.getTrainingId() != null) {
+            criteria.and("trainingId").is(filter.getTrainingId());
+        }
+        if (filter.getAdoptionLocation() != null) {
+            criteria.and("adoptionLocation").is(filter.getAdoptionLocation());
+        }
+        if (filter.getAdoptionStatus() != null) {
+            criteria.and("adoptionStatus").is(filter.getAdoptionStatus());
+        }
+        if (filter.getProfileStatus() != null) {
+            criteria.and("profileStatus").is(filter.getProfileStatus());
+        }
+        return criteria;
+    }
+}
@@ -0,0 +1,37 @@
+package com.creatureadoption.adoptions.dataaccesslayer;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Number of adoptions in each {@link AdoptionStatus} for one adoption location and month, keyed by status name.
+ * Kept current with atomic increments on every adoption write, so statistics never have to scan the adoptions.
+ */
+@Document(collection = "adoption_stats")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdoptionStatsBucket {
+
+    @Id
+    private String id;
+    private String location;
+    // yyyy-MM of the adoption date
+    private String month;
+    @Builder.Default
+    private Map<String, Long> counts = new HashMap<>();
+    private LocalDateTime lastUpdated;
+
+    public long getCount(AdoptionStatus status) {
+        return counts.getOrDefault(status.name(), 0L);
+    }
+}
@@ -0,0 +1,7 @@
+package com.creatureadoption.adoptions.dataaccesslayer;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface AdoptionStatsRepository extends MongoRepository<AdoptionStatsBucket, String>,
+        AdoptionStatsRepositoryCustom {
+}
@@ -0,0 +1,29 @@
+package com.creatureadoption.adoptions.dataaccesslayer;
+
+import java.util.List;
+
+public interface AdoptionStatsRepositoryCustom {
+
+    /**
+     * Takes {@code before} out of the bucket of its location, month and status and counts {@code after} in its own.
+     * A null {@code before} counts a new adoption and a null {@code after} a removed one.
+     */
+    void recordChange(Adoption before, Adoption after);
+
+    /**
+     * Same as {@link #recordChange} for many adoptions, {@code before.get(i)} having become {@code after.get(i)}.
+     * The changes are merged per bucket and written with one bulk write.
+     */
+    void recordChanges(List<Adoption> before, List<Adoption> after);
+
+    /**
+     * Buckets of the given location between two months, both inclusive and in yyyy-MM form; null leaves a bound open.
+     */
+    List<AdoptionStatsBucket> findBuckets(String location, String fromMonth, String toMonth);
+
+    /**
+     * Recounts every bucket from the adoptions collection with one aggregation and swaps the new counts in
+     * for the stored ones at once.
+     */
+    void rebuild();
+}
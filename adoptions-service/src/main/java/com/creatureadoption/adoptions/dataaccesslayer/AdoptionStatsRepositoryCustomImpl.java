@@ -0,0 +1,135 @@
+package com.creatureadoption.adoptions.dataaccesslayer;
+
+import com.creatureadoption.adoptions.dataaccesslayer.archive.AdoptionArchive;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.DateOperators;
+import org.springframework.data.mongodb.core.aggregation.UnionWithOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.group;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.project;
+
+public class AdoptionStatsRepositoryCustomImpl implements AdoptionStatsRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    public AdoptionStatsRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public void recordChange(Adoption before, Adoption after) {
+        recordChanges(Collections.singletonList(before), Collections.singletonList(after));
+    }
+
+    @Override
+    public void recordChanges(List<Adoption> before, List<Adoption> after) {
+        if (before.size() != after.size()) {
+            throw new IllegalArgumentException("Expected one previous state per adoption");
+        }
+
+        Map<String, AdoptionStatsBucket> deltas = new LinkedHashMap<>();
+        for (int i = 0; i < before.size(); i++) {
+            addDelta(deltas, before.get(i), -1L);
+            addDelta(deltas, after.get(i), 1L);
+        }
+        deltas.values().forEach(delta -> delta.getCounts().values().removeIf(count -> count == 0));
+        deltas.values().removeIf(delta -> delta.getCounts().isEmpty());
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, AdoptionStatsBucket.class);
+        for (AdoptionStatsBucket delta : deltas.values()) {
+            Update update = new Update()
+                    .setOnInsert("location", delta.getLocation())
+                    .setOnInsert("month", delta.getMonth())
+                    .set("lastUpdated", now);
+            delta.getCounts().forEach((status, count) -> update.inc("counts." + status, count));
+            bulk.upsert(Query.query(Criteria.where("id").is(delta.getId())), update);
+        }
+        bulk.execute();
+    }
+
+    @Override
+    public List<AdoptionStatsBucket> findBuckets(String location, String fromMonth, String toMonth) {
+        Criteria criteria = new Criteria();
+        if (location != null) {
+            criteria.and("location").is(location);
+        }
+        if (fromMonth != null || toMonth != null) {
+            Criteria month = criteria.and("month");
+            if (fromMonth != null) {
+                month.gte(fromMonth);
+            }
+            if (toMonth != null) {
+                month.lte(toMonth);
+            }
+        }
+        return mongoTemplate.find(new Query(criteria), AdoptionStatsBucket.class);
+    }
+
+    @Override
+    public void rebuild() {
+        // Adoption dates are stored as midnight in the JVM's zone, so the month is read back in that zone.
+        // Archived adoptions still count, they are only kept elsewhere
+        Aggregation aggregation = Aggregation.newAggregation(
+                UnionWithOperation.unionWith(AdoptionArchive.COLLECTION),
+                project("adoptionLocation", "adoptionStatus")
+                        .and(DateOperators.dateOf("adoptionDate")
+                                .withTimezone(DateOperators.Timezone.valueOf(ZoneId.systemDefault().getId()))
+                                .toString("%Y-%m"))
+                        .as("month"),
+                group("adoptionLocation", "month", "adoptionStatus").count().as("count"));
+
+        Map<String, AdoptionStatsBucket> buckets = new LinkedHashMap<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (Document row : mongoTemplate.aggregate(aggregation, Adoption.class, Document.class)) {
+            Document key = row.get("_id", Document.class);
+            String status = key.getString("adoptionStatus");
+            if (status == null) {
+                continue;
+            }
+            String location = key.getString("adoptionLocation");
+            String month = key.getString("month");
+            buckets.computeIfAbsent(bucketId(location, month), id -> bucket(id, location, month))
+                    .getCounts().put(status, ((Number) row.get("count")).longValue());
+        }
+        buckets.values().forEach(bucket -> bucket.setLastUpdated(now));
+
+        RebuiltCollection.replace(mongoTemplate, AdoptionStatsBucket.class, buckets.values());
+    }
+
+    private static void addDelta(Map<String, AdoptionStatsBucket> deltas, Adoption adoption, long delta) {
+        if (adoption == null || adoption.getAdoptionStatus() == null) {
+            return;
+        }
+        String location = adoption.getAdoptionLocation();
+        String month = adoption.getAdoptionDate() != null ? YearMonth.from(adoption.getAdoptionDate()).toString() : null;
+        deltas.computeIfAbsent(bucketId(location, month), id -> bucket(id, location, month))
+                .getCounts().merge(adoption.getAdoptionStatus().name(), delta, Long::sum);
+    }
+
+    private static AdoptionStatsBucket bucket(String id, String location, String month) {
+        return AdoptionStatsBucket.builder().id(id).location(location).month(month).counts(new HashMap<>()).build();
+    }
+
+    private static String bucketId(String location, String month) {
+        return (location != null ? location : "") + "|" + (month != null ? month : "");
+    }
+}
@@ -0,0 +1,62 @@
+package com.creatureadoption.adoptions.dataaccesslayer;
+
+import org.bson.BsonBinarySubType;
+import org.bson.types.Binary;
+import org.springframework.data.mongodb.core.convert.MongoConversionContext;
+import org.springframework.data.mongodb.core.convert.MongoValueConverter;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * Stores a UUID kept as a string in Java as BSON binary subtype 4: 21 bytes in the document and its
+ * indexes instead of 41. A string that is no UUID is stored unchanged, so it simply matches nothing.
+ */
+public class BinaryUuidConverter implements MongoValueConverter<String, Object> {
+
+    @Override
+    public String read(Object value, MongoConversionContext context) {
+        return asString(value);
+    }
+
+    @Override
+    public Object write(String value, MongoConversionContext context) {
+        return toBinary(value);
+    }
+
+    public static UUID parse(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            UUID uuid = UUID.fromString(value);
+            // fromString accepts shortened groups such as "1-2-3-4-5"; only the canonical form round-trips
+            return uuid.toString().equalsIgnoreCase(value) ? uuid : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    public static Object toBinary(String value) {
+        UUID uuid = parse(value);
+        if (uuid == null) {
+            return value;
+        }
+        // Subtype 4 is the 16 bytes of the UUID in big-endian order
+        byte[] bytes = ByteBuffer.allocate(16).putLong(uuid.getMostSignificantBits()).putLong(uuid.getLeastSignificantBits()).array();
+        return new Binary(BsonBinarySubType.UUID_STANDARD, bytes);
+    }
+
+    // Depending on the driver's uuid representation, subtype 4 is read back as a UUID or as Binary
+    public static String asString(Object value) {
+        if (value instanceof UUID uuid) {
+            return uuid.toString();
+        }
+        if (value instanceof Binary binary && binary.getType() == BsonBinarySubType.UUID_STANDARD.getValue()
+                && binary.getData().length == 16) {
+            ByteBuffer bytes = ByteBuffer.wrap(binary.getData());
+            return new UUID(bytes.getLong(), bytes.getLong()).toString();
+        }
+        return value != null ? value.toString() : null;
+    }
+}
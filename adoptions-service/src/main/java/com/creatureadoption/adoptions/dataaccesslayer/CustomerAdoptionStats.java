@@ -0,0 +1,34 @@
+package com.creatureadoption.adoptions.dataaccesslayer;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Number of adoptions a customer has in each {@link AdoptionStatus}, keyed by status name.
+ * Only ever changed with atomic increments, so the per-customer limit can be checked without reading adoptions.
+ */
+@Document(collection = "customer_adoption_stats")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomerAdoptionStats {
+
+    @Id
+    private String customerId;
+    @Builder.Default
+    private Map<String, Long> counts = new HashMap<>();
+    private LocalDateTime lastUpdated;
+
+    public long getCount(AdoptionStatus status) {
+        return counts.getOrDefault(status.name(), 0L);
+    }
+}
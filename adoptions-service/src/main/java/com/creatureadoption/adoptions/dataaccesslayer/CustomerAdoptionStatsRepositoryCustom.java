@@ -0,0 +1,29 @@
+package com.creatureadoption.adoptions.dataaccesslayer;
+
+public interface CustomerAdoptionStatsRepositoryCustom {
+
+    /**
+     * Moves one of the customer's adoptions from {@code from} to {@code to} in a single findAndModify.
+     * A null {@code from} counts a new adoption and a null {@code to} a removed one. New adoptions and
+     * completions only go through while the customer has fewer than {@code completedLimit} completed adoptions.
+     * Only a new adoption may create the customer's counts, and a change only takes from a count above zero; a
+     * customer whose counts are missing or lack the adoption is recounted from the adoptions collection first.
+     *
+     * @return false when the limit refused the change, or the adoption is not in {@code from} even after a
+     * recount, in which case nothing was counted
+     */
+    boolean recordTransition(String customerId, AdoptionStatus from, AdoptionStatus to, int completedLimit);
+
+    /**
+     * Moves one of the customer's adoptions from {@code from} to {@code to} without checking the limit, for
+     * removals and for giving back a change recorded for a write that did not go through. Never creates counts.
+     *
+     * @return false when the customer has no counts to move, in which case the counts need a rebuild
+     */
+    boolean recordUncheckedTransition(String customerId, AdoptionStatus from, AdoptionStatus to);
+
+    /**
+     * Recounts every customer from the adoptions collection and swaps the new counts in for the stored ones at once.
+     */
+    void rebuild();
+}
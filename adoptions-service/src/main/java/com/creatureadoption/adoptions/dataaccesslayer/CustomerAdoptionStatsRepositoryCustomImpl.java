@@ -0,0 +1,126 @@
+package com.creatureadoption.adoptions.dataaccesslayer;
+
+import org.bson.Document;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.group;
+
+public class CustomerAdoptionStatsRepositoryCustomImpl implements CustomerAdoptionStatsRepositoryCustom {
+
+    private static final String COMPLETED_COUNT = "counts." + AdoptionStatus.COMPLETED.name();
+
+    private final MongoTemplate mongoTemplate;
+
+    public CustomerAdoptionStatsRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public boolean recordTransition(String customerId, AdoptionStatus from, AdoptionStatus to, int completedLimit) {
+        if (from == to) {
+            return true;
+        }
+
+        Criteria criteria = Criteria.where("customerId").is(customerId);
+        if (from == null || to == AdoptionStatus.COMPLETED) {
+            // A missing count is zero, so "not >= limit" rather than "< limit"
+            criteria.and(COMPLETED_COUNT).not().gte(completedLimit);
+        }
+
+        Update update = moveCount(from, to);
+        Query query = new Query(criteria);
+        if (from != null) {
+            return moveExistingCount(customerId, from, query, update);
+        }
+        try {
+            mongoTemplate.findAndModify(query, update, FindAndModifyOptions.options().upsert(true), CustomerAdoptionStats.class);
+            return true;
+        } catch (DuplicateKeyException e) {
+            // The upsert found no match but the document exists: either it is at the limit or a concurrent
+            // upsert created it first. Without upsert, only the second case can still match.
+            return mongoTemplate.findAndModify(query, update, CustomerAdoptionStats.class) != null;
+        }
+    }
+
+    /**
+     * A change of an adoption that is already counted never creates counts and only takes from a count above
+     * zero, so no count is ever stored below zero. A customer whose counts are missing or lack the adoption,
+     * such as one whose adoptions predate the counts, is recounted from its adoptions and the change retried.
+     */
+    private boolean moveExistingCount(String customerId, AdoptionStatus from, Query query, Update update) {
+        query.addCriteria(Criteria.where("counts." + from.name()).gt(0));
+        if (mongoTemplate.findAndModify(query, update, CustomerAdoptionStats.class) != null) {
+            return true;
+        }
+        CustomerAdoptionStats stored = mongoTemplate.findById(customerId, CustomerAdoptionStats.class);
+        if (stored != null && stored.getCount(from) > 0) {
+            return false;
+        }
+        mongoTemplate.save(recount(customerId));
+        return mongoTemplate.findAndModify(query, update, CustomerAdoptionStats.class) != null;
+    }
+
+    // One count per status, each answered from the customer_status_idx index
+    private CustomerAdoptionStats recount(String customerId) {
+        CustomerAdoptionStats stats = CustomerAdoptionStats.builder().customerId(customerId).lastUpdated(LocalDateTime.now()).build();
+        for (AdoptionStatus status : AdoptionStatus.values()) {
+            long count = mongoTemplate.count(new Query(Criteria.where("customerId").is(customerId)
+                    .and("adoptionStatus").is(status)), Adoption.class);
+            if (count > 0) {
+                stats.getCounts().put(status.name(), count);
+            }
+        }
+        return stats;
+    }
+
+    @Override
+    public boolean recordUncheckedTransition(String customerId, AdoptionStatus from, AdoptionStatus to) {
+        if (from == to) {
+            return true;
+        }
+        return mongoTemplate.updateFirst(new Query(Criteria.where("customerId").is(customerId)), moveCount(from, to),
+                CustomerAdoptionStats.class).getMatchedCount() == 1;
+    }
+
+    @Override
+    public void rebuild() {
+        Aggregation aggregation = Aggregation.newAggregation(
+                group("customerId", "adoptionStatus").count().as("count"));
+
+        Map<String, CustomerAdoptionStats> stats = new LinkedHashMap<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (Document row : mongoTemplate.aggregate(aggregation, Adoption.class, Document.class)) {
+            Document key = row.get("_id", Document.class);
+            String customerId = BinaryUuidConverter.asString(key.get("customerId"));
+            String status = key.getString("adoptionStatus");
+            if (customerId == null || status == null) {
+                continue;
+            }
+            stats.computeIfAbsent(customerId, id -> CustomerAdoptionStats.builder().customerId(id).lastUpdated(now).build())
+                    .getCounts().put(status, ((Number) row.get("count")).longValue());
+        }
+
+        RebuiltCollection.replace(mongoTemplate, CustomerAdoptionStats.class, stats.values());
+    }
+
+    private static Update moveCount(AdoptionStatus from, AdoptionStatus to) {
+        Update update = new Update().set("lastUpdated", LocalDateTime.now());
+        if (from != null) {
+            update.inc("counts." + from.name(), -1L);
+        }
+        if (to != null) {
+            update.inc("counts." + to.name(), 1L);
+        }
+        return update;
+    }
+}
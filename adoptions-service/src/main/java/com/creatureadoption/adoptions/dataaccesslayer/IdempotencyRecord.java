@@ -0,0 +1,36 @@
+package com.creatureadoption.adoptions.dataaccesslayer;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * The outcome of a request sent with an Idempotency-Key. The record is claimed before the request runs
+ * and holds the serialized response once it completes; MongoDB drops it a day after it was created.
+ * While the request runs, the record is leased to the attempt that claimed it, named by its owner.
+ */
+@Document(collection = "idempotency_keys")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdempotencyRecord {
+
+    @Id
+    private String key;
+    // Hash of the request body, so a key cannot be replayed for a different request
+    private String requestHash;
+    private boolean completed;
+    private String owner;
+    // An attempt still in progress past this time is taken to have died, and a retry may take the key over
+    private LocalDateTime leaseExpiresAt;
+    private String responseBody;
+    @Indexed(name = "idempotency_ttl_idx", expireAfter = "24h")
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,26 @@
+package com.creatureadoption.adoptions.dataaccesslayer;
+
+import java.time.LocalDateTime;
+
+public interface IdempotencyRecordRepositoryCustom {
+
+    /**
+     * Leases the key to {@code owner} if the record is still in progress for the same request and its
+     * lease has expired, in a single findAndModify so only one retry can take it over.
+     *
+     * @return false when the record completed, belongs to another request or is still leased
+     */
+    boolean takeOverExpiredLease(String key, String requestHash, String owner, LocalDateTime leaseExpiresAt);
+
+    /**
+     * Stores the response, provided {@code owner} still holds the lease.
+     *
+     * @return false when the key was taken over in the meantime, in which case nothing was stored
+     */
+    boolean complete(String key, String owner, String responseBody);
+
+    /**
+     * Releases the key after a failed attempt, provided {@code owner} still holds the lease.
+     */
+    void release(String key, String owner);
+}
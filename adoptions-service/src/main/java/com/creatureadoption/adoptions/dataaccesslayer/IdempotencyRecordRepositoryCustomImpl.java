@@ -0,0 +1,42 @@
+package com.creatureadoption.adoptions.dataaccesslayer;
+
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+
+public class IdempotencyRecordRepositoryCustomImpl implements IdempotencyRecordRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    public IdempotencyRecordRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public boolean takeOverExpiredLease(String key, String requestHash, String owner, LocalDateTime leaseExpiresAt) {
+        Query query = new Query(Criteria.where("key").is(key)
+                .and("requestHash").is(requestHash)
+                .and("completed").is(false)
+                .and("leaseExpiresAt").lt(LocalDateTime.now()));
+        Update update = new Update().set("owner", owner).set("leaseExpiresAt", leaseExpiresAt);
+        return mongoTemplate.updateFirst(query, update, IdempotencyRecord.class).getModifiedCount() == 1;
+    }
+
+    @Override
+    public boolean complete(String key, String owner, String responseBody) {
+        Update update = new Update().set("completed", true).set("responseBody", responseBody).unset("leaseExpiresAt");
+        return mongoTemplate.updateFirst(leasedTo(key, owner), update, IdempotencyRecord.class).getModifiedCount() == 1;
+    }
+
+    @Override
+    public void release(String key, String owner) {
+        mongoTemplate.remove(leasedTo(key, owner), IdempotencyRecord.class);
+    }
+
+    private static Query leasedTo(String key, String owner) {
+        return new Query(Criteria.where("key").is(key).and("owner").is(owner).and("completed").is(false));
+    }
+}
@@ -0,0 +1,35 @@
+package com.creatureadoption.adoptions.dataaccesslayer;
+
+import com.mongodb.MongoNamespace;
+import com.mongodb.client.model.RenameCollectionOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.util.Collection;
+
+/**
+ * Replaces every document of a collection with a freshly counted set. The new documents are written to a
+ * staging collection beside the live one and swapped in with a single rename, so readers see either the old
+ * counts or the new ones, never an empty or half-written collection, and a rebuild that fails part way leaves
+ * the live counts untouched. The swap drops the live collection's indexes, which is fine while the counts are
+ * only ever looked up by _id.
+ */
+final class RebuiltCollection {
+
+    private RebuiltCollection() {
+    }
+
+    static void replace(MongoTemplate mongoTemplate, Class<?> type, Collection<?> documents) {
+        String collection = mongoTemplate.getCollectionName(type);
+        // A fixed name, so whatever a failed rebuild left behind is dropped by the next one
+        String staging = collection + "_rebuild";
+        mongoTemplate.dropCollection(staging);
+        if (documents.isEmpty()) {
+            mongoTemplate.createCollection(staging);
+        } else {
+            mongoTemplate.insert(documents, staging);
+        }
+        mongoTemplate.getCollection(staging).renameCollection(
+                new MongoNamespace(mongoTemplate.getDb().getName(), collection),
+                new RenameCollectionOptions().dropTarget(true));
+    }
+}
@@ -0,0 +1,122 @@
+package com.creatureadoption.adoptions.dataaccesslayer.archive;
+
+import com.creatureadoption.adoptions.dataaccesslayer.Adoption;
+import com.creatureadoption.adoptions.dataaccesslayer.AdoptionFilter;
+import com.creatureadoption.adoptions.dataaccesslayer.AdoptionStatus;
+import org.bson.Document;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * The cold tier of adoptions. CANCELLED and RETURNED adoptions that nobody has touched for a while are moved
+ * out of the adoptions collection, so its documents and indexes only hold adoptions still in play. An archived
+ * adoption keeps its _id and every field, plus the time it was archived.
+ */
+@Component
+public class AdoptionArchive {
+
+    public static final String COLLECTION = "adoptions_archive";
+    public static final List<AdoptionStatus> TERMINAL_STATUSES = List.of(AdoptionStatus.CANCELLED, AdoptionStatus.RETURNED);
+
+    // Archived adoptions are only read as part of a page, or looked up by adoption (their _id), customer or creature
+    public static final List<Index> INDEXES = List.of(
+            new Index().named("archive_keyset_idx").on("lastUpdated", Sort.Direction.DESC).on("_id", Sort.Direction.DESC),
+            new Index().named("archive_customer_idx").on("customerId", Sort.Direction.ASC),
+            new Index().named("archive_creature_idx").on("creatureId", Sort.Direction.ASC));
+
+    private final MongoTemplate mongoTemplate;
+    private final AdoptionArchiveCheckpointRepository checkpointRepository;
+
+    public AdoptionArchive(MongoTemplate mongoTemplate, AdoptionArchiveCheckpointRepository checkpointRepository) {
+        this.mongoTemplate = mongoTemplate;
+        this.checkpointRepository = checkpointRepository;
+    }
+
+    /**
+     * Whether a page of the archive can be read for the filter without scanning it: the filter either has no
+     * fields, so the keyset index walks the page, or names an adoption, customer or creature, which are indexed.
+     * A status the archive never holds is served too, since the archive is then not read at all.
+     */
+    public static boolean isIndexed(AdoptionFilter filter) {
+        return !mayHold(filter)
+                || filter.getAdoptionId() != null || filter.getCustomerId() != null || filter.getCreatureId() != null
+                || filter.equals(new AdoptionFilter());
+    }
+
+    /**
+     * @return false when the filter asks for a status only adoptions still in play can have
+     */
+    public static boolean mayHold(AdoptionFilter filter) {
+        return filter.getAdoptionStatus() == null || TERMINAL_STATUSES.contains(filter.getAdoptionStatus());
+    }
+
+    /**
+     * The next adoptions the sweep may move, oldest first by (lastUpdated, _id) and strictly after the
+     * checkpoint's position.
+     */
+    public List<Adoption> findArchivable(AdoptionArchiveCheckpoint checkpoint, int limit) {
+        Criteria criteria = Criteria.where("adoptionStatus").in(TERMINAL_STATUSES).and("lastUpdated").lt(checkpoint.getCutoff());
+        if (checkpoint.getLastUpdated() != null) {
+            criteria.orOperator(
+                    Criteria.where("lastUpdated").gt(checkpoint.getLastUpdated()),
+                    Criteria.where("lastUpdated").is(checkpoint.getLastUpdated()).and("id").gt(checkpoint.getLastId()));
+        }
+        return mongoTemplate.find(new Query(criteria).with(Sort.by("lastUpdated", "id")).limit(limit), Adoption.class);
+    }
+
+    /**
+     * Moves the adoptions into the archive and saves the checkpoint in one transaction. An adoption that was
+     * written or removed since it was read is left alone; a write landing while the batch is moved aborts it.
+     *
+     * @return the number of adoptions archived
+     */
+    @Transactional
+    public int archive(List<Adoption> adoptions, AdoptionArchiveCheckpoint checkpoint) {
+        int moved = 0;
+        if (!adoptions.isEmpty()) {
+            Query current = new Query(Criteria.where("id").in(adoptions.stream().map(Adoption::getId).toList()));
+            current.fields().include("id", "version");
+            Map<UUID, Adoption> stored = mongoTemplate.find(current, Adoption.class).stream()
+                    .collect(Collectors.toMap(Adoption::getId, Function.identity()));
+            List<Adoption> unchanged = adoptions.stream()
+                    .filter(adoption -> stored.containsKey(adoption.getId())
+                            && Objects.equals(stored.get(adoption.getId()).getVersion(), adoption.getVersion()))
+                    .toList();
+
+            if (!unchanged.isEmpty()) {
+                long removed = mongoTemplate.remove(new Query(Criteria.where("id").in(unchanged.stream().map(Adoption::getId).toList())),
+                        Adoption.class).getDeletedCount();
+                if (removed != unchanged.size()) {
+                    throw new OptimisticLockingFailureException("An adoption was changed while it was being archived");
+                }
+                Date archivedAt = new Date();
+                mongoTemplate.insert(unchanged.stream().map(adoption -> toArchived(adoption, archivedAt)).toList(), COLLECTION);
+                moved = unchanged.size();
+            }
+        }
+        checkpoint.setArchived(checkpoint.getArchived() + moved);
+        checkpointRepository.save(checkpoint);
+        return moved;
+    }
+
+    private Document toArchived(Adoption adoption, Date archivedAt) {
+        Document document = new Document();
+        mongoTemplate.getConverter().write(adoption, document);
+        document.put("archivedAt", archivedAt);
+        return document;
+    }
+}
@@ -0,0 +1,61 @@
+package com.creatureadoption.adoptions.dataaccesslayer.archive;
+
+import com.creatureadoption.adoptions.dataaccesslayer.Adoption;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * How far the current archive sweep has got. It is saved in the same transaction as each batch it moves,
+ * so a sweep cut short by a restart, an error or the per-run batch limit resumes right after the last
+ * adoption that was actually archived.
+ */
+@Document(collection = "adoption_archive_checkpoints")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdoptionArchiveCheckpoint {
+
+    @Id
+    private String id;
+
+    // Two instances sweeping at once cannot both save the same checkpoint, so one of their batches rolls back
+    @Version
+    private Long version;
+
+    // Fixed for the whole sweep: only adoptions last updated before it are moved
+    private LocalDateTime cutoff;
+    // (lastUpdated, _id) of the last adoption the sweep has passed
+    private LocalDateTime lastUpdated;
+    private UUID lastId;
+    private long archived;
+    private LocalDateTime startedAt;
+    // Null while the sweep is in progress
+    private LocalDateTime completedAt;
+
+    public boolean isInProgress() {
+        return cutoff != null && completedAt == null;
+    }
+
+    public void start(LocalDateTime cutoff, LocalDateTime startedAt) {
+        this.cutoff = cutoff;
+        this.startedAt = startedAt;
+        this.lastUpdated = null;
+        this.lastId = null;
+        this.archived = 0;
+        this.completedAt = null;
+    }
+
+    public void advanceTo(Adoption adoption) {
+        this.lastUpdated = adoption.getLastUpdated();
+        this.lastId = adoption.getId();
+    }
+}
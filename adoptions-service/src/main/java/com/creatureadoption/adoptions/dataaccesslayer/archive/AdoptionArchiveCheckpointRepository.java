@@ -0,0 +1,6 @@
+package com.creatureadoption.adoptions.dataaccesslayer.archive;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface AdoptionArchiveCheckpointRepository extends MongoRepository<AdoptionArchiveCheckpoint, String> {
+}
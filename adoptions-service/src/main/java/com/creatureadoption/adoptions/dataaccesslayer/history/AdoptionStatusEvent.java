@@ -0,0 +1,44 @@
+package com.creatureadoption.adoptions.dataaccesslayer.history;
+
+import com.creatureadoption.adoptions.dataaccesslayer.AdoptionStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * One adoption status transition, written in the same transaction as the adoption and never changed
+ * afterwards. Its own adoption's history is an index range on the first index, a status over time one
+ * on the second, so transition analytics never read the adoptions collection.
+ */
+@Document(collection = "adoption_status_events")
+@CompoundIndexes({
+        @CompoundIndex(name = "adoption_timestamp_idx", def = "{'adoptionId': 1, 'timestamp': 1}"),
+        @CompoundIndex(name = "status_timestamp_idx", def = "{'status': 1, 'timestamp': 1}")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdoptionStatusEvent {
+
+    @Id
+    private String id;
+    private String adoptionId;
+    // Null for the status an adoption was created with
+    private AdoptionStatus previousStatus;
+    // Null for the event that records the adoption's removal
+    private AdoptionStatus status;
+    private boolean removed;
+    private LocalDateTime timestamp;
+    // The adoption's version once the transition was written
+    private Long adoptionVersion;
+    // How long the adoption was in previousStatus; null when that stretch began before history was kept
+    private Long timeInPreviousStatusMs;
+}
@@ -0,0 +1,7 @@
+package com.creatureadoption.adoptions.dataaccesslayer.history;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface AdoptionStatusEventRepository extends MongoRepository<AdoptionStatusEvent, String>,
+        AdoptionStatusEventRepositoryCustom {
+}
@@ -0,0 +1,28 @@
+package com.creatureadoption.adoptions.dataaccesslayer.history;
+
+import com.creatureadoption.adoptions.dataaccesslayer.Adoption;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface AdoptionStatusEventRepositoryCustom {
+
+    /**
+     * Appends an event for every adoption whose status differs between {@code before.get(i)} and
+     * {@code after.get(i)}, a null {@code before} being a new adoption and a null {@code after} a removed one.
+     * The events are written with one insert.
+     */
+    void recordTransitions(List<Adoption> before, List<Adoption> after);
+
+    /**
+     * The transitions of one adoption oldest first, from {@code from} inclusive to {@code to} exclusive;
+     * null leaves a bound open.
+     */
+    List<AdoptionStatusEvent> findHistory(String adoptionId, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Transitions between {@code from} inclusive and {@code to} exclusive, counted per time bucket and pair of
+     * statuses by one aggregation. {@code unit} is the bucket size: hour, day, week (from Monday) or month.
+     */
+    List<AdoptionStatusTransitionCount> countTransitions(LocalDateTime from, LocalDateTime to, String unit);
+}
@@ -0,0 +1,148 @@
+package com.creatureadoption.adoptions.dataaccesslayer.history;
+
+import com.creatureadoption.adoptions.dataaccesslayer.Adoption;
+import com.creatureadoption.adoptions.dataaccesslayer.AdoptionStatus;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.group;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.match;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.sort;
+
+public class AdoptionStatusEventRepositoryCustomImpl implements AdoptionStatusEventRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    public AdoptionStatusEventRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public void recordTransitions(List<Adoption> before, List<Adoption> after) {
+        if (before.size() != after.size()) {
+            throw new IllegalArgumentException("Expected one previous state per adoption");
+        }
+
+        List<Integer> transitioned = new ArrayList<>();
+        List<String> leavingKnownStatus = new ArrayList<>();
+        for (int i = 0; i < after.size(); i++) {
+            AdoptionStatus previousStatus = before.get(i) != null ? before.get(i).getAdoptionStatus() : null;
+            Adoption adoption = after.get(i);
+            if (adoption == null ? before.get(i) == null
+                    : adoption.getAdoptionStatus() == null || adoption.getAdoptionStatus() == previousStatus) {
+                continue;
+            }
+            transitioned.add(i);
+            if (previousStatus != null) {
+                leavingKnownStatus.add(before.get(i).getAdoptionIdentifier().getAdoptionId());
+            }
+        }
+        if (transitioned.isEmpty()) {
+            return;
+        }
+
+        Map<String, LocalDateTime> enteredAt = latestTransitions(leavingKnownStatus);
+        List<AdoptionStatusEvent> events = new ArrayList<>(transitioned.size());
+        for (int i : transitioned) {
+            boolean removed = after.get(i) == null;
+            Adoption adoption = removed ? before.get(i) : after.get(i);
+            String adoptionId = adoption.getAdoptionIdentifier().getAdoptionId();
+            LocalDateTime timestamp = !removed && adoption.getLastUpdated() != null ? adoption.getLastUpdated() : LocalDateTime.now();
+            LocalDateTime previousSince = before.get(i) != null ? enteredAt.get(adoptionId) : null;
+            events.add(AdoptionStatusEvent.builder()
+                    .adoptionId(adoptionId)
+                    .previousStatus(before.get(i) != null ? before.get(i).getAdoptionStatus() : null)
+                    .status(removed ? null : adoption.getAdoptionStatus())
+                    .removed(removed)
+                    .timestamp(timestamp)
+                    .adoptionVersion(adoption.getVersion())
+                    .timeInPreviousStatusMs(previousSince != null ? Duration.between(previousSince, timestamp).toMillis() : null)
+                    .build());
+        }
+        mongoTemplate.insertAll(events);
+    }
+
+    @Override
+    public List<AdoptionStatusEvent> findHistory(String adoptionId, LocalDateTime from, LocalDateTime to) {
+        Criteria criteria = Criteria.where("adoptionId").is(adoptionId);
+        if (from != null || to != null) {
+            Criteria timestamp = criteria.and("timestamp");
+            if (from != null) {
+                timestamp.gte(from);
+            }
+            if (to != null) {
+                timestamp.lt(to);
+            }
+        }
+        return mongoTemplate.find(new Query(criteria).with(Sort.by("timestamp")), AdoptionStatusEvent.class);
+    }
+
+    @Override
+    public List<AdoptionStatusTransitionCount> countTransitions(LocalDateTime from, LocalDateTime to, String unit) {
+        Document truncate = new Document("date", "$timestamp")
+                .append("unit", unit)
+                .append("timezone", ZoneId.systemDefault().getId());
+        if ("week".equals(unit)) {
+            truncate.append("startOfWeek", "monday");
+        }
+        Aggregation aggregation = Aggregation.newAggregation(
+                // Naming every status lets the (status, timestamp) index answer the range, one status at a time
+                match(Criteria.where("status").in((Object[]) AdoptionStatus.values()).and("timestamp").gte(from).lt(to)),
+                context -> new Document("$group", new Document("_id", new Document("bucket", new Document("$dateTrunc", truncate))
+                        .append("previousStatus", "$previousStatus")
+                        .append("status", "$status"))
+                        .append("count", new Document("$sum", 1))
+                        .append("timedCount", new Document("$sum", new Document("$cond",
+                                List.of(new Document("$gt", List.of("$timeInPreviousStatusMs", null)), 1, 0))))
+                        .append("totalTimeInPreviousStatusMs", new Document("$sum", "$timeInPreviousStatusMs"))));
+
+        List<AdoptionStatusTransitionCount> counts = new ArrayList<>();
+        for (Document row : mongoTemplate.aggregate(aggregation, AdoptionStatusEvent.class, Document.class)) {
+            Document key = row.get("_id", Document.class);
+            String previousStatus = key.getString("previousStatus");
+            counts.add(new AdoptionStatusTransitionCount(
+                    toLocalDateTime(key.getDate("bucket")),
+                    previousStatus != null ? AdoptionStatus.valueOf(previousStatus) : null,
+                    AdoptionStatus.valueOf(key.getString("status")),
+                    ((Number) row.get("count")).longValue(),
+                    ((Number) row.get("timedCount")).longValue(),
+                    ((Number) row.get("totalTimeInPreviousStatusMs")).longValue()));
+        }
+        return counts;
+    }
+
+    // When each adoption entered its current status: the time of its latest transition
+    private Map<String, LocalDateTime> latestTransitions(List<String> adoptionIds) {
+        Map<String, LocalDateTime> latest = new HashMap<>();
+        if (adoptionIds.isEmpty()) {
+            return latest;
+        }
+        // Sorted as the (adoptionId, timestamp) index read backwards, so the first per adoption is its latest
+        Aggregation aggregation = Aggregation.newAggregation(
+                match(Criteria.where("adoptionId").in(adoptionIds)),
+                sort(Sort.by(Sort.Direction.DESC, "adoptionId", "timestamp")),
+                group("adoptionId").first("timestamp").as("timestamp"));
+        for (Document row : mongoTemplate.aggregate(aggregation, AdoptionStatusEvent.class, Document.class)) {
+            latest.put(row.getString("_id"), toLocalDateTime(row.getDate("timestamp")));
+        }
+        return latest;
+    }
+
+    // LocalDateTime is stored as the instant it denotes in the JVM's zone
+    private static LocalDateTime toLocalDateTime(Date date) {
+        return LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault());
+    }
+}
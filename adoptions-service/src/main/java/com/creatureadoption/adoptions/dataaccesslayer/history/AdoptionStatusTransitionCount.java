@@ -0,0 +1,24 @@
+package com.creatureadoption.adoptions.dataaccesslayer.history;
+
+import com.creatureadoption.adoptions.dataaccesslayer.AdoptionStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * The transitions from one status to another that fell into one time bucket, with the time their
+ * adoptions had spent in the status they left.
+ */
+@Data
+@AllArgsConstructor
+public class AdoptionStatusTransitionCount {
+
+    private LocalDateTime bucket;
+    private AdoptionStatus previousStatus;
+    private AdoptionStatus status;
+    private long count;
+    // Of count, the transitions whose time in previousStatus is known, and that time summed up
+    private long timedCount;
+    private long totalTimeInPreviousStatusMs;
+}
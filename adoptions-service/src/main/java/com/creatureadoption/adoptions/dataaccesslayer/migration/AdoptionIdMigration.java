@@ -0,0 +1,124 @@
+package com.creatureadoption.adoptions.dataaccesslayer.migration;
+
+import com.creatureadoption.adoptions.dataaccesslayer.BinaryUuidConverter;
+import com.creatureadoption.adoptions.dataaccesslayer.archive.AdoptionArchive;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Rewrites adoptions stored in the old shape, with an ObjectId _id, the adoptionId in a nested
+ * adoptionIdentifier and the ids of other subdomains as strings. A rewritten adoption has its adoptionId
+ * as a binary _id and every UUID reference in binary. Since an _id cannot be changed in place, each batch
+ * inserts the new documents and removes the old ones in one transaction.
+ */
+@Slf4j
+@Component
+public class AdoptionIdMigration {
+
+    private static final String ADOPTIONS = "adoptions";
+    public static final List<String> COLLECTIONS = List.of(ADOPTIONS, AdoptionArchive.COLLECTION);
+
+    public static final String LEGACY_ADOPTION_ID = "adoptionIdentifier.adoptionId";
+    public static final String LEGACY_INDEX = "adoption_id_idx";
+    // Set on every rewritten document, so the change stream can tell the rewrite from a new adoption
+    public static final String MIGRATED = "idMigrated";
+    private static final Set<String> UUID_REFERENCES = Set.of("customerId", "creatureId", "trainingId");
+    // A document whose adoptionId is no UUID is flagged and left as it is, so later batches pass over it
+    private static final String FAILED = "idMigrationFailed";
+    // The old indexes on the nested adoptionId serve findLegacy while the migration runs, and nothing after it
+    private static final Map<String, String> LEGACY_INDEXES = Map.of(
+            ADOPTIONS, LEGACY_INDEX,
+            AdoptionArchive.COLLECTION, "archive_adoption_id_idx");
+
+    private final MongoTemplate mongoTemplate;
+
+    public AdoptionIdMigration(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    // Only legacy documents have a string at the nested adoptionId, so its index answers this without a scan
+    public List<Document> findLegacy(String collection, int limit) {
+        Query query = new Query(Criteria.where(LEGACY_ADOPTION_ID).type(2).and(FAILED).ne(true)).limit(limit);
+        return mongoTemplate.find(query, Document.class, collection);
+    }
+
+    /**
+     * Replaces the legacy documents with their rewritten form. A document changed or removed since it was
+     * read rolls the whole batch back, to be read again by the next one.
+     *
+     * @return the number of adoptions rewritten
+     */
+    @Transactional
+    public int migrate(String collection, List<Document> legacy) {
+        List<Document> migrated = new ArrayList<>(legacy.size());
+        List<Criteria> unchanged = new ArrayList<>(legacy.size());
+        List<Object> failed = new ArrayList<>();
+        for (Document document : legacy) {
+            Document rewritten = rewrite(document);
+            if (rewritten == null) {
+                failed.add(document.get("_id"));
+                continue;
+            }
+            migrated.add(rewritten);
+            unchanged.add(Criteria.where("_id").is(document.get("_id")).and("version").is(document.get("version")));
+        }
+
+        if (!failed.isEmpty()) {
+            log.warn("Left {} adoptions in {} with an adoptionId that is no UUID: {}", failed.size(), collection, failed);
+            mongoTemplate.updateMulti(new Query(Criteria.where("_id").in(failed)), new Update().set(FAILED, true), collection);
+        }
+        if (migrated.isEmpty()) {
+            return 0;
+        }
+        long removed = mongoTemplate.remove(new Query(new Criteria().orOperator(unchanged)), collection).getDeletedCount();
+        if (removed != migrated.size()) {
+            throw new OptimisticLockingFailureException("An adoption was changed while its ids were being rewritten");
+        }
+        mongoTemplate.insert(migrated, collection);
+        return migrated.size();
+    }
+
+    // Once nothing is left for it to find
+    public void dropLegacyIndex(String collection) {
+        IndexOperations indexOps = mongoTemplate.indexOps(collection);
+        String name = LEGACY_INDEXES.get(collection);
+        if (indexOps.getIndexInfo().stream().anyMatch(index -> index.getName().equals(name))) {
+            indexOps.dropIndex(name);
+            log.info("Dropped index {} on {}", name, collection);
+        }
+    }
+
+    /**
+     * @return the document in the shape the mapping writes, or null when its adoptionId is no UUID
+     */
+    public static Document rewrite(Document legacy) {
+        Document identifier = legacy.get("adoptionIdentifier", Document.class);
+        Object id = BinaryUuidConverter.toBinary(identifier.getString("adoptionId"));
+        if (id instanceof String) {
+            return null;
+        }
+        // _id first, as in every document written by the mapping
+        Document rewritten = new Document("_id", id).append("adoptionCode", identifier.getString("adoptionCode"))
+                .append(MIGRATED, true);
+        legacy.forEach((field, value) -> {
+            if (!field.equals("_id") && !field.equals("adoptionIdentifier")) {
+                rewritten.put(field, UUID_REFERENCES.contains(field) && value instanceof String uuid
+                        ? BinaryUuidConverter.toBinary(uuid) : value);
+            }
+        });
+        return rewritten;
+    }
+}
@@ -0,0 +1,67 @@
+package com.creatureadoption.adoptions.dataaccesslayer.outbox;
+
+import com.creatureadoption.adoptions.dataaccesslayer.Adoption;
+import com.creatureadoption.adoptions.dataaccesslayer.CreatureStatus;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records the creature status changes adoption writes imply, for the relay to deliver. It writes nothing but
+ * outbox entries and is called inside the transaction of the adoption write, so a change is recorded if and
+ * only if the write commits.
+ */
+@Component
+public class CreatureStatusOutbox {
+
+    private final CreatureStatusOutboxRepository outboxRepository;
+
+    public CreatureStatusOutbox(CreatureStatusOutboxRepository outboxRepository) {
+        this.outboxRepository = outboxRepository;
+    }
+
+    /**
+     * Records a change to apply only while the creature is in one of {@code expectedStatuses}; an empty list
+     * makes it unconditional.
+     */
+    public void add(Adoption adoption, CreatureStatus creatureStatus, List<CreatureStatus> expectedStatuses) {
+        outboxRepository.insert(entryFor(adoption, creatureStatus, expectedStatuses));
+    }
+
+    /**
+     * Records an unconditional change for every adoption with one insert, {@code creatureStatuses.get(i)}
+     * belonging to {@code adoptions.get(i)}.
+     */
+    public void addAll(List<Adoption> adoptions, List<CreatureStatus> creatureStatuses) {
+        List<CreatureStatusOutboxEntry> entries = new ArrayList<>(adoptions.size());
+        for (int i = 0; i < adoptions.size(); i++) {
+            entries.add(entryFor(adoptions.get(i), creatureStatuses.get(i), List.of()));
+        }
+        outboxRepository.insert(entries);
+    }
+
+    /**
+     * Keeps a refused change as FAILED and drops the changes its adoption queued after it.
+     */
+    public void fail(CreatureStatusOutboxEntry refused, String error) {
+        refused.setState(OutboxEntryState.FAILED);
+        refused.setLastError(error);
+        outboxRepository.save(refused);
+        outboxRepository.deleteByAdoptionIdAndState(refused.getAdoptionId(), OutboxEntryState.PENDING);
+    }
+
+    private static CreatureStatusOutboxEntry entryFor(Adoption adoption, CreatureStatus creatureStatus,
+                                                      List<CreatureStatus> expectedStatuses) {
+        LocalDateTime now = LocalDateTime.now();
+        return CreatureStatusOutboxEntry.builder()
+                .creatureId(adoption.getCreatureId())
+                .adoptionId(adoption.getAdoptionIdentifier().getAdoptionId())
+                .status(creatureStatus)
+                .expectedStatuses(List.copyOf(expectedStatuses))
+                .createdAt(now)
+                .nextAttemptAt(now)
+                .build();
+    }
+}
@@ -0,0 +1,54 @@
+package com.creatureadoption.adoptions.dataaccesslayer.outbox;
+
+import com.creatureadoption.adoptions.dataaccesslayer.CreatureStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A creature status change recorded in the same transaction as the adoption write that caused it.
+ * The relay delivers it to the creatures service and deletes it; entries the creatures service
+ * refuses, or that run out of attempts, stay behind as FAILED. A refused conditional entry also
+ * cancels the adoption that wrote it.
+ */
+@Document(collection = "creature_status_outbox")
+@CompoundIndexes({
+        // The due check comes after the sort keys, so a batch is read in order and filtered on the index alone
+        @CompoundIndex(name = "outbox_state_created_due_idx", def = "{'state': 1, 'createdAt': 1, '_id': 1, 'nextAttemptAt': 1}"),
+        @CompoundIndex(name = "outbox_creature_due_idx", def = "{'creatureId': 1, 'state': 1, 'nextAttemptAt': 1}"),
+        @CompoundIndex(name = "outbox_adoption_state_idx", def = "{'adoptionId': 1, 'state': 1}")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreatureStatusOutboxEntry {
+
+    @Id
+    private String id;
+    private String creatureId;
+    private String adoptionId;
+    private CreatureStatus status;
+    // Only apply the change while the creature is in one of these; empty means unconditional
+    @Builder.Default
+    private List<CreatureStatus> expectedStatuses = new ArrayList<>();
+    @Builder.Default
+    private OutboxEntryState state = OutboxEntryState.PENDING;
+    private int attempts;
+    private LocalDateTime createdAt;
+    private LocalDateTime nextAttemptAt;
+    private String lastError;
+
+    public boolean isUnconditional() {
+        return expectedStatuses == null || expectedStatuses.isEmpty();
+    }
+}
@@ -0,0 +1,25 @@
+package com.creatureadoption.adoptions.dataaccesslayer.outbox;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface CreatureStatusOutboxRepository extends MongoRepository<CreatureStatusOutboxEntry, String>,
+        CreatureStatusOutboxRepositoryCustom {
+
+    // Oldest first, so entries for the same creature come back in the order they were written. Entries waiting
+    // out a backoff are left out, so they cannot fill the batch and starve the ones that are due
+    List<CreatureStatusOutboxEntry> findByStateAndNextAttemptAtLessThanEqualOrderByCreatedAtAscIdAsc(
+            OutboxEntryState state, LocalDateTime now, Pageable pageable);
+
+    CreatureStatusOutboxEntry findFirstByCreatureIdAndStateAndNextAttemptAtAfter(
+            String creatureId, OutboxEntryState state, LocalDateTime now);
+
+    CreatureStatusOutboxEntry findFirstByStateOrderByCreatedAtAsc(OutboxEntryState state);
+
+    long countByState(OutboxEntryState state);
+
+    void deleteByAdoptionIdAndState(String adoptionId, OutboxEntryState state);
+}
@@ -0,0 +1,12 @@
+package com.creatureadoption.adoptions.dataaccesslayer.outbox;
+
+import java.time.LocalDateTime;
+
+public interface CreatureStatusOutboxRepositoryCustom {
+
+    /**
+     * Moves the next attempt of every pending entry of the creature that is due before {@code until} out to it,
+     * so the changes queued behind a retry wait for it instead of coming back in every batch.
+     */
+    void holdBack(String creatureId, LocalDateTime until);
+}
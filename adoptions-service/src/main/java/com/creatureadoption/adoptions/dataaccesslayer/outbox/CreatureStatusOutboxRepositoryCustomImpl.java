@@ -0,0 +1,25 @@
+package com.creatureadoption.adoptions.dataaccesslayer.outbox;
+
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+
+public class CreatureStatusOutboxRepositoryCustomImpl implements CreatureStatusOutboxRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    public CreatureStatusOutboxRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public void holdBack(String creatureId, LocalDateTime until) {
+        Query query = new Query(Criteria.where("creatureId").is(creatureId)
+                .and("state").is(OutboxEntryState.PENDING)
+                .and("nextAttemptAt").lt(until));
+        mongoTemplate.updateMulti(query, new Update().set("nextAttemptAt", until), CreatureStatusOutboxEntry.class);
+    }
+}
@@ -0,0 +1,6 @@
+package com.creatureadoption.adoptions.dataaccesslayer.outbox;
+
+public enum OutboxEntryState {
+    PENDING,
+    FAILED
+}
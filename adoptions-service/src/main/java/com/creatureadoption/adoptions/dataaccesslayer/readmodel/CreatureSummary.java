@@ -0,0 +1,50 @@
+package com.creatureadoption.adoptions.dataaccesslayer.readmodel;
+
+import com.creatureadoption.adoptions.domainclientlayer.models.CreatureResponseModel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * Local projection of the creature fields adoptions-service needs to build an AdoptionResponseModel.
+ * Owned by creatures-service; kept fresh by change notifications, the reconciliation sweep and
+ * the creature status updates adoptions-service makes itself.
+ */
+@Document(collection = "creature_summaries")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreatureSummary {
+
+    @Id
+    private String creatureId;
+    private String name;
+    private String species;
+    private String status;
+    private LocalDateTime lastSynced;
+
+    public static CreatureSummary from(CreatureResponseModel creature) {
+        return CreatureSummary.builder()
+                .creatureId(creature.getCreatureId())
+                .name(creature.getName())
+                .species(creature.getSpecies())
+                .status(creature.getStatus())
+                .lastSynced(LocalDateTime.now())
+                .build();
+    }
+
+    public CreatureResponseModel toResponseModel() {
+        return CreatureResponseModel.builder()
+                .creatureId(creatureId)
+                .name(name)
+                .species(species)
+                .status(status)
+                .build();
+    }
+}
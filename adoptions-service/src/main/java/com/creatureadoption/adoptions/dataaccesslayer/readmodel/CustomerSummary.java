@@ -0,0 +1,46 @@
+package com.creatureadoption.adoptions.dataaccesslayer.readmodel;
+
+import com.creatureadoption.adoptions.domainclientlayer.models.CustomerResponseModel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * Local projection of the customer fields adoptions-service needs to build an AdoptionResponseModel.
+ * Owned by customers-service; kept fresh by change notifications and the reconciliation sweep.
+ */
+@Document(collection = "customer_summaries")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomerSummary {
+
+    @Id
+    private String customerId;
+    private String firstName;
+    private String lastName;
+    private LocalDateTime lastSynced;
+
+    public static CustomerSummary from(CustomerResponseModel customer) {
+        return CustomerSummary.builder()
+                .customerId(customer.getCustomerId())
+                .firstName(customer.getFirstName())
+                .lastName(customer.getLastName())
+                .lastSynced(LocalDateTime.now())
+                .build();
+    }
+
+    public CustomerResponseModel toResponseModel() {
+        return CustomerResponseModel.builder()
+                .customerId(customerId)
+                .firstName(firstName)
+                .lastName(lastName)
+                .build();
+    }
+}
@@ -0,0 +1,6 @@
+package com.creatureadoption.adoptions.dataaccesslayer.readmodel;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface CustomerSummaryRepository extends MongoRepository<CustomerSummary, String> {
+}
@@ -0,0 +1,46 @@
+package com.creatureadoption.adoptions.dataaccesslayer.readmodel;
+
+import com.creatureadoption.adoptions.domainclientlayer.models.TrainingResponseModel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * Local projection of the training fields adoptions-service needs to build an AdoptionResponseModel.
+ * Owned by trainings-service; kept fresh by change notifications and the reconciliation sweep.
+ */
+@Document(collection = "training_summaries")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrainingSummary {
+
+    @Id
+    private String trainingId;
+    private String name;
+    private String location;
+    private LocalDateTime lastSynced;
+
+    public static TrainingSummary from(TrainingResponseModel training) {
+        return TrainingSummary.builder()
+                .trainingId(training.getTrainingId())
+                .name(training.getName())
+                .location(training.getLocation())
+                .lastSynced(LocalDateTime.now())
+                .build();
+    }
+
+    public TrainingResponseModel toResponseModel() {
+        return TrainingResponseModel.builder()
+                .trainingId(trainingId)
+                .name(name)
+                .location(location)
+                .build();
+    }
+}
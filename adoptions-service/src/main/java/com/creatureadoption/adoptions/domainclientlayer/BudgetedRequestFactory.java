@@ -0,0 +1,58 @@
+package com.creatureadoption.adoptions.domainclientlayer;
+
+import com.creatureadoption.adoptions.utils.TimeBudget;
+import com.creatureadoption.adoptions.utils.TimeBudgetFilter;
+import org.apache.hc.client5.http.classic.HttpClient;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+import java.io.IOException;
+import java.net.URI;
+
+/**
+ * Bounds how long each downstream call may wait for a pooled connection and for the response by
+ * what is left of the calling thread's {@link TimeBudget}, and by the pool's own timeouts. A call
+ * that runs past its request's deadline is aborted instead of holding its connection and bulkhead
+ * slot until the server answers. The same bound goes out as the request's X-Time-Budget-Ms header, so
+ * the downstream can stop working on an answer nobody will wait for.
+ */
+public class BudgetedRequestFactory extends HttpComponentsClientHttpRequestFactory {
+
+    private final long connectionRequestTimeoutMs;
+    private final long responseTimeoutMs;
+
+    public BudgetedRequestFactory(HttpClient httpClient, long connectionRequestTimeoutMs, long responseTimeoutMs) {
+        super(httpClient);
+        this.connectionRequestTimeoutMs = connectionRequestTimeoutMs;
+        this.responseTimeoutMs = responseTimeoutMs;
+    }
+
+    @Override
+    public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) throws IOException {
+        ClientHttpRequest request = super.createRequest(uri, httpMethod);
+        request.getHeaders().set(TimeBudgetFilter.TIME_BUDGET_HEADER,
+                Long.toString(within(TimeBudget.remainingMillis(), responseTimeoutMs).toMilliseconds()));
+        return request;
+    }
+
+    @Override
+    protected HttpContext createHttpContext(HttpMethod httpMethod, URI uri) {
+        Long remainingMs = TimeBudget.remainingMillis();
+        HttpClientContext context = HttpClientContext.create();
+        context.setRequestConfig(RequestConfig.custom()
+                .setConnectionRequestTimeout(within(remainingMs, connectionRequestTimeoutMs))
+                .setResponseTimeout(within(remainingMs, responseTimeoutMs))
+                .build());
+        return context;
+    }
+
+    // A zero timeout means "no timeout" to HttpClient, so an exhausted budget still gets a millisecond
+    private static Timeout within(Long remainingMs, long timeoutMs) {
+        return Timeout.ofMilliseconds(remainingMs == null ? timeoutMs : Math.max(Math.min(remainingMs, timeoutMs), 1));
+    }
+}
@@ -0,0 +1,133 @@
+package com.creatureadoption.adoptions.domainclientlayer;
+
+import com.creatureadoption.adoptions.utils.exceptions.NotFoundException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+/**
+ * Bounded in-process cache in front of a single-entity lookup of a domain client. Found entities
+ * live for the TTL of their type; a NotFoundException is remembered for a shorter time and
+ * rethrown without calling the owning service again. Concurrent misses on one id share a single
+ * call through {@link SingleFlight}. Hits, misses and evictions are published as the standard
+ * {@code cache.*} meters, tagged with the cache name.
+ * <p>
+ * Invalidating an id bumps a generation counter, shared with the ids that hash to the same stripe, and
+ * a lookup only caches its answer while the generation it started under is current, so an answer read
+ * before the invalidate cannot overwrite it.
+ */
+public class ClientCache<V> {
+
+    private static final int GENERATION_STRIPES = 64;
+
+    private final Cache<String, Entry<V>> cache;
+    private final SingleFlight<V> inFlight;
+    private final AtomicLongArray generations;
+
+    public ClientCache(String name, long maximumSize, Duration ttl, Duration notFoundTtl, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new EntryExpiry<V>(ttl.toNanos(), notFoundTtl.toNanos()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+        this.inFlight = new SingleFlight<>(name, meterRegistry);
+        this.generations = new AtomicLongArray(GENERATION_STRIPES);
+    }
+
+    private ClientCache() {
+        this.cache = null;
+        this.inFlight = null;
+        this.generations = null;
+    }
+
+    /**
+     * A cache that stores nothing, so every lookup reaches the owning service.
+     */
+    public static <V> ClientCache<V> disabled() {
+        return new ClientCache<>();
+    }
+
+    public V get(String id, Function<String, V> lookup) {
+        if (cache == null) {
+            return lookup.apply(id);
+        }
+        Entry<V> cached = cache.getIfPresent(id);
+        if (cached != null) {
+            return cached.valueOrThrow();
+        }
+        long generation = generations.get(stripe(id));
+        try {
+            V value = inFlight.execute(id, lookup);
+            // An empty body is not an answer worth keeping
+            if (value != null) {
+                putUnlessInvalidated(id, generation, new Entry<>(value, null));
+            }
+            return value;
+        } catch (NotFoundException e) {
+            putUnlessInvalidated(id, generation, new Entry<>(null, e.getMessage()));
+            throw e;
+        }
+    }
+
+    public void invalidate(String id) {
+        if (cache != null) {
+            // Later lookups make a call of their own instead of joining one that may have read the old state
+            inFlight.forget(id);
+            // Bumped under the entry's lock, so a put that saw the old generation has landed and is removed here
+            cache.asMap().compute(id, (key, entry) -> {
+                generations.incrementAndGet(stripe(key));
+                return null;
+            });
+        }
+    }
+
+    private void putUnlessInvalidated(String id, long generation, Entry<V> entry) {
+        if (generations.get(stripe(id)) != generation) {
+            return;
+        }
+        cache.asMap().compute(id, (key, current) -> generations.get(stripe(key)) == generation ? entry : current);
+    }
+
+    private static int stripe(String id) {
+        return Math.floorMod(id.hashCode(), GENERATION_STRIPES);
+    }
+
+    private record Entry<V>(V value, String notFoundMessage) {
+
+        boolean isNotFound() {
+            return value == null;
+        }
+
+        V valueOrThrow() {
+            if (isNotFound()) {
+                throw new NotFoundException(notFoundMessage);
+            }
+            return value;
+        }
+    }
+
+    private record EntryExpiry<V>(long ttlNanos, long notFoundTtlNanos) implements Expiry<String, Entry<V>> {
+
+        @Override
+        public long expireAfterCreate(String id, Entry<V> entry, long currentTime) {
+            return entry.isNotFound() ? notFoundTtlNanos : ttlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(String id, Entry<V> entry, long currentTime, long currentDuration) {
+            return expireAfterCreate(id, entry, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String id, Entry<V> entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
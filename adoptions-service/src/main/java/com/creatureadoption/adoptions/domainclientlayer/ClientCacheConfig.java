@@ -0,0 +1,46 @@
+package com.creatureadoption.adoptions.domainclientlayer;
+
+import com.creatureadoption.adoptions.domainclientlayer.models.CreatureResponseModel;
+import com.creatureadoption.adoptions.domainclientlayer.models.CustomerResponseModel;
+import com.creatureadoption.adoptions.domainclientlayer.models.TrainingResponseModel;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class ClientCacheConfig {
+
+    private final MeterRegistry meterRegistry;
+    private final Duration notFoundTtl;
+
+    public ClientCacheConfig(MeterRegistry meterRegistry,
+                             @Value("${app.client-cache.not-found-ttl-ms:5000}") long notFoundTtlMs) {
+        this.meterRegistry = meterRegistry;
+        this.notFoundTtl = Duration.ofMillis(notFoundTtlMs);
+    }
+
+    @Bean
+    ClientCache<CustomerResponseModel> customerCache(
+            @Value("${app.client-cache.customers.maximum-size:10000}") long maximumSize,
+            @Value("${app.client-cache.customers.ttl-ms:300000}") long ttlMs) {
+        return new ClientCache<>("customers", maximumSize, Duration.ofMillis(ttlMs), notFoundTtl, meterRegistry);
+    }
+
+    // Creature status moves with every adoption, so creatures are kept the shortest
+    @Bean
+    ClientCache<CreatureResponseModel> creatureCache(
+            @Value("${app.client-cache.creatures.maximum-size:10000}") long maximumSize,
+            @Value("${app.client-cache.creatures.ttl-ms:30000}") long ttlMs) {
+        return new ClientCache<>("creatures", maximumSize, Duration.ofMillis(ttlMs), notFoundTtl, meterRegistry);
+    }
+
+    @Bean
+    ClientCache<TrainingResponseModel> trainingCache(
+            @Value("${app.client-cache.trainings.maximum-size:1000}") long maximumSize,
+            @Value("${app.client-cache.trainings.ttl-ms:600000}") long ttlMs) {
+        return new ClientCache<>("trainings", maximumSize, Duration.ofMillis(ttlMs), notFoundTtl, meterRegistry);
+    }
+}
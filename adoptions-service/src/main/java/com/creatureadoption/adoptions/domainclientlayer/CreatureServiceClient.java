@@ -1,8 +1,8 @@
 package com.creatureadoption.adoptions.domainclientlayer;
 
 import com.creatureadoption.adoptions.dataaccesslayer.CreatureStatus;
-import com.creatureadoption.adoptions.domainclientlayer.models.CreatureRequestModel;
 import com.creatureadoption.adoptions.domainclientlayer.models.CreatureResponseModel;
+import com.creatureadoption.adoptions.domainclientlayer.models.CreatureStatusRequestModel;
 import com.creatureadoption.adoptions.utils.HttpErrorInfo;
 import com.creatureadoption.adoptions.utils.exceptions.AdoptionLimitExceededException;
 import com.creatureadoption.adoptions.utils.exceptions.InvalidInputException;
@@ -10,6 +10,7 @@ import com.creatureadoption.adoptions.utils.exceptions.NotFoundException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Component;
@@ -17,6 +18,9 @@ import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
 import static org.springframework.http.HttpStatus.*;
 
@@ -24,59 +28,110 @@ import static org.springframework.http.HttpStatus.*;
 @Component
 public class CreatureServiceClient {
 
+    private static final String DOWNSTREAM = "creatures";
+
     private final RestTemplate restTemplate;
     private final ObjectMapper mapper;
     private final String CREATURES_SERVICE_BASE_URL;
+    private final ClientCache<CreatureResponseModel> cache;
+    private final DownstreamGuards guards;
 
     public CreatureServiceClient(
             RestTemplate restTemplate,
             ObjectMapper mapper,
             @Value("${app.creatures-service.host}") String creaturesServiceHost,
-            @Value("${app.creatures-service.port}") String creaturesServicePort) {
+            @Value("${app.creatures-service.port}") String creaturesServicePort,
+            ClientCache<CreatureResponseModel> cache,
+            DownstreamGuards guards) {
 
         this.restTemplate = restTemplate;
         this.mapper = mapper;
         this.CREATURES_SERVICE_BASE_URL = "http://" + creaturesServiceHost + ":" + creaturesServicePort + "/api/v1/creatures";
+        this.cache = cache;
+        this.guards = guards;
     }
 
     public CreatureResponseModel getCreatureByCreatureId(String creatureId) {
+        return cache.get(creatureId, this::fetchCreature);
+    }
+
+    public void evictCreature(String creatureId) {
+        cache.invalidate(creatureId);
+    }
+
+    private CreatureResponseModel fetchCreature(String creatureId) {
         try {
             String url = CREATURES_SERVICE_BASE_URL + "/" + creatureId;
             log.debug("Calling Creatures-Service URL: {}", url);
 
-            return restTemplate.getForObject(url, CreatureResponseModel.class);
+            return guards.call(DOWNSTREAM, () -> restTemplate.getForObject(url, CreatureResponseModel.class));
+        } catch (HttpClientErrorException ex) {
+            throw handleHttpClientException(ex);
+        }
+    }
+
+    public List<CreatureResponseModel> getCreaturesByCreatureIds(Collection<String> creatureIds) {
+        if (creatureIds.isEmpty()) {
+            return List.of();
+        }
+        try {
+            String url = CREATURES_SERVICE_BASE_URL + "/batch";
+            log.debug("Calling Creatures-Service URL: {} for {} ids", url, creatureIds.size());
+
+            List<CreatureResponseModel> creatures = guards.call(DOWNSTREAM, () -> restTemplate.exchange(
+                    url,
+                    HttpMethod.POST,
+                    new HttpEntity<>(new ArrayList<>(creatureIds)),
+                    new ParameterizedTypeReference<List<CreatureResponseModel>>() {}).getBody());
+            return creatures != null ? creatures : List.of();
         } catch (HttpClientErrorException ex) {
             throw handleHttpClientException(ex);
         }
     }
 
     public CreatureResponseModel updateCreatureStatus(String creatureId, CreatureStatus newStatus) {
+        return updateCreatureStatus(creatureId, newStatus, List.of());
+    }
+
+    /**
+     * Sets the creature's status in one conditional update on the creatures service. With
+     * expectedStatuses the change is refused (InvalidInputException) unless the creature is
+     * currently in one of them. The cached copy of the creature is dropped whatever the outcome.
+     */
+    public CreatureResponseModel updateCreatureStatus(String creatureId, CreatureStatus newStatus,
+                                                      Collection<CreatureStatus> expectedStatuses) {
         try {
-            String url = CREATURES_SERVICE_BASE_URL + "/" + creatureId;
+            String url = CREATURES_SERVICE_BASE_URL + "/" + creatureId + "/status";
             log.debug("Calling Creatures-Service URL to update status: {}", url);
 
-            // Get the existing creature info
-            CreatureResponseModel existingCreature = getCreatureByCreatureId(creatureId);
-
-            // Create a request with updated status
-            CreatureRequestModel updateRequest = CreatureRequestModel.builder()
-                    .name(existingCreature.getName())
-                    .species(existingCreature.getSpecies())
-                    .type(existingCreature.getType())
-                    .rarity(existingCreature.getRarity())
-                    .level(existingCreature.getLevel())
-                    .age(existingCreature.getAge())
-                    .health(existingCreature.getHealth())
-                    .experience(existingCreature.getExperience())
+            CreatureStatusRequestModel statusRequest = CreatureStatusRequestModel.builder()
                     .status(newStatus)
-                    .strength(existingCreature.getStrength())
-                    .intelligence(existingCreature.getIntelligence())
-                    .agility(existingCreature.getAgility())
-                    .temperament(existingCreature.getTemperament())
+                    .expectedStatuses(new ArrayList<>(expectedStatuses))
                     .build();
+            return guards.call(DOWNSTREAM, () ->
+                    restTemplate.exchange(url, HttpMethod.PATCH, new HttpEntity<>(statusRequest), CreatureResponseModel.class).getBody());
+        } catch (HttpClientErrorException ex) {
+            throw handleHttpClientException(ex);
+        } finally {
+            cache.invalidate(creatureId);
+        }
+    }
+
+    /**
+     * One page of creatures in creatureId order, starting after the given creatureId or at the first one when it is null.
+     * A page shorter than the limit is the last.
+     */
+    public List<CreatureResponseModel> getCreaturesPage(String after, int limit) {
+        try {
+            String url = CREATURES_SERVICE_BASE_URL + "?limit=" + limit + (after != null ? "&after=" + after : "");
+            log.debug("Calling Creatures-Service URL: {}", url);
 
-            HttpEntity<CreatureRequestModel> requestEntity = new HttpEntity<>(updateRequest);
-            return restTemplate.exchange(url, HttpMethod.PUT, requestEntity, CreatureResponseModel.class).getBody();
+            List<CreatureResponseModel> creatures = guards.call(DOWNSTREAM, () -> restTemplate.exchange(
+                    url,
+                    HttpMethod.GET,
+                    null,
+                    new ParameterizedTypeReference<List<CreatureResponseModel>>() {}).getBody());
+            return creatures != null ? creatures : List.of();
         } catch (HttpClientErrorException ex) {
             throw handleHttpClientException(ex);
         }
@@ -86,7 +141,7 @@ public class CreatureServiceClient {
         if (ex.getStatusCode() == NOT_FOUND) {
             return new NotFoundException(getErrorMessage(ex));
         }
-        if (ex.getStatusCode() == UNPROCESSABLE_ENTITY) {
+        if (ex.getStatusCode() == UNPROCESSABLE_ENTITY || ex.getStatusCode() == CONFLICT) {
             return new InvalidInputException(getErrorMessage(ex));
         }
         if (ex.getStatusCode() == FORBIDDEN) {
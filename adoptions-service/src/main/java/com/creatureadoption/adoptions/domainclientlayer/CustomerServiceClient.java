@@ -8,11 +8,17 @@ import com.creatureadoption.adoptions.utils.exceptions.NotFoundException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
 import static org.springframework.http.HttpStatus.*;
 
@@ -20,27 +26,82 @@ import static org.springframework.http.HttpStatus.*;
 @Component
 public class CustomerServiceClient {
 
+    private static final String DOWNSTREAM = "customers";
+
     private final RestTemplate restTemplate;
     private final ObjectMapper mapper;
     private final String CUSTOMERS_SERVICE_BASE_URL;
+    private final ClientCache<CustomerResponseModel> cache;
+    private final DownstreamGuards guards;
 
     public CustomerServiceClient(
             RestTemplate restTemplate,
             ObjectMapper mapper,
             @Value("${app.customers-service.host}") String customersServiceHost,
-            @Value("${app.customers-service.port}") String customersServicePort) {
+            @Value("${app.customers-service.port}") String customersServicePort,
+            ClientCache<CustomerResponseModel> cache,
+            DownstreamGuards guards) {
 
         this.restTemplate = restTemplate;
         this.mapper = mapper;
         this.CUSTOMERS_SERVICE_BASE_URL = "http://" + customersServiceHost + ":" + customersServicePort + "/api/v1/customers";
+        this.cache = cache;
+        this.guards = guards;
     }
 
     public CustomerResponseModel getCustomerByCustomerId(String customerId) {
+        return cache.get(customerId, this::fetchCustomer);
+    }
+
+    public void evictCustomer(String customerId) {
+        cache.invalidate(customerId);
+    }
+
+    private CustomerResponseModel fetchCustomer(String customerId) {
         try {
             String url = CUSTOMERS_SERVICE_BASE_URL + "/" + customerId;
             log.debug("Calling Customers-Service URL: {}", url);
 
-            return restTemplate.getForObject(url, CustomerResponseModel.class);
+            return guards.call(DOWNSTREAM, () -> restTemplate.getForObject(url, CustomerResponseModel.class));
+        } catch (HttpClientErrorException ex) {
+            throw handleHttpClientException(ex);
+        }
+    }
+
+    public List<CustomerResponseModel> getCustomersByCustomerIds(Collection<String> customerIds) {
+        if (customerIds.isEmpty()) {
+            return List.of();
+        }
+        try {
+            String url = CUSTOMERS_SERVICE_BASE_URL + "/batch";
+            log.debug("Calling Customers-Service URL: {} for {} ids", url, customerIds.size());
+
+            List<CustomerResponseModel> customers = guards.call(DOWNSTREAM, () -> restTemplate.exchange(
+                    url,
+                    HttpMethod.POST,
+                    new HttpEntity<>(new ArrayList<>(customerIds)),
+                    new ParameterizedTypeReference<List<CustomerResponseModel>>() {}).getBody());
+            return customers != null ? customers : List.of();
+        } catch (HttpClientErrorException ex) {
+            throw handleHttpClientException(ex);
+        }
+    }
+
+    /**
+     * One page of customers in customerId order, starting after the given customerId or at the first one when it is null.
+     * A page shorter than the limit is the last.
+     */
+    public List<CustomerResponseModel> getCustomersPage(String after, int limit) {
+        try {
+            String url = CUSTOMERS_SERVICE_BASE_URL + "?limit=" + limit + (after != null ? "&after=" + after : "");
+            log.debug("Calling Customers-Service URL: {}", url);
+
+            List<CustomerResponseModel> customers = guards.call(DOWNSTREAM, () -> restTemplate.exchange(
+                    url,
+                    HttpMethod.GET,
+                    null,
+                    new ParameterizedTypeReference<List<CustomerResponseModel>>() {}).getBody());
+            return customers != null ? customers : List.of();
         } catch (HttpClientErrorException ex) {
             throw handleHttpClientException(ex);
         }
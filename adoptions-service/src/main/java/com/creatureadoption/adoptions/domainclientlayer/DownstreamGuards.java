@@ -0,0 +1,83 @@
+package com.creatureadoption.adoptions.domainclientlayer;
+
+import com.creatureadoption.adoptions.utils.TimeBudget;
+import com.creatureadoption.adoptions.utils.exceptions.DownstreamUnavailableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * Circuit breaker and bulkhead per downstream service, named after it (customers, creatures, trainings)
+ * and configured under resilience4j in application.yml. A call is refused without touching the network
+ * when the breaker is open, when the downstream already has as many calls in flight as its bulkhead
+ * allows, or when the request's {@link TimeBudget} is used up; it then fails with a
+ * DownstreamUnavailableException, so enrichment degrades to a partial response at once.
+ * Breaker state is served by the circuitbreakers actuator endpoint and the resilience4j.* meters.
+ */
+@Slf4j
+@Component
+public class DownstreamGuards {
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+    private final MeterRegistry meterRegistry;
+
+    public DownstreamGuards(CircuitBreakerRegistry circuitBreakerRegistry,
+                            BulkheadRegistry bulkheadRegistry,
+                            MeterRegistry meterRegistry) {
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.bulkheadRegistry = bulkheadRegistry;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Guards with the resilience4j defaults, for clients built outside a Spring context.
+     */
+    public static DownstreamGuards ofDefaults() {
+        return new DownstreamGuards(CircuitBreakerRegistry.ofDefaults(), BulkheadRegistry.ofDefaults(), new SimpleMeterRegistry());
+    }
+
+    public <T> T call(String downstream, Supplier<T> call) {
+        if (TimeBudget.isExhausted()) {
+            throw rejected(downstream, "budget-exhausted", "the request's time budget is used up");
+        }
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(downstream);
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(downstream);
+        // The bulkhead is outermost so a refusal by it never counts as an outcome of the breaker
+        try {
+            return Bulkhead.decorateSupplier(bulkhead, CircuitBreaker.decorateSupplier(circuitBreaker, call)).get();
+        } catch (CallNotPermittedException e) {
+            throw rejected(downstream, "circuit-open", "its circuit breaker is open");
+        } catch (BulkheadFullException e) {
+            throw rejected(downstream, "bulkhead-full", "too many calls to it are already in flight");
+        }
+    }
+
+    public void run(String downstream, Runnable call) {
+        call(downstream, () -> {
+            call.run();
+            return null;
+        });
+    }
+
+    private DownstreamUnavailableException rejected(String downstream, String reason, String explanation) {
+        Counter.builder("client.calls.rejected")
+                .description("Downstream calls refused before reaching the network, by reason")
+                .tag("downstream", downstream)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+        log.debug("Skipped a call to the {} service: {}", downstream, explanation);
+        return new DownstreamUnavailableException("Skipped a call to the " + downstream + " service: " + explanation);
+    }
+}
@@ -0,0 +1,49 @@
+package com.creatureadoption.adoptions.domainclientlayer;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Connection pools of the outgoing HTTP client, under app.http-client. Every entry of pools serves the
+ * requests whose URL starts with its base-url; any other request goes through the fallback pool.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.http-client")
+public class HttpClientProperties {
+
+    private Pool fallback = new Pool();
+    private Map<String, Pool> pools = new LinkedHashMap<>();
+
+    @Data
+    public static class Pool {
+        private String baseUrl;
+        private int maxTotal = 50;
+        private int maxPerRoute = 50;
+        private long connectTimeoutMs = 2000;
+        // How long a call may wait for a free connection when the pool is fully leased
+        private long connectionRequestTimeoutMs = 1000;
+        private long responseTimeoutMs = 30000;
+        // Upper bound on how long an idle connection is kept for reuse, even if the server offers longer
+        private long keepAliveMs = 30000;
+        private long maxIdleMs = 60000;
+        // Without discovery, requests go to the host and port of the base-url
+        private Discovery discovery;
+    }
+
+    /**
+     * The instances of a downstream: every address dns-name resolves to, on port, or else the
+     * host:port entries of instances.
+     */
+    @Data
+    public static class Discovery {
+        private List<String> instances = new ArrayList<>();
+        private String dnsName;
+        private int port = 8080;
+        private String healthPath = "/actuator/health";
+    }
+}
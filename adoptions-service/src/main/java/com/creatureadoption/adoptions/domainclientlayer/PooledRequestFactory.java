@@ -0,0 +1,162 @@
+package com.creatureadoption.adoptions.domainclientlayer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.ConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.HttpStatus;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Sends every request through the connection pool of the downstream service it is addressed to, so a
+ * slow service can lease all of its own connections but none of another's. Each pool publishes its
+ * leased, pending and available connections as httpcomponents.httpclient.pool.* gauges tagged with
+ * the pool name, and evicts connections that sat idle past max-idle-ms.
+ * <p>
+ * A pool with discovery spreads its requests over the instances of its downstream: each request goes
+ * to the instance with fewer leased and pending connections of two picked at random, and the instances
+ * are re-resolved and health-checked in the background.
+ */
+public class PooledRequestFactory implements ClientHttpRequestFactory, Closeable {
+
+    static final String FALLBACK_POOL = "fallback";
+
+    private final List<CloseableHttpClient> httpClients = new ArrayList<>();
+    private final List<Route> routes = new ArrayList<>();
+    private final Route fallback;
+    private final CloseableHttpClient probeClient;
+
+    public PooledRequestFactory(HttpClientProperties properties, MeterRegistry meterRegistry) {
+        properties.getPools().forEach((name, pool) -> routes.add(route(name, pool.getBaseUrl(), pool, meterRegistry)));
+        // The most specific base URL wins when one is a prefix of another
+        routes.sort(Comparator.comparingInt((Route route) -> route.baseUrl().length()).reversed());
+        this.fallback = route(FALLBACK_POOL, "", properties.getFallback(), meterRegistry);
+        // Health checks get connections of their own, so a fully leased pool cannot fail its instances' checks
+        this.probeClient = HttpClients.custom()
+                .setConnectionManager(PoolingHttpClientConnectionManagerBuilder.create()
+                        .setDefaultConnectionConfig(ConnectionConfig.custom().setConnectTimeout(Timeout.ofSeconds(1)).build())
+                        .build())
+                .setDefaultRequestConfig(RequestConfig.custom().setResponseTimeout(Timeout.ofSeconds(1)).build())
+                .build();
+        httpClients.add(probeClient);
+    }
+
+    @Override
+    public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) throws IOException {
+        Route route = route(uri);
+        return route.requestFactory().createRequest(route.instances() == null ? uri : toInstance(route, uri), httpMethod);
+    }
+
+    String poolFor(URI uri) {
+        return route(uri).pool();
+    }
+
+    @Scheduled(fixedDelayString = "${app.http-client.health-check-interval-ms:5000}")
+    public void checkInstances() {
+        for (Route route : routes) {
+            if (route.instances() != null) {
+                route.instances().refresh(instance -> isHealthy(instance, route.instances().getHealthPath()));
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        httpClients.forEach(httpClient -> httpClient.close(CloseMode.GRACEFUL));
+    }
+
+    private URI toInstance(Route route, URI uri) throws IOException {
+        HttpHost instance = route.instances().choose(candidate -> load(route.connectionManager(), candidate));
+        if (instance == null) {
+            throw new IOException("No instance of the " + route.pool() + " service is known");
+        }
+        return UriComponentsBuilder.fromUri(uri).host(instance.getHostName()).port(instance.getPort()).build(true).toUri();
+    }
+
+    private static int load(PoolingHttpClientConnectionManager connectionManager, HttpHost instance) {
+        PoolStats stats = connectionManager.getStats(new HttpRoute(instance));
+        return stats.getLeased() + stats.getPending();
+    }
+
+    private boolean isHealthy(HttpHost instance, String healthPath) {
+        try {
+            return probeClient.execute(new HttpGet(instance.toURI() + healthPath), response -> {
+                EntityUtils.consume(response.getEntity());
+                return response.getCode() == HttpStatus.SC_OK;
+            });
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private Route route(URI uri) {
+        String url = uri.toString();
+        for (Route route : routes) {
+            if (url.startsWith(route.baseUrl())) {
+                return route;
+            }
+        }
+        return fallback;
+    }
+
+    private Route route(String name, String baseUrl, HttpClientProperties.Pool pool, MeterRegistry meterRegistry) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(pool.getMaxTotal())
+                .setMaxConnPerRoute(pool.getMaxPerRoute())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(pool.getConnectTimeoutMs()))
+                        // A connection that rested is checked before reuse, in case the server has closed it
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .build())
+                .build();
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, name).bindTo(meterRegistry);
+
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setKeepAliveStrategy(keepAliveAtMost(TimeValue.ofMilliseconds(pool.getKeepAliveMs())))
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(pool.getMaxIdleMs()))
+                .build();
+        httpClients.add(httpClient);
+        return new Route(name, baseUrl,
+                new BudgetedRequestFactory(httpClient, pool.getConnectionRequestTimeoutMs(), pool.getResponseTimeoutMs()),
+                connectionManager,
+                pool.getDiscovery() == null ? null : new ServiceInstances(name, pool.getDiscovery(), meterRegistry));
+    }
+
+    private static ConnectionKeepAliveStrategy keepAliveAtMost(TimeValue keepAlive) {
+        return (response, context) -> {
+            TimeValue offered = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            return offered.compareTo(keepAlive) < 0 ? offered : keepAlive;
+        };
+    }
+
+    private record Route(String pool, String baseUrl, ClientHttpRequestFactory requestFactory,
+                         PoolingHttpClientConnectionManager connectionManager, ServiceInstances instances) {
+    }
+}
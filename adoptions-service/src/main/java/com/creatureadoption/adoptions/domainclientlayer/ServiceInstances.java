@@ -0,0 +1,127 @@
+package com.creatureadoption.adoptions.domainclientlayer;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.core5.http.HttpHost;
+
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+/**
+ * The replicas of one downstream service, taken from a static list or from every address its DNS
+ * name resolves to, together with the outcome of their last health check. Instances are new until
+ * checked and count as healthy meanwhile.
+ */
+@Slf4j
+public class ServiceInstances {
+
+    private final String downstream;
+    private final HttpClientProperties.Discovery discovery;
+    private final Set<HttpHost> unhealthy = ConcurrentHashMap.newKeySet();
+    private volatile List<HttpHost> instances = List.of();
+
+    public ServiceInstances(String downstream, HttpClientProperties.Discovery discovery, MeterRegistry meterRegistry) {
+        this.downstream = downstream;
+        this.discovery = discovery;
+        resolve();
+        Gauge.builder("client.instances", this, ServiceInstances::healthyCount)
+                .description("Instances of a downstream service that passed their last health check")
+                .tags("downstream", downstream, "state", "healthy")
+                .register(meterRegistry);
+        Gauge.builder("client.instances", this, serviceInstances -> serviceInstances.unhealthy.size())
+                .description("Instances of a downstream service that failed their last health check")
+                .tags("downstream", downstream, "state", "unhealthy")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Power of two choices: of two healthy instances picked at random, the one with less load. When
+     * none is healthy, all are candidates, so the circuit breaker rather than a stale check decides
+     * whether the service is down.
+     *
+     * @return the chosen instance, or null when no instance is known at all
+     */
+    public HttpHost choose(ToIntFunction<HttpHost> load) {
+        List<HttpHost> current = instances;
+        List<HttpHost> candidates = current.stream().filter(instance -> !unhealthy.contains(instance)).toList();
+        if (candidates.isEmpty()) {
+            candidates = current;
+        }
+        if (candidates.size() <= 1) {
+            return candidates.isEmpty() ? null : candidates.get(0);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(candidates.size());
+        int second = random.nextInt(candidates.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+        HttpHost a = candidates.get(first);
+        HttpHost b = candidates.get(second);
+        return load.applyAsInt(a) <= load.applyAsInt(b) ? a : b;
+    }
+
+    /**
+     * Re-resolves the DNS name, if any, and health-checks every instance.
+     */
+    public void refresh(Predicate<HttpHost> isHealthy) {
+        resolve();
+        for (HttpHost instance : instances) {
+            if (isHealthy.test(instance)) {
+                if (unhealthy.remove(instance)) {
+                    log.info("Instance {} of the {} service is healthy again", instance, downstream);
+                }
+            } else if (unhealthy.add(instance)) {
+                log.warn("Instance {} of the {} service failed its health check", instance, downstream);
+            }
+        }
+    }
+
+    public String getHealthPath() {
+        return discovery.getHealthPath();
+    }
+
+    List<HttpHost> getInstances() {
+        return instances;
+    }
+
+    private int healthyCount() {
+        return (int) instances.stream().filter(instance -> !unhealthy.contains(instance)).count();
+    }
+
+    private void resolve() {
+        List<HttpHost> resolved;
+        if (discovery.getDnsName() != null) {
+            try {
+                resolved = Arrays.stream(InetAddress.getAllByName(discovery.getDnsName()))
+                        .map(address -> new HttpHost("http", address.getHostAddress(), discovery.getPort()))
+                        // DNS may hand out the addresses in any order, which is no change of instances
+                        .sorted(Comparator.comparing(HttpHost::toHostString))
+                        .toList();
+            } catch (UnknownHostException e) {
+                // Keep the last known instances; the name may only be missing from DNS for a moment
+                log.warn("Could not resolve the {} service at {}: {}", downstream, discovery.getDnsName(), e.getMessage());
+                return;
+            }
+        } else {
+            resolved = discovery.getInstances().stream()
+                    .map(instance -> HttpHost.create(URI.create("http://" + instance)))
+                    .toList();
+        }
+        if (!resolved.equals(instances)) {
+            log.info("Instances of the {} service: {}", downstream, resolved);
+            unhealthy.retainAll(resolved);
+            instances = resolved;
+        }
+    }
+}
@@ -8,11 +8,17 @@ import com.creatureadoption.adoptions.utils.exceptions.NotFoundException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
 import static org.springframework.http.HttpStatus.*;
 
@@ -20,27 +26,82 @@ import static org.springframework.http.HttpStatus.*;
 @Component
 public class TrainingServiceClient {
 
+    private static final String DOWNSTREAM = "trainings";
+
     private final RestTemplate restTemplate;
     private final ObjectMapper mapper;
     private final String TRAININGS_SERVICE_BASE_URL;
+    private final ClientCache<TrainingResponseModel> cache;
+    private final DownstreamGuards guards;
 
     public TrainingServiceClient(
             RestTemplate restTemplate,
             ObjectMapper mapper,
             @Value("${app.trainings-service.host}") String trainingsServiceHost,
-            @Value("${app.trainings-service.port}") String trainingsServicePort) {
+            @Value("${app.trainings-service.port}") String trainingsServicePort,
+            ClientCache<TrainingResponseModel> cache,
+            DownstreamGuards guards) {
 
         this.restTemplate = restTemplate;
         this.mapper = mapper;
         this.TRAININGS_SERVICE_BASE_URL = "http://" + trainingsServiceHost + ":" + trainingsServicePort + "/api/v1/trainings";
+        this.cache = cache;
+        this.guards = guards;
     }
 
     public TrainingResponseModel getTrainingByTrainingId(String trainingId) {
+        return cache.get(trainingId, this::fetchTraining);
+    }
+
+    public void evictTraining(String trainingId) {
+        cache.invalidate(trainingId);
+    }
+
+    private TrainingResponseModel fetchTraining(String trainingId) {
         try {
             String url = TRAININGS_SERVICE_BASE_URL + "/" + trainingId;
             log.debug("Calling Trainings-Service URL: {}", url);
 
-            return restTemplate.getForObject(url, TrainingResponseModel.class);
+            return guards.call(DOWNSTREAM, () -> restTemplate.getForObject(url, TrainingResponseModel.class));
+        } catch (HttpClientErrorException ex) {
+            throw handleHttpClientException(ex);
+        }
+    }
+
+    public List<TrainingResponseModel> getTrainingsByTrainingIds(Collection<String> trainingIds) {
+        if (trainingIds.isEmpty()) {
+            return List.of();
+        }
+        try {
+            String url = TRAININGS_SERVICE_BASE_URL + "/batch";
+            log.debug("Calling Trainings-Service URL: {} for {} ids", url, trainingIds.size());
+
+            List<TrainingResponseModel> trainings = guards.call(DOWNSTREAM, () -> restTemplate.exchange(
+                    url,
+                    HttpMethod.POST,
+                    new HttpEntity<>(new ArrayList<>(trainingIds)),
+                    new ParameterizedTypeReference<List<TrainingResponseModel>>() {}).getBody());
+            return trainings != null ? trainings : List.of();
+        } catch (HttpClientErrorException ex) {
+            throw handleHttpClientException(ex);
+        }
+    }
+
+    /**
+     * One page of trainings in trainingId order, starting after the given trainingId or at the first one when it is null.
+     * A page shorter than the limit is the last.
+     */
+    public List<TrainingResponseModel> getTrainingsPage(String after, int limit) {
+        try {
+            String url = TRAININGS_SERVICE_BASE_URL + "?limit=" + limit + (after != null ? "&after=" + after : "");
+            log.debug("Calling Trainings-Service URL: {}", url);
+
+            List<TrainingResponseModel> trainings = guards.call(DOWNSTREAM, () -> restTemplate.exchange(
+                    url,
+                    HttpMethod.GET,
+                    null,
+                    new ParameterizedTypeReference<List<TrainingResponseModel>>() {}).getBody());
+            return trainings != null ? trainings : List.of();
         } catch (HttpClientErrorException ex) {
             throw handleHttpClientException(ex);
         }
@@ -0,0 +1,18 @@
+package com.creatureadoption.adoptions.domainclientlayer.models;
+
+import com.creatureadoption.adoptions.dataaccesslayer.CreatureStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CreatureStatusRequestModel {
+    private CreatureStatus status;
+    private List<CreatureStatus> expectedStatuses;
+}
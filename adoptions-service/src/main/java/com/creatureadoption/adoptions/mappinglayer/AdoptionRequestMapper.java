@@ -12,6 +12,8 @@ public interface AdoptionRequestMapper {
 
     @Mappings({
             @Mapping(target = "id", ignore = true),
+            @Mapping(target = "adoptionCode", ignore = true),
+            @Mapping(target = "version", ignore = true),
             @Mapping(target = "lastUpdated", expression = "java(java.time.LocalDateTime.now())")
     })
     Adoption requestModelToEntity(AdoptionRequestModel adoptionRequestModel, AdoptionIdentifier adoptionIdentifier);
@@ -28,6 +28,7 @@ public interface AdoptionResponseMapper {
     @Mapping(target = "creatureStatus", ignore = true)
     @Mapping(target = "trainingName", ignore = true)
     @Mapping(target = "trainingLocation", ignore = true)
+    @Mapping(target = "partialDetails", ignore = true)
     AdoptionResponseModel entityToResponseModel(Adoption adoption);
 
     List<AdoptionResponseModel> entityListToResponseModelList(List<Adoption> adoptions);
@@ -35,7 +36,7 @@ public interface AdoptionResponseMapper {
     @AfterMapping
     default void addLinks(@MappingTarget AdoptionResponseModel response, Adoption adoption) {
         Link selfLink = linkTo(methodOn(AdoptionController.class)
-                .getAdoptionByAdoptionId(response.getAdoptionId()))
+                .getAdoptionByAdoptionId(response.getAdoptionId(), null, null))
                 .withSelfRel();
         response.add(selfLink);
 
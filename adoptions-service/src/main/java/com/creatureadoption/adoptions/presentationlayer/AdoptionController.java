@@ -1,14 +1,32 @@
 package com.creatureadoption.adoptions.presentationlayer;
 
+import com.creatureadoption.adoptions.businesslayer.AdoptionETags;
+import com.creatureadoption.adoptions.businesslayer.AdoptionExpansion;
+import com.creatureadoption.adoptions.businesslayer.AdoptionPage;
 import com.creatureadoption.adoptions.businesslayer.AdoptionService;
+import com.creatureadoption.adoptions.businesslayer.IdempotencyService;
 import com.creatureadoption.adoptions.utils.exceptions.InvalidInputException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
 
 @Slf4j
 @RestController
@@ -16,71 +34,158 @@ import java.util.Map;
 public class AdoptionController {
 
     private final AdoptionService adoptionService;
+    private final ObjectMapper objectMapper;
+    private final IdempotencyService idempotencyService;
     private static final int UUID_LENGTH = 36;
+    private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
 
-    public AdoptionController(AdoptionService adoptionService) {
+    public AdoptionController(AdoptionService adoptionService, ObjectMapper objectMapper,
+                              IdempotencyService idempotencyService) {
         this.adoptionService = adoptionService;
+        this.objectMapper = objectMapper;
+        this.idempotencyService = idempotencyService;
     }
 
     @GetMapping
     public ResponseEntity<List<AdoptionResponseModel>> getAdoptions(
             @RequestParam(required = false) Map<String, String> queryParams) {
+        validateFilterIds(queryParams);
 
-        if (queryParams.containsKey("adoptionId")) {
-            String adoptionId = queryParams.get("adoptionId");
-            if (adoptionId != null && adoptionId.length() != UUID_LENGTH) {
-                throw new InvalidInputException("Invalid adoptionId provided: " + adoptionId);
-            }
+        AdoptionPage page = adoptionService.getAdoptions(queryParams);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            // Same filters and sort, continuing after the last adoption of this page
+            Map<String, String> nextParams = new HashMap<>(queryParams);
+            nextParams.put("limit", String.valueOf(page.getLimit()));
+            nextParams.put("after", page.getNextCursor());
+            Link next = linkTo(methodOn(AdoptionController.class).getAdoptions(nextParams)).withRel(IanaLinkRelations.NEXT);
+            response.header(HttpHeaders.LINK, next.toString());
         }
+        return response.body(page.getAdoptions());
+    }
 
-        if (queryParams.containsKey("customerId")) {
-            String customerId = queryParams.get("customerId");
-            if (customerId != null && customerId.length() != UUID_LENGTH) {
-                throw new InvalidInputException("Invalid customerId provided: " + customerId);
-            }
-        }
+    // Takes the same filters as getAdoptions and writes one JSON adoption per line as batches come off the cursor
+    @GetMapping(value = "/export", produces = APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportAdoptions(
+            @RequestParam(required = false) Map<String, String> queryParams) {
+        validateFilterIds(queryParams);
 
-        if (queryParams.containsKey("creatureId")) {
-            String creatureId = queryParams.get("creatureId");
-            if (creatureId != null && creatureId.length() != UUID_LENGTH) {
-                throw new InvalidInputException("Invalid creatureId provided: " + creatureId);
+        StreamingResponseBody body = outputStream -> adoptionService.exportAdoptions(queryParams, batch -> {
+            try {
+                for (AdoptionResponseModel adoption : batch) {
+                    outputStream.write(objectMapper.writeValueAsBytes(adoption));
+                    outputStream.write('\n');
+                }
+                outputStream.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
             }
-        }
+        });
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
 
-        return ResponseEntity.ok().body(adoptionService.getAdoptions(queryParams));
+    // Counts by status, location and month from the statistics rollup; filters: location, fromMonth, toMonth
+    @GetMapping("/stats")
+    public ResponseEntity<AdoptionStatsResponseModel> getAdoptionStats(
+            @RequestParam(required = false) Map<String, String> queryParams) {
+        return ResponseEntity.ok().body(adoptionService.getAdoptionStats(queryParams));
     }
 
+    // Recounts the statistics rollup from the adoptions, e.g. after adoptions were written outside this service
+    @PostMapping("/stats/rebuild")
+    public ResponseEntity<Void> rebuildAdoptionStats() {
+        adoptionService.rebuildAdoptionStats();
+        return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
+    }
+
+    // Status changes over time from the status history; filters: from, to and bucket (hour, day, week or month)
+    @GetMapping("/funnel")
+    public ResponseEntity<AdoptionFunnelResponseModel> getAdoptionFunnel(
+            @RequestParam(required = false) Map<String, String> queryParams) {
+        return ResponseEntity.ok().body(adoptionService.getAdoptionFunnel(queryParams));
+    }
+
+    // expand=customer,creature,training picks the details to join in; all of them when it is absent
     @GetMapping("/{adoptionId}")
-    public ResponseEntity<AdoptionResponseModel> getAdoptionByAdoptionId(@PathVariable String adoptionId) {
+    public ResponseEntity<AdoptionResponseModel> getAdoptionByAdoptionId(
+            @PathVariable String adoptionId,
+            @RequestParam(required = false) String expand,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (adoptionId.length() != UUID_LENGTH) {
+            throw new InvalidInputException("Invalid adoptionId provided: " + adoptionId);
+        }
+        Set<AdoptionExpansion> expansions = AdoptionExpansion.parse(expand);
+        // A poll for an unchanged adoption is answered before any enrichment is done
+        if (ifNoneMatch != null) {
+            String eTag = adoptionService.getAdoptionETag(adoptionId, expansions);
+            if (eTag != null && AdoptionETags.matches(ifNoneMatch, eTag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+            }
+        }
+        return withETag(adoptionService.getAdoptionByAdoptionId(adoptionId, expansions));
+    }
+
+    // Oldest first; from and to take an ISO date or date-time, to being exclusive
+    @GetMapping("/{adoptionId}/history")
+    public ResponseEntity<List<AdoptionStatusHistoryEntryModel>> getAdoptionStatusHistory(
+            @PathVariable String adoptionId,
+            @RequestParam(required = false) Map<String, String> queryParams) {
         if (adoptionId.length() != UUID_LENGTH) {
             throw new InvalidInputException("Invalid adoptionId provided: " + adoptionId);
         }
-        return ResponseEntity.ok().body(adoptionService.getAdoptionByAdoptionId(adoptionId));
+        return ResponseEntity.ok().body(adoptionService.getAdoptionStatusHistory(adoptionId, queryParams));
     }
 
     @PostMapping()
-    public ResponseEntity<AdoptionResponseModel> addAdoption(@RequestBody AdoptionRequestModel adoptionRequestModel) {
-        return ResponseEntity.status(HttpStatus.CREATED).body(adoptionService.addAdoption(adoptionRequestModel));
+    public ResponseEntity<AdoptionResponseModel> addAdoption(
+            @RequestBody AdoptionRequestModel adoptionRequestModel,
+            @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return ResponseEntity.status(HttpStatus.CREATED).body(adoptionService.addAdoption(adoptionRequestModel));
+        }
+        // A retry with the same key gets the first response back instead of creating a second adoption
+        AdoptionResponseModel adoption = idempotencyService.execute(idempotencyKey, adoptionRequestModel,
+                AdoptionResponseModel.class, () -> adoptionService.addAdoption(adoptionRequestModel));
+        return ResponseEntity.status(HttpStatus.CREATED).header(IDEMPOTENCY_KEY, idempotencyKey).body(adoption);
     }
 
     @PutMapping("/{adoptionId}")
     public ResponseEntity<AdoptionResponseModel> updateAdoption(
             @RequestBody AdoptionRequestModel adoptionRequestModel,
-            @PathVariable String adoptionId) {
+            @PathVariable String adoptionId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         if (adoptionId.length() != UUID_LENGTH) {
             throw new InvalidInputException("Invalid adoptionId provided: " + adoptionId);
         }
-        return ResponseEntity.ok().body(adoptionService.updateAdoption(adoptionRequestModel, adoptionId));
+        return withETag(adoptionService.updateAdoption(adoptionRequestModel, adoptionId, requiredVersion(ifMatch)));
     }
 
     @PatchMapping("/{adoptionId}/status/{status}")
     public ResponseEntity<AdoptionResponseModel> updateAdoptionStatus(
             @PathVariable String adoptionId,
-            @PathVariable String status) {
+            @PathVariable String status,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         if (adoptionId.length() != UUID_LENGTH) {
             throw new InvalidInputException("Invalid adoptionId provided: " + adoptionId);
         }
-        return ResponseEntity.ok().body(adoptionService.updateAdoptionStatus(adoptionId, status));
+        return withETag(adoptionService.updateAdoptionStatus(adoptionId, status, requiredVersion(ifMatch)));
+    }
+
+    // Answers 200 with one result per adoption, whether or not that adoption could be moved
+    @PostMapping("/status-transitions")
+    public ResponseEntity<List<AdoptionStatusTransitionResultModel>> transitionAdoptionStatuses(
+            @RequestBody AdoptionStatusTransitionRequestModel request) {
+        if (request.getAdoptionIds() != null) {
+            for (String adoptionId : request.getAdoptionIds()) {
+                if (adoptionId == null || adoptionId.length() != UUID_LENGTH) {
+                    throw new InvalidInputException("Invalid adoptionId provided: " + adoptionId);
+                }
+            }
+        }
+        if (request.getFilter() != null) {
+            validateFilterIds(request.getFilter());
+        }
+        return ResponseEntity.ok().body(adoptionService.transitionAdoptionStatuses(request));
     }
 
     @DeleteMapping("/{adoptionId}")
@@ -91,4 +196,27 @@ public class AdoptionController {
         adoptionService.removeAdoption(adoptionId);
         return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
     }
-}
\ No newline at end of file
+
+    private static Long requiredVersion(String ifMatch) {
+        return ifMatch != null ? AdoptionETags.requiredVersion(ifMatch) : null;
+    }
+
+    // A response with partial details carries no ETag, so nothing is ever revalidated against missing details
+    private static ResponseEntity<AdoptionResponseModel> withETag(AdoptionResponseModel adoption) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        String eTag = adoption.isPartialDetails() ? null : AdoptionETags.of(adoption);
+        if (eTag != null) {
+            response.eTag(eTag);
+        }
+        return response.body(adoption);
+    }
+
+    private void validateFilterIds(Map<String, String> queryParams) {
+        for (String idParam : List.of("adoptionId", "customerId", "creatureId")) {
+            String id = queryParams.get(idParam);
+            if (id != null && id.length() != UUID_LENGTH) {
+                throw new InvalidInputException("Invalid " + idParam + " provided: " + id);
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.creatureadoption.adoptions.presentationlayer;
+
+import com.creatureadoption.adoptions.businesslayer.AdoptionEvent;
+import com.creatureadoption.adoptions.businesslayer.AdoptionEventFeed;
+import com.creatureadoption.adoptions.businesslayer.AdoptionEventSubscription;
+import com.creatureadoption.adoptions.dataaccesslayer.AdoptionFilter;
+import com.creatureadoption.adoptions.dataaccesslayer.AdoptionStatus;
+import com.creatureadoption.adoptions.utils.exceptions.InvalidInputException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Server-sent events of adoption changes, for clients that would otherwise poll the adoptions list
+ * to notice them. A client that reconnects sends the id of the last event it got as Last-Event-ID,
+ * which browsers do on their own, and continues where it left off.
+ */
+@Slf4j
+@RestController
+@RequestMapping("api/v1/adoptions")
+public class AdoptionEventController {
+
+    private final AdoptionEventFeed adoptionEventFeed;
+    private final long heartbeatMs;
+    private final long reconnectMs;
+    private static final int UUID_LENGTH = 36;
+
+    public AdoptionEventController(AdoptionEventFeed adoptionEventFeed,
+                                   @Value("${app.events.heartbeat-ms:15000}") long heartbeatMs,
+                                   @Value("${app.events.reconnect-ms:3000}") long reconnectMs) {
+        this.adoptionEventFeed = adoptionEventFeed;
+        this.heartbeatMs = heartbeatMs;
+        this.reconnectMs = reconnectMs;
+    }
+
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamAdoptionEvents(@RequestParam(required = false) String customerId,
+                                           @RequestParam(required = false) String creatureId,
+                                           @RequestParam(required = false) String adoptionStatus,
+                                           @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        validateId("customerId", customerId);
+        validateId("creatureId", creatureId);
+        AdoptionFilter filter = AdoptionFilter.builder()
+                .customerId(customerId)
+                .creatureId(creatureId)
+                .adoptionStatus(parseStatus(adoptionStatus))
+                .build();
+
+        AdoptionEventSubscription subscription = adoptionEventFeed.subscribe(filter, lastEventId);
+        SseEmitter emitter = new SseEmitter();
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(subscription::close);
+        emitter.onError(e -> subscription.close());
+        Thread.ofVirtual().name("adoption-events-sender").start(() -> send(subscription, emitter));
+        return emitter;
+    }
+
+    private void send(AdoptionEventSubscription subscription, SseEmitter emitter) {
+        try {
+            // Opens the stream at once, even when no event is due for a while
+            emitter.send(SseEmitter.event().comment("connected").reconnectTime(reconnectMs));
+            while (subscription.isOpen()) {
+                AdoptionEvent event = subscription.poll(Duration.ofMillis(heartbeatMs));
+                if (event == null) {
+                    // Keeps idle proxies from closing the connection, and finds out when the client has left
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                    continue;
+                }
+                SseEmitter.SseEventBuilder sse = SseEmitter.event().name(event.getName());
+                if (event.getId() != null) {
+                    sse.id(event.getId());
+                }
+                // Browsers drop an event without data, so a resync carries its name
+                if (event.getData() != null) {
+                    sse.data(event.getData(), MediaType.APPLICATION_JSON);
+                } else {
+                    sse.data(event.getName());
+                }
+                emitter.send(sse);
+            }
+            emitter.complete();
+        } catch (IOException | IllegalStateException e) {
+            // Sending failed or the emitter was already done, either way because the client left
+            log.debug("Adoption events client went away: {}", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            emitter.complete();
+        } finally {
+            subscription.close();
+        }
+    }
+
+    private static void validateId(String idParam, String id) {
+        if (id != null && id.length() != UUID_LENGTH) {
+            throw new InvalidInputException("Invalid " + idParam + " provided: " + id);
+        }
+    }
+
+    private static AdoptionStatus parseStatus(String adoptionStatus) {
+        if (adoptionStatus == null || adoptionStatus.isEmpty()) {
+            return null;
+        }
+        try {
+            return AdoptionStatus.valueOf(adoptionStatus.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidInputException("Invalid adoption status: " + adoptionStatus);
+        }
+    }
+}
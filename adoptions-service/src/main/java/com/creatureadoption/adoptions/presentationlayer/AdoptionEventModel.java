@@ -0,0 +1,48 @@
+package com.creatureadoption.adoptions.presentationlayer;
+
+import com.creatureadoption.adoptions.dataaccesslayer.Adoption;
+import com.creatureadoption.adoptions.dataaccesslayer.AdoptionStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * One change on the adoption events feed. It carries ids rather than customer, creature and training
+ * details, so publishing it costs no lookups; a client that needs the details reads the adoption.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdoptionEventModel {
+
+    private Change change;
+    private String adoptionId;
+    private Long version;
+    private AdoptionStatus adoptionStatus;
+    private LocalDateTime lastUpdated;
+    private String customerId;
+    private String creatureId;
+    private String trainingId;
+
+    public enum Change {
+        CREATED,
+        UPDATED
+    }
+
+    public static AdoptionEventModel from(Adoption adoption, Change change) {
+        return AdoptionEventModel.builder()
+                .change(change)
+                .adoptionId(adoption.getAdoptionIdentifier().getAdoptionId())
+                .version(adoption.getVersion())
+                .adoptionStatus(adoption.getAdoptionStatus())
+                .lastUpdated(adoption.getLastUpdated())
+                .customerId(adoption.getCustomerId())
+                .creatureId(adoption.getCreatureId())
+                .trainingId(adoption.getTrainingId())
+                .build();
+    }
+}
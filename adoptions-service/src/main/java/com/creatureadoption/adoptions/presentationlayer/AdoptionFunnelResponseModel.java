@@ -0,0 +1,52 @@
+package com.creatureadoption.adoptions.presentationlayer;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * How adoptions moved through the statuses between from (inclusive) and to (exclusive), per time bucket and
+ * over the whole range, keyed by status name.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdoptionFunnelResponseModel {
+
+    private LocalDateTime from;
+    private LocalDateTime to;
+    // hour, day, week (starting on Monday) or month
+    private String bucket;
+    private Map<String, StatusFlow> totals;
+    // Only buckets in which some adoption changed status, oldest first
+    private List<Bucket> buckets;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Bucket {
+
+        private LocalDateTime start;
+        private Map<String, StatusFlow> byStatus;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class StatusFlow {
+
+        // Adoptions created in, or moved into, the status
+        private long entered;
+        private long left;
+        // Over the adoptions that left the status and whose time in it is known; null if there are none
+        private Long averageTimeInStatusMs;
+    }
+}
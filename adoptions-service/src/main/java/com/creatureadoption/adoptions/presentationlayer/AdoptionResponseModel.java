@@ -3,6 +3,7 @@ package com.creatureadoption.adoptions.presentationlayer;
 import com.creatureadoption.adoptions.dataaccesslayer.AdoptionStatus;
 import com.creatureadoption.adoptions.dataaccesslayer.CreatureStatus;
 import com.creatureadoption.adoptions.dataaccesslayer.ProfileStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -22,25 +23,36 @@ public final class AdoptionResponseModel extends RepresentationModel<AdoptionRes
     Integer totalAdoptions;
     LocalDate profileCreationDate;
     LocalDateTime lastUpdated;
+    Long version;
     ProfileStatus profileStatus;
     LocalDate adoptionDate;
     String adoptionLocation;
     AdoptionStatus adoptionStatus;
     String specialNotes;
 
-    // Customer details
+    // Customer details; the joined ones are left out of the JSON unless expanded
     String customerId;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     String customerFirstName;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     String customerLastName;
 
     // Creature details
     String creatureId;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     String creatureName;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     String creatureSpecies;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     CreatureStatus creatureStatus;
 
     // Training details
     String trainingId;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     String trainingName;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     String trainingLocation;
+
+    // True when one of the enrichment lookups failed or missed its deadline
+    boolean partialDetails;
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.creatureadoption.adoptions.presentationlayer;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Adoption counts by status, overall and per adoption location and month (yyyy-MM), all keyed by status name.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdoptionStatsResponseModel {
+
+    private long total;
+    private Map<String, Long> byStatus;
+    private Map<String, Map<String, Long>> byLocation;
+    private Map<String, Map<String, Long>> byMonth;
+}
@@ -0,0 +1,40 @@
+package com.creatureadoption.adoptions.presentationlayer;
+
+import com.creatureadoption.adoptions.dataaccesslayer.AdoptionStatus;
+import com.creatureadoption.adoptions.dataaccesslayer.history.AdoptionStatusEvent;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * One status change of an adoption. previousStatus is null for the status the adoption was created with, status
+ * for the adoption's removal, which sets removed, and timeInPreviousStatusMs when the previous status was entered
+ * before history was kept.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdoptionStatusHistoryEntryModel {
+
+    private AdoptionStatus previousStatus;
+    private AdoptionStatus status;
+    private boolean removed;
+    private LocalDateTime timestamp;
+    private Long adoptionVersion;
+    private Long timeInPreviousStatusMs;
+
+    public static AdoptionStatusHistoryEntryModel from(AdoptionStatusEvent event) {
+        return AdoptionStatusHistoryEntryModel.builder()
+                .previousStatus(event.getPreviousStatus())
+                .status(event.getStatus())
+                .removed(event.isRemoved())
+                .timestamp(event.getTimestamp())
+                .adoptionVersion(event.getAdoptionVersion())
+                .timeInPreviousStatusMs(event.getTimeInPreviousStatusMs())
+                .build();
+    }
+}
@@ -0,0 +1,8 @@
+package com.creatureadoption.adoptions.presentationlayer;
+
+public enum AdoptionStatusTransitionOutcome {
+    UPDATED,
+    UNCHANGED,
+    NOT_FOUND,
+    REJECTED
+}
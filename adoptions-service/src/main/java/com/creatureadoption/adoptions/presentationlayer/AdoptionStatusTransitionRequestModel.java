@@ -0,0 +1,23 @@
+package com.creatureadoption.adoptions.presentationlayer;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Moves a set of adoptions to one status. The set is either the listed adoptionIds or every adoption
+ * matching the filter, which takes the same keys as the GET /api/v1/adoptions query parameters.
+ */
+@Value
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class AdoptionStatusTransitionRequestModel {
+
+    List<String> adoptionIds;
+    Map<String, String> filter;
+    String status;
+}
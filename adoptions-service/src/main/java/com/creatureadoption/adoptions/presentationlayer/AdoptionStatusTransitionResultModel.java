@@ -0,0 +1,20 @@
+package com.creatureadoption.adoptions.presentationlayer;
+
+import com.creatureadoption.adoptions.dataaccesslayer.AdoptionStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdoptionStatusTransitionResultModel {
+
+    private String adoptionId;
+    private AdoptionStatusTransitionOutcome outcome;
+    private AdoptionStatus previousStatus;
+    private AdoptionStatus adoptionStatus;
+    private String message;
+}
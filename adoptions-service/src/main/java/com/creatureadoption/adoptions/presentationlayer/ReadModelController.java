@@ -0,0 +1,81 @@
+package com.creatureadoption.adoptions.presentationlayer;
+
+import com.creatureadoption.adoptions.businesslayer.AdoptionReadModel;
+import com.creatureadoption.adoptions.domainclientlayer.models.CreatureResponseModel;
+import com.creatureadoption.adoptions.domainclientlayer.models.CustomerResponseModel;
+import com.creatureadoption.adoptions.domainclientlayer.models.TrainingResponseModel;
+import com.creatureadoption.adoptions.utils.exceptions.InvalidInputException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Receives change notifications for customers, creatures and trainings so the
+ * local summaries used to build adoption responses stay current.
+ */
+@Slf4j
+@RestController
+@RequestMapping("api/v1/read-model")
+public class ReadModelController {
+
+    private final AdoptionReadModel readModel;
+    private static final int UUID_LENGTH = 36;
+
+    public ReadModelController(AdoptionReadModel readModel) {
+        this.readModel = readModel;
+    }
+
+    @PutMapping("/customers/{customerId}")
+    public ResponseEntity<Void> customerChanged(@PathVariable String customerId,
+                                                @RequestBody CustomerResponseModel customer) {
+        validateId("customerId", customerId);
+        customer.setCustomerId(customerId);
+        readModel.upsertCustomer(customer);
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping("/customers/{customerId}")
+    public ResponseEntity<Void> customerRemoved(@PathVariable String customerId) {
+        validateId("customerId", customerId);
+        readModel.removeCustomer(customerId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PutMapping("/creatures/{creatureId}")
+    public ResponseEntity<Void> creatureChanged(@PathVariable String creatureId,
+                                                @RequestBody CreatureResponseModel creature) {
+        validateId("creatureId", creatureId);
+        creature.setCreatureId(creatureId);
+        readModel.upsertCreature(creature);
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping("/creatures/{creatureId}")
+    public ResponseEntity<Void> creatureRemoved(@PathVariable String creatureId) {
+        validateId("creatureId", creatureId);
+        readModel.removeCreature(creatureId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PutMapping("/trainings/{trainingId}")
+    public ResponseEntity<Void> trainingChanged(@PathVariable String trainingId,
+                                                @RequestBody TrainingResponseModel training) {
+        validateId("trainingId", trainingId);
+        training.setTrainingId(trainingId);
+        readModel.upsertTraining(training);
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping("/trainings/{trainingId}")
+    public ResponseEntity<Void> trainingRemoved(@PathVariable String trainingId) {
+        validateId("trainingId", trainingId);
+        readModel.removeTraining(trainingId);
+        return ResponseEntity.noContent().build();
+    }
+
+    private void validateId(String name, String id) {
+        if (id.length() != UUID_LENGTH) {
+            throw new InvalidInputException("Invalid " + name + " provided: " + id);
+        }
+    }
+}
@@ -20,11 +20,14 @@ import java.util.List;
 
 @Slf4j
 @Component
-@Profile({"default", "test", "docker"})
+// The synthetic profile loads generated data instead (see SyntheticDataGenerator)
+@Profile("(default | test | docker) & !synthetic")
 @RequiredArgsConstructor
 public class DatabaseLoaderService implements CommandLineRunner {
 
     private final AdoptionRepository adoptionRepository;
+    private final CustomerAdoptionStatsRepository customerAdoptionStatsRepository;
+    private final AdoptionStatsRepository adoptionStatsRepository;
     private final CustomerServiceClient customerServiceClient;
     private final CreatureServiceClient creatureServiceClient;
     private final TrainingServiceClient trainingServiceClient;
@@ -226,6 +229,10 @@ public class DatabaseLoaderService implements CommandLineRunner {
 
 
 
+        // The sample adoptions are saved directly, so recount them for the per-customer limit and the statistics
+        customerAdoptionStatsRepository.rebuild();
+        adoptionStatsRepository.rebuild();
+
         log.info("Sample adoption data loaded successfully.");
     }
 
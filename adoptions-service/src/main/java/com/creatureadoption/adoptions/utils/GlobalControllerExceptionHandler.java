@@ -1,10 +1,14 @@
 package com.creatureadoption.adoptions.utils;
 
 import com.creatureadoption.adoptions.utils.exceptions.AdoptionLimitExceededException;
+import com.creatureadoption.adoptions.utils.exceptions.DownstreamUnavailableException;
+import com.creatureadoption.adoptions.utils.exceptions.IdempotencyConflictException;
 import com.creatureadoption.adoptions.utils.exceptions.InvalidInputException;
 import com.creatureadoption.adoptions.utils.exceptions.NotFoundException;
+import com.creatureadoption.adoptions.utils.exceptions.PreconditionFailedException;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -36,13 +40,44 @@ public class GlobalControllerExceptionHandler {
         return createHttpErrorInfoResponseEntity(FORBIDDEN, request, ex);
     }
 
+    @ResponseStatus(CONFLICT)
+    @ExceptionHandler(IdempotencyConflictException.class)
+    public ResponseEntity<HttpErrorInfo> handleIdempotencyConflictException(WebRequest request, Exception ex) {
+        return createHttpErrorInfoResponseEntity(CONFLICT, request, ex, IdempotencyConflictException.ERROR_CODE);
+    }
+
+    // The adoption was written by someone else between this request's read and its write
+    @ResponseStatus(CONFLICT)
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<HttpErrorInfo> handleOptimisticLockingFailureException(WebRequest request, Exception ex) {
+        return createHttpErrorInfoResponseEntity(CONFLICT, request, ex);
+    }
+
+    @ResponseStatus(PRECONDITION_FAILED)
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<HttpErrorInfo> handlePreconditionFailedException(WebRequest request, Exception ex) {
+        return createHttpErrorInfoResponseEntity(PRECONDITION_FAILED, request, ex);
+    }
+
+    // A service the request cannot do without is refused by its circuit breaker or bulkhead, or out of time
+    @ResponseStatus(SERVICE_UNAVAILABLE)
+    @ExceptionHandler(DownstreamUnavailableException.class)
+    public ResponseEntity<HttpErrorInfo> handleDownstreamUnavailableException(WebRequest request, Exception ex) {
+        return createHttpErrorInfoResponseEntity(SERVICE_UNAVAILABLE, request, ex);
+    }
+
     private ResponseEntity<HttpErrorInfo> createHttpErrorInfoResponseEntity(HttpStatus httpStatus, WebRequest request, Exception ex) {
+        return createHttpErrorInfoResponseEntity(httpStatus, request, ex, null);
+    }
+
+    private ResponseEntity<HttpErrorInfo> createHttpErrorInfoResponseEntity(HttpStatus httpStatus, WebRequest request,
+                                                                            Exception ex, String errorCode) {
         final String path = request.getContextPath();
         final String message = ex.getMessage();
 
         log.debug("Returning HTTP status: {} for path: {}, message: {}", httpStatus, path, message);
 
-        HttpErrorInfo errorInfo = new HttpErrorInfo(httpStatus, path, message);
+        HttpErrorInfo errorInfo = new HttpErrorInfo(httpStatus, path, message, errorCode);
         return new ResponseEntity<>(errorInfo, httpStatus);
     }
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.creatureadoption.adoptions.utils;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Getter;
 import org.springframework.http.HttpStatus;
 
@@ -12,11 +14,20 @@ public class HttpErrorInfo {
     private final String path;
     private final HttpStatus httpStatus;
     private final String message;
+    // Tells apart errors that share a status, for callers that handle them differently
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final String errorCode;
 
     public HttpErrorInfo(HttpStatus httpStatus, String path, String message) {
+        this(httpStatus, path, message, null);
+    }
+
+    @JsonCreator
+    public HttpErrorInfo(HttpStatus httpStatus, String path, String message, String errorCode) {
         timestamp = ZonedDateTime.now();
         this.httpStatus = httpStatus;
         this.path = path;
         this.message = message;
+        this.errorCode = errorCode;
     }
 }
@@ -0,0 +1,202 @@
+package com.creatureadoption.adoptions.utils;
+
+import com.creatureadoption.adoptions.dataaccesslayer.*;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Fills MongoDB with a large, reproducible set of adoptions for load testing, in place of the hand-written
+ * sample data. The customers, creatures and trainings they point at come from the generators of the other
+ * services: every id is derived from the seed and an index, so the four services agree without talking to
+ * each other as long as they run with the same app.synthetic settings.
+ *
+ * <p>Creature {@code c} is adopted by adoptions {@code c}, {@code c + creatures}, ... and only the last of
+ * those is current; its status follows the creature status the creatures service generates for {@code c}.
+ * The earlier ones are cancelled or returned.
+ */
+@Slf4j
+@Component
+@Profile("synthetic")
+public class SyntheticDataGenerator implements CommandLineRunner {
+
+    static final List<String> LOCATIONS = List.of(
+            "Nimbasa City Adoption Center", "Castelia City Adoption Center", "Jubilife City Adoption Center",
+            "Hearthome City Adoption Center", "Veilstone City Adoption Center", "Accumula Town Adoption Center",
+            "Striaton City Adoption Center", "Driftveil City Adoption Center", "Mistralton City Adoption Center",
+            "Icirrus City Adoption Center", "Opelucid City Adoption Center", "Lacunosa Town Adoption Center",
+            "Undella Town Adoption Center", "Canalave City Adoption Center", "Snowpoint City Adoption Center",
+            "Sunyshore City Adoption Center", "Eterna City Adoption Center", "Oreburgh City Adoption Center",
+            "Pastoria City Adoption Center", "Solaceon Town Adoption Center");
+
+    // Same limit AdoptionServiceImpl enforces; creature statuses are generated so no customer exceeds it
+    static final int MAX_COMPLETED_PER_CUSTOMER = 2;
+    // Fixed instead of now() so two runs with the same seed produce the same documents
+    private static final LocalDateTime ANCHOR = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final int HISTORY_SECONDS = 2 * 365 * 24 * 3600;
+
+    private final MongoTemplate mongoTemplate;
+    private final AdoptionRepository adoptionRepository;
+    private final CustomerAdoptionStatsRepository customerAdoptionStatsRepository;
+    private final AdoptionStatsRepository adoptionStatsRepository;
+    private final long seed;
+    private final long customers;
+    private final long creatures;
+    private final long trainings;
+    private final long adoptions;
+    private final int batchSize;
+    private final int threads;
+
+    public SyntheticDataGenerator(MongoTemplate mongoTemplate,
+                                  AdoptionRepository adoptionRepository,
+                                  CustomerAdoptionStatsRepository customerAdoptionStatsRepository,
+                                  AdoptionStatsRepository adoptionStatsRepository,
+                                  @Value("${app.synthetic.seed:42}") long seed,
+                                  @Value("${app.synthetic.customers:200000}") long customers,
+                                  @Value("${app.synthetic.creatures:300000}") long creatures,
+                                  @Value("${app.synthetic.trainings:2000}") long trainings,
+                                  @Value("${app.synthetic.adoptions:1000000}") long adoptions,
+                                  @Value("${app.synthetic.batch-size:5000}") int batchSize,
+                                  @Value("${app.synthetic.threads:4}") int threads) {
+        this.mongoTemplate = mongoTemplate;
+        this.adoptionRepository = adoptionRepository;
+        this.customerAdoptionStatsRepository = customerAdoptionStatsRepository;
+        this.adoptionStatsRepository = adoptionStatsRepository;
+        this.seed = seed;
+        this.customers = customers;
+        this.creatures = creatures;
+        this.trainings = trainings;
+        this.adoptions = adoptions;
+        this.batchSize = batchSize;
+        this.threads = threads;
+    }
+
+    @Override
+    public void run(String... args) throws Exception {
+        log.info("Generating {} synthetic adoptions with seed {}...", adoptions, seed);
+        long started = System.currentTimeMillis();
+
+        adoptionRepository.deleteAll();
+
+        // Every document is derived from its own index, so batches can be built and inserted in any order
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            List<Future<?>> batches = new ArrayList<>();
+            for (long from = 0; from < adoptions; from += batchSize) {
+                long start = from;
+                long end = Math.min(from + batchSize, adoptions);
+                batches.add(executor.submit(() -> mongoTemplate.insert(generateAdoptions(start, end), Adoption.class)));
+            }
+            for (Future<?> batch : batches) {
+                batch.get();
+            }
+        }
+
+        // The adoptions are inserted directly, so recount them for the per-customer limit and the statistics
+        customerAdoptionStatsRepository.rebuild();
+        adoptionStatsRepository.rebuild();
+
+        log.info("Generated {} synthetic adoptions in {} ms", adoptions, System.currentTimeMillis() - started);
+    }
+
+    List<Adoption> generateAdoptions(long from, long to) {
+        List<Adoption> batch = new ArrayList<>((int) (to - from));
+        for (long index = from; index < to; index++) {
+            batch.add(generateAdoption(index));
+        }
+        return batch;
+    }
+
+    Adoption generateAdoption(long index) {
+        SplittableRandom random = random("adoption", index);
+        long creature = index % creatures;
+        boolean current = index / creatures == (adoptions - 1 - creature) / creatures;
+
+        AdoptionStatus status = current
+                ? adoptionStatusFor(creatureStatus(creature), random)
+                : (random.nextBoolean() ? AdoptionStatus.CANCELLED : AdoptionStatus.RETURNED);
+        // A completed adoption always goes to the customer creatureStatus reserved it for
+        long customer = status == AdoptionStatus.COMPLETED ? creature % customers : skewed(random, customers);
+
+        LocalDateTime lastUpdated = ANCHOR.minusSeconds(random.nextInt(HISTORY_SECONDS));
+        boolean open = status == AdoptionStatus.PENDING || status == AdoptionStatus.APPROVED;
+        boolean trained = random.nextInt(10) < 7;
+
+        return Adoption.builder()
+                .adoptionIdentifier(new AdoptionIdentifier(id("adoption", index), String.format("ADO-%08X", index)))
+                .summary("Synthetic adoption " + index)
+                .totalAdoptions(random.nextInt(3))
+                .profileCreationDate(lastUpdated.toLocalDate().minusDays(random.nextInt(365)))
+                .lastUpdated(lastUpdated)
+                .profileStatus(open || status == AdoptionStatus.COMPLETED ? ProfileStatus.ACTIVE : ProfileStatus.INACTIVE)
+                .adoptionDate(lastUpdated.toLocalDate().plusDays(random.nextInt(30)))
+                .adoptionLocation(LOCATIONS.get((int) skewed(random, LOCATIONS.size())))
+                .adoptionStatus(status)
+                .specialNotes(random.nextInt(4) == 0 ? "Needs a quiet home" : null)
+                .customerId(id("customer", customer))
+                .creatureId(id("creature", creature))
+                .trainingId(trained ? id("training", skewed(random, trainings)) : null)
+                .build();
+    }
+
+    /**
+     * The status the creatures service generates for creature {@code c}; kept in step with its generator.
+     * Creatures without an adoption are available or unavailable, and a creature is only adopted when its
+     * completed adoption fits under the customer's limit.
+     */
+    CreatureStatus creatureStatus(long creature) {
+        int roll = random("creature-status", creature).nextInt(100);
+        if (roll < 5) {
+            return CreatureStatus.UNAVAILABLE;
+        }
+        if (creature >= adoptions) {
+            return CreatureStatus.AVAILABLE;
+        }
+        if (roll < 35) {
+            return creature / customers < MAX_COMPLETED_PER_CUSTOMER ? CreatureStatus.ADOPTED : CreatureStatus.AVAILABLE;
+        }
+        if (roll < 45) {
+            return CreatureStatus.ADOPTION_PENDING;
+        }
+        if (roll < 55) {
+            return CreatureStatus.RESERVED;
+        }
+        return CreatureStatus.AVAILABLE;
+    }
+
+    private static AdoptionStatus adoptionStatusFor(CreatureStatus creatureStatus, SplittableRandom random) {
+        return switch (creatureStatus) {
+            case ADOPTED -> AdoptionStatus.COMPLETED;
+            case ADOPTION_PENDING -> AdoptionStatus.PENDING;
+            case RESERVED -> AdoptionStatus.APPROVED;
+            case UNAVAILABLE -> AdoptionStatus.CANCELLED;
+            case AVAILABLE -> random.nextBoolean() ? AdoptionStatus.CANCELLED : AdoptionStatus.RETURNED;
+        };
+    }
+
+    // Cubing a uniform draw piles most picks onto the lowest indexes: a few heavy customers, popular locations
+    private static long skewed(SplittableRandom random, long bound) {
+        double u = random.nextDouble();
+        return Math.min((long) (u * u * u * bound), bound - 1);
+    }
+
+    private SplittableRandom random(String kind, long index) {
+        return new SplittableRandom(seed ^ kind.hashCode() * 0x9E3779B97F4A7C15L ^ index * 0xC2B2AE3D27D4EB4FL);
+    }
+
+    private String id(String kind, long index) {
+        return UUID.nameUUIDFromBytes((seed + "/" + kind + "/" + index).getBytes(StandardCharsets.UTF_8)).toString();
+    }
+}
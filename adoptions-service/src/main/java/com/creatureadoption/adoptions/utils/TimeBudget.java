@@ -0,0 +1,76 @@
+package com.creatureadoption.adoptions.utils;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The deadline of the work the current thread does for one incoming request, as a System.nanoTime()
+ * value. Downstream calls made on the thread are bounded by what is left of it. Threads that work
+ * for the request on its behalf, such as enrichment branches, get the deadline through {@link #bind}.
+ */
+public final class TimeBudget {
+
+    private static final ThreadLocal<Long> DEADLINE = new ThreadLocal<>();
+
+    private TimeBudget() {
+    }
+
+    /**
+     * @return the deadline of the current thread, or null when its work is not bounded
+     */
+    public static Long deadline() {
+        return DEADLINE.get();
+    }
+
+    /**
+     * @return the milliseconds left before the deadline, at least 0, or null when there is no deadline
+     */
+    public static Long remainingMillis() {
+        Long deadline = DEADLINE.get();
+        return deadline == null ? null : Math.max(TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()), 0);
+    }
+
+    public static boolean isExhausted() {
+        Long deadline = DEADLINE.get();
+        return deadline != null && deadline - System.nanoTime() <= 0;
+    }
+
+    /**
+     * @return the earlier of the given deadline and the current thread's own
+     */
+    public static long tighten(long deadline) {
+        Long current = DEADLINE.get();
+        return current != null && current - deadline < 0 ? current : deadline;
+    }
+
+    /**
+     * Wraps the task so it runs under the given deadline on whichever thread executes it.
+     */
+    public static <T> Callable<T> bind(long deadline, Callable<T> task) {
+        return () -> {
+            Long previous = DEADLINE.get();
+            DEADLINE.set(deadline);
+            try {
+                return task.call();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    static void start(long deadline) {
+        DEADLINE.set(deadline);
+    }
+
+    static void clear() {
+        DEADLINE.remove();
+    }
+
+    private static void restore(Long previous) {
+        if (previous == null) {
+            DEADLINE.remove();
+        } else {
+            DEADLINE.set(previous);
+        }
+    }
+}
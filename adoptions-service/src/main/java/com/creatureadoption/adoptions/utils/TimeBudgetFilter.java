@@ -0,0 +1,53 @@
+package com.creatureadoption.adoptions.utils;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Starts the request's {@link TimeBudget} from the X-Time-Budget-Ms header a caller sends with the
+ * milliseconds it is still willing to wait. The budget is counted from the moment the request arrives,
+ * so time spent before enrichment starts is already spent. Requests without the header have no budget
+ * beyond the enrichment deadline.
+ */
+@Component
+public class TimeBudgetFilter extends OncePerRequestFilter {
+
+    public static final String TIME_BUDGET_HEADER = "X-Time-Budget-Ms";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long arrivedAt = System.nanoTime();
+        Long budgetMs = parse(request.getHeader(TIME_BUDGET_HEADER));
+        if (budgetMs == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        TimeBudget.start(arrivedAt + TimeUnit.MILLISECONDS.toNanos(budgetMs));
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            TimeBudget.clear();
+        }
+    }
+
+    // A malformed header is ignored rather than failing a request that would otherwise succeed
+    private static Long parse(String header) {
+        if (header == null) {
+            return null;
+        }
+        try {
+            long budgetMs = Long.parseLong(header.trim());
+            return budgetMs >= 0 ? budgetMs : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.creatureadoption.adoptions.utils.exceptions;
+
+public class DownstreamUnavailableException extends RuntimeException {
+    public DownstreamUnavailableException(String message) {
+        super(message);
+    }
+}
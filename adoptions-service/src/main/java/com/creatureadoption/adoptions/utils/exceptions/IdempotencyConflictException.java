@@ -0,0 +1,11 @@
+package com.creatureadoption.adoptions.utils.exceptions;
+
+public class IdempotencyConflictException extends RuntimeException {
+
+    // Sent with the 409, so a caller can tell a retry that is too early from any other conflict
+    public static final String ERROR_CODE = "IDEMPOTENCY_KEY_IN_PROGRESS";
+
+    public IdempotencyConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,182 @@
+package com.creatureadoption.adoptions.businesslayer;
+
+import com.creatureadoption.adoptions.dataaccesslayer.*;
+import com.creatureadoption.adoptions.dataaccesslayer.archive.AdoptionArchive;
+import com.creatureadoption.adoptions.dataaccesslayer.archive.AdoptionArchiveCheckpoint;
+import com.creatureadoption.adoptions.dataaccesslayer.archive.AdoptionArchiveCheckpointRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataMongoTest
+@ActiveProfiles("test")
+class AdoptionArchiverIntegrationTest {
+
+    private static final LocalDateTime LONG_AGO = LocalDateTime.now().minusDays(200);
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private AdoptionRepository adoptionRepository;
+
+    @Autowired
+    private AdoptionArchiveCheckpointRepository checkpointRepository;
+
+    private AdoptionArchive archive;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        adoptionRepository.deleteAll();
+        checkpointRepository.deleteAll();
+        mongoTemplate.remove(new Query(), AdoptionArchive.COLLECTION);
+        archive = new AdoptionArchive(mongoTemplate, checkpointRepository);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void archiveBatches_ShouldMoveOnlyOldTerminalAdoptions() {
+        // Arrange
+        Adoption cancelled = adoptionRepository.save(adoption(AdoptionStatus.CANCELLED, LONG_AGO));
+        Adoption returned = adoptionRepository.save(adoption(AdoptionStatus.RETURNED, LONG_AGO.plusMinutes(1)));
+        Adoption pending = adoptionRepository.save(adoption(AdoptionStatus.PENDING, LONG_AGO));
+        Adoption recentlyCancelled = adoptionRepository.save(adoption(AdoptionStatus.CANCELLED, LocalDateTime.now()));
+
+        // Act
+        int moved = archiver(1, 10).archiveBatches();
+
+        // Assert
+        assertEquals(2, moved);
+        assertEquals(List.of(pending.getId(), recentlyCancelled.getId()).stream().sorted().toList(),
+                adoptionRepository.findAll().stream().map(Adoption::getId).sorted().toList());
+        List<Document> archived = mongoTemplate.find(new Query(), Document.class, AdoptionArchive.COLLECTION);
+        assertEquals(2, archived.size());
+        assertTrue(archived.stream().allMatch(document -> document.getDate("archivedAt") != null));
+        Adoption restored = mongoTemplate.findById(returned.getId(), Adoption.class, AdoptionArchive.COLLECTION);
+        assertEquals(returned.getAdoptionIdentifier(), restored.getAdoptionIdentifier());
+        assertEquals(AdoptionStatus.RETURNED, restored.getAdoptionStatus());
+        assertNotNull(mongoTemplate.findById(cancelled.getId(), Adoption.class, AdoptionArchive.COLLECTION));
+        assertFalse(checkpointRepository.findAll().get(0).isInProgress());
+        assertEquals(2, meterRegistry.get("adoptions.archive.moved").counter().count());
+    }
+
+    @Test
+    void archiveBatches_CutShortByTheBatchLimit_ShouldResumeFromTheCheckpoint() {
+        // Arrange
+        for (int i = 0; i < 3; i++) {
+            adoptionRepository.save(adoption(AdoptionStatus.CANCELLED, LONG_AGO.plusMinutes(i)));
+        }
+        AdoptionArchiver archiver = archiver(1, 2);
+
+        // Act
+        int firstRun = archiver.archiveBatches();
+        AdoptionArchiveCheckpoint afterFirstRun = checkpointRepository.findAll().get(0);
+        int secondRun = archiver.archiveBatches();
+
+        // Assert
+        assertEquals(2, firstRun);
+        assertTrue(afterFirstRun.isInProgress());
+        assertEquals(2, afterFirstRun.getArchived());
+        assertEquals(1, secondRun);
+        AdoptionArchiveCheckpoint afterSecondRun = checkpointRepository.findAll().get(0);
+        assertFalse(afterSecondRun.isInProgress());
+        assertEquals(3, afterSecondRun.getArchived());
+        assertEquals(afterFirstRun.getCutoff(), afterSecondRun.getCutoff());
+        assertEquals(0, adoptionRepository.count());
+    }
+
+    @Test
+    void archive_ShouldLeaveAnAdoptionWrittenSinceItWasRead() {
+        // Arrange
+        Adoption read = adoptionRepository.save(adoption(AdoptionStatus.CANCELLED, LONG_AGO));
+        Adoption written = adoptionRepository.findById(read.getId()).orElseThrow();
+        written.setSpecialNotes("Written after the archiver read it");
+        adoptionRepository.save(written);
+        AdoptionArchiveCheckpoint checkpoint = AdoptionArchiveCheckpoint.builder().id("test").build();
+        checkpoint.start(LocalDateTime.now(), LocalDateTime.now());
+
+        // Act
+        int moved = archive.archive(List.of(read), checkpoint);
+
+        // Assert
+        assertEquals(0, moved);
+        assertEquals(1, adoptionRepository.count());
+        assertEquals(0, mongoTemplate.count(new Query(), AdoptionArchive.COLLECTION));
+    }
+
+    @Test
+    void findPageByFilterIncludingArchive_ShouldPageOverBothTiersInKeysetOrder() {
+        // Arrange
+        String customerId = UUID.randomUUID().toString();
+        for (int i = 0; i < 4; i++) {
+            Adoption adoption = adoption(i % 2 == 0 ? AdoptionStatus.CANCELLED : AdoptionStatus.PENDING, LONG_AGO.plusMinutes(i));
+            adoption.setCustomerId(customerId);
+            adoptionRepository.save(adoption);
+        }
+        archiver(10, 1).archiveBatches();
+        AdoptionFilter filter = AdoptionFilter.builder().customerId(customerId).build();
+
+        // Act
+        List<Adoption> firstPage = adoptionRepository.findPageByFilterIncludingArchive(filter, null, Sort.Direction.DESC, 3);
+        List<Adoption> secondPage = adoptionRepository.findPageByFilterIncludingArchive(filter,
+                AdoptionCursor.of(firstPage.get(2)), Sort.Direction.DESC, 3);
+
+        // Assert
+        assertEquals(2, adoptionRepository.findPageByFilter(filter, null, Sort.Direction.DESC, 10).size());
+        assertEquals(List.of(AdoptionStatus.PENDING, AdoptionStatus.CANCELLED, AdoptionStatus.PENDING),
+                firstPage.stream().map(Adoption::getAdoptionStatus).toList());
+        assertEquals(1, secondPage.size());
+        assertEquals(AdoptionStatus.CANCELLED, secondPage.get(0).getAdoptionStatus());
+    }
+
+    @Test
+    void findPageByFilterIncludingArchive_ShouldTakeAnAdoptionSeenInBothTiersOnce() {
+        // Arrange
+        String customerId = UUID.randomUUID().toString();
+        Adoption moving = adoption(AdoptionStatus.CANCELLED, LONG_AGO);
+        moving.setCustomerId(customerId);
+        adoptionRepository.save(moving);
+        // As read while the archiver moves it: still live, and already archived
+        mongoTemplate.insert(adoptionRepository.findById(moving.getId()).orElseThrow(), AdoptionArchive.COLLECTION);
+        Adoption live = adoption(AdoptionStatus.PENDING, LONG_AGO.plusMinutes(1));
+        live.setCustomerId(customerId);
+        adoptionRepository.save(live);
+
+        // Act
+        List<Adoption> page = adoptionRepository.findPageByFilterIncludingArchive(
+                AdoptionFilter.builder().customerId(customerId).build(), null, Sort.Direction.DESC, 3);
+
+        // Assert
+        assertEquals(List.of(live.getId(), moving.getId()), page.stream().map(Adoption::getId).toList());
+    }
+
+    private AdoptionArchiver archiver(int batchSize, int maxBatchesPerRun) {
+        return new AdoptionArchiver(archive, checkpointRepository, meterRegistry, true, 90, batchSize, maxBatchesPerRun, 0);
+    }
+
+    private static Adoption adoption(AdoptionStatus status, LocalDateTime lastUpdated) {
+        return Adoption.builder()
+                .adoptionIdentifier(new AdoptionIdentifier(null))
+                .summary("Archive adoption")
+                .lastUpdated(lastUpdated)
+                .profileStatus(ProfileStatus.ACTIVE)
+                .adoptionStatus(status)
+                .customerId(UUID.randomUUID().toString())
+                .creatureId(UUID.randomUUID().toString())
+                .build();
+    }
+}
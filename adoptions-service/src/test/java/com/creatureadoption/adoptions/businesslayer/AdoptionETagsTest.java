@@ -0,0 +1,62 @@
+package com.creatureadoption.adoptions.businesslayer;
+
+import com.creatureadoption.adoptions.dataaccesslayer.CreatureStatus;
+import com.creatureadoption.adoptions.presentationlayer.AdoptionResponseModel;
+import com.creatureadoption.adoptions.utils.exceptions.InvalidInputException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdoptionETagsTest {
+
+    @Test
+    void of_ShouldChangeWithTheVersionAndTheDetails() {
+        // Arrange
+        AdoptionResponseModel adoption = adoption(5L);
+        String eTag = AdoptionETags.of(adoption);
+
+        // Act
+        AdoptionResponseModel written = adoption(6L);
+        AdoptionResponseModel renamed = adoption(5L);
+        renamed.setCreatureName("Raichu");
+
+        // Assert
+        assertTrue(eTag.matches("\"5-[0-9a-f]{16}\""));
+        assertEquals(eTag, AdoptionETags.of(adoption(5L)));
+        assertNotEquals(eTag, AdoptionETags.of(written));
+        assertNotEquals(eTag, AdoptionETags.of(renamed));
+        assertNull(AdoptionETags.of(adoption(null)));
+    }
+
+    @Test
+    void matches_ShouldCompareWeaklyAgainstEveryListedTag() {
+        String eTag = "\"5-0123456789abcdef\"";
+
+        assertTrue(AdoptionETags.matches(eTag, eTag));
+        assertTrue(AdoptionETags.matches("\"4-aaaaaaaaaaaaaaaa\", W/" + eTag, eTag));
+        assertTrue(AdoptionETags.matches("*", eTag));
+        assertFalse(AdoptionETags.matches("\"4-0123456789abcdef\"", eTag));
+    }
+
+    @Test
+    void requiredVersion_ShouldReadTheVersionOfAStrongTag() {
+        assertEquals(5L, AdoptionETags.requiredVersion("\"5-0123456789abcdef\""));
+        assertEquals(5L, AdoptionETags.requiredVersion("\"5-0123456789abcdef\", \"5-fedcba9876543210\""));
+        assertNull(AdoptionETags.requiredVersion("*"));
+        assertEquals(-1L, AdoptionETags.requiredVersion("W/\"5-0123456789abcdef\""));
+        assertEquals(-1L, AdoptionETags.requiredVersion("\"not-ours\""));
+        assertThrows(InvalidInputException.class, () ->
+                AdoptionETags.requiredVersion("\"4-0123456789abcdef\", \"5-0123456789abcdef\""));
+    }
+
+    private static AdoptionResponseModel adoption(Long version) {
+        AdoptionResponseModel adoption = new AdoptionResponseModel();
+        adoption.setVersion(version);
+        adoption.setCustomerFirstName("Ash");
+        adoption.setCustomerLastName("Ketchum");
+        adoption.setCreatureName("Pikachu");
+        adoption.setCreatureSpecies("Electric Mouse");
+        adoption.setCreatureStatus(CreatureStatus.RESERVED);
+        return adoption;
+    }
+}
@@ -0,0 +1,144 @@
+package com.creatureadoption.adoptions.businesslayer;
+
+import com.creatureadoption.adoptions.dataaccesslayer.*;
+import com.creatureadoption.adoptions.dataaccesslayer.migration.AdoptionIdMigration;
+import com.creatureadoption.adoptions.presentationlayer.AdoptionEventModel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataMongoTest
+@ActiveProfiles("test")
+class AdoptionEventFeedIntegrationTest {
+
+    private static final Duration WAIT = Duration.ofSeconds(10);
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private AdoptionRepository adoptionRepository;
+
+    private AdoptionEventFeed feed;
+
+    @BeforeEach
+    void setUp() {
+        adoptionRepository.deleteAll();
+        // Short waits on the server, so stopping the feed does not hold up the next test
+        feed = new AdoptionEventFeed(new AdoptionChangeStream(mongoTemplate), new SimpleMeterRegistry(),
+                100, 100, 200, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        feed.stop();
+    }
+
+    @Test
+    void subscribe_ShouldDeliverTheNewAdoptionsAndStatusChangesOfTheFilteredCustomer() throws Exception {
+        // Arrange
+        String customerId = UUID.randomUUID().toString();
+        AdoptionEventSubscription subscription = feed.subscribe(
+                AdoptionFilter.builder().customerId(customerId).build(), null);
+
+        // Act
+        Adoption adoption = adoptionRepository.save(adoption(customerId));
+        adoptionRepository.save(adoption(UUID.randomUUID().toString()));
+        adoption.updateAdoptionStatus(AdoptionStatus.APPROVED);
+        adoptionRepository.updateStatuses(List.of(adoption));
+
+        // Assert
+        AdoptionEvent created = subscription.poll(WAIT);
+        assertEquals(AdoptionEvent.ADOPTION, created.getName());
+        assertNotNull(created.getId());
+        assertEquals(AdoptionEventModel.Change.CREATED, created.getData().getChange());
+        assertEquals(adoption.getAdoptionIdentifier().getAdoptionId(), created.getData().getAdoptionId());
+        assertEquals(AdoptionStatus.PENDING, created.getData().getAdoptionStatus());
+
+        AdoptionEvent updated = subscription.poll(WAIT);
+        assertEquals(AdoptionEventModel.Change.UPDATED, updated.getData().getChange());
+        assertEquals(AdoptionStatus.APPROVED, updated.getData().getAdoptionStatus());
+        assertNull(subscription.poll(Duration.ofMillis(500)));
+    }
+
+    @Test
+    void subscribe_WithTheIdOfTheLastEventSeen_ShouldSendTheEventsMissedSince() throws Exception {
+        // Arrange
+        AdoptionEventSubscription first = feed.subscribe(new AdoptionFilter(), null);
+        Adoption seen = adoptionRepository.save(adoption(UUID.randomUUID().toString()));
+        Adoption missed = adoptionRepository.save(adoption(UUID.randomUUID().toString()));
+        String lastEventId = first.poll(WAIT).getId();
+        assertEquals(missed.getAdoptionIdentifier().getAdoptionId(), first.poll(WAIT).getData().getAdoptionId());
+        first.close();
+
+        // Act
+        AdoptionEventSubscription reconnected = feed.subscribe(new AdoptionFilter(), lastEventId);
+
+        // Assert
+        AdoptionEvent event = reconnected.poll(WAIT);
+        assertEquals(missed.getAdoptionIdentifier().getAdoptionId(), event.getData().getAdoptionId());
+        assertNotEquals(seen.getAdoptionIdentifier().getAdoptionId(), event.getData().getAdoptionId());
+        assertNull(reconnected.poll(Duration.ofMillis(500)));
+    }
+
+    @Test
+    void subscribe_ShouldNotTellTheIdMigrationsRewritesAsNewAdoptions() throws Exception {
+        // Arrange
+        String customerId = UUID.randomUUID().toString();
+        mongoTemplate.insert(new Document("_id", new ObjectId())
+                .append("adoptionIdentifier", new Document("adoptionId", UUID.randomUUID().toString()).append("adoptionCode", "ADO-LEGACY"))
+                .append("version", 0L)
+                .append("adoptionStatus", AdoptionStatus.PENDING.name())
+                .append("customerId", customerId), "adoptions");
+        AdoptionEventSubscription subscription = feed.subscribe(
+                AdoptionFilter.builder().customerId(customerId).build(), null);
+        AdoptionIdMigration migration = new AdoptionIdMigration(mongoTemplate);
+
+        // Act
+        migration.migrate("adoptions", migration.findLegacy("adoptions", 10));
+        Adoption created = adoptionRepository.save(adoption(customerId));
+
+        // Assert
+        AdoptionEvent event = subscription.poll(WAIT);
+        assertEquals(created.getAdoptionIdentifier().getAdoptionId(), event.getData().getAdoptionId());
+        assertNull(subscription.poll(Duration.ofMillis(500)));
+    }
+
+    @Test
+    void subscribe_WithAnIdNoLongerKept_ShouldAskTheListenerToResync() throws Exception {
+        // Act
+        AdoptionEventSubscription subscription = feed.subscribe(new AdoptionFilter(), "8263A1B2C3000000012B0229296E04");
+
+        // Assert
+        AdoptionEvent event = subscription.poll(WAIT);
+        assertEquals(AdoptionEvent.RESYNC, event.getName());
+        assertNull(event.getData());
+    }
+
+    private static Adoption adoption(String customerId) {
+        return Adoption.builder()
+                .adoptionIdentifier(new AdoptionIdentifier(null))
+                .summary("Event feed adoption")
+                .lastUpdated(LocalDateTime.now())
+                .profileStatus(ProfileStatus.ACTIVE)
+                .adoptionStatus(AdoptionStatus.PENDING)
+                .customerId(customerId)
+                .creatureId(UUID.randomUUID().toString())
+                .trainingId(UUID.randomUUID().toString())
+                .build();
+    }
+}
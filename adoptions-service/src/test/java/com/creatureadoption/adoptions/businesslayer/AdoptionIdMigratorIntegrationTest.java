@@ -0,0 +1,164 @@
+package com.creatureadoption.adoptions.businesslayer;
+
+import com.creatureadoption.adoptions.dataaccesslayer.*;
+import com.creatureadoption.adoptions.dataaccesslayer.archive.AdoptionArchive;
+import com.creatureadoption.adoptions.dataaccesslayer.migration.AdoptionIdMigration;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataMongoTest
+@ActiveProfiles("test")
+class AdoptionIdMigratorIntegrationTest {
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private AdoptionRepository adoptionRepository;
+
+    private AdoptionIdMigration migration;
+
+    @BeforeEach
+    void setUp() {
+        adoptionRepository.deleteAll();
+        mongoTemplate.remove(new Query(), AdoptionArchive.COLLECTION);
+        migration = new AdoptionIdMigration(mongoTemplate);
+    }
+
+    @Test
+    void migrateBatches_ShouldRewriteLegacyAdoptionsSoTheyAreFoundByTheirAdoptionId() {
+        // Arrange
+        String adoptionId = UUID.randomUUID().toString();
+        String customerId = UUID.randomUUID().toString();
+        mongoTemplate.insert(legacy(adoptionId, customerId, 3L), "adoptions");
+        for (int i = 0; i < 4; i++) {
+            mongoTemplate.insert(legacy(UUID.randomUUID().toString(), customerId, 0L), "adoptions");
+        }
+        String archivedId = UUID.randomUUID().toString();
+        mongoTemplate.insert(legacy(archivedId, customerId, 1L).append("archivedAt", new Date()), AdoptionArchive.COLLECTION);
+
+        // Act
+        AdoptionIdMigrator migrator = migrator(2, 10);
+        int rewritten = migrator.migrateBatches();
+
+        // Assert
+        assertEquals(6, rewritten);
+        assertTrue(migrator.isCompleted());
+        Adoption adoption = adoptionRepository.findByAdoptionIdentifier_AdoptionId(adoptionId);
+        assertNotNull(adoption);
+        assertEquals("ADO-LEGACY", adoption.getAdoptionIdentifier().getAdoptionCode());
+        assertEquals(customerId, adoption.getCustomerId());
+        assertNull(adoption.getTrainingId());
+        assertEquals(3L, adoption.getVersion());
+        assertEquals(5, adoptionRepository.findByCustomerId(customerId).size());
+        Document archived = mongoTemplate.getCollection(AdoptionArchive.COLLECTION).find().first();
+        assertEquals(UUID.fromString(archivedId), archived.get("_id"));
+        assertNotNull(archived.getDate("archivedAt"));
+    }
+
+    @Test
+    void migrateBatches_ShouldStopAtTheBatchLimitAndCarryOnInTheNextRun() {
+        // Arrange
+        mongoTemplate.indexOps("adoptions").ensureIndex(
+                new Index().named("adoption_id_idx").on("adoptionIdentifier.adoptionId", Sort.Direction.ASC));
+        for (int i = 0; i < 5; i++) {
+            mongoTemplate.insert(legacy(UUID.randomUUID().toString(), UUID.randomUUID().toString(), 0L), "adoptions");
+        }
+        AdoptionIdMigrator migrator = migrator(2, 2);
+
+        // Act
+        int first = migrator.migrateBatches();
+        int second = migrator.migrateBatches();
+
+        // Assert
+        assertEquals(4, first);
+        assertEquals(1, second);
+        assertTrue(migrator.isCompleted());
+        assertTrue(migration.findLegacy("adoptions", 10).isEmpty());
+        assertTrue(mongoTemplate.indexOps("adoptions").getIndexInfo().stream()
+                .noneMatch(index -> index.getName().equals("adoption_id_idx")));
+    }
+
+    @Test
+    void findByAdoptionIdentifier_AdoptionId_ShouldFindALegacyAdoptionUntilTheMigrationIsDone() {
+        // Arrange
+        mongoTemplate.indexOps("adoptions").ensureIndex(
+                new Index().named("adoption_id_idx").on("adoptionIdentifier.adoptionId", Sort.Direction.ASC));
+        String adoptionId = UUID.randomUUID().toString();
+        String customerId = UUID.randomUUID().toString();
+        mongoTemplate.insert(legacy(adoptionId, customerId, 2L), "adoptions");
+
+        // Act
+        Adoption legacy = adoptionRepository.findByAdoptionIdentifier_AdoptionId(adoptionId);
+        migrator(10, 10).migrateBatches();
+
+        // Assert
+        assertNotNull(legacy);
+        assertEquals(adoptionId, legacy.getAdoptionIdentifier().getAdoptionId());
+        assertEquals(customerId, legacy.getCustomerId());
+        assertEquals(2L, legacy.getVersion());
+        assertEquals(legacy.getId(), adoptionRepository.findByAdoptionIdentifier_AdoptionId(adoptionId).getId());
+        assertNull(adoptionRepository.findByAdoptionIdentifier_AdoptionId(UUID.randomUUID().toString()));
+    }
+
+    @Test
+    void migrate_ShouldRollBackABatchWithAnAdoptionChangedSinceItWasRead() {
+        // Arrange
+        mongoTemplate.insert(legacy(UUID.randomUUID().toString(), UUID.randomUUID().toString(), 0L), "adoptions");
+        List<Document> read = migration.findLegacy("adoptions", 10);
+        mongoTemplate.getCollection("adoptions").updateOne(new Document("_id", read.get(0).get("_id")),
+                new Document("$inc", new Document("version", 1)));
+
+        // Act & Assert
+        assertThrows(OptimisticLockingFailureException.class,
+                () -> migration.migrate("adoptions", read));
+        assertEquals(1, migration.findLegacy("adoptions", 10).size());
+    }
+
+    @Test
+    void migrate_ShouldFlagAnAdoptionIdThatIsNoUuidAndPassOverIt() {
+        // Arrange
+        mongoTemplate.insert(legacy("not-a-uuid", UUID.randomUUID().toString(), 0L), "adoptions");
+
+        // Act
+        int rewritten = migrator(10, 10).migrateBatches();
+
+        // Assert
+        assertEquals(0, rewritten);
+        assertTrue(migration.findLegacy("adoptions", 10).isEmpty());
+        assertEquals(1, mongoTemplate.getCollection("adoptions").countDocuments(new Document("idMigrationFailed", true)));
+    }
+
+    private AdoptionIdMigrator migrator(int batchSize, int maxBatchesPerRun) {
+        return new AdoptionIdMigrator(migration, new SimpleMeterRegistry(), true, batchSize, maxBatchesPerRun, 0);
+    }
+
+    // An adoption as written before the adoptionId became the _id
+    private static Document legacy(String adoptionId, String customerId, long version) {
+        return new Document("_id", new ObjectId())
+                .append("adoptionIdentifier", new Document("adoptionId", adoptionId).append("adoptionCode", "ADO-LEGACY"))
+                .append("version", version)
+                .append("summary", "Legacy adoption")
+                .append("adoptionStatus", AdoptionStatus.PENDING.name())
+                .append("customerId", customerId)
+                .append("creatureId", UUID.randomUUID().toString())
+                .append("trainingId", null);
+    }
+}
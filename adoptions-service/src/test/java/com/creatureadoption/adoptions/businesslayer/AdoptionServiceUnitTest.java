@@ -1,28 +1,51 @@
 package com.creatureadoption.adoptions.businesslayer;
 
 import com.creatureadoption.adoptions.dataaccesslayer.*;
+import com.creatureadoption.adoptions.dataaccesslayer.history.AdoptionStatusEvent;
+import com.creatureadoption.adoptions.dataaccesslayer.history.AdoptionStatusEventRepository;
+import com.creatureadoption.adoptions.dataaccesslayer.history.AdoptionStatusTransitionCount;
+import com.creatureadoption.adoptions.dataaccesslayer.readmodel.CreatureSummary;
+import com.creatureadoption.adoptions.dataaccesslayer.readmodel.CreatureSummaryRepository;
+import com.creatureadoption.adoptions.dataaccesslayer.readmodel.CustomerSummary;
+import com.creatureadoption.adoptions.dataaccesslayer.readmodel.CustomerSummaryRepository;
+import com.creatureadoption.adoptions.dataaccesslayer.readmodel.TrainingSummary;
+import com.creatureadoption.adoptions.dataaccesslayer.readmodel.TrainingSummaryRepository;
+import com.creatureadoption.adoptions.domainclientlayer.ClientCache;
 import com.creatureadoption.adoptions.domainclientlayer.CreatureServiceClient;
 import com.creatureadoption.adoptions.domainclientlayer.CustomerServiceClient;
+import com.creatureadoption.adoptions.domainclientlayer.DownstreamGuards;
 import com.creatureadoption.adoptions.domainclientlayer.TrainingServiceClient;
 import com.creatureadoption.adoptions.domainclientlayer.models.CreatureResponseModel;
 import com.creatureadoption.adoptions.domainclientlayer.models.CustomerResponseModel;
 import com.creatureadoption.adoptions.domainclientlayer.models.TrainingResponseModel;
 import com.creatureadoption.adoptions.mappinglayer.AdoptionRequestMapper;
 import com.creatureadoption.adoptions.mappinglayer.AdoptionResponseMapper;
+import com.creatureadoption.adoptions.presentationlayer.AdoptionFunnelResponseModel;
 import com.creatureadoption.adoptions.presentationlayer.AdoptionRequestModel;
 import com.creatureadoption.adoptions.presentationlayer.AdoptionResponseModel;
+import com.creatureadoption.adoptions.presentationlayer.AdoptionStatsResponseModel;
+import com.creatureadoption.adoptions.presentationlayer.AdoptionStatusHistoryEntryModel;
+import com.creatureadoption.adoptions.presentationlayer.AdoptionStatusTransitionOutcome;
+import com.creatureadoption.adoptions.presentationlayer.AdoptionStatusTransitionRequestModel;
+import com.creatureadoption.adoptions.presentationlayer.AdoptionStatusTransitionResultModel;
 import com.creatureadoption.adoptions.utils.HttpErrorInfo;
 import com.creatureadoption.adoptions.utils.exceptions.AdoptionLimitExceededException;
+import com.creatureadoption.adoptions.utils.exceptions.DownstreamUnavailableException;
 import com.creatureadoption.adoptions.utils.exceptions.InvalidInputException;
 import com.creatureadoption.adoptions.utils.exceptions.NotFoundException;
+import com.creatureadoption.adoptions.utils.exceptions.PreconditionFailedException;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
@@ -32,6 +55,7 @@ import org.springframework.web.client.RestTemplate;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
@@ -49,10 +73,18 @@ class AdoptionServiceUnitTest {
     @Mock private CustomerServiceClient customerServiceClient;
     @Mock private CreatureServiceClient creatureServiceClient;
     @Mock private TrainingServiceClient trainingServiceClient;
+    @Mock private CustomerSummaryRepository customerSummaryRepository;
+    @Mock private CreatureSummaryRepository creatureSummaryRepository;
+    @Mock private TrainingSummaryRepository trainingSummaryRepository;
+    @Mock private CustomerAdoptionStatsRepository customerAdoptionStatsRepository;
+    @Mock private AdoptionWriter adoptionWriter;
+    @Mock private AdoptionStatsRepository adoptionStatsRepository;
+    @Mock private AdoptionStatusEventRepository statusEventRepository;
     @Mock private RestTemplate restTemplate;
     @Mock private ObjectMapper objectMapper;
 
-    @InjectMocks private AdoptionServiceImpl adoptionService;
+    private AdoptionServiceImpl adoptionService;
+    private AdoptionReadModel readModel;
 
     private AdoptionRequestModel adoptionRequestModel;
     private Adoption adoption;
@@ -67,6 +99,12 @@ class AdoptionServiceUnitTest {
 
     @BeforeEach
     void setUp() {
+        readModel = new AdoptionReadModel(customerSummaryRepository, creatureSummaryRepository, trainingSummaryRepository,
+                customerServiceClient, creatureServiceClient, trainingServiceClient);
+        adoptionService = new AdoptionServiceImpl(adoptionRepository, adoptionResponseMapper, adoptionRequestMapper,
+                customerServiceClient, creatureServiceClient, new AdoptionEnrichmentExecutor(2000), readModel,
+                customerAdoptionStatsRepository, adoptionWriter, adoptionStatsRepository, statusEventRepository, 500);
+
         adoptionId = UUID.randomUUID().toString();
         customerId = UUID.randomUUID().toString();
         creatureId = UUID.randomUUID().toString();
@@ -83,7 +121,7 @@ class AdoptionServiceUnitTest {
         AdoptionIdentifier identifier = new AdoptionIdentifier("TEST-CODE");
 
         adoption = Adoption.builder()
-                .id("1").adoptionIdentifier(identifier).summary("Test Adoption").totalAdoptions(0)
+                .adoptionIdentifier(identifier).summary("Test Adoption").totalAdoptions(0)
                 .profileCreationDate(LocalDate.now()).profileStatus(ProfileStatus.ACTIVE)
                 .lastUpdated(LocalDateTime.now()).adoptionDate(LocalDate.now().plusDays(7))
                 .adoptionLocation("Test Location").adoptionStatus(AdoptionStatus.PENDING)
@@ -125,66 +163,184 @@ class AdoptionServiceUnitTest {
     @Test
     void testGetAdoptions_NoParams() {
         // Setup
-        when(adoptionRepository.findAll()).thenReturn(adoptionList);
+        when(adoptionRepository.findPageByFilter(any(), any(), any(), anyInt())).thenReturn(adoptionList);
         when(adoptionResponseMapper.entityListToResponseModelList(any())).thenReturn(adoptionResponseList);
-        when(customerServiceClient.getCustomerByCustomerId(customerId)).thenReturn(customerResponseModel);
-        when(creatureServiceClient.getCreatureByCreatureId(creatureId)).thenReturn(creatureResponseModel);
-        when(trainingServiceClient.getTrainingByTrainingId(trainingId)).thenReturn(trainingResponseModel);
+        when(customerServiceClient.getCustomersByCustomerIds(Set.of(customerId))).thenReturn(List.of(customerResponseModel));
+        when(creatureServiceClient.getCreaturesByCreatureIds(Set.of(creatureId))).thenReturn(List.of(creatureResponseModel));
+        when(trainingServiceClient.getTrainingsByTrainingIds(Set.of(trainingId))).thenReturn(List.of(trainingResponseModel));
 
         assertNotNull(adoptionService.getAdoptions(Collections.emptyMap()));
-        verify(adoptionRepository).findAll();
+        verify(adoptionRepository).findPageByFilter(new AdoptionFilter(), null, Sort.Direction.DESC, 51);
     }
 
     @Test
     void testGetAdoptions_ByCustomerId() {
         // Setup
-        when(adoptionRepository.findByCustomerId(customerId)).thenReturn(adoptionList);
+        when(adoptionRepository.findPageByFilter(any(), any(), any(), anyInt())).thenReturn(adoptionList);
         when(adoptionResponseMapper.entityListToResponseModelList(any())).thenReturn(adoptionResponseList);
-        when(customerServiceClient.getCustomerByCustomerId(customerId)).thenReturn(customerResponseModel);
-        when(creatureServiceClient.getCreatureByCreatureId(creatureId)).thenReturn(creatureResponseModel);
-        when(trainingServiceClient.getTrainingByTrainingId(trainingId)).thenReturn(trainingResponseModel);
+        when(customerServiceClient.getCustomersByCustomerIds(Set.of(customerId))).thenReturn(List.of(customerResponseModel));
+        when(creatureServiceClient.getCreaturesByCreatureIds(Set.of(creatureId))).thenReturn(List.of(creatureResponseModel));
+        when(trainingServiceClient.getTrainingsByTrainingIds(Set.of(trainingId))).thenReturn(List.of(trainingResponseModel));
 
         assertNotNull(adoptionService.getAdoptions(Collections.singletonMap("customerId", customerId)));
-        verify(adoptionRepository).findByCustomerId(customerId);
+        verify(adoptionRepository).findPageByFilter(AdoptionFilter.builder().customerId(customerId).build(), null, Sort.Direction.DESC, 51);
     }
 
     @Test
     void testGetAdoptions_ByCreatureId() {
         // Setup
-        when(adoptionRepository.findByCreatureId(creatureId)).thenReturn(adoptionList);
+        when(adoptionRepository.findPageByFilter(any(), any(), any(), anyInt())).thenReturn(adoptionList);
         when(adoptionResponseMapper.entityListToResponseModelList(any())).thenReturn(adoptionResponseList);
-        when(customerServiceClient.getCustomerByCustomerId(customerId)).thenReturn(customerResponseModel);
-        when(creatureServiceClient.getCreatureByCreatureId(creatureId)).thenReturn(creatureResponseModel);
-        when(trainingServiceClient.getTrainingByTrainingId(trainingId)).thenReturn(trainingResponseModel);
+        when(customerServiceClient.getCustomersByCustomerIds(Set.of(customerId))).thenReturn(List.of(customerResponseModel));
+        when(creatureServiceClient.getCreaturesByCreatureIds(Set.of(creatureId))).thenReturn(List.of(creatureResponseModel));
+        when(trainingServiceClient.getTrainingsByTrainingIds(Set.of(trainingId))).thenReturn(List.of(trainingResponseModel));
 
         assertNotNull(adoptionService.getAdoptions(Collections.singletonMap("creatureId", creatureId)));
-        verify(adoptionRepository).findByCreatureId(creatureId);
+        verify(adoptionRepository).findPageByFilter(AdoptionFilter.builder().creatureId(creatureId).build(), null, Sort.Direction.DESC, 51);
     }
 
     @Test
     void testGetAdoptions_ByProfileStatus() {
         // Setup
-        when(adoptionRepository.findByProfileStatus(any())).thenReturn(adoptionList);
+        when(adoptionRepository.findPageByFilter(any(), any(), any(), anyInt())).thenReturn(adoptionList);
         when(adoptionResponseMapper.entityListToResponseModelList(any())).thenReturn(adoptionResponseList);
-        when(customerServiceClient.getCustomerByCustomerId(customerId)).thenReturn(customerResponseModel);
-        when(creatureServiceClient.getCreatureByCreatureId(creatureId)).thenReturn(creatureResponseModel);
-        when(trainingServiceClient.getTrainingByTrainingId(trainingId)).thenReturn(trainingResponseModel);
+        when(customerServiceClient.getCustomersByCustomerIds(Set.of(customerId))).thenReturn(List.of(customerResponseModel));
+        when(creatureServiceClient.getCreaturesByCreatureIds(Set.of(creatureId))).thenReturn(List.of(creatureResponseModel));
+        when(trainingServiceClient.getTrainingsByTrainingIds(Set.of(trainingId))).thenReturn(List.of(trainingResponseModel));
 
         assertNotNull(adoptionService.getAdoptions(Collections.singletonMap("profileStatus", "ACTIVE")));
-        verify(adoptionRepository).findByProfileStatus(ProfileStatus.ACTIVE);
+        verify(adoptionRepository).findPageByFilter(AdoptionFilter.builder().profileStatus(ProfileStatus.ACTIVE).build(), null, Sort.Direction.DESC, 51);
     }
 
     @Test
     void testGetAdoptions_ByAdoptionStatus() {
         // Setup
-        when(adoptionRepository.findByAdoptionStatus(any())).thenReturn(adoptionList);
+        when(adoptionRepository.findPageByFilter(any(), any(), any(), anyInt())).thenReturn(adoptionList);
         when(adoptionResponseMapper.entityListToResponseModelList(any())).thenReturn(adoptionResponseList);
-        when(customerServiceClient.getCustomerByCustomerId(customerId)).thenReturn(customerResponseModel);
-        when(creatureServiceClient.getCreatureByCreatureId(creatureId)).thenReturn(creatureResponseModel);
-        when(trainingServiceClient.getTrainingByTrainingId(trainingId)).thenReturn(trainingResponseModel);
+        when(customerServiceClient.getCustomersByCustomerIds(Set.of(customerId))).thenReturn(List.of(customerResponseModel));
+        when(creatureServiceClient.getCreaturesByCreatureIds(Set.of(creatureId))).thenReturn(List.of(creatureResponseModel));
+        when(trainingServiceClient.getTrainingsByTrainingIds(Set.of(trainingId))).thenReturn(List.of(trainingResponseModel));
 
         assertNotNull(adoptionService.getAdoptions(Collections.singletonMap("adoptionStatus", "PENDING")));
-        verify(adoptionRepository).findByAdoptionStatus(AdoptionStatus.PENDING);
+        verify(adoptionRepository).findPageByFilter(AdoptionFilter.builder().adoptionStatus(AdoptionStatus.PENDING).build(), null, Sort.Direction.DESC, 51);
+    }
+
+    @Test
+    void testGetAdoptions_CombinesFiltersIntoOneQuery() {
+        when(adoptionRepository.findPageByFilter(any(), any(), any(), anyInt())).thenReturn(adoptionList);
+        when(adoptionResponseMapper.entityListToResponseModelList(any())).thenReturn(adoptionResponseList);
+
+        Map<String, String> queryParams = new HashMap<>();
+        queryParams.put("customerId", customerId);
+        queryParams.put("adoptionStatus", "pending");
+        queryParams.put("profileStatus", "");
+        adoptionService.getAdoptions(queryParams);
+
+        verify(adoptionRepository, times(1)).findPageByFilter(AdoptionFilter.builder()
+                .customerId(customerId).adoptionStatus(AdoptionStatus.PENDING).build(), null, Sort.Direction.DESC, 51);
+        verify(adoptionRepository, never()).findAll();
+        verify(adoptionRepository, never()).findByCustomerId(anyString());
+    }
+
+    @Test
+    void testExportAdoptions_EnrichesAndEmitsOneBatchAtATime() {
+        AdoptionServiceImpl service = new AdoptionServiceImpl(adoptionRepository, adoptionResponseMapper,
+                adoptionRequestMapper, customerServiceClient, creatureServiceClient,
+                new AdoptionEnrichmentExecutor(2000), readModel, customerAdoptionStatsRepository, adoptionWriter,
+                adoptionStatsRepository, statusEventRepository, 2);
+        List<Adoption> adoptions = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            adoptions.add(Adoption.builder().adoptionIdentifier(new AdoptionIdentifier("CODE-" + i))
+                    .customerId(customerId).creatureId(creatureId).build());
+        }
+        boolean[] cursorClosed = {false};
+        when(adoptionRepository.streamByFilter(AdoptionFilter.builder().customerId(customerId).build(), 2))
+                .thenReturn(adoptions.stream().onClose(() -> cursorClosed[0] = true));
+        when(adoptionResponseMapper.entityListToResponseModelList(any())).thenAnswer(invocation -> {
+            List<Adoption> batch = invocation.getArgument(0);
+            List<AdoptionResponseModel> models = new ArrayList<>();
+            for (Adoption a : batch) {
+                AdoptionResponseModel model = new AdoptionResponseModel();
+                model.setAdoptionId(a.getAdoptionIdentifier().getAdoptionId());
+                model.setCustomerId(a.getCustomerId());
+                models.add(model);
+            }
+            return models;
+        });
+        when(customerSummaryRepository.findAllById(any())).thenReturn(List.of(CustomerSummary.from(customerResponseModel)));
+
+        List<List<AdoptionResponseModel>> batches = new ArrayList<>();
+        service.exportAdoptions(Map.of("customerId", customerId), batches::add);
+
+        assertEquals(2, batches.size());
+        assertEquals(2, batches.get(0).size());
+        assertEquals(1, batches.get(1).size());
+        assertEquals("John", batches.get(1).get(0).getCustomerFirstName());
+        assertTrue(cursorClosed[0]);
+        verify(adoptionRepository, never()).findAll();
+    }
+
+    @Test
+    void testGetAdoptions_ReturnsCursorWhenMoreRowsExist() {
+        Adoption secondAdoption = Adoption.builder()
+                .adoptionIdentifier(new AdoptionIdentifier("TEST-CODE-2"))
+                .lastUpdated(LocalDateTime.of(2024, 1, 1, 12, 0)).customerId(customerId).creatureId(creatureId).build();
+        adoption.setLastUpdated(LocalDateTime.of(2024, 1, 2, 12, 0));
+        when(adoptionRepository.findPageByFilter(new AdoptionFilter(), null, Sort.Direction.DESC, 2))
+                .thenReturn(Arrays.asList(adoption, secondAdoption));
+        when(adoptionResponseMapper.entityListToResponseModelList(List.of(adoption))).thenReturn(adoptionResponseList);
+
+        AdoptionPage page = adoptionService.getAdoptions(Map.of("limit", "1"));
+
+        assertEquals(1, page.getAdoptions().size());
+        assertEquals(1, page.getLimit());
+        AdoptionCursor cursor = AdoptionCursor.decode(page.getNextCursor());
+        assertEquals(adoption.getId(), cursor.getId());
+        assertEquals(adoption.getLastUpdated(), cursor.getLastUpdated());
+    }
+
+    @Test
+    void testGetAdoptions_ContinuesAfterCursorInRequestedOrder() {
+        AdoptionCursor after = new AdoptionCursor(LocalDateTime.of(2024, 1, 2, 12, 0), adoption.getId());
+        when(adoptionRepository.findPageByFilter(new AdoptionFilter(), after, Sort.Direction.ASC, 11))
+                .thenReturn(List.of());
+
+        AdoptionPage page = adoptionService.getAdoptions(
+                Map.of("limit", "10", "sort", "lastUpdated,asc", "after", after.encode()));
+
+        assertTrue(page.getAdoptions().isEmpty());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void testGetAdoptions_IncludeArchived_ReadsBothTiers() {
+        when(adoptionRepository.findPageByFilterIncludingArchive(AdoptionFilter.builder().customerId(customerId).build(),
+                null, Sort.Direction.DESC, 11)).thenReturn(List.of());
+
+        AdoptionPage page = adoptionService.getAdoptions(
+                Map.of("customerId", customerId, "limit", "10", "includeArchived", "true"));
+
+        assertTrue(page.getAdoptions().isEmpty());
+        verify(adoptionRepository, never()).findPageByFilter(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void testGetAdoptions_IncludeArchivedWithOnlyUnindexedFilters_ShouldBeRefused() {
+        assertThrows(InvalidInputException.class, () -> adoptionService.getAdoptions(
+                Map.of("adoptionLocation", "Pallet Town", "includeArchived", "true")));
+        assertThrows(InvalidInputException.class, () -> adoptionService.getAdoptions(
+                Map.of("adoptionStatus", "CANCELLED", "includeArchived", "true")));
+        verifyNoInteractions(adoptionRepository);
+    }
+
+    @Test
+    void testGetAdoptions_InvalidPagingParameters() {
+        assertThrows(InvalidInputException.class, () -> adoptionService.getAdoptions(Map.of("limit", "0")));
+        assertThrows(InvalidInputException.class, () -> adoptionService.getAdoptions(Map.of("limit", "abc")));
+        assertThrows(InvalidInputException.class, () -> adoptionService.getAdoptions(Map.of("sort", "summary,asc")));
+        assertThrows(InvalidInputException.class, () -> adoptionService.getAdoptions(Map.of("after", "not-a-cursor")));
+        assertThrows(InvalidInputException.class, () -> adoptionService.getAdoptions(Map.of("includeArchived", "yes")));
+        verifyNoInteractions(adoptionRepository);
     }
 
     @Test
@@ -195,7 +351,7 @@ class AdoptionServiceUnitTest {
         when(creatureServiceClient.getCreatureByCreatureId(creatureId)).thenReturn(creatureResponseModel);
         when(trainingServiceClient.getTrainingByTrainingId(trainingId)).thenReturn(trainingResponseModel);
 
-        AdoptionResponseModel result = adoptionService.getAdoptionByAdoptionId(adoptionId);
+        AdoptionResponseModel result = adoptionService.getAdoptionByAdoptionId(adoptionId, AdoptionExpansion.ALL);
 
         assertNotNull(result);
         assertEquals(adoptionResponseModel.getAdoptionId(), result.getAdoptionId());
@@ -206,23 +362,181 @@ class AdoptionServiceUnitTest {
         when(adoptionRepository.findByAdoptionIdentifier_AdoptionId(adoptionId)).thenReturn(null);
 
         assertThrows(NotFoundException.class, () ->
-                adoptionService.getAdoptionByAdoptionId(adoptionId));
+                adoptionService.getAdoptionByAdoptionId(adoptionId, AdoptionExpansion.ALL));
+    }
+
+    @Test
+    void testGetAdoptions_WithExpandNone_AnswersFromTheAdoptionsAlone() {
+        when(adoptionRepository.findPageByFilter(any(), any(), any(), anyInt())).thenReturn(adoptionList);
+        when(adoptionResponseMapper.entityListToResponseModelList(any())).thenReturn(Collections.singletonList(emptyDetailsResponse));
+
+        List<AdoptionResponseModel> result = adoptionService.getAdoptions(Map.of("expand", "none")).getAdoptions();
+
+        assertEquals(1, result.size());
+        assertNull(result.get(0).getCustomerFirstName());
+        assertFalse(result.get(0).isPartialDetails());
+        verifyNoInteractions(customerSummaryRepository, creatureSummaryRepository, trainingSummaryRepository,
+                customerServiceClient, creatureServiceClient, trainingServiceClient);
+    }
+
+    @Test
+    void testGetAdoptionByAdoptionId_OnlyLooksUpTheExpandedDetails() {
+        when(adoptionRepository.findByAdoptionIdentifier_AdoptionId(adoptionId)).thenReturn(adoption);
+        when(adoptionResponseMapper.entityToResponseModel(adoption)).thenReturn(emptyDetailsResponse);
+        when(creatureSummaryRepository.findById(creatureId)).thenReturn(Optional.of(CreatureSummary.from(creatureResponseModel)));
+
+        AdoptionResponseModel result = adoptionService.getAdoptionByAdoptionId(adoptionId, AdoptionExpansion.parse("creature"));
+
+        assertEquals("Pikachu", result.getCreatureName());
+        assertNull(result.getCustomerFirstName());
+        assertNull(result.getTrainingName());
+        verifyNoInteractions(customerSummaryRepository, trainingSummaryRepository, customerServiceClient, trainingServiceClient);
+    }
+
+    @Test
+    void testGetAdoptions_WithUnknownExpand_IsRejected() {
+        assertThrows(InvalidInputException.class, () -> adoptionService.getAdoptions(Map.of("expand", "customer,owner")));
+        verifyNoInteractions(adoptionRepository);
     }
 
     @Test
     void testGetAdoptions_WithClientException() {
-        when(adoptionRepository.findAll()).thenReturn(adoptionList);
+        when(adoptionRepository.findPageByFilter(any(), any(), any(), anyInt())).thenReturn(adoptionList);
         when(adoptionResponseMapper.entityListToResponseModelList(any())).thenReturn(Collections.singletonList(emptyDetailsResponse));
-        when(customerServiceClient.getCustomerByCustomerId(customerId)).thenThrow(new RuntimeException("Service unreachable"));
-        when(creatureServiceClient.getCreatureByCreatureId(creatureId)).thenReturn(creatureResponseModel);
-        when(trainingServiceClient.getTrainingByTrainingId(trainingId)).thenReturn(trainingResponseModel);
+        when(customerServiceClient.getCustomersByCustomerIds(anyCollection())).thenThrow(new RuntimeException("Service unreachable"));
+        when(creatureServiceClient.getCreaturesByCreatureIds(anyCollection())).thenReturn(List.of(creatureResponseModel));
+        when(trainingServiceClient.getTrainingsByTrainingIds(anyCollection())).thenReturn(List.of(trainingResponseModel));
 
-        List<AdoptionResponseModel> result = adoptionService.getAdoptions(Collections.emptyMap());
+        List<AdoptionResponseModel> result = adoptionService.getAdoptions(Collections.emptyMap()).getAdoptions();
 
         assertNotNull(result);
         assertEquals(1, result.size());
         assertNull(result.get(0).getCustomerFirstName());
         assertNull(result.get(0).getCustomerLastName());
+        assertEquals("Pikachu", result.get(0).getCreatureName());
+        assertEquals("Basic Training", result.get(0).getTrainingName());
+    }
+
+    @Test
+    void testGetAdoptions_BatchesLookupsAcrossAdoptions() {
+        // Two adoptions for the same customer should still only cost one lookup per downstream service
+        Adoption secondAdoption = Adoption.builder()
+                .adoptionIdentifier(new AdoptionIdentifier("TEST-CODE-2"))
+                .adoptionStatus(AdoptionStatus.APPROVED).customerId(customerId)
+                .creatureId(creatureId).trainingId(null).build();
+        AdoptionResponseModel secondResponse = new AdoptionResponseModel();
+        secondResponse.setAdoptionId(secondAdoption.getAdoptionIdentifier().getAdoptionId());
+
+        when(adoptionRepository.findPageByFilter(any(), any(), any(), anyInt())).thenReturn(Arrays.asList(adoption, secondAdoption));
+        when(adoptionResponseMapper.entityListToResponseModelList(any()))
+                .thenReturn(Arrays.asList(emptyDetailsResponse, secondResponse));
+        when(customerServiceClient.getCustomersByCustomerIds(Set.of(customerId))).thenReturn(List.of(customerResponseModel));
+        when(creatureServiceClient.getCreaturesByCreatureIds(Set.of(creatureId))).thenReturn(List.of(creatureResponseModel));
+        when(trainingServiceClient.getTrainingsByTrainingIds(Set.of(trainingId))).thenReturn(List.of(trainingResponseModel));
+
+        List<AdoptionResponseModel> result = adoptionService.getAdoptions(Collections.emptyMap()).getAdoptions();
+
+        assertEquals(2, result.size());
+        assertEquals("John", result.get(0).getCustomerFirstName());
+        assertEquals("John", result.get(1).getCustomerFirstName());
+        assertEquals("Basic Training", result.get(0).getTrainingName());
+        assertNull(result.get(1).getTrainingName());
+        verify(customerServiceClient, times(1)).getCustomersByCustomerIds(anyCollection());
+        verify(customerServiceClient, never()).getCustomerByCustomerId(anyString());
+        verify(creatureServiceClient, never()).getCreatureByCreatureId(anyString());
+    }
+
+    @Test
+    void testGetAdoptionByAdoptionId_ServedFromReadModel() {
+        when(adoptionRepository.findByAdoptionIdentifier_AdoptionId(adoptionId)).thenReturn(adoption);
+        when(adoptionResponseMapper.entityToResponseModel(adoption)).thenReturn(emptyDetailsResponse);
+        when(customerSummaryRepository.findById(customerId)).thenReturn(Optional.of(CustomerSummary.from(customerResponseModel)));
+        when(creatureSummaryRepository.findById(creatureId)).thenReturn(Optional.of(CreatureSummary.from(creatureResponseModel)));
+        when(trainingServiceClient.getTrainingByTrainingId(trainingId)).thenReturn(trainingResponseModel);
+
+        AdoptionResponseModel result = adoptionService.getAdoptionByAdoptionId(adoptionId, AdoptionExpansion.ALL);
+
+        assertEquals("John", result.getCustomerFirstName());
+        assertEquals("Pikachu", result.getCreatureName());
+        assertEquals("Basic Training", result.getTrainingName());
+        verify(customerServiceClient, never()).getCustomerByCustomerId(anyString());
+        verify(creatureServiceClient, never()).getCreatureByCreatureId(anyString());
+        // The training was not projected yet, so it was read through and stored for next time
+        verify(trainingSummaryRepository).save(argThat((TrainingSummary summary) -> trainingId.equals(summary.getTrainingId())));
+    }
+
+    @Test
+    void testGetAdoptions_OnlyMissingSummariesReachDownstream() {
+        String otherCustomerId = UUID.randomUUID().toString();
+        Adoption secondAdoption = Adoption.builder()
+                .adoptionIdentifier(new AdoptionIdentifier("TEST-CODE-2"))
+                .customerId(otherCustomerId).creatureId(creatureId).build();
+        CustomerResponseModel otherCustomer = CustomerResponseModel.builder()
+                .customerId(otherCustomerId).firstName("Jane").lastName("Roe").build();
+
+        when(adoptionRepository.findPageByFilter(any(), any(), any(), anyInt())).thenReturn(Arrays.asList(adoption, secondAdoption));
+        when(adoptionResponseMapper.entityListToResponseModelList(any()))
+                .thenReturn(Arrays.asList(new AdoptionResponseModel(), new AdoptionResponseModel()));
+        when(customerSummaryRepository.findAllById(Set.of(customerId, otherCustomerId)))
+                .thenReturn(List.of(CustomerSummary.from(customerResponseModel)));
+        when(customerServiceClient.getCustomersByCustomerIds(Set.of(otherCustomerId))).thenReturn(List.of(otherCustomer));
+        when(creatureSummaryRepository.findAllById(Set.of(creatureId)))
+                .thenReturn(List.of(CreatureSummary.from(creatureResponseModel)));
+        when(trainingServiceClient.getTrainingsByTrainingIds(Set.of(trainingId))).thenReturn(List.of(trainingResponseModel));
+
+        List<AdoptionResponseModel> result = adoptionService.getAdoptions(Collections.emptyMap()).getAdoptions();
+
+        assertEquals("John", result.get(0).getCustomerFirstName());
+        assertEquals("Jane", result.get(1).getCustomerFirstName());
+        assertEquals("Pikachu", result.get(1).getCreatureName());
+        verify(creatureServiceClient, never()).getCreaturesByCreatureIds(anyCollection());
+        verify(customerSummaryRepository).saveAll(argThat((Iterable<CustomerSummary> summaries) ->
+                summaries.iterator().next().getCustomerId().equals(otherCustomerId)));
+    }
+
+    @Test
+    void testReadModelReconcile_ReplacesStaleSummaries() {
+        CustomerSummary removedCustomer = CustomerSummary.builder()
+                .customerId(UUID.randomUUID().toString()).lastSynced(LocalDateTime.now().minusHours(1)).build();
+        CustomerSummary freshCustomer = CustomerSummary.from(customerResponseModel);
+        freshCustomer.setLastSynced(LocalDateTime.now().plusSeconds(1));
+
+        when(customerServiceClient.getCustomersPage(null, 500)).thenReturn(List.of(customerResponseModel));
+        when(customerSummaryRepository.findAll()).thenReturn(List.of(removedCustomer, freshCustomer));
+        when(creatureServiceClient.getCreaturesPage(null, 500)).thenThrow(new RuntimeException("Service unreachable"));
+        when(trainingServiceClient.getTrainingsPage(null, 500)).thenReturn(List.of());
+
+        readModel.reconcile();
+
+        verify(customerSummaryRepository).deleteAll(List.of(removedCustomer));
+        verify(creatureSummaryRepository, never()).deleteAll(anyIterable());
+        verify(trainingSummaryRepository).deleteAll(List.of());
+    }
+
+    @Test
+    void testReadModelReconcile_PagesThroughTheSourceAndKeepsNewerSummaries() {
+        List<CustomerResponseModel> firstPage = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            firstPage.add(CustomerResponseModel.builder().customerId(String.format("%036d", i)).build());
+        }
+        CustomerResponseModel lastCustomer = CustomerResponseModel.builder().customerId(String.format("%036d", 500)).build();
+        // Written by a change notification after the page was read, so the page is older than the summary
+        CustomerSummary notified = CustomerSummary.builder()
+                .customerId(firstPage.get(0).getCustomerId()).firstName("Renamed")
+                .lastSynced(LocalDateTime.now().plusMinutes(1)).build();
+
+        when(customerServiceClient.getCustomersPage(null, 500)).thenReturn(firstPage);
+        when(customerServiceClient.getCustomersPage(firstPage.get(499).getCustomerId(), 500)).thenReturn(List.of(lastCustomer));
+        when(customerSummaryRepository.findAllById(anyIterable())).thenReturn(List.of(notified), List.of());
+
+        readModel.reconcileCustomers();
+
+        ArgumentCaptor<List<CustomerSummary>> saved = ArgumentCaptor.forClass(List.class);
+        verify(customerSummaryRepository, times(2)).saveAll(saved.capture());
+        assertEquals(499, saved.getAllValues().get(0).size());
+        assertTrue(saved.getAllValues().get(0).stream().noneMatch(summary -> summary.getCustomerId().equals(notified.getCustomerId())));
+        assertEquals(lastCustomer.getCustomerId(), saved.getAllValues().get(1).get(0).getCustomerId());
+        verify(customerServiceClient, never()).getCustomersPage(eq(lastCustomer.getCustomerId()), anyInt());
     }
 
     @Test
@@ -230,15 +544,20 @@ class AdoptionServiceUnitTest {
         when(customerServiceClient.getCustomerByCustomerId(customerId)).thenReturn(customerResponseModel);
         when(creatureServiceClient.getCreatureByCreatureId(creatureId)).thenReturn(creatureResponseModel);
         when(adoptionRequestMapper.requestModelToEntity(eq(adoptionRequestModel), any(AdoptionIdentifier.class))).thenReturn(adoption);
-        when(adoptionRepository.findByCustomerId(customerId)).thenReturn(Collections.emptyList());
-        when(adoptionRepository.save(any(Adoption.class))).thenReturn(adoption);
+        when(customerAdoptionStatsRepository.recordTransition(customerId, null, AdoptionStatus.PENDING, 2)).thenReturn(true);
+        when(adoptionWriter.save(adoption, CreatureStatus.ADOPTION_PENDING,
+                CreatureStatus.AVAILABLE, CreatureStatus.RESERVED)).thenReturn(adoption);
         when(adoptionResponseMapper.entityToResponseModel(adoption)).thenReturn(adoptionResponseModel);
-        when(creatureServiceClient.updateCreatureStatus(eq(creatureId), any(CreatureStatus.class))).thenReturn(creatureResponseModel);
 
         AdoptionResponseModel result = adoptionService.addAdoption(adoptionRequestModel);
 
         assertNotNull(result);
         assertEquals(adoptionResponseModel.getAdoptionId(), result.getAdoptionId());
+        // The creature status change goes to the outbox with the adoption; the write never waits on creatures-service
+        verify(creatureServiceClient, never()).updateCreatureStatus(anyString(), any(), anyCollection());
+        verify(adoptionRepository, never()).save(any());
+        // The limit is enforced by the counter, not by loading the customer's adoptions
+        verify(adoptionRepository, never()).findByCustomerId(anyString());
     }
 
     @Test
@@ -274,27 +593,52 @@ class AdoptionServiceUnitTest {
         when(customerServiceClient.getCustomerByCustomerId(customerId)).thenReturn(customerResponseModel);
         when(creatureServiceClient.getCreatureByCreatureId(creatureId)).thenReturn(creatureResponseModel);
 
-        List<Adoption> completedAdoptions = Arrays.asList(
-                Adoption.builder().adoptionStatus(AdoptionStatus.COMPLETED).build(),
-                Adoption.builder().adoptionStatus(AdoptionStatus.COMPLETED).build()
-        );
-        when(adoptionRepository.findByCustomerId(customerId)).thenReturn(completedAdoptions);
+        when(customerAdoptionStatsRepository.recordTransition(customerId, null, AdoptionStatus.PENDING, 2)).thenReturn(false);
 
         assertThrows(AdoptionLimitExceededException.class, () ->
                 adoptionService.addAdoption(adoptionRequestModel));
+        verify(adoptionRepository, never()).save(any());
+        verifyNoInteractions(adoptionWriter);
+    }
+
+    @Test
+    void testAddAdoption_ReleasesReservedSlotWhenSaveFails() {
+        when(customerServiceClient.getCustomerByCustomerId(customerId)).thenReturn(customerResponseModel);
+        when(creatureServiceClient.getCreatureByCreatureId(creatureId)).thenReturn(creatureResponseModel);
+        when(customerAdoptionStatsRepository.recordTransition(customerId, null, AdoptionStatus.PENDING, 2)).thenReturn(true);
+        when(adoptionRequestMapper.requestModelToEntity(eq(adoptionRequestModel), any(AdoptionIdentifier.class))).thenReturn(adoption);
+        when(adoptionWriter.save(adoption, CreatureStatus.ADOPTION_PENDING,
+                CreatureStatus.AVAILABLE, CreatureStatus.RESERVED)).thenThrow(new IllegalStateException("write failed"));
+
+        assertThrows(IllegalStateException.class, () ->
+                adoptionService.addAdoption(adoptionRequestModel));
+        verify(customerAdoptionStatsRepository).recordUncheckedTransition(customerId, AdoptionStatus.PENDING, null);
+    }
+
+    @Test
+    void testUpdateAdoptionStatus_CompletionRefusedAtLimit() {
+        when(adoptionRepository.findByAdoptionIdentifier_AdoptionId(adoptionId)).thenReturn(adoption);
+        when(customerAdoptionStatsRepository.recordTransition(customerId, AdoptionStatus.PENDING, AdoptionStatus.COMPLETED, 2))
+                .thenReturn(false);
+
+        assertThrows(AdoptionLimitExceededException.class, () ->
+                adoptionService.updateAdoptionStatus(adoptionId, "COMPLETED", null));
+        assertEquals(AdoptionStatus.PENDING, adoption.getAdoptionStatus());
+        verify(adoptionRepository, never()).save(any());
+        verifyNoInteractions(adoptionWriter);
     }
 
     @Test
     void testUpdateAdoption_Success() {
         when(adoptionRepository.findByAdoptionIdentifier_AdoptionId(adoptionId)).thenReturn(adoption);
         when(adoptionRequestMapper.requestModelToEntity(eq(adoptionRequestModel), any(AdoptionIdentifier.class))).thenReturn(adoption);
-        when(adoptionRepository.save(any(Adoption.class))).thenReturn(adoption);
+        when(adoptionWriter.save(any(Adoption.class))).thenReturn(adoption);
         when(adoptionResponseMapper.entityToResponseModel(adoption)).thenReturn(adoptionResponseModel);
         when(customerServiceClient.getCustomerByCustomerId(customerId)).thenReturn(customerResponseModel);
         when(creatureServiceClient.getCreatureByCreatureId(creatureId)).thenReturn(creatureResponseModel);
         when(trainingServiceClient.getTrainingByTrainingId(trainingId)).thenReturn(trainingResponseModel);
 
-        AdoptionResponseModel result = adoptionService.updateAdoption(adoptionRequestModel, adoptionId);
+        AdoptionResponseModel result = adoptionService.updateAdoption(adoptionRequestModel, adoptionId, null);
 
         assertNotNull(result);
         assertEquals(adoptionResponseModel.getAdoptionId(), result.getAdoptionId());
@@ -305,7 +649,7 @@ class AdoptionServiceUnitTest {
         when(adoptionRepository.findByAdoptionIdentifier_AdoptionId(adoptionId)).thenReturn(null);
 
         assertThrows(NotFoundException.class, () ->
-                adoptionService.updateAdoption(adoptionRequestModel, adoptionId));
+                adoptionService.updateAdoption(adoptionRequestModel, adoptionId, null));
     }
 
     @Test
@@ -322,6 +666,8 @@ class AdoptionServiceUnitTest {
         AdoptionRepository mockRepo = mock(AdoptionRepository.class);
         AdoptionResponseMapper mockMapper = mock(AdoptionResponseMapper.class);
         CreatureServiceClient mockCreatureClient = mock(CreatureServiceClient.class);
+        CustomerAdoptionStatsRepository statsRepository = mock(CustomerAdoptionStatsRepository.class);
+        AdoptionWriter writer = mock(AdoptionWriter.class);
 
         // Create a service instance with these mocks
         AdoptionServiceImpl service = new AdoptionServiceImpl(
@@ -330,25 +676,33 @@ class AdoptionServiceUnitTest {
                 mock(AdoptionRequestMapper.class),
                 mock(CustomerServiceClient.class),
                 mockCreatureClient,
-                mock(TrainingServiceClient.class)
+                new AdoptionEnrichmentExecutor(2000),
+                new AdoptionReadModel(mock(CustomerSummaryRepository.class), mock(CreatureSummaryRepository.class),
+                        mock(TrainingSummaryRepository.class), mock(CustomerServiceClient.class), mockCreatureClient,
+                        mock(TrainingServiceClient.class)),
+                statsRepository,
+                writer,
+                mock(AdoptionStatsRepository.class),
+                mock(AdoptionStatusEventRepository.class),
+                500
         );
 
         // Set up mocks
         Adoption testAdoption = Adoption.builder()
-                .id("1").adoptionIdentifier(new AdoptionIdentifier(adoptionId, "TEST-CODE"))
+                .adoptionIdentifier(new AdoptionIdentifier(adoptionId, "TEST-CODE"))
                 .adoptionStatus(AdoptionStatus.PENDING).creatureId(creatureId).build();
 
         when(mockRepo.findByAdoptionIdentifier_AdoptionId(adoptionId)).thenReturn(testAdoption);
-        when(mockRepo.save(any())).thenReturn(testAdoption);
+        when(writer.save(testAdoption, expectedCreatureStatus)).thenReturn(testAdoption);
         when(mockMapper.entityToResponseModel(any())).thenReturn(adoptionResponseModel);
-        when(mockCreatureClient.updateCreatureStatus(eq(creatureId), eq(expectedCreatureStatus)))
-                .thenReturn(creatureResponseModel);
+        lenient().when(statsRepository.recordTransition(any(), any(), any(), anyInt())).thenReturn(true);
 
         // Act
-        service.updateAdoptionStatus(adoptionId, status);
+        service.updateAdoptionStatus(adoptionId, status, null);
 
         // Verify
-        verify(mockCreatureClient).updateCreatureStatus(eq(creatureId), eq(expectedCreatureStatus));
+        verify(writer).save(testAdoption, expectedCreatureStatus);
+        verify(mockCreatureClient, never()).updateCreatureStatus(anyString(), any(), anyCollection());
     }
 
     @Test
@@ -356,21 +710,93 @@ class AdoptionServiceUnitTest {
         when(adoptionRepository.findByAdoptionIdentifier_AdoptionId(adoptionId)).thenReturn(adoption);
 
         assertThrows(InvalidInputException.class, () ->
-                adoptionService.updateAdoptionStatus(adoptionId, "INVALID_STATUS"));
+                adoptionService.updateAdoptionStatus(adoptionId, "INVALID_STATUS", null));
+    }
+
+    @Test
+    void testGetAdoptionETag_MatchesTheFullReadWithoutCallingDownstream() {
+        adoption.setVersion(3L);
+        AdoptionResponseModel fullRead = new AdoptionResponseModel();
+        fullRead.setVersion(3L);
+        when(adoptionRepository.findByAdoptionIdentifier_AdoptionId(adoptionId)).thenReturn(adoption);
+        when(adoptionResponseMapper.entityToResponseModel(adoption)).thenReturn(fullRead);
+        when(customerSummaryRepository.findById(customerId)).thenReturn(Optional.of(CustomerSummary.from(customerResponseModel)));
+        when(creatureSummaryRepository.findById(creatureId)).thenReturn(Optional.of(CreatureSummary.from(creatureResponseModel)));
+        when(trainingSummaryRepository.findById(trainingId)).thenReturn(Optional.of(TrainingSummary.from(trainingResponseModel)));
+
+        String eTag = adoptionService.getAdoptionETag(adoptionId, AdoptionExpansion.ALL);
+
+        assertTrue(eTag.startsWith("\"3-"));
+        assertEquals(AdoptionETags.of(adoptionService.getAdoptionByAdoptionId(adoptionId, AdoptionExpansion.ALL)), eTag);
+        verifyNoInteractions(customerServiceClient, creatureServiceClient, trainingServiceClient);
+    }
+
+    @Test
+    void testGetAdoptionETag_SummaryNotStored_ReturnsNull() {
+        adoption.setVersion(3L);
+        when(adoptionRepository.findByAdoptionIdentifier_AdoptionId(adoptionId)).thenReturn(adoption);
+        when(customerSummaryRepository.findById(customerId)).thenReturn(Optional.empty());
+        when(creatureSummaryRepository.findById(creatureId)).thenReturn(Optional.of(CreatureSummary.from(creatureResponseModel)));
+        when(trainingSummaryRepository.findById(trainingId)).thenReturn(Optional.of(TrainingSummary.from(trainingResponseModel)));
+
+        assertNull(adoptionService.getAdoptionETag(adoptionId, AdoptionExpansion.ALL));
+        verifyNoInteractions(customerServiceClient);
+    }
+
+    @Test
+    void testUpdateAdoptionStatus_StaleVersion_ThrowsPreconditionFailed() {
+        adoption.setVersion(4L);
+        when(adoptionRepository.findByAdoptionIdentifier_AdoptionId(adoptionId)).thenReturn(adoption);
+
+        assertThrows(PreconditionFailedException.class, () ->
+                adoptionService.updateAdoptionStatus(adoptionId, "APPROVED", 3L));
+        assertEquals(AdoptionStatus.PENDING, adoption.getAdoptionStatus());
+        verifyNoInteractions(adoptionWriter, customerAdoptionStatsRepository);
+    }
+
+    @Test
+    void testUpdateAdoptionStatus_ConcurrentWriteWithIfMatch_ThrowsPreconditionFailed() {
+        adoption.setVersion(4L);
+        when(adoptionRepository.findByAdoptionIdentifier_AdoptionId(adoptionId)).thenReturn(adoption);
+        when(customerAdoptionStatsRepository.recordTransition(customerId, AdoptionStatus.PENDING, AdoptionStatus.APPROVED, 2))
+                .thenReturn(true);
+        when(adoptionWriter.save(adoption, CreatureStatus.RESERVED))
+                .thenThrow(new OptimisticLockingFailureException("version 4 is no longer current"));
+
+        assertThrows(PreconditionFailedException.class, () ->
+                adoptionService.updateAdoptionStatus(adoptionId, "APPROVED", 4L));
+        verify(customerAdoptionStatsRepository).recordUncheckedTransition(customerId, AdoptionStatus.APPROVED, AdoptionStatus.PENDING);
+    }
+
+    @Test
+    void testUpdateAdoption_SavesAtTheVersionRead() {
+        adoption.setVersion(7L);
+        Adoption updated = Adoption.builder().adoptionIdentifier(adoption.getAdoptionIdentifier())
+                .adoptionStatus(AdoptionStatus.PENDING).customerId(customerId).creatureId(creatureId).build();
+        when(adoptionRepository.findByAdoptionIdentifier_AdoptionId(adoptionId)).thenReturn(adoption);
+        when(adoptionRequestMapper.requestModelToEntity(eq(adoptionRequestModel), any(AdoptionIdentifier.class))).thenReturn(updated);
+        when(adoptionWriter.save(updated)).thenThrow(new OptimisticLockingFailureException("version 7 is no longer current"));
+
+        // Without If-Match the conflict is left to surface as a 409
+        assertThrows(OptimisticLockingFailureException.class, () ->
+                adoptionService.updateAdoption(adoptionRequestModel, adoptionId, null));
+        assertEquals(7L, updated.getVersion());
+        assertEquals(adoption.getId(), updated.getId());
     }
 
     @Test
     void testRemoveAdoption_Success() {
         Adoption pendingAdoption = Adoption.builder()
-                .id("1").adoptionIdentifier(new AdoptionIdentifier(adoptionId, "TEST-CODE"))
-                .summary("Test Adoption").adoptionStatus(AdoptionStatus.PENDING).creatureId(creatureId).build();
+                .adoptionIdentifier(new AdoptionIdentifier(adoptionId, "TEST-CODE"))
+                .summary("Test Adoption").adoptionStatus(AdoptionStatus.PENDING)
+                .customerId(customerId).creatureId(creatureId).build();
 
         when(adoptionRepository.findByAdoptionIdentifier_AdoptionId(adoptionId)).thenReturn(pendingAdoption);
-        when(creatureServiceClient.updateCreatureStatus(eq(creatureId), eq(CreatureStatus.AVAILABLE))).thenReturn(creatureResponseModel);
 
         adoptionService.removeAdoption(adoptionId);
 
-        verify(adoptionRepository).delete(pendingAdoption);
+        verify(adoptionWriter).delete(pendingAdoption, CreatureStatus.AVAILABLE);
+        verify(customerAdoptionStatsRepository).recordUncheckedTransition(customerId, AdoptionStatus.PENDING, null);
     }
 
     @Test
@@ -384,13 +810,272 @@ class AdoptionServiceUnitTest {
     @Test
     void testRemoveAdoption_CompletedAdoption() {
         Adoption completedAdoption = Adoption.builder()
-                .id("1").adoptionIdentifier(new AdoptionIdentifier(adoptionId, "TEST-CODE"))
+                .adoptionIdentifier(new AdoptionIdentifier(adoptionId, "TEST-CODE"))
                 .summary("Test Adoption").adoptionStatus(AdoptionStatus.COMPLETED).creatureId(creatureId).build();
 
         when(adoptionRepository.findByAdoptionIdentifier_AdoptionId(adoptionId)).thenReturn(completedAdoption);
 
         assertThrows(InvalidInputException.class, () ->
                 adoptionService.removeAdoption(adoptionId));
+        verifyNoInteractions(adoptionWriter);
+    }
+
+    @Test
+    void testTransitionAdoptionStatuses_ReportsEveryAdoptionAndWritesChangesTogether() {
+        String approvedId = UUID.randomUUID().toString();
+        String completedId = UUID.randomUUID().toString();
+        String atLimitId = UUID.randomUUID().toString();
+        String missingId = UUID.randomUUID().toString();
+        String otherCustomerId = UUID.randomUUID().toString();
+        Adoption approved = Adoption.builder().adoptionIdentifier(new AdoptionIdentifier(approvedId, "A-1"))
+                .adoptionStatus(AdoptionStatus.APPROVED).customerId(customerId).creatureId(creatureId).build();
+        Adoption completed = Adoption.builder().adoptionIdentifier(new AdoptionIdentifier(completedId, "A-2"))
+                .adoptionStatus(AdoptionStatus.COMPLETED).customerId(customerId).build();
+        Adoption atLimit = Adoption.builder().adoptionIdentifier(new AdoptionIdentifier(atLimitId, "A-3"))
+                .adoptionStatus(AdoptionStatus.APPROVED).customerId(otherCustomerId).build();
+        when(adoptionRepository.findByAdoptionIdentifier_AdoptionIdIn(anyCollection()))
+                .thenReturn(List.of(completed, atLimit, approved));
+        when(customerAdoptionStatsRepository.recordTransition(customerId, AdoptionStatus.APPROVED, AdoptionStatus.COMPLETED, 2))
+                .thenReturn(true);
+        when(customerAdoptionStatsRepository.recordTransition(otherCustomerId, AdoptionStatus.APPROVED, AdoptionStatus.COMPLETED, 2))
+                .thenReturn(false);
+
+        List<AdoptionStatusTransitionResultModel> results = adoptionService.transitionAdoptionStatuses(
+                AdoptionStatusTransitionRequestModel.builder()
+                        .adoptionIds(List.of(approvedId, completedId, atLimitId, missingId))
+                        .status("completed")
+                        .build());
+
+        assertEquals(List.of(approvedId, completedId, atLimitId, missingId),
+                results.stream().map(AdoptionStatusTransitionResultModel::getAdoptionId).toList());
+        assertEquals(List.of(AdoptionStatusTransitionOutcome.UPDATED, AdoptionStatusTransitionOutcome.UNCHANGED,
+                        AdoptionStatusTransitionOutcome.REJECTED, AdoptionStatusTransitionOutcome.NOT_FOUND),
+                results.stream().map(AdoptionStatusTransitionResultModel::getOutcome).toList());
+        assertEquals(AdoptionStatus.APPROVED, results.get(0).getPreviousStatus());
+        assertEquals(AdoptionStatus.COMPLETED, results.get(0).getAdoptionStatus());
+        assertEquals(AdoptionStatus.APPROVED, results.get(2).getAdoptionStatus());
+        assertNotNull(results.get(2).getMessage());
+        assertEquals(AdoptionStatus.APPROVED, atLimit.getAdoptionStatus());
+        verify(adoptionWriter).saveStatuses(List.of(approved), List.of(CreatureStatus.ADOPTED));
+        verify(adoptionRepository, never()).save(any());
+    }
+
+    @Test
+    void testTransitionAdoptionStatuses_ByFilter() {
+        Adoption approved = Adoption.builder().adoptionIdentifier(new AdoptionIdentifier(adoptionId, "A-1"))
+                .adoptionStatus(AdoptionStatus.APPROVED).customerId(customerId).creatureId(creatureId).build();
+        AdoptionFilter filter = AdoptionFilter.builder()
+                .adoptionStatus(AdoptionStatus.APPROVED).adoptionLocation("North Haven").build();
+        when(adoptionRepository.findPageByFilter(filter, null, Sort.Direction.ASC, 1001)).thenReturn(List.of(approved));
+        when(customerAdoptionStatsRepository.recordTransition(customerId, AdoptionStatus.APPROVED, AdoptionStatus.CANCELLED, 2))
+                .thenReturn(true);
+
+        List<AdoptionStatusTransitionResultModel> results = adoptionService.transitionAdoptionStatuses(
+                AdoptionStatusTransitionRequestModel.builder()
+                        .filter(Map.of("adoptionStatus", "APPROVED", "adoptionLocation", "North Haven"))
+                        .status("CANCELLED")
+                        .build());
+
+        assertEquals(1, results.size());
+        assertEquals(AdoptionStatusTransitionOutcome.UPDATED, results.get(0).getOutcome());
+        verify(adoptionWriter).saveStatuses(List.of(approved), List.of(CreatureStatus.AVAILABLE));
+    }
+
+    @Test
+    void testTransitionAdoptionStatuses_GivesBackRecordedChangesWhenWriteFails() {
+        Adoption pending = Adoption.builder().adoptionIdentifier(new AdoptionIdentifier(adoptionId, "A-1"))
+                .adoptionStatus(AdoptionStatus.PENDING).customerId(customerId).creatureId(creatureId).build();
+        when(adoptionRepository.findByAdoptionIdentifier_AdoptionIdIn(anyCollection())).thenReturn(List.of(pending));
+        when(customerAdoptionStatsRepository.recordTransition(customerId, AdoptionStatus.PENDING, AdoptionStatus.APPROVED, 2))
+                .thenReturn(true);
+        doThrow(new IllegalStateException("write failed")).when(adoptionWriter).saveStatuses(anyList(), anyList());
+
+        assertThrows(IllegalStateException.class, () -> adoptionService.transitionAdoptionStatuses(
+                AdoptionStatusTransitionRequestModel.builder().adoptionIds(List.of(adoptionId)).status("APPROVED").build()));
+        verify(customerAdoptionStatsRepository).recordUncheckedTransition(customerId, AdoptionStatus.APPROVED, AdoptionStatus.PENDING);
+    }
+
+    @Test
+    void testTransitionAdoptionStatuses_InvalidRequests() {
+        assertThrows(InvalidInputException.class, () -> adoptionService.transitionAdoptionStatuses(
+                AdoptionStatusTransitionRequestModel.builder().adoptionIds(List.of(adoptionId)).status("UNKNOWN").build()));
+        assertThrows(InvalidInputException.class, () -> adoptionService.transitionAdoptionStatuses(
+                AdoptionStatusTransitionRequestModel.builder().status("APPROVED").build()));
+        assertThrows(InvalidInputException.class, () -> adoptionService.transitionAdoptionStatuses(
+                AdoptionStatusTransitionRequestModel.builder().adoptionIds(List.of(adoptionId))
+                        .filter(Map.of("adoptionStatus", "PENDING")).status("APPROVED").build()));
+
+        when(adoptionRepository.findPageByFilter(any(), isNull(), eq(Sort.Direction.ASC), eq(1001)))
+                .thenReturn(Collections.nCopies(1001, adoption));
+        assertThrows(InvalidInputException.class, () -> adoptionService.transitionAdoptionStatuses(
+                AdoptionStatusTransitionRequestModel.builder().filter(Map.of("adoptionStatus", "PENDING")).status("APPROVED").build()));
+        verifyNoInteractions(adoptionWriter, customerAdoptionStatsRepository);
+    }
+
+    @Test
+    void testGetAdoptionStats_SumsBucketsByStatusLocationAndMonth() {
+        when(adoptionStatsRepository.findBuckets("Nimbasa", "2025-01", null)).thenReturn(List.of(
+                AdoptionStatsBucket.builder().location("Nimbasa").month("2025-01")
+                        .counts(new HashMap<>(Map.of("PENDING", 2L, "COMPLETED", 1L, "CANCELLED", 0L))).build(),
+                AdoptionStatsBucket.builder().location("Nimbasa").month("2025-02")
+                        .counts(new HashMap<>(Map.of("PENDING", 3L))).build()));
+
+        AdoptionStatsResponseModel stats = adoptionService.getAdoptionStats(
+                Map.of("location", "Nimbasa", "fromMonth", "2025-01"));
+
+        assertEquals(6, stats.getTotal());
+        assertEquals(5L, stats.getByStatus().get("PENDING"));
+        assertEquals(0L, stats.getByStatus().get("CANCELLED"));
+        assertEquals(Map.of("PENDING", 5L, "COMPLETED", 1L), stats.getByLocation().get("Nimbasa"));
+        assertEquals(Map.of("PENDING", 2L, "COMPLETED", 1L), stats.getByMonth().get("2025-01"));
+        assertEquals(Map.of("PENDING", 3L), stats.getByMonth().get("2025-02"));
+        verifyNoInteractions(adoptionRepository);
+    }
+
+    @Test
+    void testGetAdoptionStats_InvalidMonth() {
+        assertThrows(InvalidInputException.class, () -> adoptionService.getAdoptionStats(Map.of("toMonth", "2025-13")));
+        verifyNoInteractions(adoptionStatsRepository);
+    }
+
+    @Test
+    void testGetAdoptionStatusHistory_ParsesTheRangeAndMapsTheEvents() {
+        LocalDateTime created = LocalDateTime.of(2025, 3, 1, 10, 0);
+        when(statusEventRepository.findHistory(adoptionId, LocalDateTime.of(2025, 3, 1, 0, 0), LocalDateTime.of(2025, 3, 2, 12, 0)))
+                .thenReturn(List.of(
+                        AdoptionStatusEvent.builder().adoptionId(adoptionId).status(AdoptionStatus.PENDING)
+                                .timestamp(created).adoptionVersion(0L).build(),
+                        AdoptionStatusEvent.builder().adoptionId(adoptionId).previousStatus(AdoptionStatus.PENDING)
+                                .status(AdoptionStatus.APPROVED).timestamp(created.plusHours(2)).adoptionVersion(1L)
+                                .timeInPreviousStatusMs(7_200_000L).build()));
+
+        List<AdoptionStatusHistoryEntryModel> history = adoptionService.getAdoptionStatusHistory(adoptionId,
+                Map.of("from", "2025-03-01", "to", "2025-03-02T12:00:00"));
+
+        assertEquals(2, history.size());
+        assertNull(history.get(0).getPreviousStatus());
+        assertEquals(AdoptionStatus.APPROVED, history.get(1).getStatus());
+        assertEquals(7_200_000L, history.get(1).getTimeInPreviousStatusMs());
+        verifyNoInteractions(adoptionRepository);
+    }
+
+    @Test
+    void testGetAdoptionStatusHistory_UnknownAdoption() {
+        when(statusEventRepository.findHistory(adoptionId, null, null)).thenReturn(List.of());
+        when(adoptionRepository.findByAdoptionIdentifier_AdoptionId(adoptionId)).thenReturn(null);
+
+        assertThrows(NotFoundException.class, () -> adoptionService.getAdoptionStatusHistory(adoptionId, Map.of()));
+    }
+
+    @Test
+    void testGetAdoptionStatusHistory_InvalidFrom() {
+        assertThrows(InvalidInputException.class,
+                () -> adoptionService.getAdoptionStatusHistory(adoptionId, Map.of("from", "yesterday")));
+        verifyNoInteractions(statusEventRepository);
+    }
+
+    @Test
+    void testGetAdoptionFunnel_CombinesEnteredLeftAndTimeInStatusPerBucket() {
+        LocalDateTime from = LocalDateTime.of(2025, 3, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2025, 3, 3, 0, 0);
+        when(statusEventRepository.countTransitions(from, to, "day")).thenReturn(List.of(
+                new AdoptionStatusTransitionCount(from, null, AdoptionStatus.PENDING, 3, 0, 0),
+                new AdoptionStatusTransitionCount(from, AdoptionStatus.PENDING, AdoptionStatus.APPROVED, 2, 2, 4_000),
+                new AdoptionStatusTransitionCount(from.plusDays(1), AdoptionStatus.PENDING, AdoptionStatus.CANCELLED, 2, 1, 5_000)));
+
+        AdoptionFunnelResponseModel funnel = adoptionService.getAdoptionFunnel(
+                Map.of("from", "2025-03-01", "to", "2025-03-03"));
+
+        assertEquals("day", funnel.getBucket());
+        assertEquals(2, funnel.getBuckets().size());
+        AdoptionFunnelResponseModel.StatusFlow firstDayPending = funnel.getBuckets().get(0).getByStatus().get("PENDING");
+        assertEquals(3, firstDayPending.getEntered());
+        assertEquals(2, firstDayPending.getLeft());
+        assertEquals(2_000L, firstDayPending.getAverageTimeInStatusMs());
+        AdoptionFunnelResponseModel.StatusFlow pending = funnel.getTotals().get("PENDING");
+        assertEquals(4, pending.getLeft());
+        assertEquals(3_000L, pending.getAverageTimeInStatusMs());
+        assertEquals(1, funnel.getTotals().get("CANCELLED").getEntered());
+        assertNull(funnel.getTotals().get("COMPLETED").getAverageTimeInStatusMs());
+        verifyNoInteractions(adoptionRepository);
+    }
+
+    @Test
+    void testGetAdoptionFunnel_TooManyBuckets() {
+        assertThrows(InvalidInputException.class, () -> adoptionService.getAdoptionFunnel(
+                Map.of("from", "2020-01-01", "to", "2025-01-01", "bucket", "hour")));
+        assertThrows(InvalidInputException.class, () -> adoptionService.getAdoptionFunnel(Map.of("bucket", "fortnight")));
+        verifyNoInteractions(statusEventRepository);
+    }
+
+    @Test
+    void testGetAdoptionByAdoptionId_RunsLookupsConcurrently() {
+        when(adoptionRepository.findByAdoptionIdentifier_AdoptionId(adoptionId)).thenReturn(adoption);
+        when(adoptionResponseMapper.entityToResponseModel(adoption)).thenReturn(emptyDetailsResponse);
+        when(customerServiceClient.getCustomerByCustomerId(customerId)).thenAnswer(invocation -> {
+            Thread.sleep(300);
+            return customerResponseModel;
+        });
+        when(creatureServiceClient.getCreatureByCreatureId(creatureId)).thenAnswer(invocation -> {
+            Thread.sleep(300);
+            return creatureResponseModel;
+        });
+        when(trainingServiceClient.getTrainingByTrainingId(trainingId)).thenAnswer(invocation -> {
+            Thread.sleep(300);
+            return trainingResponseModel;
+        });
+
+        long start = System.nanoTime();
+        AdoptionResponseModel result = adoptionService.getAdoptionByAdoptionId(adoptionId, AdoptionExpansion.ALL);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertTrue(elapsedMs < 800, "lookups should overlap, took " + elapsedMs + "ms");
+        assertEquals("John", result.getCustomerFirstName());
+        assertEquals("Pikachu", result.getCreatureName());
+        assertEquals("Basic Training", result.getTrainingName());
+        assertFalse(result.isPartialDetails());
+    }
+
+    @Test
+    void testGetAdoptionByAdoptionId_SlowBranchReturnsPartialDetails() {
+        AdoptionServiceImpl service = new AdoptionServiceImpl(adoptionRepository, adoptionResponseMapper,
+                adoptionRequestMapper, customerServiceClient, creatureServiceClient,
+                new AdoptionEnrichmentExecutor(200), readModel, customerAdoptionStatsRepository, adoptionWriter,
+                adoptionStatsRepository, statusEventRepository, 500);
+
+        when(adoptionRepository.findByAdoptionIdentifier_AdoptionId(adoptionId)).thenReturn(adoption);
+        when(adoptionResponseMapper.entityToResponseModel(adoption)).thenReturn(emptyDetailsResponse);
+        when(customerServiceClient.getCustomerByCustomerId(customerId)).thenReturn(customerResponseModel);
+        when(creatureServiceClient.getCreatureByCreatureId(creatureId)).thenReturn(creatureResponseModel);
+        when(trainingServiceClient.getTrainingByTrainingId(trainingId)).thenAnswer(invocation -> {
+            Thread.sleep(5_000);
+            return trainingResponseModel;
+        });
+
+        AdoptionResponseModel result = service.getAdoptionByAdoptionId(adoptionId, AdoptionExpansion.ALL);
+
+        assertEquals("John", result.getCustomerFirstName());
+        assertEquals("Pikachu", result.getCreatureName());
+        assertNull(result.getTrainingName());
+        assertTrue(result.isPartialDetails());
+    }
+
+    @Test
+    void testAddAdoption_RequiredLookupTimesOut_ThrowsDownstreamUnavailable() {
+        AdoptionServiceImpl service = new AdoptionServiceImpl(adoptionRepository, adoptionResponseMapper,
+                adoptionRequestMapper, customerServiceClient, creatureServiceClient,
+                new AdoptionEnrichmentExecutor(200), readModel, customerAdoptionStatsRepository, adoptionWriter,
+                adoptionStatsRepository, statusEventRepository, 500);
+
+        when(customerServiceClient.getCustomerByCustomerId(customerId)).thenAnswer(invocation -> {
+            Thread.sleep(5_000);
+            return customerResponseModel;
+        });
+        when(creatureServiceClient.getCreatureByCreatureId(creatureId)).thenReturn(creatureResponseModel);
+
+        // Answered with 503 rather than the 500 an unmapped exception would give
+        assertThrows(DownstreamUnavailableException.class, () -> service.addAdoption(adoptionRequestModel));
+        verify(customerAdoptionStatsRepository, never()).recordTransition(anyString(), any(), any(), anyInt());
     }
 
     @Test
@@ -437,7 +1122,7 @@ class AdoptionServiceUnitTest {
         ObjectMapper mockMapper = mock(ObjectMapper.class);
 
         // Test CustomerServiceClient
-        CustomerServiceClient customerClient = new CustomerServiceClient(mockRest, mockMapper, "host", "port");
+        CustomerServiceClient customerClient = new CustomerServiceClient(mockRest, mockMapper, "host", "port", ClientCache.disabled(), DownstreamGuards.ofDefaults());
         String customerUrl = "http://host:port/api/v1/customers/" + customerId;
 
         when(mockRest.getForObject(eq(customerUrl), eq(CustomerResponseModel.class)))
@@ -474,7 +1159,7 @@ class AdoptionServiceUnitTest {
         assertThrows(InvalidInputException.class, () -> customerClient.getCustomerByCustomerId(customerId));
 
         // Test CreatureServiceClient
-        CreatureServiceClient creatureClient = new CreatureServiceClient(mockRest, mockMapper, "host", "port");
+        CreatureServiceClient creatureClient = new CreatureServiceClient(mockRest, mockMapper, "host", "port", ClientCache.disabled(), DownstreamGuards.ofDefaults());
         String creatureUrl = "http://host:port/api/v1/creatures/" + creatureId;
 
         when(mockRest.getForObject(eq(creatureUrl), eq(CreatureResponseModel.class)))
@@ -485,14 +1170,17 @@ class AdoptionServiceUnitTest {
         ResponseEntity<CreatureResponseModel> responseEntity =
                 new ResponseEntity<>(creatureResponseModel, HttpStatus.OK);
 
-        when(mockRest.exchange(eq(creatureUrl), eq(HttpMethod.PUT),
+        when(mockRest.exchange(eq(creatureUrl + "/status"), eq(HttpMethod.PATCH),
                 any(HttpEntity.class), eq(CreatureResponseModel.class)))
                 .thenReturn(responseEntity);
 
         assertNotNull(creatureClient.updateCreatureStatus(creatureId, CreatureStatus.ADOPTED));
+        // One PATCH replaces the former read-then-PUT round trip
+        verify(mockRest, never()).exchange(eq(creatureUrl), eq(HttpMethod.PUT),
+                any(HttpEntity.class), eq(CreatureResponseModel.class));
 
         // Test TrainingServiceClient
-        TrainingServiceClient trainingClient = new TrainingServiceClient(mockRest, mockMapper, "host", "port");
+        TrainingServiceClient trainingClient = new TrainingServiceClient(mockRest, mockMapper, "host", "port", ClientCache.disabled(), DownstreamGuards.ofDefaults());
         String trainingUrl = "http://host:port/api/v1/trainings/" + trainingId;
 
         when(mockRest.getForObject(eq(trainingUrl), eq(TrainingResponseModel.class)))
@@ -500,12 +1188,62 @@ class AdoptionServiceUnitTest {
         assertNotNull(trainingClient.getTrainingByTrainingId(trainingId));
     }
 
+    @Test
+    void testServiceClients_BatchLookups() {
+        RestTemplate mockRest = mock(RestTemplate.class);
+        ObjectMapper mockMapper = mock(ObjectMapper.class);
+
+        CustomerServiceClient customerClient = new CustomerServiceClient(mockRest, mockMapper, "host", "port", ClientCache.disabled(), DownstreamGuards.ofDefaults());
+        when(mockRest.exchange(eq("http://host:port/api/v1/customers/batch"), eq(HttpMethod.POST),
+                any(HttpEntity.class), any(ParameterizedTypeReference.class)))
+                .thenReturn(new ResponseEntity<>(List.of(customerResponseModel), HttpStatus.OK));
+        assertEquals(1, customerClient.getCustomersByCustomerIds(Set.of(customerId)).size());
+
+        CreatureServiceClient creatureClient = new CreatureServiceClient(mockRest, mockMapper, "host", "port", ClientCache.disabled(), DownstreamGuards.ofDefaults());
+        when(mockRest.exchange(eq("http://host:port/api/v1/creatures/batch"), eq(HttpMethod.POST),
+                any(HttpEntity.class), any(ParameterizedTypeReference.class)))
+                .thenReturn(new ResponseEntity<>(List.of(creatureResponseModel), HttpStatus.OK));
+        assertEquals(1, creatureClient.getCreaturesByCreatureIds(Set.of(creatureId)).size());
+
+        TrainingServiceClient trainingClient = new TrainingServiceClient(mockRest, mockMapper, "host", "port", ClientCache.disabled(), DownstreamGuards.ofDefaults());
+        when(mockRest.exchange(eq("http://host:port/api/v1/trainings/batch"), eq(HttpMethod.POST),
+                any(HttpEntity.class), any(ParameterizedTypeReference.class)))
+                .thenReturn(new ResponseEntity<>(null, HttpStatus.OK));
+        assertTrue(trainingClient.getTrainingsByTrainingIds(Set.of(trainingId)).isEmpty());
+
+        // Empty id sets never reach the network
+        assertTrue(trainingClient.getTrainingsByTrainingIds(Set.of()).isEmpty());
+        verify(mockRest, times(3)).exchange(anyString(), eq(HttpMethod.POST),
+                any(HttpEntity.class), any(ParameterizedTypeReference.class));
+    }
+
+    @Test
+    void testCreatureServiceClient_CachesLookupsUntilTheServiceWritesAStatus() {
+        RestTemplate mockRest = mock(RestTemplate.class);
+        ClientCache<CreatureResponseModel> cache = new ClientCache<>("creatures", 100,
+                Duration.ofMinutes(1), Duration.ofSeconds(5), new SimpleMeterRegistry());
+        CreatureServiceClient client = new CreatureServiceClient(mockRest, mock(ObjectMapper.class), "host", "port", cache, DownstreamGuards.ofDefaults());
+        String creatureUrl = "http://host:port/api/v1/creatures/" + creatureId;
+        when(mockRest.getForObject(creatureUrl, CreatureResponseModel.class)).thenReturn(creatureResponseModel);
+        when(mockRest.exchange(eq(creatureUrl + "/status"), eq(HttpMethod.PATCH),
+                any(HttpEntity.class), eq(CreatureResponseModel.class)))
+                .thenReturn(new ResponseEntity<>(creatureResponseModel, HttpStatus.OK));
+
+        client.getCreatureByCreatureId(creatureId);
+        client.getCreatureByCreatureId(creatureId);
+        verify(mockRest, times(1)).getForObject(creatureUrl, CreatureResponseModel.class);
+
+        client.updateCreatureStatus(creatureId, CreatureStatus.ADOPTED);
+        client.getCreatureByCreatureId(creatureId);
+        verify(mockRest, times(2)).getForObject(creatureUrl, CreatureResponseModel.class);
+    }
+
     @Test
     void testCreatureServiceClientErrorHandling() {
         // Setup mocks
         RestTemplate mockRest = mock(RestTemplate.class);
         ObjectMapper mockMapper = mock(ObjectMapper.class);
-        CreatureServiceClient client = new CreatureServiceClient(mockRest, mockMapper, "host", "port");
+        CreatureServiceClient client = new CreatureServiceClient(mockRest, mockMapper, "host", "port", ClientCache.disabled(), DownstreamGuards.ofDefaults());
         String creatureUrl = "http://host:port/api/v1/creatures/" + creatureId;
 
         // Test NOT_FOUND exception
@@ -551,7 +1289,7 @@ class AdoptionServiceUnitTest {
         // Setup mocks
         RestTemplate mockRest = mock(RestTemplate.class);
         ObjectMapper mockMapper = mock(ObjectMapper.class);
-        TrainingServiceClient client = new TrainingServiceClient(mockRest, mockMapper, "host", "port");
+        TrainingServiceClient client = new TrainingServiceClient(mockRest, mockMapper, "host", "port", ClientCache.disabled(), DownstreamGuards.ofDefaults());
         String trainingUrl = "http://host:port/api/v1/trainings/" + trainingId;
 
         // Test NOT_FOUND exception
@@ -589,7 +1327,7 @@ class AdoptionServiceUnitTest {
         // Setup mocks
         RestTemplate mockRest = mock(RestTemplate.class);
         ObjectMapper mockMapper = mock(ObjectMapper.class);
-        CustomerServiceClient client = new CustomerServiceClient(mockRest, mockMapper, "host", "port");
+        CustomerServiceClient client = new CustomerServiceClient(mockRest, mockMapper, "host", "port", ClientCache.disabled(), DownstreamGuards.ofDefaults());
         String url = "http://host:port/api/v1/customers/" + customerId;
 
         // Test unexpected HTTP exception
@@ -608,7 +1346,7 @@ class AdoptionServiceUnitTest {
 //        // Setup mocks
 //        RestTemplate mockRest = mock(RestTemplate.class);
 //        ObjectMapper mockMapper = mock(ObjectMapper.class);
-//        CustomerServiceClient client = new CustomerServiceClient(mockRest, mockMapper, "host", "port");
+//        CustomerServiceClient client = new CustomerServiceClient(mockRest, mockMapper, "host", "port", ClientCache.disabled(), DownstreamGuards.ofDefaults());
 //        String url = "http://host:port/api/v1/customers/" + customerId;
 //
 //        // Test error when parsing the error body
@@ -0,0 +1,255 @@
+package com.creatureadoption.adoptions.businesslayer;
+
+import com.creatureadoption.adoptions.dataaccesslayer.*;
+import com.creatureadoption.adoptions.dataaccesslayer.history.AdoptionStatusEventRepository;
+import com.creatureadoption.adoptions.dataaccesslayer.outbox.CreatureStatusOutbox;
+import com.creatureadoption.adoptions.dataaccesslayer.outbox.CreatureStatusOutboxEntry;
+import com.creatureadoption.adoptions.dataaccesslayer.outbox.CreatureStatusOutboxRepository;
+import com.creatureadoption.adoptions.dataaccesslayer.outbox.OutboxEntryState;
+import com.creatureadoption.adoptions.domainclientlayer.CreatureServiceClient;
+import com.creatureadoption.adoptions.domainclientlayer.models.CreatureResponseModel;
+import com.creatureadoption.adoptions.utils.exceptions.InvalidInputException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DataMongoTest
+@ActiveProfiles("test")
+class CreatureStatusRelayIntegrationTest {
+
+    @Autowired
+    private CreatureStatusOutboxRepository outboxRepository;
+
+    @Autowired
+    private AdoptionRepository adoptionRepository;
+
+    @Autowired
+    private AdoptionStatsRepository adoptionStatsRepository;
+
+    @Autowired
+    private AdoptionStatusEventRepository statusEventRepository;
+
+    @Autowired
+    private CustomerAdoptionStatsRepository customerAdoptionStatsRepository;
+
+    private CreatureServiceClient creatureServiceClient;
+    private AdoptionReadModel readModel;
+    private SimpleMeterRegistry meterRegistry;
+    private CreatureStatusRelay relay;
+    private LocalDateTime writtenAt;
+
+    @BeforeEach
+    void setUp() {
+        outboxRepository.deleteAll();
+        adoptionRepository.deleteAll();
+        statusEventRepository.deleteAll();
+        customerAdoptionStatsRepository.deleteAll();
+        AdoptionWriter adoptionWriter = new AdoptionWriter(adoptionRepository, adoptionStatsRepository,
+                statusEventRepository, customerAdoptionStatsRepository, new CreatureStatusOutbox(outboxRepository));
+        creatureServiceClient = mock(CreatureServiceClient.class);
+        readModel = mock(AdoptionReadModel.class);
+        meterRegistry = new SimpleMeterRegistry();
+        // Batches of two, so a handful of entries already takes several batches
+        relay = new CreatureStatusRelay(outboxRepository, adoptionWriter, creatureServiceClient, readModel, meterRegistry,
+                2, 3, 60_000, 60_000);
+        writtenAt = LocalDateTime.now().minusSeconds(30);
+    }
+
+    @Test
+    void relay_ShouldDrainEveryBatchAndEmptyTheOutbox() {
+        for (int i = 0; i < 5; i++) {
+            enqueue(UUID.randomUUID().toString(), CreatureStatus.ADOPTION_PENDING, List.of());
+        }
+        when(creatureServiceClient.updateCreatureStatus(anyString(), any(), anyCollection()))
+                .thenAnswer(invocation -> CreatureResponseModel.builder().creatureId(invocation.getArgument(0)).build());
+
+        relay.relay();
+
+        verify(creatureServiceClient, times(5)).updateCreatureStatus(anyString(), eq(CreatureStatus.ADOPTION_PENDING), anyCollection());
+        verify(readModel, times(5)).upsertCreature(any());
+        assertEquals(0, outboxRepository.count());
+        assertEquals(5, outcome("delivered"));
+        assertEquals(5, meterRegistry.get("adoptions.outbox.delivery.lag").timer().count());
+        assertEquals(0, meterRegistry.get("adoptions.outbox.pending").gauge().value());
+    }
+
+    @Test
+    void relay_ShouldDeliverTheChangesOfOneCreatureInWriteOrder() {
+        String creatureId = UUID.randomUUID().toString();
+        enqueue(creatureId, CreatureStatus.ADOPTION_PENDING, List.of(CreatureStatus.AVAILABLE));
+        enqueue(creatureId, CreatureStatus.RESERVED, List.of(CreatureStatus.ADOPTION_PENDING));
+        enqueue(creatureId, CreatureStatus.ADOPTED, List.of(CreatureStatus.RESERVED));
+
+        relay.relay();
+
+        InOrder inOrder = inOrder(creatureServiceClient);
+        inOrder.verify(creatureServiceClient).updateCreatureStatus(creatureId, CreatureStatus.ADOPTION_PENDING, List.of(CreatureStatus.AVAILABLE));
+        inOrder.verify(creatureServiceClient).updateCreatureStatus(creatureId, CreatureStatus.RESERVED, List.of(CreatureStatus.ADOPTION_PENDING));
+        inOrder.verify(creatureServiceClient).updateCreatureStatus(creatureId, CreatureStatus.ADOPTED, List.of(CreatureStatus.RESERVED));
+        assertEquals(0, outboxRepository.count());
+    }
+
+    @Test
+    void relay_ShouldSendOnlyTheLastOfConsecutiveUnconditionalChanges() {
+        String creatureId = UUID.randomUUID().toString();
+        enqueue(creatureId, CreatureStatus.RESERVED, List.of());
+        enqueue(creatureId, CreatureStatus.AVAILABLE, List.of());
+
+        relay.relay();
+
+        verify(creatureServiceClient, never()).updateCreatureStatus(creatureId, CreatureStatus.RESERVED, List.of());
+        verify(creatureServiceClient).updateCreatureStatus(creatureId, CreatureStatus.AVAILABLE, List.of());
+        assertEquals(1, outcome("superseded"));
+        assertEquals(0, outboxRepository.count());
+    }
+
+    @Test
+    void relay_ShouldStillSendAConditionalChangeFollowedByAnUnconditionalOne() {
+        String creatureId = UUID.randomUUID().toString();
+        enqueue(creatureId, CreatureStatus.RESERVED, List.of(CreatureStatus.AVAILABLE));
+        enqueue(creatureId, CreatureStatus.AVAILABLE, List.of());
+
+        relay.relay();
+
+        InOrder inOrder = inOrder(creatureServiceClient);
+        inOrder.verify(creatureServiceClient).updateCreatureStatus(creatureId, CreatureStatus.RESERVED, List.of(CreatureStatus.AVAILABLE));
+        inOrder.verify(creatureServiceClient).updateCreatureStatus(creatureId, CreatureStatus.AVAILABLE, List.of());
+        assertEquals(0, outcome("superseded"));
+        assertEquals(0, outboxRepository.count());
+    }
+
+    @Test
+    void relay_RetryShouldHoldBackLaterChangesForTheSameCreatureOnly() {
+        String slowCreatureId = UUID.randomUUID().toString();
+        String otherCreatureId = UUID.randomUUID().toString();
+        CreatureStatusOutboxEntry first = enqueue(slowCreatureId, CreatureStatus.RESERVED, List.of(CreatureStatus.ADOPTION_PENDING));
+        enqueue(slowCreatureId, CreatureStatus.ADOPTED, List.of(CreatureStatus.RESERVED));
+        enqueue(otherCreatureId, CreatureStatus.ADOPTION_PENDING, List.of(CreatureStatus.AVAILABLE));
+        when(creatureServiceClient.updateCreatureStatus(eq(slowCreatureId), any(), anyCollection()))
+                .thenThrow(new ResourceAccessException("Connection refused"));
+
+        relay.relay();
+
+        verify(creatureServiceClient).updateCreatureStatus(otherCreatureId, CreatureStatus.ADOPTION_PENDING, List.of(CreatureStatus.AVAILABLE));
+        verify(creatureServiceClient, never()).updateCreatureStatus(eq(slowCreatureId), eq(CreatureStatus.ADOPTED), anyCollection());
+        CreatureStatusOutboxEntry retried = outboxRepository.findById(first.getId()).orElseThrow();
+        assertEquals(1, retried.getAttempts());
+        assertTrue(retried.getNextAttemptAt().isAfter(LocalDateTime.now()));
+        assertEquals(2, outboxRepository.countByState(OutboxEntryState.PENDING));
+        assertEquals(2, meterRegistry.get("adoptions.outbox.pending").gauge().value());
+        assertTrue(meterRegistry.get("adoptions.outbox.lag.seconds").gauge().value() >= 30);
+    }
+
+    @Test
+    void relay_ChangesWaitingOutABackoffShouldNotStarveTheOnesThatAreDue() {
+        String slowCreatureId = UUID.randomUUID().toString();
+        String otherCreatureId = UUID.randomUUID().toString();
+        LocalDateTime retryAt = LocalDateTime.now().plusMinutes(5);
+        // A full batch of entries that are not due yet, written before the ones that are
+        enqueue(slowCreatureId, CreatureStatus.RESERVED, List.of(), retryAt);
+        enqueue(slowCreatureId, CreatureStatus.ADOPTED, List.of(), retryAt);
+        CreatureStatusOutboxEntry writtenDuringBackoff = enqueue(slowCreatureId, CreatureStatus.AVAILABLE, List.of());
+        enqueue(otherCreatureId, CreatureStatus.ADOPTION_PENDING, List.of(CreatureStatus.AVAILABLE));
+
+        relay.relay();
+
+        verify(creatureServiceClient).updateCreatureStatus(otherCreatureId, CreatureStatus.ADOPTION_PENDING, List.of(CreatureStatus.AVAILABLE));
+        verify(creatureServiceClient, never()).updateCreatureStatus(eq(slowCreatureId), any(), anyCollection());
+        CreatureStatusOutboxEntry heldBack = outboxRepository.findById(writtenDuringBackoff.getId()).orElseThrow();
+        assertFalse(heldBack.getNextAttemptAt().isBefore(retryAt.minusSeconds(1)));
+        assertEquals(3, outboxRepository.countByState(OutboxEntryState.PENDING));
+    }
+
+    @Test
+    void relay_RefusedChangeShouldBeKeptAsFailedWithoutBlockingTheNextOne() {
+        String creatureId = UUID.randomUUID().toString();
+        CreatureStatusOutboxEntry refused = enqueue(creatureId, CreatureStatus.ADOPTION_PENDING, List.of(CreatureStatus.AVAILABLE));
+        enqueue(creatureId, CreatureStatus.RESERVED, List.of(CreatureStatus.AVAILABLE));
+        when(creatureServiceClient.updateCreatureStatus(creatureId, CreatureStatus.ADOPTION_PENDING, List.of(CreatureStatus.AVAILABLE)))
+                .thenThrow(new InvalidInputException("Creature cannot move to ADOPTION_PENDING"));
+
+        relay.relay();
+
+        verify(creatureServiceClient).updateCreatureStatus(creatureId, CreatureStatus.RESERVED, List.of(CreatureStatus.AVAILABLE));
+        CreatureStatusOutboxEntry failed = outboxRepository.findById(refused.getId()).orElseThrow();
+        assertEquals(OutboxEntryState.FAILED, failed.getState());
+        assertNotNull(failed.getLastError());
+        assertEquals(0, outboxRepository.countByState(OutboxEntryState.PENDING));
+        assertEquals(1, outcome("failed"));
+    }
+
+    @Test
+    void relay_RefusedConditionalChangeShouldCancelItsAdoptionAndDropItsLaterChanges() {
+        String customerId = UUID.randomUUID().toString();
+        String creatureId = UUID.randomUUID().toString();
+        Adoption adoption = adoptionRepository.save(Adoption.builder()
+                .adoptionIdentifier(new AdoptionIdentifier(UUID.randomUUID().toString(), "ADO-REFUSED"))
+                .customerId(customerId)
+                .creatureId(creatureId)
+                .adoptionStatus(AdoptionStatus.PENDING)
+                .adoptionLocation("Loc")
+                .adoptionDate(LocalDate.now())
+                .lastUpdated(LocalDateTime.now())
+                .build());
+        customerAdoptionStatsRepository.recordTransition(customerId, null, AdoptionStatus.PENDING, 5);
+        adoptionStatsRepository.recordChange(null, adoption);
+        String adoptionId = adoption.getAdoptionIdentifier().getAdoptionId();
+        enqueue(adoptionId, creatureId, CreatureStatus.ADOPTION_PENDING,
+                List.of(CreatureStatus.AVAILABLE, CreatureStatus.RESERVED), null);
+        enqueue(adoptionId, creatureId, CreatureStatus.RESERVED, List.of(), null);
+        when(creatureServiceClient.updateCreatureStatus(eq(creatureId), eq(CreatureStatus.ADOPTION_PENDING), anyCollection()))
+                .thenThrow(new InvalidInputException("Creature is already adopted"));
+
+        relay.relay();
+
+        verify(creatureServiceClient, never()).updateCreatureStatus(eq(creatureId), eq(CreatureStatus.RESERVED), anyCollection());
+        assertEquals(AdoptionStatus.CANCELLED, adoptionRepository.findByAdoptionIdentifier_AdoptionId(adoptionId).getAdoptionStatus());
+        CustomerAdoptionStats counts = customerAdoptionStatsRepository.findById(customerId).orElseThrow();
+        assertEquals(0, counts.getCount(AdoptionStatus.PENDING));
+        assertEquals(1, counts.getCount(AdoptionStatus.CANCELLED));
+        assertEquals(AdoptionStatus.CANCELLED, statusEventRepository.findHistory(adoptionId, null, null).get(0).getStatus());
+        assertEquals(1, outboxRepository.count());
+        assertEquals(1, outboxRepository.countByState(OutboxEntryState.FAILED));
+        assertEquals(1, outcome("compensated"));
+    }
+
+    private CreatureStatusOutboxEntry enqueue(String creatureId, CreatureStatus status, List<CreatureStatus> expectedStatuses) {
+        return enqueue(UUID.randomUUID().toString(), creatureId, status, expectedStatuses, null);
+    }
+
+    private CreatureStatusOutboxEntry enqueue(String creatureId, CreatureStatus status, List<CreatureStatus> expectedStatuses,
+                                              LocalDateTime nextAttemptAt) {
+        return enqueue(UUID.randomUUID().toString(), creatureId, status, expectedStatuses, nextAttemptAt);
+    }
+
+    private CreatureStatusOutboxEntry enqueue(String adoptionId, String creatureId, CreatureStatus status,
+                                              List<CreatureStatus> expectedStatuses, LocalDateTime nextAttemptAt) {
+        writtenAt = writtenAt.plusSeconds(1);
+        return outboxRepository.insert(CreatureStatusOutboxEntry.builder()
+                .creatureId(creatureId)
+                .adoptionId(adoptionId)
+                .status(status)
+                .expectedStatuses(expectedStatuses)
+                .createdAt(writtenAt)
+                .nextAttemptAt(nextAttemptAt != null ? nextAttemptAt : writtenAt)
+                .build());
+    }
+
+    private double outcome(String outcome) {
+        return meterRegistry.get("adoptions.outbox.entries").tag("outcome", outcome).counter().count();
+    }
+}
@@ -0,0 +1,151 @@
+package com.creatureadoption.adoptions.businesslayer;
+
+import com.creatureadoption.adoptions.dataaccesslayer.IdempotencyRecord;
+import com.creatureadoption.adoptions.dataaccesslayer.IdempotencyRecordRepository;
+import com.creatureadoption.adoptions.presentationlayer.AdoptionResponseModel;
+import com.creatureadoption.adoptions.utils.exceptions.IdempotencyConflictException;
+import com.creatureadoption.adoptions.utils.exceptions.InvalidInputException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataMongoTest
+@ActiveProfiles("test")
+@Import(IdempotencyService.class)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+class IdempotencyServiceIntegrationTest {
+
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    @Autowired
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    private String key;
+    private Map<String, String> request;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyRecordRepository.deleteAll();
+        key = UUID.randomUUID().toString();
+        request = Map.of("customerId", UUID.randomUUID().toString());
+    }
+
+    @Test
+    void execute_RetryStorm_ShouldRunTheActionExactlyOnce() throws Exception {
+        AtomicInteger runs = new AtomicInteger();
+        String adoptionId = UUID.randomUUID().toString();
+        Callable<AdoptionResponseModel> attempt = () -> idempotencyService.execute(key, request, AdoptionResponseModel.class, () -> {
+            runs.incrementAndGet();
+            sleep(200);
+            AdoptionResponseModel created = new AdoptionResponseModel();
+            created.setAdoptionId(adoptionId);
+            return created;
+        });
+
+        List<Callable<AdoptionResponseModel>> attempts = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            attempts.add(attempt);
+        }
+        int conflicts = 0;
+        try (ExecutorService executor = Executors.newFixedThreadPool(20)) {
+            for (Future<AdoptionResponseModel> result : executor.invokeAll(attempts)) {
+                try {
+                    assertEquals(adoptionId, result.get().getAdoptionId());
+                } catch (ExecutionException e) {
+                    assertInstanceOf(IdempotencyConflictException.class, e.getCause());
+                    conflicts++;
+                }
+            }
+        }
+
+        assertEquals(1, runs.get());
+        assertTrue(conflicts < 20);
+        assertEquals(adoptionId, attempt.call().getAdoptionId());
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void execute_WhenActionFails_ShouldReleaseTheKey() {
+        assertThrows(IllegalStateException.class, () -> idempotencyService.execute(key, request, AdoptionResponseModel.class, () -> {
+            throw new IllegalStateException("downstream unavailable");
+        }));
+
+        AdoptionResponseModel result = idempotencyService.execute(key, request, AdoptionResponseModel.class,
+                AdoptionResponseModel::new);
+
+        assertNotNull(result);
+        assertTrue(idempotencyRecordRepository.findById(key).orElseThrow().isCompleted());
+    }
+
+    @Test
+    void execute_AfterTheLeaseOfADeadAttemptExpired_ShouldTakeTheKeyOver() {
+        AtomicInteger runs = new AtomicInteger();
+        // Claimed by an attempt that died without completing or releasing the key
+        idempotencyService.execute(key, request, AdoptionResponseModel.class, () -> {
+            IdempotencyRecord claimed = idempotencyRecordRepository.findById(key).orElseThrow();
+            claimed.setLeaseExpiresAt(LocalDateTime.now().minusSeconds(1));
+            claimed.setOwner("dead-attempt");
+            idempotencyRecordRepository.save(claimed);
+            return new AdoptionResponseModel();
+        });
+
+        AdoptionResponseModel result = idempotencyService.execute(key, request, AdoptionResponseModel.class, () -> {
+            runs.incrementAndGet();
+            return new AdoptionResponseModel();
+        });
+
+        assertNotNull(result);
+        assertEquals(1, runs.get());
+        IdempotencyRecord record = idempotencyRecordRepository.findById(key).orElseThrow();
+        assertTrue(record.isCompleted());
+        assertNotEquals("dead-attempt", record.getOwner());
+    }
+
+    @Test
+    void execute_WhileTheLeaseIsHeld_ShouldThrowIdempotencyConflictException() {
+        idempotencyService.execute(key, request, AdoptionResponseModel.class, () -> {
+            // A retry arriving while the first attempt is still running
+            assertThrows(IdempotencyConflictException.class, () -> idempotencyService.execute(key, request,
+                    AdoptionResponseModel.class, AdoptionResponseModel::new));
+            return new AdoptionResponseModel();
+        });
+
+        assertTrue(idempotencyRecordRepository.findById(key).orElseThrow().isCompleted());
+    }
+
+    @Test
+    void execute_WithKeyUsedForAnotherRequest_ShouldThrowInvalidInputException() {
+        idempotencyService.execute(key, request, AdoptionResponseModel.class, AdoptionResponseModel::new);
+
+        assertThrows(InvalidInputException.class, () -> idempotencyService.execute(key,
+                Map.of("customerId", "someone-else"), AdoptionResponseModel.class, AdoptionResponseModel::new));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,25 +1,40 @@
 package com.creatureadoption.adoptions.dataaccesslayer;
 
+import org.bson.Document;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 @DataMongoTest
 @ActiveProfiles("test")
+@Import(AdoptionIndexInitializer.class)
 public class AdoptionRepositoryIntegrationTest {
 
     @Autowired
     private AdoptionRepository adoptionRepository;
 
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
     private Adoption adoption1;
     private Adoption adoption2;
     private String customerId1;
@@ -106,6 +121,22 @@ public class AdoptionRepositoryIntegrationTest {
         assertEquals(adoptionId, foundAdoption.getAdoptionIdentifier().getAdoptionId());
     }
 
+    @Test
+    void save_ShouldStoreTheAdoptionIdAsTheIdAndEveryUuidInBinary() {
+        // Act
+        Document stored = mongoTemplate.getCollection("adoptions")
+                .find(new Document("_id", adoption1.getId())).first();
+
+        // Assert: subtype 4 is what the driver reads back as a UUID
+        assertNotNull(stored);
+        assertEquals(UUID.fromString(adoption1.getAdoptionIdentifier().getAdoptionId()), stored.get("_id"));
+        assertEquals("TEST-CODE-1", stored.getString("adoptionCode"));
+        assertFalse(stored.containsKey("adoptionIdentifier"));
+        assertEquals(UUID.fromString(customerId1), stored.get("customerId"));
+        assertEquals(UUID.fromString(creatureId1), stored.get("creatureId"));
+        assertEquals(UUID.fromString(adoption1.getTrainingId()), stored.get("trainingId"));
+    }
+
     @Test
     void findByAdoptionIdentifier_AdoptionId_WithInvalidId_ShouldReturnNull() {
         // Act
@@ -251,4 +282,219 @@ public class AdoptionRepositoryIntegrationTest {
         assertEquals("Updated Summary", retrievedAdoption.getSummary());
         assertEquals(AdoptionStatus.COMPLETED, retrievedAdoption.getAdoptionStatus());
     }
+
+    @Test
+    void findByFilter_ShouldCombineAllFilters() {
+        // Act
+        List<Adoption> matching = adoptionRepository.findByFilter(AdoptionFilter.builder()
+                .customerId(customerId1).adoptionStatus(AdoptionStatus.PENDING).build());
+        List<Adoption> notMatching = adoptionRepository.findByFilter(AdoptionFilter.builder()
+                .customerId(customerId1).creatureId(creatureId2).build());
+        List<Adoption> unfiltered = adoptionRepository.findByFilter(new AdoptionFilter());
+
+        // Assert
+        assertEquals(1, matching.size());
+        assertEquals("Test Adoption 1", matching.get(0).getSummary());
+        assertTrue(notMatching.isEmpty());
+        assertEquals(2, unfiltered.size());
+    }
+
+    @Test
+    void findByFilter_EveryFilterCombination_ShouldUseAnIndex() {
+        // Arrange
+        List<AdoptionFilter> filters = new ArrayList<>();
+        for (int mask = 1; mask < 128; mask++) {
+            filters.add(AdoptionFilter.builder()
+                    .adoptionId((mask & 1) != 0 ? adoption1.getAdoptionIdentifier().getAdoptionId() : null)
+                    .customerId((mask & 2) != 0 ? customerId1 : null)
+                    .creatureId((mask & 4) != 0 ? creatureId1 : null)
+                    .adoptionStatus((mask & 8) != 0 ? AdoptionStatus.PENDING : null)
+                    .profileStatus((mask & 16) != 0 ? ProfileStatus.ACTIVE : null)
+                    .trainingId((mask & 32) != 0 ? adoption1.getTrainingId() : null)
+                    .adoptionLocation((mask & 64) != 0 ? adoption1.getAdoptionLocation() : null)
+                    .build());
+        }
+        QueryMapper queryMapper = new QueryMapper(mongoTemplate.getConverter());
+
+        for (AdoptionFilter filter : filters) {
+            // Act
+            Query query = AdoptionRepositoryCustomImpl.buildQuery(filter);
+            Document mappedQuery = queryMapper.getMappedObject(query.getQueryObject(),
+                    mongoTemplate.getConverter().getMappingContext().getPersistentEntity(Adoption.class));
+            Document explain = mongoTemplate.getCollection("adoptions").find(mappedQuery).explain();
+            String winningPlan = explain.get("queryPlanner", Document.class).get("winningPlan", Document.class).toJson();
+
+            // Assert: the adoptionId alone is answered straight from the _id index
+            assertTrue(winningPlan.contains("IXSCAN") || winningPlan.contains("IDHACK"),
+                    "expected an index scan for " + filter + " but got " + winningPlan);
+            assertFalse(winningPlan.contains("COLLSCAN"), "unexpected collection scan for " + filter);
+        }
+    }
+
+    @Test
+    void findPageByFilter_ShouldWalkEveryAdoptionOnceInKeysetOrder() {
+        // Arrange: ties on lastUpdated must be broken by _id
+        LocalDateTime sameInstant = LocalDateTime.of(2024, 1, 1, 12, 0);
+        for (int i = 0; i < 5; i++) {
+            adoptionRepository.save(Adoption.builder()
+                    .adoptionIdentifier(new AdoptionIdentifier("PAGE-" + i))
+                    .lastUpdated(sameInstant)
+                    .customerId(customerId1)
+                    .adoptionStatus(AdoptionStatus.PENDING)
+                    .build());
+        }
+        AdoptionFilter filter = AdoptionFilter.builder().customerId(customerId1).build();
+
+        // Act
+        Set<UUID> seen = new HashSet<>();
+        List<Adoption> ordered = new ArrayList<>();
+        AdoptionCursor after = null;
+        List<Adoption> page;
+        do {
+            page = adoptionRepository.findPageByFilter(filter, after, Sort.Direction.DESC, 2);
+            page.forEach(a -> assertTrue(seen.add(a.getId()), "adoption returned twice: " + a.getId()));
+            ordered.addAll(page);
+            after = page.isEmpty() ? null : AdoptionCursor.of(page.get(page.size() - 1));
+        } while (page.size() == 2);
+
+        // Assert
+        assertEquals(6, ordered.size());
+        for (int i = 1; i < ordered.size(); i++) {
+            Adoption previous = ordered.get(i - 1);
+            Adoption current = ordered.get(i);
+            assertFalse(current.getLastUpdated().isAfter(previous.getLastUpdated()));
+        }
+    }
+
+    @Test
+    void findPageByFilter_ShouldWalkAdoptionsWithoutLastUpdatedInBothDirections() {
+        // Arrange: a page boundary falls among the adoptions without lastUpdated
+        String customerId = UUID.randomUUID().toString();
+        for (int i = 0; i < 4; i++) {
+            adoptionRepository.save(Adoption.builder()
+                    .adoptionIdentifier(new AdoptionIdentifier("NULL-" + i))
+                    .lastUpdated(i < 3 ? null : LocalDateTime.of(2024, 1, 1, 12, 0))
+                    .customerId(customerId)
+                    .adoptionStatus(AdoptionStatus.PENDING)
+                    .build());
+        }
+        AdoptionFilter filter = AdoptionFilter.builder().customerId(customerId).build();
+
+        for (Sort.Direction direction : Sort.Direction.values()) {
+            // Act: the cursor goes through its encoded form, as it does for a client
+            Set<UUID> seen = new HashSet<>();
+            AdoptionCursor after = null;
+            List<Adoption> page;
+            do {
+                page = adoptionRepository.findPageByFilter(filter, after, direction, 2);
+                page.forEach(a -> assertTrue(seen.add(a.getId()), "adoption returned twice: " + a.getId()));
+                after = page.isEmpty() ? null : AdoptionCursor.decode(AdoptionCursor.of(page.get(page.size() - 1)).encode());
+            } while (page.size() == 2);
+
+            // Assert
+            assertEquals(4, seen.size(), "adoptions walked " + direction);
+        }
+    }
+
+    @Test
+    void findPageByFilter_WithCursor_ShouldUseAnIndex() {
+        // Arrange
+        AdoptionCursor after = new AdoptionCursor(LocalDateTime.now(), adoption1.getId());
+        Query query = AdoptionRepositoryCustomImpl.buildPageQuery(new AdoptionFilter(), after, Sort.Direction.DESC, 50);
+        QueryMapper queryMapper = new QueryMapper(mongoTemplate.getConverter());
+        var entity = mongoTemplate.getConverter().getMappingContext().getPersistentEntity(Adoption.class);
+
+        // Act
+        Document explain = mongoTemplate.getCollection("adoptions")
+                .find(queryMapper.getMappedObject(query.getQueryObject(), entity))
+                .sort(queryMapper.getMappedSort(query.getSortObject(), entity))
+                .limit(50)
+                .explain();
+        String winningPlan = explain.get("queryPlanner", Document.class).get("winningPlan", Document.class).toJson();
+
+        // Assert
+        assertTrue(winningPlan.contains("keyset_idx"), "expected the keyset index but got " + winningPlan);
+        assertFalse(winningPlan.contains("COLLSCAN"));
+    }
+
+    @Test
+    void streamByFilter_ShouldReturnEveryMatchAcrossCursorBatches() {
+        // Arrange: more matches than one cursor batch holds
+        for (int i = 0; i < 5; i++) {
+            adoptionRepository.save(Adoption.builder()
+                    .adoptionIdentifier(new AdoptionIdentifier("EXPORT-" + i))
+                    .lastUpdated(LocalDateTime.now())
+                    .customerId(customerId2)
+                    .adoptionStatus(AdoptionStatus.PENDING)
+                    .build());
+        }
+
+        // Act
+        List<Adoption> exported;
+        try (Stream<Adoption> stream = adoptionRepository.streamByFilter(
+                AdoptionFilter.builder().customerId(customerId2).build(), 2)) {
+            exported = stream.toList();
+        }
+
+        // Assert
+        assertEquals(6, exported.size());
+        assertTrue(exported.stream().allMatch(a -> customerId2.equals(a.getCustomerId())));
+    }
+
+    @Test
+    void updateStatuses_ShouldWriteEveryStatusInOneBulkWrite() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        adoption1.setAdoptionStatus(AdoptionStatus.COMPLETED);
+        adoption1.setLastUpdated(now);
+        adoption2.setAdoptionStatus(AdoptionStatus.CANCELLED);
+        adoption2.setLastUpdated(now);
+        adoption2.setSummary("Not written by a status update");
+
+        // Act
+        int matched = adoptionRepository.updateStatuses(List.of(adoption1, adoption2));
+
+        // Assert
+        assertEquals(2, matched);
+        Adoption updated1 = adoptionRepository.findById(adoption1.getId()).orElseThrow();
+        Adoption updated2 = adoptionRepository.findById(adoption2.getId()).orElseThrow();
+        assertEquals(AdoptionStatus.COMPLETED, updated1.getAdoptionStatus());
+        assertEquals(now, updated1.getLastUpdated());
+        assertEquals(AdoptionStatus.CANCELLED, updated2.getAdoptionStatus());
+        assertEquals("Test Adoption 2", updated2.getSummary());
+        assertEquals(updated1.getVersion(), adoption1.getVersion());
+    }
+
+    @Test
+    void updateStatuses_ShouldSkipAnAdoptionChangedSinceItWasRead() {
+        // Arrange
+        Adoption stale = adoptionRepository.findById(adoption1.getId()).orElseThrow();
+        adoption1.setSummary("Written in the meantime");
+        adoptionRepository.save(adoption1);
+        stale.setAdoptionStatus(AdoptionStatus.CANCELLED);
+
+        // Act
+        int matched = adoptionRepository.updateStatuses(List.of(stale, adoption2));
+
+        // Assert
+        assertEquals(1, matched);
+        assertEquals(AdoptionStatus.PENDING, adoptionRepository.findById(adoption1.getId()).orElseThrow().getAdoptionStatus());
+    }
+
+    @Test
+    void save_ShouldRefuseAnAdoptionReadAtAnOlderVersion() {
+        // Arrange
+        Adoption stale = adoptionRepository.findById(adoption1.getId()).orElseThrow();
+        Long version = stale.getVersion();
+        adoption1.setSummary("Written in the meantime");
+        adoptionRepository.save(adoption1);
+        stale.setSummary("Lost update");
+
+        // Act & Assert
+        assertNotNull(version);
+        assertEquals(version + 1, adoption1.getVersion());
+        assertThrows(OptimisticLockingFailureException.class, () -> adoptionRepository.save(stale));
+        assertEquals("Written in the meantime",
+                adoptionRepository.findById(adoption1.getId()).orElseThrow().getSummary());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,116 @@
+package com.creatureadoption.adoptions.dataaccesslayer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataMongoTest
+@ActiveProfiles("test")
+class AdoptionStatsRepositoryIntegrationTest {
+
+    private static final String NIMBASA = "Nimbasa City Adoption Center";
+    private static final String CASTELIA = "Castelia City Adoption Center";
+
+    @Autowired
+    private AdoptionStatsRepository statsRepository;
+
+    @Autowired
+    private AdoptionRepository adoptionRepository;
+
+    @BeforeEach
+    void setUp() {
+        statsRepository.deleteAll();
+        adoptionRepository.deleteAll();
+    }
+
+    @Test
+    void recordChange_ShouldMoveAnAdoptionBetweenBuckets() {
+        // Arrange
+        Adoption pending = adoption(NIMBASA, LocalDate.of(2025, 1, 31), AdoptionStatus.PENDING);
+        Adoption approvedElsewhere = adoption(CASTELIA, LocalDate.of(2025, 2, 1), AdoptionStatus.APPROVED);
+
+        // Act
+        statsRepository.recordChange(null, pending);
+        statsRepository.recordChange(null, pending);
+        statsRepository.recordChange(pending, approvedElsewhere);
+
+        // Assert
+        AdoptionStatsBucket january = statsRepository.findBuckets(NIMBASA, null, null).get(0);
+        assertEquals("2025-01", january.getMonth());
+        assertEquals(1, january.getCount(AdoptionStatus.PENDING));
+        AdoptionStatsBucket february = statsRepository.findBuckets(CASTELIA, null, null).get(0);
+        assertEquals("2025-02", february.getMonth());
+        assertEquals(1, february.getCount(AdoptionStatus.APPROVED));
+    }
+
+    @Test
+    void recordChanges_ShouldMergeChangesPerBucket() {
+        // Arrange
+        LocalDate date = LocalDate.of(2025, 3, 10);
+        Adoption pending = adoption(NIMBASA, date, AdoptionStatus.PENDING);
+        Adoption completed = adoption(NIMBASA, date, AdoptionStatus.COMPLETED);
+        statsRepository.recordChanges(List.of(), List.of());
+        statsRepository.recordChange(null, pending);
+        statsRepository.recordChange(null, pending);
+
+        // Act
+        statsRepository.recordChanges(List.of(pending, pending), List.of(completed, completed));
+
+        // Assert
+        List<AdoptionStatsBucket> buckets = statsRepository.findBuckets(null, "2025-03", "2025-03");
+        assertEquals(1, buckets.size());
+        assertEquals(0, buckets.get(0).getCount(AdoptionStatus.PENDING));
+        assertEquals(2, buckets.get(0).getCount(AdoptionStatus.COMPLETED));
+        assertTrue(statsRepository.findBuckets(null, "2025-04", null).isEmpty());
+    }
+
+    @Test
+    void rebuild_ShouldMatchTheIncrementalCounts() {
+        // Arrange
+        List<Adoption> adoptions = List.of(
+                adoption(NIMBASA, LocalDate.of(2025, 1, 1), AdoptionStatus.PENDING),
+                adoption(NIMBASA, LocalDate.of(2025, 1, 31), AdoptionStatus.COMPLETED),
+                adoption(NIMBASA, LocalDate.of(2025, 2, 1), AdoptionStatus.COMPLETED),
+                adoption(CASTELIA, LocalDate.of(2024, 12, 31), AdoptionStatus.CANCELLED),
+                adoption(CASTELIA, null, AdoptionStatus.PENDING));
+        adoptionRepository.saveAll(adoptions);
+        adoptions.forEach(adoption -> statsRepository.recordChange(null, adoption));
+        List<AdoptionStatsBucket> incremental = sorted(statsRepository.findAll());
+
+        // Act
+        statsRepository.rebuild();
+
+        // Assert
+        List<AdoptionStatsBucket> rebuilt = sorted(statsRepository.findAll());
+        assertEquals(4, rebuilt.size());
+        for (int i = 0; i < rebuilt.size(); i++) {
+            assertEquals(incremental.get(i).getId(), rebuilt.get(i).getId());
+            assertEquals(incremental.get(i).getMonth(), rebuilt.get(i).getMonth());
+            assertEquals(incremental.get(i).getCounts(), rebuilt.get(i).getCounts());
+        }
+    }
+
+    private static List<AdoptionStatsBucket> sorted(List<AdoptionStatsBucket> buckets) {
+        return buckets.stream().sorted(Comparator.comparing(AdoptionStatsBucket::getId)).toList();
+    }
+
+    private static Adoption adoption(String location, LocalDate adoptionDate, AdoptionStatus status) {
+        return Adoption.builder()
+                .adoptionIdentifier(new AdoptionIdentifier(UUID.randomUUID().toString(), "ADO-STATS"))
+                .customerId(UUID.randomUUID().toString())
+                .creatureId(UUID.randomUUID().toString())
+                .adoptionLocation(location)
+                .adoptionDate(adoptionDate)
+                .adoptionStatus(status)
+                .build();
+    }
+}
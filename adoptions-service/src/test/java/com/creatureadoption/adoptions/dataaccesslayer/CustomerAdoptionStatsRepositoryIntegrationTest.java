@@ -0,0 +1,177 @@
+package com.creatureadoption.adoptions.dataaccesslayer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataMongoTest
+@ActiveProfiles("test")
+public class CustomerAdoptionStatsRepositoryIntegrationTest {
+
+    private static final int LIMIT = 2;
+
+    @Autowired
+    private CustomerAdoptionStatsRepository statsRepository;
+
+    @Autowired
+    private AdoptionRepository adoptionRepository;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    private String customerId;
+
+    @BeforeEach
+    void setUp() {
+        statsRepository.deleteAll();
+        adoptionRepository.deleteAll();
+        customerId = UUID.randomUUID().toString();
+    }
+
+    @Test
+    void recordTransition_ShouldCountNewAdoptionsAndMoves() {
+        assertTrue(statsRepository.recordTransition(customerId, null, AdoptionStatus.PENDING, LIMIT));
+        assertTrue(statsRepository.recordTransition(customerId, null, AdoptionStatus.PENDING, LIMIT));
+        assertTrue(statsRepository.recordTransition(customerId, AdoptionStatus.PENDING, AdoptionStatus.APPROVED, LIMIT));
+
+        CustomerAdoptionStats stats = statsRepository.findById(customerId).orElseThrow();
+        assertEquals(1, stats.getCount(AdoptionStatus.PENDING));
+        assertEquals(1, stats.getCount(AdoptionStatus.APPROVED));
+        assertEquals(0, stats.getCount(AdoptionStatus.COMPLETED));
+    }
+
+    @Test
+    void recordTransition_AtLimit_ShouldRefuseNewAdoptionsAndCompletionsOnly() {
+        for (int i = 0; i < LIMIT + 1; i++) {
+            statsRepository.recordTransition(customerId, null, AdoptionStatus.PENDING, LIMIT);
+        }
+        assertTrue(statsRepository.recordTransition(customerId, AdoptionStatus.PENDING, AdoptionStatus.COMPLETED, LIMIT));
+        assertTrue(statsRepository.recordTransition(customerId, AdoptionStatus.PENDING, AdoptionStatus.COMPLETED, LIMIT));
+
+        assertFalse(statsRepository.recordTransition(customerId, null, AdoptionStatus.PENDING, LIMIT));
+        assertFalse(statsRepository.recordTransition(customerId, AdoptionStatus.PENDING, AdoptionStatus.COMPLETED, LIMIT));
+        assertTrue(statsRepository.recordTransition(customerId, AdoptionStatus.PENDING, AdoptionStatus.CANCELLED, LIMIT));
+
+        CustomerAdoptionStats stats = statsRepository.findById(customerId).orElseThrow();
+        assertEquals(LIMIT, stats.getCount(AdoptionStatus.COMPLETED));
+        assertEquals(0, stats.getCount(AdoptionStatus.PENDING));
+        assertEquals(1, stats.getCount(AdoptionStatus.CANCELLED));
+    }
+
+    @Test
+    void recordTransition_ForACustomerWithoutCounts_ShouldRecountTheAdoptionsBeforeMovingOne() {
+        adoptionRepository.save(Adoption.builder().adoptionIdentifier(new AdoptionIdentifier("UNCOUNTED-1"))
+                .customerId(customerId).adoptionStatus(AdoptionStatus.PENDING).build());
+        adoptionRepository.save(Adoption.builder().adoptionIdentifier(new AdoptionIdentifier("UNCOUNTED-2"))
+                .customerId(customerId).adoptionStatus(AdoptionStatus.COMPLETED).build());
+
+        assertTrue(statsRepository.recordTransition(customerId, AdoptionStatus.PENDING, AdoptionStatus.APPROVED, LIMIT));
+
+        CustomerAdoptionStats stats = statsRepository.findById(customerId).orElseThrow();
+        assertEquals(0, stats.getCount(AdoptionStatus.PENDING));
+        assertEquals(1, stats.getCount(AdoptionStatus.APPROVED));
+        assertEquals(1, stats.getCount(AdoptionStatus.COMPLETED));
+    }
+
+    @Test
+    void recordTransition_ForAnAdoptionNobodyCounted_ShouldNeverStoreANegativeCount() {
+        assertFalse(statsRepository.recordTransition(customerId, AdoptionStatus.PENDING, AdoptionStatus.APPROVED, LIMIT));
+
+        CustomerAdoptionStats stats = statsRepository.findById(customerId).orElseThrow();
+        assertTrue(stats.getCounts().values().stream().allMatch(count -> count >= 0));
+        assertEquals(0, stats.getCount(AdoptionStatus.APPROVED));
+    }
+
+    @Test
+    void recordUncheckedTransition_ShouldGiveBackAtTheLimitAndNeverCreateCounts() {
+        for (int i = 0; i < LIMIT; i++) {
+            statsRepository.recordTransition(customerId, null, AdoptionStatus.COMPLETED, LIMIT);
+        }
+
+        // Removing a completed adoption and then giving the removal back passes the limit both ways
+        assertTrue(statsRepository.recordUncheckedTransition(customerId, AdoptionStatus.COMPLETED, null));
+        assertTrue(statsRepository.recordUncheckedTransition(customerId, null, AdoptionStatus.COMPLETED));
+        assertFalse(statsRepository.recordUncheckedTransition(UUID.randomUUID().toString(), AdoptionStatus.PENDING, null));
+
+        assertEquals(LIMIT, statsRepository.findById(customerId).orElseThrow().getCount(AdoptionStatus.COMPLETED));
+        assertEquals(1, statsRepository.count());
+    }
+
+    @Test
+    void recordTransition_ConcurrentCompletions_ShouldNeverExceedLimit() throws Exception {
+        int attempts = 10;
+        for (int i = 0; i < attempts; i++) {
+            statsRepository.recordTransition(customerId, null, AdoptionStatus.APPROVED, LIMIT);
+        }
+
+        List<Callable<Boolean>> completions = new ArrayList<>();
+        for (int i = 0; i < attempts; i++) {
+            completions.add(() -> statsRepository.recordTransition(
+                    customerId, AdoptionStatus.APPROVED, AdoptionStatus.COMPLETED, LIMIT));
+        }
+        int succeeded = 0;
+        try (ExecutorService executor = Executors.newFixedThreadPool(attempts)) {
+            for (Future<Boolean> result : executor.invokeAll(completions)) {
+                if (result.get()) {
+                    succeeded++;
+                }
+            }
+        }
+
+        assertEquals(LIMIT, succeeded);
+        assertEquals(LIMIT, statsRepository.findById(customerId).orElseThrow().getCount(AdoptionStatus.COMPLETED));
+    }
+
+    @Test
+    void recordTransition_ConcurrentFirstAdoptions_ShouldAllBeCounted() throws Exception {
+        int attempts = 10;
+        List<Callable<Boolean>> additions = new ArrayList<>();
+        for (int i = 0; i < attempts; i++) {
+            additions.add(() -> statsRepository.recordTransition(customerId, null, AdoptionStatus.PENDING, LIMIT));
+        }
+        try (ExecutorService executor = Executors.newFixedThreadPool(attempts)) {
+            for (Future<Boolean> result : executor.invokeAll(additions)) {
+                assertTrue(result.get());
+            }
+        }
+
+        assertEquals(attempts, statsRepository.findById(customerId).orElseThrow().getCount(AdoptionStatus.PENDING));
+    }
+
+    @Test
+    void rebuild_ShouldRecountEveryCustomerFromAdoptions() {
+        String otherCustomerId = UUID.randomUUID().toString();
+        adoptionRepository.save(Adoption.builder().adoptionIdentifier(new AdoptionIdentifier("STATS-1"))
+                .customerId(customerId).adoptionStatus(AdoptionStatus.COMPLETED).build());
+        adoptionRepository.save(Adoption.builder().adoptionIdentifier(new AdoptionIdentifier("STATS-2"))
+                .customerId(customerId).adoptionStatus(AdoptionStatus.COMPLETED).build());
+        adoptionRepository.save(Adoption.builder().adoptionIdentifier(new AdoptionIdentifier("STATS-3"))
+                .customerId(customerId).adoptionStatus(AdoptionStatus.PENDING).build());
+        adoptionRepository.save(Adoption.builder().adoptionIdentifier(new AdoptionIdentifier("STATS-4"))
+                .customerId(otherCustomerId).adoptionStatus(AdoptionStatus.APPROVED).build());
+        statsRepository.save(CustomerAdoptionStats.builder().customerId(UUID.randomUUID().toString()).build());
+
+        statsRepository.rebuild();
+
+        assertEquals(2, statsRepository.count());
+        CustomerAdoptionStats stats = statsRepository.findById(customerId).orElseThrow();
+        assertEquals(2, stats.getCount(AdoptionStatus.COMPLETED));
+        assertEquals(1, stats.getCount(AdoptionStatus.PENDING));
+        assertEquals(1, statsRepository.findById(otherCustomerId).orElseThrow().getCount(AdoptionStatus.APPROVED));
+        assertFalse(statsRepository.recordTransition(customerId, null, AdoptionStatus.PENDING, LIMIT));
+        assertFalse(mongoTemplate.collectionExists("customer_adoption_stats_rebuild"));
+    }
+}
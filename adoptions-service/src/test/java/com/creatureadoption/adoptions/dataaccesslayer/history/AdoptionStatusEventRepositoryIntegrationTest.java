@@ -0,0 +1,154 @@
+package com.creatureadoption.adoptions.dataaccesslayer.history;
+
+import com.creatureadoption.adoptions.dataaccesslayer.Adoption;
+import com.creatureadoption.adoptions.dataaccesslayer.AdoptionIdentifier;
+import com.creatureadoption.adoptions.dataaccesslayer.AdoptionStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataMongoTest
+@ActiveProfiles("test")
+class AdoptionStatusEventRepositoryIntegrationTest {
+
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2025, 3, 3, 9, 0);
+
+    @Autowired
+    private AdoptionStatusEventRepository eventRepository;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository.deleteAll();
+    }
+
+    @Test
+    void recordTransitions_ShouldAppendOnlyStatusChangesWithTheTimeSpentInThePreviousStatus() {
+        // Arrange
+        String adoptionId = UUID.randomUUID().toString();
+        Adoption pending = adoption(adoptionId, AdoptionStatus.PENDING, MONDAY, 0L);
+        Adoption renamed = adoption(adoptionId, AdoptionStatus.PENDING, MONDAY.plusHours(1), 1L);
+        Adoption approved = adoption(adoptionId, AdoptionStatus.APPROVED, MONDAY.plusHours(3), 2L);
+
+        // Act
+        eventRepository.recordTransitions(Collections.singletonList(null), List.of(pending));
+        eventRepository.recordTransitions(List.of(pending), List.of(renamed));
+        eventRepository.recordTransitions(List.of(renamed), List.of(approved));
+
+        // Assert
+        List<AdoptionStatusEvent> history = eventRepository.findHistory(adoptionId, null, null);
+        assertEquals(2, history.size());
+        assertNull(history.get(0).getPreviousStatus());
+        assertNull(history.get(0).getTimeInPreviousStatusMs());
+        assertEquals(AdoptionStatus.PENDING, history.get(1).getPreviousStatus());
+        assertEquals(AdoptionStatus.APPROVED, history.get(1).getStatus());
+        assertEquals(2L, history.get(1).getAdoptionVersion());
+        assertEquals(3 * 3_600_000L, history.get(1).getTimeInPreviousStatusMs());
+    }
+
+    @Test
+    void recordTransitions_ForAnAdoptionWithoutHistory_ShouldLeaveTheTimeInStatusUnknown() {
+        // Arrange
+        String adoptionId = UUID.randomUUID().toString();
+
+        // Act
+        eventRepository.recordTransitions(List.of(adoption(adoptionId, AdoptionStatus.PENDING, MONDAY, 4L)),
+                List.of(adoption(adoptionId, AdoptionStatus.CANCELLED, MONDAY, 5L)));
+
+        // Assert
+        AdoptionStatusEvent event = eventRepository.findHistory(adoptionId, null, null).get(0);
+        assertEquals(AdoptionStatus.PENDING, event.getPreviousStatus());
+        assertNull(event.getTimeInPreviousStatusMs());
+    }
+
+    @Test
+    void recordTransitions_ForARemovedAdoption_ShouldCloseItsHistoryAndStayOutOfTheTransitionCounts() {
+        // Arrange
+        String adoptionId = UUID.randomUUID().toString();
+        Adoption pending = adoption(adoptionId, AdoptionStatus.PENDING, LocalDateTime.now().minusHours(1), 0L);
+
+        // Act
+        eventRepository.recordTransitions(Collections.singletonList(null), List.of(pending));
+        eventRepository.recordTransitions(List.of(pending), Collections.singletonList(null));
+
+        // Assert
+        List<AdoptionStatusEvent> history = eventRepository.findHistory(adoptionId, null, null);
+        assertEquals(2, history.size());
+        assertTrue(history.get(1).isRemoved());
+        assertNull(history.get(1).getStatus());
+        assertEquals(AdoptionStatus.PENDING, history.get(1).getPreviousStatus());
+        assertNotNull(history.get(1).getTimeInPreviousStatusMs());
+        List<AdoptionStatusTransitionCount> counts = eventRepository.countTransitions(
+                LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(1), "day");
+        assertEquals(1, counts.stream().mapToLong(AdoptionStatusTransitionCount::getCount).sum());
+    }
+
+    @Test
+    void findHistory_ShouldKeepToTheRange() {
+        // Arrange
+        String adoptionId = UUID.randomUUID().toString();
+        Adoption pending = adoption(adoptionId, AdoptionStatus.PENDING, MONDAY, 0L);
+        Adoption approved = adoption(adoptionId, AdoptionStatus.APPROVED, MONDAY.plusDays(1), 1L);
+        Adoption completed = adoption(adoptionId, AdoptionStatus.COMPLETED, MONDAY.plusDays(2), 2L);
+        eventRepository.recordTransitions(Arrays.asList(null, pending, approved), List.of(pending, approved, completed));
+
+        // Act
+        List<AdoptionStatusEvent> history = eventRepository.findHistory(adoptionId, MONDAY.plusDays(1), MONDAY.plusDays(2));
+
+        // Assert
+        assertEquals(1, history.size());
+        assertEquals(AdoptionStatus.APPROVED, history.get(0).getStatus());
+    }
+
+    @Test
+    void countTransitions_ShouldGroupByBucketAndTransition() {
+        // Arrange
+        String first = UUID.randomUUID().toString();
+        String second = UUID.randomUUID().toString();
+        eventRepository.recordTransitions(Arrays.asList(null, null),
+                List.of(adoption(first, AdoptionStatus.PENDING, MONDAY, 0L), adoption(second, AdoptionStatus.PENDING, MONDAY, 0L)));
+        eventRepository.recordTransitions(
+                List.of(adoption(first, AdoptionStatus.PENDING, MONDAY, 0L), adoption(second, AdoptionStatus.PENDING, MONDAY, 0L)),
+                List.of(adoption(first, AdoptionStatus.APPROVED, MONDAY.plusHours(2), 1L),
+                        adoption(second, AdoptionStatus.APPROVED, MONDAY.plusDays(8), 1L)));
+
+        // Act
+        List<AdoptionStatusTransitionCount> days = eventRepository.countTransitions(MONDAY.minusDays(1), MONDAY.plusDays(30), "day");
+        List<AdoptionStatusTransitionCount> weeks = eventRepository.countTransitions(MONDAY.minusDays(1), MONDAY.plusDays(30), "week");
+
+        // Assert
+        days.sort(Comparator.comparing(AdoptionStatusTransitionCount::getBucket).thenComparing(AdoptionStatusTransitionCount::getStatus));
+        assertEquals(3, days.size());
+        assertEquals(MONDAY.toLocalDate().atStartOfDay(), days.get(0).getBucket());
+        assertEquals(2, days.get(0).getCount());
+        assertEquals(AdoptionStatus.APPROVED, days.get(1).getStatus());
+        assertEquals(1, days.get(1).getTimedCount());
+        assertEquals(2 * 3_600_000L, days.get(1).getTotalTimeInPreviousStatusMs());
+        assertEquals(MONDAY.plusDays(8).toLocalDate().atStartOfDay(), days.get(2).getBucket());
+
+        weeks.sort(Comparator.comparing(AdoptionStatusTransitionCount::getBucket).thenComparing(AdoptionStatusTransitionCount::getStatus));
+        assertEquals(3, weeks.size());
+        assertEquals(MONDAY.toLocalDate().atStartOfDay(), weeks.get(1).getBucket());
+        assertEquals(MONDAY.toLocalDate().plusWeeks(1).atStartOfDay(), weeks.get(2).getBucket());
+        assertTrue(eventRepository.countTransitions(MONDAY.plusDays(30), MONDAY.plusDays(31), "day").isEmpty());
+    }
+
+    private static Adoption adoption(String adoptionId, AdoptionStatus status, LocalDateTime lastUpdated, Long version) {
+        return Adoption.builder()
+                .adoptionIdentifier(new AdoptionIdentifier(adoptionId, "HIST-CODE"))
+                .adoptionStatus(status)
+                .lastUpdated(lastUpdated)
+                .version(version)
+                .build();
+    }
+}
@@ -0,0 +1,107 @@
+package com.creatureadoption.adoptions.domainclientlayer;
+
+import com.creatureadoption.adoptions.utils.exceptions.NotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClientCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void get_ShouldServeRepeatedLookupsFromMemoryAndCountHitsAndMisses() {
+        // Arrange
+        ClientCache<String> cache = new ClientCache<>("customers", 100, Duration.ofMinutes(1), Duration.ofSeconds(5), meterRegistry);
+        AtomicInteger calls = new AtomicInteger();
+
+        // Act
+        for (int i = 0; i < 3; i++) {
+            assertEquals("Ash", cache.get("c-1", id -> lookUp(calls)));
+        }
+        cache.invalidate("c-1");
+        cache.get("c-1", id -> lookUp(calls));
+
+        // Assert
+        assertEquals(2, calls.get());
+        assertEquals(2.0, meterRegistry.get("cache.gets").tag("cache", "customers").tag("result", "hit").functionCounter().count());
+        assertEquals(2.0, meterRegistry.get("cache.gets").tag("cache", "customers").tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    void get_ShouldRememberNotFoundUntilItsShorterTtlPasses() throws InterruptedException {
+        // Arrange
+        ClientCache<String> cache = new ClientCache<>("creatures", 100, Duration.ofMinutes(1), Duration.ofMillis(50), meterRegistry);
+        AtomicInteger calls = new AtomicInteger();
+
+        // Act
+        for (int i = 0; i < 2; i++) {
+            NotFoundException e = assertThrows(NotFoundException.class, () -> cache.get("missing", id -> {
+                calls.incrementAndGet();
+                throw new NotFoundException("Creature not found: " + id);
+            }));
+            assertEquals("Creature not found: missing", e.getMessage());
+        }
+        Thread.sleep(100);
+        assertEquals("Pikachu", cache.get("missing", id -> {
+            calls.incrementAndGet();
+            return "Pikachu";
+        }));
+
+        // Assert
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void get_InvalidatedWhileTheLookupIsInFlight_ShouldNotCacheTheOldAnswer() throws Exception {
+        // Arrange
+        ClientCache<String> cache = new ClientCache<>("trainings", 100, Duration.ofMinutes(1), Duration.ofSeconds(5), meterRegistry);
+        CountDownLatch lookupStarted = new CountDownLatch(1);
+        CountDownLatch invalidated = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+
+        // Act
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            Future<String> stale = executor.submit(() -> cache.get("t-1", id -> {
+                calls.incrementAndGet();
+                lookupStarted.countDown();
+                await(invalidated);
+                return "Old name";
+            }));
+            await(lookupStarted);
+            cache.invalidate("t-1");
+            invalidated.countDown();
+            assertEquals("Old name", stale.get());
+        }
+        String fresh = cache.get("t-1", id -> {
+            calls.incrementAndGet();
+            return "New name";
+        });
+
+        // Assert
+        assertEquals("New name", fresh);
+        assertEquals(2, calls.get());
+    }
+
+    private static String lookUp(AtomicInteger calls) {
+        calls.incrementAndGet();
+        return "Ash";
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.creatureadoption.adoptions.domainclientlayer;
+
+import com.creatureadoption.adoptions.utils.TimeBudget;
+import com.creatureadoption.adoptions.utils.exceptions.DownstreamUnavailableException;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DownstreamGuardsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+    private final BulkheadRegistry bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom()
+            .maxConcurrentCalls(1)
+            .maxWaitDuration(Duration.ZERO)
+            .build());
+    private final DownstreamGuards guards = new DownstreamGuards(circuitBreakerRegistry, bulkheadRegistry, meterRegistry);
+
+    @Test
+    void call_ShouldSkipTheNetworkWhileTheCircuitIsOpen() {
+        // Arrange
+        AtomicInteger calls = new AtomicInteger();
+        circuitBreakerRegistry.circuitBreaker("creatures").transitionToOpenState();
+
+        // Act & Assert
+        assertThrows(DownstreamUnavailableException.class, () -> guards.call("creatures", calls::incrementAndGet));
+        assertEquals(0, calls.get());
+        assertEquals(1.0, rejected("creatures", "circuit-open"));
+        assertEquals(1, guards.call("customers", calls::incrementAndGet));
+    }
+
+    @Test
+    void call_ShouldRefuseACallOnceTheDownstreamHasAsManyInFlightAsItsBulkheadAllows() throws Exception {
+        // Arrange
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            executor.submit(() -> guards.call("trainings", () -> {
+                started.countDown();
+                await(release);
+                return "tr-1";
+            }));
+            started.await();
+
+            // Act & Assert
+            assertThrows(DownstreamUnavailableException.class, () -> guards.call("trainings", () -> "tr-2"));
+            release.countDown();
+        }
+        assertEquals(1.0, rejected("trainings", "bulkhead-full"));
+    }
+
+    @Test
+    void call_ShouldRefuseACallOnceTheRequestsTimeBudgetIsUsedUp() throws Exception {
+        // Arrange
+        AtomicInteger calls = new AtomicInteger();
+
+        // Act & Assert
+        TimeBudget.bind(System.nanoTime() - 1, () ->
+                assertThrows(DownstreamUnavailableException.class, () -> guards.call("customers", calls::incrementAndGet))
+        ).call();
+        assertEquals(0, calls.get());
+        assertEquals(1.0, rejected("customers", "budget-exhausted"));
+        assertNull(TimeBudget.deadline());
+    }
+
+    private double rejected(String downstream, String reason) {
+        return meterRegistry.get("client.calls.rejected").tag("downstream", downstream).tag("reason", reason).counter().count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.creatureadoption.adoptions.domainclientlayer;
+
+import com.creatureadoption.adoptions.utils.TimeBudget;
+import com.creatureadoption.adoptions.utils.TimeBudgetFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequest;
+
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PooledRequestFactoryTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PooledRequestFactory requestFactory;
+
+    @BeforeEach
+    void setUp() {
+        HttpClientProperties properties = new HttpClientProperties();
+        properties.getPools().put("customers", pool("http://localhost:8080/api/v1/customers", 20));
+        properties.getPools().put("creatures", pool("http://localhost:8080/api/v1/creatures", 30));
+        HttpClientProperties.Pool trainings = pool("http://trainings-service:8083/api/v1/trainings", 10);
+        trainings.setDiscovery(new HttpClientProperties.Discovery());
+        trainings.getDiscovery().setInstances(List.of("10.0.0.7:9083"));
+        properties.getPools().put("trainings", trainings);
+        requestFactory = new PooledRequestFactory(properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        requestFactory.close();
+    }
+
+    @Test
+    void createRequest_ShouldUseThePoolOfTheDownstreamTheUrlBelongsTo() {
+        // Act & Assert
+        assertEquals("customers", requestFactory.poolFor(URI.create("http://localhost:8080/api/v1/customers/batch")));
+        assertEquals("creatures", requestFactory.poolFor(URI.create("http://localhost:8080/api/v1/creatures/cr-1")));
+        assertEquals(PooledRequestFactory.FALLBACK_POOL,
+                requestFactory.poolFor(URI.create("http://localhost:8080/api/v1/trainings/tr-1")));
+    }
+
+    @Test
+    void createRequest_ShouldSendARequestOfADiscoveredDownstreamToOneOfItsInstances() throws Exception {
+        // Act
+        ClientHttpRequest request = requestFactory.createRequest(
+                URI.create("http://trainings-service:8083/api/v1/trainings/tr-1?expand=true"), HttpMethod.GET);
+
+        // Assert
+        assertEquals(URI.create("http://10.0.0.7:9083/api/v1/trainings/tr-1?expand=true"), request.getURI());
+    }
+
+    @Test
+    void createRequest_ShouldTellTheDownstreamWhatIsLeftOfTheTimeBudget() throws Exception {
+        // Arrange
+        URI uri = URI.create("http://localhost:8080/api/v1/customers/c-1");
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+
+        // Act
+        ClientHttpRequest unbounded = requestFactory.createRequest(uri, HttpMethod.GET);
+        ClientHttpRequest bounded = TimeBudget.bind(deadline, () -> requestFactory.createRequest(uri, HttpMethod.GET)).call();
+
+        // Assert
+        assertEquals("30000", unbounded.getHeaders().getFirst(TimeBudgetFilter.TIME_BUDGET_HEADER));
+        long budgetMs = Long.parseLong(bounded.getHeaders().getFirst(TimeBudgetFilter.TIME_BUDGET_HEADER));
+        assertTrue(budgetMs > 0 && budgetMs <= 5000);
+    }
+
+    @Test
+    void pools_ShouldPublishTheirLimitsAndConnectionCounts() {
+        // Assert
+        assertEquals(30, gauge("httpcomponents.httpclient.pool.total.max", "creatures"));
+        assertEquals(20, gauge("httpcomponents.httpclient.pool.total.max", "customers"));
+        assertEquals(0, gauge("httpcomponents.httpclient.pool.total.pending", "customers"));
+        assertEquals(0, meterRegistry.get("httpcomponents.httpclient.pool.total.connections")
+                .tag("httpclient", "customers").tag("state", "leased").gauge().value());
+    }
+
+    private double gauge(String name, String pool) {
+        return meterRegistry.get(name).tag("httpclient", pool).gauge().value();
+    }
+
+    private static HttpClientProperties.Pool pool(String baseUrl, int maxTotal) {
+        HttpClientProperties.Pool pool = new HttpClientProperties.Pool();
+        pool.setBaseUrl(baseUrl);
+        pool.setMaxTotal(maxTotal);
+        pool.setMaxPerRoute(maxTotal);
+        return pool;
+    }
+}
@@ -0,0 +1,69 @@
+package com.creatureadoption.adoptions.domainclientlayer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.core5.http.HttpHost;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ServiceInstancesTest {
+
+    private static final HttpHost BUSY = new HttpHost("http", "creatures-1", 8081);
+    private static final HttpHost IDLE = new HttpHost("http", "creatures-2", 8081);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ServiceInstances instances = new ServiceInstances("creatures", discovery("creatures-1:8081", "creatures-2:8081"), meterRegistry);
+    private final Map<HttpHost, Integer> load = Map.of(BUSY, 12, IDLE, 3);
+
+    @Test
+    void choose_ShouldPickTheLessLoadedOfTwoInstances() {
+        // Act & Assert
+        for (int i = 0; i < 20; i++) {
+            assertEquals(IDLE, instances.choose(load::get));
+        }
+    }
+
+    @Test
+    void choose_ShouldAvoidAnInstanceThatFailedItsHealthCheck() {
+        // Arrange
+        instances.refresh(instance -> !instance.equals(IDLE));
+
+        // Act & Assert
+        for (int i = 0; i < 20; i++) {
+            assertEquals(BUSY, instances.choose(load::get));
+        }
+        assertEquals(1.0, meterRegistry.get("client.instances").tag("downstream", "creatures").tag("state", "unhealthy").gauge().value());
+    }
+
+    @Test
+    void choose_ShouldStillPickAnInstanceWhenNoneIsHealthy() {
+        // Arrange
+        instances.refresh(instance -> false);
+
+        // Act & Assert
+        assertEquals(IDLE, instances.choose(load::get));
+        assertNull(new ServiceInstances("trainings", discovery(), meterRegistry).choose(load::get));
+    }
+
+    @Test
+    void refresh_ShouldTakeBackAnInstanceOnceItsHealthCheckPassesAgain() {
+        // Arrange
+        instances.refresh(instance -> false);
+
+        // Act
+        instances.refresh(instance -> true);
+
+        // Assert
+        assertEquals(List.of(BUSY, IDLE), instances.getInstances());
+        assertEquals(2.0, meterRegistry.get("client.instances").tag("downstream", "creatures").tag("state", "healthy").gauge().value());
+    }
+
+    private static HttpClientProperties.Discovery discovery(String... instances) {
+        HttpClientProperties.Discovery discovery = new HttpClientProperties.Discovery();
+        discovery.setInstances(List.of(instances));
+        return discovery;
+    }
+}
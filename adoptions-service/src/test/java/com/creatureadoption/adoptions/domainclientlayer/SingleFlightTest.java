@@ -0,0 +1,92 @@
+package com.creatureadoption.adoptions.domainclientlayer;
+
+import com.creatureadoption.adoptions.utils.exceptions.NotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SingleFlight<String> singleFlight = new SingleFlight<>("creatures", meterRegistry);
+
+    @Test
+    void execute_ShouldShareOneCallBetweenConcurrentCallersOfTheSameId() throws Exception {
+        // Arrange
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        List<Future<String>> results = new ArrayList<>();
+
+        // Act
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 5; i++) {
+                results.add(executor.submit(() -> singleFlight.execute("cr-1", id -> {
+                    calls.incrementAndGet();
+                    await(release);
+                    return "Pikachu";
+                })));
+            }
+            while (lookups("coalesced") < 4) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            // Assert
+            for (Future<String> result : results) {
+                assertEquals("Pikachu", result.get());
+            }
+        }
+        assertEquals(1, calls.get());
+        assertEquals(0.8, meterRegistry.get("client.lookups.coalescing.ratio").tag("lookup", "creatures").gauge().value(), 1e-9);
+    }
+
+    @Test
+    void execute_ShouldHandTheFailureToEveryWaitingCallerAndForgetIt() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+
+        // Act
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<String> leader = executor.submit(() -> singleFlight.execute("cr-2", id -> {
+                await(release);
+                throw new NotFoundException("Creature not found: " + id);
+            }));
+            while (lookups("executed") < 1) {
+                Thread.onSpinWait();
+            }
+            Future<String> follower = executor.submit(() -> singleFlight.execute("cr-2", id -> "unexpected"));
+            while (lookups("coalesced") < 1) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            // Assert
+            assertInstanceOf(NotFoundException.class, assertThrows(ExecutionException.class, leader::get).getCause());
+            assertInstanceOf(NotFoundException.class, assertThrows(ExecutionException.class, follower::get).getCause());
+        }
+        assertEquals("Raichu", singleFlight.execute("cr-2", id -> "Raichu"));
+    }
+
+    private double lookups(String result) {
+        return meterRegistry.get("client.lookups").tag("lookup", "creatures").tag("result", result).counter().count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -64,7 +64,6 @@ public class AdoptionMappersTest {
 
         // Setup adoption entity
         adoption = Adoption.builder()
-                .id("1")
                 .adoptionIdentifier(adoptionIdentifier)
                 .summary("Test Adoption")
                 .totalAdoptions(0)
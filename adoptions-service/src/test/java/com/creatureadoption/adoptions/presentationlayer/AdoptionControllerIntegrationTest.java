@@ -1,5 +1,8 @@
 package com.creatureadoption.adoptions.presentationlayer;
 
+import com.creatureadoption.adoptions.businesslayer.AdoptionETags;
+import com.creatureadoption.adoptions.businesslayer.AdoptionExpansion;
+import com.creatureadoption.adoptions.businesslayer.AdoptionPage;
 import com.creatureadoption.adoptions.businesslayer.AdoptionService;
 import com.creatureadoption.adoptions.dataaccesslayer.*;
 import com.creatureadoption.adoptions.domainclientlayer.CreatureServiceClient;
@@ -11,6 +14,7 @@ import com.creatureadoption.adoptions.domainclientlayer.models.TrainingResponseM
 import com.creatureadoption.adoptions.utils.exceptions.AdoptionLimitExceededException;
 import com.creatureadoption.adoptions.utils.exceptions.InvalidInputException;
 import com.creatureadoption.adoptions.utils.exceptions.NotFoundException;
+import com.creatureadoption.adoptions.utils.exceptions.PreconditionFailedException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -18,18 +22,25 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Consumer;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -165,7 +176,7 @@ public class AdoptionControllerIntegrationTest {
     void getAdoptions_ShouldReturnAllAdoptions() throws Exception {
         // Arrange
         List<AdoptionResponseModel> adoptions = Arrays.asList(adoptionResponseModel1, adoptionResponseModel2);
-        when(adoptionService.getAdoptions(any())).thenReturn(adoptions);
+        when(adoptionService.getAdoptions(any())).thenReturn(new AdoptionPage(adoptions, 50, null));
 
         // Act & Assert
         mockMvc.perform(get("/api/v1/adoptions"))
@@ -177,10 +188,74 @@ public class AdoptionControllerIntegrationTest {
                 .andExpect(jsonPath("$[1].summary", is("Test Adoption 2")));
     }
 
+    @Test
+    void getAdoptions_WithMorePages_ShouldLinkToNextPage() throws Exception {
+        // Arrange
+        when(adoptionService.getAdoptions(any()))
+                .thenReturn(new AdoptionPage(List.of(adoptionResponseModel1), 1, "next-cursor"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/adoptions")
+                        .param("limit", "1")
+                        .param("customerId", validCustomerId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(header().string("Link", containsString("after=next-cursor")))
+                .andExpect(header().string("Link", containsString("customerId=" + validCustomerId)))
+                .andExpect(header().string("Link", containsString("rel=\"next\"")));
+    }
+
+    @Test
+    void getAdoptions_OnLastPage_ShouldNotLinkToNextPage() throws Exception {
+        // Arrange
+        when(adoptionService.getAdoptions(any()))
+                .thenReturn(new AdoptionPage(List.of(adoptionResponseModel1), 50, null));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/adoptions"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Link"));
+    }
+
+    @Test
+    void exportAdoptions_ShouldStreamOneJsonLinePerAdoption() throws Exception {
+        // Arrange
+        doAnswer(invocation -> {
+            Consumer<List<AdoptionResponseModel>> batchConsumer = invocation.getArgument(1);
+            batchConsumer.accept(List.of(adoptionResponseModel1));
+            batchConsumer.accept(List.of(adoptionResponseModel2));
+            return null;
+        }).when(adoptionService).exportAdoptions(any(), any());
+
+        // Act
+        MvcResult started = mockMvc.perform(get("/api/v1/adoptions/export").param("customerId", validCustomerId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        // Assert
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(validAdoptionId, objectMapper.readTree(lines[0]).get("adoptionId").asText());
+        assertEquals(adoptionResponseModel2.getAdoptionId(), objectMapper.readTree(lines[1]).get("adoptionId").asText());
+        verify(adoptionService).exportAdoptions(eq(Map.of("customerId", validCustomerId)), any());
+    }
+
+    @Test
+    void exportAdoptions_WithInvalidCustomerId_ShouldReturn422() throws Exception {
+        mockMvc.perform(get("/api/v1/adoptions/export").param("customerId", "invalid-id"))
+                .andExpect(status().isUnprocessableEntity());
+
+        verify(adoptionService, never()).exportAdoptions(any(), any());
+    }
+
     @Test
     void getAdoptionByAdoptionId_WithValidId_ShouldReturnAdoption() throws Exception {
         // Arrange
-        when(adoptionService.getAdoptionByAdoptionId(validAdoptionId)).thenReturn(adoptionResponseModel1);
+        when(adoptionService.getAdoptionByAdoptionId(validAdoptionId, AdoptionExpansion.ALL)).thenReturn(adoptionResponseModel1);
 
         // Act & Assert
         mockMvc.perform(get("/api/v1/adoptions/{adoptionId}", validAdoptionId))
@@ -192,7 +267,41 @@ public class AdoptionControllerIntegrationTest {
                 .andExpect(jsonPath("$.adoptionStatus").value("PENDING"));
 
         // Verify service was called
-        verify(adoptionService).getAdoptionByAdoptionId(validAdoptionId);
+        verify(adoptionService).getAdoptionByAdoptionId(validAdoptionId, AdoptionExpansion.ALL);
+    }
+
+    @Test
+    void getAdoptionByAdoptionId_WithExpand_ShouldLeaveTheOtherDetailsOutOfTheJson() throws Exception {
+        // Arrange
+        AdoptionResponseModel creatureOnly = new AdoptionResponseModel();
+        creatureOnly.setAdoptionId(validAdoptionId);
+        creatureOnly.setCustomerId(validCustomerId);
+        creatureOnly.setCreatureId(validCreatureId);
+        creatureOnly.setCreatureName("Pikachu");
+        when(adoptionService.getAdoptionByAdoptionId(validAdoptionId, Set.of(AdoptionExpansion.CREATURE))).thenReturn(creatureOnly);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/adoptions/{adoptionId}", validAdoptionId).param("expand", "creature"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.creatureName").value("Pikachu"))
+                .andExpect(jsonPath("$.customerId").value(validCustomerId))
+                .andExpect(jsonPath("$.customerFirstName").doesNotExist())
+                .andExpect(jsonPath("$.trainingName").doesNotExist());
+    }
+
+    @Test
+    void streamAdoptionEvents_WithUnknownStatus_ShouldReturn422() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/adoptions/events").param("adoptionStatus", "ADOPTED"))
+                .andExpect(status().isUnprocessableEntity());
+    }
+
+    @Test
+    void getAdoptionByAdoptionId_WithUnknownExpand_ShouldReturn422() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/adoptions/{adoptionId}", validAdoptionId).param("expand", "owner"))
+                .andExpect(status().isUnprocessableEntity());
+        verify(adoptionService, never()).getAdoptionByAdoptionId(anyString(), any());
     }
 
     @Test
@@ -209,7 +318,7 @@ public class AdoptionControllerIntegrationTest {
     void getAdoptionByAdoptionId_WithNonExistentId_ShouldReturn404() throws Exception {
         // Arrange
         String nonExistentId = UUID.randomUUID().toString();
-        when(adoptionService.getAdoptionByAdoptionId(nonExistentId))
+        when(adoptionService.getAdoptionByAdoptionId(nonExistentId, AdoptionExpansion.ALL))
                 .thenThrow(new NotFoundException("Adoption not found"));
 
         // Act & Assert
@@ -217,6 +326,46 @@ public class AdoptionControllerIntegrationTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    void getAdoptionByAdoptionId_ShouldReturnETag() throws Exception {
+        // Arrange
+        adoptionResponseModel1.setVersion(2L);
+        when(adoptionService.getAdoptionByAdoptionId(validAdoptionId, AdoptionExpansion.ALL)).thenReturn(adoptionResponseModel1);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/adoptions/{adoptionId}", validAdoptionId))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, AdoptionETags.of(adoptionResponseModel1)));
+        verify(adoptionService, never()).getAdoptionETag(anyString(), any());
+    }
+
+    @Test
+    void getAdoptionByAdoptionId_WithMatchingIfNoneMatch_ShouldReturn304WithoutReadingTheAdoption() throws Exception {
+        // Arrange
+        when(adoptionService.getAdoptionETag(validAdoptionId, AdoptionExpansion.ALL)).thenReturn("\"2-0123456789abcdef\"");
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/adoptions/{adoptionId}", validAdoptionId)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"1-fedcba9876543210\", W/\"2-0123456789abcdef\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"2-0123456789abcdef\""))
+                .andExpect(content().string(""));
+        verify(adoptionService, never()).getAdoptionByAdoptionId(anyString(), any());
+    }
+
+    @Test
+    void getAdoptionByAdoptionId_WithStaleIfNoneMatch_ShouldReturnTheAdoption() throws Exception {
+        // Arrange
+        when(adoptionService.getAdoptionETag(validAdoptionId, AdoptionExpansion.ALL)).thenReturn("\"3-0123456789abcdef\"");
+        when(adoptionService.getAdoptionByAdoptionId(validAdoptionId, AdoptionExpansion.ALL)).thenReturn(adoptionResponseModel1);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/adoptions/{adoptionId}", validAdoptionId)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"2-0123456789abcdef\""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.adoptionId").value(validAdoptionId));
+    }
+
     @Test
     void addAdoption_WithValidData_ShouldReturnCreatedAdoption() throws Exception {
         // Arrange
@@ -236,6 +385,50 @@ public class AdoptionControllerIntegrationTest {
         verify(adoptionService).addAdoption(any(AdoptionRequestModel.class));
     }
 
+    @Test
+    void addAdoption_RetriedWithSameIdempotencyKey_ShouldReplayFirstResponse() throws Exception {
+        // Arrange
+        String idempotencyKey = UUID.randomUUID().toString();
+        when(adoptionService.addAdoption(any(AdoptionRequestModel.class))).thenReturn(adoptionResponseModel1);
+        String body = objectMapper.writeValueAsString(adoptionRequestModel);
+
+        // Act & Assert
+        for (int attempt = 0; attempt < 3; attempt++) {
+            mockMvc.perform(post("/api/v1/adoptions")
+                            .header("Idempotency-Key", idempotencyKey)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body))
+                    .andExpect(status().isCreated())
+                    .andExpect(header().string("Idempotency-Key", idempotencyKey))
+                    .andExpect(jsonPath("$.adoptionId").value(validAdoptionId));
+        }
+
+        verify(adoptionService, times(1)).addAdoption(any(AdoptionRequestModel.class));
+    }
+
+    @Test
+    void addAdoption_WithIdempotencyKeyReusedForOtherRequest_ShouldReturn422() throws Exception {
+        // Arrange
+        String idempotencyKey = UUID.randomUUID().toString();
+        when(adoptionService.addAdoption(any(AdoptionRequestModel.class))).thenReturn(adoptionResponseModel1);
+        mockMvc.perform(post("/api/v1/adoptions")
+                        .header("Idempotency-Key", idempotencyKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(adoptionRequestModel)))
+                .andExpect(status().isCreated());
+        AdoptionRequestModel otherRequest = AdoptionRequestModel.builder()
+                .summary("Another adoption").customerId(validCustomerId).creatureId(validCreatureId).build();
+
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/adoptions")
+                        .header("Idempotency-Key", idempotencyKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(otherRequest)))
+                .andExpect(status().isUnprocessableEntity());
+
+        verify(adoptionService, times(1)).addAdoption(any(AdoptionRequestModel.class));
+    }
+
     @Test
     void addAdoption_WithCustomerNotFound_ShouldReturn404() throws Exception {
         // Arrange
@@ -291,7 +484,7 @@ public class AdoptionControllerIntegrationTest {
     @Test
     void updateAdoption_WithValidData_ShouldReturnUpdatedAdoption() throws Exception {
         // Arrange
-        when(adoptionService.updateAdoption(any(AdoptionRequestModel.class), eq(validAdoptionId)))
+        when(adoptionService.updateAdoption(any(AdoptionRequestModel.class), eq(validAdoptionId), isNull()))
                 .thenReturn(adoptionResponseModel1);
 
         // Act & Assert
@@ -304,7 +497,7 @@ public class AdoptionControllerIntegrationTest {
                 .andExpect(jsonPath("$.adoptionId").exists());
 
         // Verify service was called with correct parameters
-        verify(adoptionService).updateAdoption(any(AdoptionRequestModel.class), eq(validAdoptionId));
+        verify(adoptionService).updateAdoption(any(AdoptionRequestModel.class), eq(validAdoptionId), isNull());
     }
 
     @Test
@@ -323,7 +516,7 @@ public class AdoptionControllerIntegrationTest {
     void updateAdoption_WithNonExistentId_ShouldReturn404() throws Exception {
         // Arrange
         String nonExistentId = UUID.randomUUID().toString();
-        when(adoptionService.updateAdoption(any(AdoptionRequestModel.class), eq(nonExistentId)))
+        when(adoptionService.updateAdoption(any(AdoptionRequestModel.class), eq(nonExistentId), isNull()))
                 .thenThrow(new NotFoundException("Adoption not found"));
 
         // Act & Assert
@@ -336,7 +529,7 @@ public class AdoptionControllerIntegrationTest {
     @Test
     void updateAdoptionStatus_WithValidData_ShouldReturnUpdatedAdoption() throws Exception {
         // Arrange
-        when(adoptionService.updateAdoptionStatus(eq(validAdoptionId), eq("COMPLETED")))
+        when(adoptionService.updateAdoptionStatus(eq(validAdoptionId), eq("COMPLETED"), isNull()))
                 .thenReturn(adoptionResponseModel1);
 
         // Act & Assert
@@ -347,7 +540,7 @@ public class AdoptionControllerIntegrationTest {
                 .andExpect(jsonPath("$.adoptionId").exists());
 
         // Verify service was called with correct parameters
-        verify(adoptionService).updateAdoptionStatus(eq(validAdoptionId), eq("COMPLETED"));
+        verify(adoptionService).updateAdoptionStatus(eq(validAdoptionId), eq("COMPLETED"), isNull());
     }
 
     @Test
@@ -363,7 +556,7 @@ public class AdoptionControllerIntegrationTest {
     @Test
     void updateAdoptionStatus_WithInvalidStatus_ShouldReturn422() throws Exception {
         // Arrange
-        when(adoptionService.updateAdoptionStatus(validAdoptionId, "INVALID_STATUS"))
+        when(adoptionService.updateAdoptionStatus(validAdoptionId, "INVALID_STATUS", null))
                 .thenThrow(new InvalidInputException("Invalid adoption status"));
 
         // Act & Assert
@@ -375,7 +568,7 @@ public class AdoptionControllerIntegrationTest {
     void updateAdoptionStatus_WithNonExistentId_ShouldReturn404() throws Exception {
         // Arrange
         String nonExistentId = UUID.randomUUID().toString();
-        when(adoptionService.updateAdoptionStatus(nonExistentId, "COMPLETED"))
+        when(adoptionService.updateAdoptionStatus(nonExistentId, "COMPLETED", null))
                 .thenThrow(new NotFoundException("Adoption not found"));
 
         // Act & Assert
@@ -383,6 +576,153 @@ public class AdoptionControllerIntegrationTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    void updateAdoptionStatus_WithIfMatch_ShouldPassTheVersionOn() throws Exception {
+        // Arrange
+        when(adoptionService.updateAdoptionStatus(validAdoptionId, "COMPLETED", 2L))
+                .thenThrow(new PreconditionFailedException("Adoption has changed"));
+
+        // Act & Assert
+        mockMvc.perform(patch("/api/v1/adoptions/{adoptionId}/status/{status}", validAdoptionId, "COMPLETED")
+                        .header(HttpHeaders.IF_MATCH, "\"2-0123456789abcdef\""))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    void updateAdoption_WithConcurrentWrite_ShouldReturn409() throws Exception {
+        // Arrange
+        when(adoptionService.updateAdoption(any(AdoptionRequestModel.class), eq(validAdoptionId), isNull()))
+                .thenThrow(new OptimisticLockingFailureException("Adoption was written concurrently"));
+
+        // Act & Assert
+        mockMvc.perform(put("/api/v1/adoptions/{adoptionId}", validAdoptionId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(adoptionRequestModel)))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void transitionAdoptionStatuses_ShouldReturnOneResultPerAdoption() throws Exception {
+        // Arrange
+        String missingId = UUID.randomUUID().toString();
+        AdoptionStatusTransitionRequestModel request = AdoptionStatusTransitionRequestModel.builder()
+                .adoptionIds(List.of(validAdoptionId, missingId))
+                .status("COMPLETED")
+                .build();
+        when(adoptionService.transitionAdoptionStatuses(any(AdoptionStatusTransitionRequestModel.class))).thenReturn(List.of(
+                AdoptionStatusTransitionResultModel.builder().adoptionId(validAdoptionId)
+                        .outcome(AdoptionStatusTransitionOutcome.UPDATED)
+                        .previousStatus(AdoptionStatus.APPROVED).adoptionStatus(AdoptionStatus.COMPLETED).build(),
+                AdoptionStatusTransitionResultModel.builder().adoptionId(missingId)
+                        .outcome(AdoptionStatusTransitionOutcome.NOT_FOUND).build()));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/adoptions/status-transitions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].outcome", is("UPDATED")))
+                .andExpect(jsonPath("$[0].adoptionStatus", is("COMPLETED")))
+                .andExpect(jsonPath("$[1].adoptionId", is(missingId)))
+                .andExpect(jsonPath("$[1].outcome", is("NOT_FOUND")));
+    }
+
+    @Test
+    void transitionAdoptionStatuses_WithInvalidId_ShouldReturn422() throws Exception {
+        // Arrange
+        AdoptionStatusTransitionRequestModel request = AdoptionStatusTransitionRequestModel.builder()
+                .adoptionIds(List.of(validAdoptionId, "invalid-id"))
+                .status("COMPLETED")
+                .build();
+
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/adoptions/status-transitions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isUnprocessableEntity());
+        verify(adoptionService, never()).transitionAdoptionStatuses(any());
+    }
+
+    @Test
+    void getAdoptionStats_ShouldReturnCountsFromTheRollup() throws Exception {
+        // Arrange
+        AdoptionStatsResponseModel stats = AdoptionStatsResponseModel.builder()
+                .total(3)
+                .byStatus(Map.of("PENDING", 2L, "COMPLETED", 1L))
+                .byLocation(Map.of("Nimbasa City Adoption Center", Map.of("PENDING", 2L, "COMPLETED", 1L)))
+                .byMonth(Map.of("2025-01", Map.of("PENDING", 2L), "2025-02", Map.of("COMPLETED", 1L)))
+                .build();
+        when(adoptionService.getAdoptionStats(any())).thenReturn(stats);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/adoptions/stats")
+                        .param("fromMonth", "2025-01")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", is(3)))
+                .andExpect(jsonPath("$.byStatus.PENDING", is(2)))
+                .andExpect(jsonPath("$.byMonth['2025-02'].COMPLETED", is(1)));
+        verify(adoptionService).getAdoptionStats(Map.of("fromMonth", "2025-01"));
+    }
+
+    @Test
+    void getAdoptionStatusHistory_ShouldReturnTheTransitionsOldestFirst() throws Exception {
+        // Arrange
+        when(adoptionService.getAdoptionStatusHistory(eq(validAdoptionId), any())).thenReturn(List.of(
+                AdoptionStatusHistoryEntryModel.builder().status(AdoptionStatus.PENDING)
+                        .timestamp(LocalDateTime.of(2025, 3, 1, 9, 0)).adoptionVersion(0L).build(),
+                AdoptionStatusHistoryEntryModel.builder().previousStatus(AdoptionStatus.PENDING).status(AdoptionStatus.APPROVED)
+                        .timestamp(LocalDateTime.of(2025, 3, 1, 11, 0)).adoptionVersion(1L).timeInPreviousStatusMs(7_200_000L).build()));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/adoptions/{adoptionId}/history", validAdoptionId)
+                        .param("from", "2025-03-01")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[1].previousStatus", is("PENDING")))
+                .andExpect(jsonPath("$[1].timeInPreviousStatusMs", is(7_200_000)));
+        verify(adoptionService).getAdoptionStatusHistory(validAdoptionId, Map.of("from", "2025-03-01"));
+    }
+
+    @Test
+    void getAdoptionStatusHistory_WithInvalidId_ShouldReturn422() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/adoptions/{adoptionId}/history", "invalid-id"))
+                .andExpect(status().isUnprocessableEntity());
+        verify(adoptionService, never()).getAdoptionStatusHistory(anyString(), any());
+    }
+
+    @Test
+    void getAdoptionFunnel_ShouldReturnTheFlowPerStatus() throws Exception {
+        // Arrange
+        AdoptionFunnelResponseModel funnel = AdoptionFunnelResponseModel.builder()
+                .bucket("week")
+                .totals(Map.of("PENDING", new AdoptionFunnelResponseModel.StatusFlow(4, 3, 3_000L)))
+                .buckets(List.of())
+                .build();
+        when(adoptionService.getAdoptionFunnel(any())).thenReturn(funnel);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/adoptions/funnel")
+                        .param("bucket", "week")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.bucket", is("week")))
+                .andExpect(jsonPath("$.totals.PENDING.left", is(3)))
+                .andExpect(jsonPath("$.totals.PENDING.averageTimeInStatusMs", is(3000)));
+        verify(adoptionService).getAdoptionFunnel(Map.of("bucket", "week"));
+    }
+
+    @Test
+    void rebuildAdoptionStats_ShouldReturn204() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/adoptions/stats/rebuild"))
+                .andExpect(status().isNoContent());
+        verify(adoptionService).rebuildAdoptionStats();
+    }
+
     @Test
     void deleteAdoption_WithValidId_ShouldReturn204() throws Exception {
         // Act & Assert
@@ -428,7 +768,7 @@ public class AdoptionControllerIntegrationTest {
         // Arrange
         List<AdoptionResponseModel> filteredAdoptions = Collections.singletonList(adoptionResponseModel1);
         when(adoptionService.getAdoptions(Collections.singletonMap("customerId", validCustomerId)))
-                .thenReturn(filteredAdoptions);
+                .thenReturn(new AdoptionPage(filteredAdoptions, 50, null));
 
         // Act & Assert
         mockMvc.perform(get("/api/v1/adoptions")
@@ -455,7 +795,7 @@ public class AdoptionControllerIntegrationTest {
         // Arrange
         List<AdoptionResponseModel> filteredAdoptions = Collections.singletonList(adoptionResponseModel1);
         when(adoptionService.getAdoptions(Collections.singletonMap("creatureId", validCreatureId)))
-                .thenReturn(filteredAdoptions);
+                .thenReturn(new AdoptionPage(filteredAdoptions, 50, null));
 
         // Act & Assert
         mockMvc.perform(get("/api/v1/adoptions")
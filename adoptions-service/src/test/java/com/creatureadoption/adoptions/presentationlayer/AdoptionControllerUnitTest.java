@@ -1,5 +1,7 @@
 package com.creatureadoption.adoptions.presentationlayer;
 
+import com.creatureadoption.adoptions.businesslayer.AdoptionExpansion;
+import com.creatureadoption.adoptions.businesslayer.AdoptionPage;
 import com.creatureadoption.adoptions.businesslayer.AdoptionService;
 import com.creatureadoption.adoptions.dataaccesslayer.AdoptionStatus;
 import com.creatureadoption.adoptions.dataaccesslayer.CreatureStatus;
@@ -117,7 +119,7 @@ public class AdoptionControllerUnitTest {
         // Arrange
         Map<String, String> queryParams = new HashMap<>();
         List<AdoptionResponseModel> expectedAdoptions = Arrays.asList(adoptionResponseModel1, adoptionResponseModel2);
-        when(adoptionService.getAdoptions(queryParams)).thenReturn(expectedAdoptions);
+        when(adoptionService.getAdoptions(queryParams)).thenReturn(new AdoptionPage(expectedAdoptions, 50, null));
 
         // Act
         ResponseEntity<List<AdoptionResponseModel>> response = adoptionController.getAdoptions(queryParams);
@@ -134,7 +136,7 @@ public class AdoptionControllerUnitTest {
         // Arrange
         Map<String, String> queryParams = Collections.singletonMap("customerId", validCustomerId);
         List<AdoptionResponseModel> expectedAdoptions = Collections.singletonList(adoptionResponseModel1);
-        when(adoptionService.getAdoptions(queryParams)).thenReturn(expectedAdoptions);
+        when(adoptionService.getAdoptions(queryParams)).thenReturn(new AdoptionPage(expectedAdoptions, 50, null));
 
         // Act
         ResponseEntity<List<AdoptionResponseModel>> response = adoptionController.getAdoptions(queryParams);
@@ -162,7 +164,7 @@ public class AdoptionControllerUnitTest {
         // Arrange
         Map<String, String> queryParams = Collections.singletonMap("creatureId", validCreatureId);
         List<AdoptionResponseModel> expectedAdoptions = Collections.singletonList(adoptionResponseModel1);
-        when(adoptionService.getAdoptions(queryParams)).thenReturn(expectedAdoptions);
+        when(adoptionService.getAdoptions(queryParams)).thenReturn(new AdoptionPage(expectedAdoptions, 50, null));
 
         // Act
         ResponseEntity<List<AdoptionResponseModel>> response = adoptionController.getAdoptions(queryParams);
@@ -188,16 +190,16 @@ public class AdoptionControllerUnitTest {
     @Test
     void getAdoptionByAdoptionId_WithValidId_ShouldReturnAdoption() {
         // Arrange
-        when(adoptionService.getAdoptionByAdoptionId(validAdoptionId)).thenReturn(adoptionResponseModel1);
+        when(adoptionService.getAdoptionByAdoptionId(validAdoptionId, AdoptionExpansion.ALL)).thenReturn(adoptionResponseModel1);
 
         // Act
-        ResponseEntity<AdoptionResponseModel> response = adoptionController.getAdoptionByAdoptionId(validAdoptionId);
+        ResponseEntity<AdoptionResponseModel> response = adoptionController.getAdoptionByAdoptionId(validAdoptionId, null, null);
 
         // Assert
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(adoptionResponseModel1, response.getBody());
         assertEquals(validAdoptionId, response.getBody().getAdoptionId());
-        verify(adoptionService).getAdoptionByAdoptionId(validAdoptionId);
+        verify(adoptionService).getAdoptionByAdoptionId(validAdoptionId, AdoptionExpansion.ALL);
     }
 
     @Test
@@ -206,19 +208,19 @@ public class AdoptionControllerUnitTest {
         String invalidId = "invalid-id"; // Not UUID format
 
         // Act & Assert
-        assertThrows(InvalidInputException.class, () -> adoptionController.getAdoptionByAdoptionId(invalidId));
-        verify(adoptionService, never()).getAdoptionByAdoptionId(anyString());
+        assertThrows(InvalidInputException.class, () -> adoptionController.getAdoptionByAdoptionId(invalidId, null, null));
+        verify(adoptionService, never()).getAdoptionByAdoptionId(anyString(), any());
     }
 
     @Test
     void getAdoptionByAdoptionId_WithServiceReturningNotFound_ShouldPropagateException() {
         // Arrange
-        when(adoptionService.getAdoptionByAdoptionId(validAdoptionId))
+        when(adoptionService.getAdoptionByAdoptionId(validAdoptionId, AdoptionExpansion.ALL))
                 .thenThrow(new NotFoundException("Adoption not found"));
 
         // Act & Assert
-        assertThrows(NotFoundException.class, () -> adoptionController.getAdoptionByAdoptionId(validAdoptionId));
-        verify(adoptionService).getAdoptionByAdoptionId(validAdoptionId);
+        assertThrows(NotFoundException.class, () -> adoptionController.getAdoptionByAdoptionId(validAdoptionId, null, null));
+        verify(adoptionService).getAdoptionByAdoptionId(validAdoptionId, AdoptionExpansion.ALL);
     }
 
     @Test
@@ -227,7 +229,7 @@ public class AdoptionControllerUnitTest {
         when(adoptionService.addAdoption(adoptionRequestModel)).thenReturn(adoptionResponseModel1);
 
         // Act
-        ResponseEntity<AdoptionResponseModel> response = adoptionController.addAdoption(adoptionRequestModel);
+        ResponseEntity<AdoptionResponseModel> response = adoptionController.addAdoption(adoptionRequestModel, null);
 
         // Assert
         assertEquals(HttpStatus.CREATED, response.getStatusCode());
@@ -242,7 +244,7 @@ public class AdoptionControllerUnitTest {
                 .thenThrow(new NotFoundException("Customer not found"));
 
         // Act & Assert
-        assertThrows(NotFoundException.class, () -> adoptionController.addAdoption(adoptionRequestModel));
+        assertThrows(NotFoundException.class, () -> adoptionController.addAdoption(adoptionRequestModel, null));
         verify(adoptionService).addAdoption(adoptionRequestModel);
     }
 
@@ -253,7 +255,7 @@ public class AdoptionControllerUnitTest {
                 .thenThrow(new InvalidInputException("Invalid input"));
 
         // Act & Assert
-        assertThrows(InvalidInputException.class, () -> adoptionController.addAdoption(adoptionRequestModel));
+        assertThrows(InvalidInputException.class, () -> adoptionController.addAdoption(adoptionRequestModel, null));
         verify(adoptionService).addAdoption(adoptionRequestModel);
     }
 
@@ -264,24 +266,24 @@ public class AdoptionControllerUnitTest {
                 .thenThrow(new AdoptionLimitExceededException("Adoption limit exceeded"));
 
         // Act & Assert
-        assertThrows(AdoptionLimitExceededException.class, () -> adoptionController.addAdoption(adoptionRequestModel));
+        assertThrows(AdoptionLimitExceededException.class, () -> adoptionController.addAdoption(adoptionRequestModel, null));
         verify(adoptionService).addAdoption(adoptionRequestModel);
     }
 
     @Test
     void updateAdoption_WithValidData_ShouldReturnUpdatedAdoption() {
         // Arrange
-        when(adoptionService.updateAdoption(adoptionRequestModel, validAdoptionId))
+        when(adoptionService.updateAdoption(adoptionRequestModel, validAdoptionId, null))
                 .thenReturn(adoptionResponseModel1);
 
         // Act
         ResponseEntity<AdoptionResponseModel> response = adoptionController.updateAdoption(
-                adoptionRequestModel, validAdoptionId);
+                adoptionRequestModel, validAdoptionId, null);
 
         // Assert
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(adoptionResponseModel1, response.getBody());
-        verify(adoptionService).updateAdoption(adoptionRequestModel, validAdoptionId);
+        verify(adoptionService).updateAdoption(adoptionRequestModel, validAdoptionId, null);
     }
 
     @Test
@@ -291,37 +293,37 @@ public class AdoptionControllerUnitTest {
 
         // Act & Assert
         assertThrows(InvalidInputException.class, () ->
-                adoptionController.updateAdoption(adoptionRequestModel, invalidId));
-        verify(adoptionService, never()).updateAdoption(any(), anyString());
+                adoptionController.updateAdoption(adoptionRequestModel, invalidId, null));
+        verify(adoptionService, never()).updateAdoption(any(), anyString(), any());
     }
 
     @Test
     void updateAdoption_WithServiceReturningNotFoundException_ShouldPropagateException() {
         // Arrange
-        when(adoptionService.updateAdoption(adoptionRequestModel, validAdoptionId))
+        when(adoptionService.updateAdoption(adoptionRequestModel, validAdoptionId, null))
                 .thenThrow(new NotFoundException("Adoption not found"));
 
         // Act & Assert
         assertThrows(NotFoundException.class, () ->
-                adoptionController.updateAdoption(adoptionRequestModel, validAdoptionId));
-        verify(adoptionService).updateAdoption(adoptionRequestModel, validAdoptionId);
+                adoptionController.updateAdoption(adoptionRequestModel, validAdoptionId, null));
+        verify(adoptionService).updateAdoption(adoptionRequestModel, validAdoptionId, null);
     }
 
     @Test
     void updateAdoptionStatus_WithValidData_ShouldReturnUpdatedAdoption() {
         // Arrange
         String newStatus = "COMPLETED";
-        when(adoptionService.updateAdoptionStatus(validAdoptionId, newStatus))
+        when(adoptionService.updateAdoptionStatus(validAdoptionId, newStatus, null))
                 .thenReturn(adoptionResponseModel1);
 
         // Act
         ResponseEntity<AdoptionResponseModel> response = adoptionController.updateAdoptionStatus(
-                validAdoptionId, newStatus);
+                validAdoptionId, newStatus, null);
 
         // Assert
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(adoptionResponseModel1, response.getBody());
-        verify(adoptionService).updateAdoptionStatus(validAdoptionId, newStatus);
+        verify(adoptionService).updateAdoptionStatus(validAdoptionId, newStatus, null);
     }
 
     @Test
@@ -332,34 +334,34 @@ public class AdoptionControllerUnitTest {
 
         // Act & Assert
         assertThrows(InvalidInputException.class, () ->
-                adoptionController.updateAdoptionStatus(invalidId, newStatus));
-        verify(adoptionService, never()).updateAdoptionStatus(anyString(), anyString());
+                adoptionController.updateAdoptionStatus(invalidId, newStatus, null));
+        verify(adoptionService, never()).updateAdoptionStatus(anyString(), anyString(), any());
     }
 
     @Test
     void updateAdoptionStatus_WithServiceReturningNotFoundException_ShouldPropagateException() {
         // Arrange
         String newStatus = "COMPLETED";
-        when(adoptionService.updateAdoptionStatus(validAdoptionId, newStatus))
+        when(adoptionService.updateAdoptionStatus(validAdoptionId, newStatus, null))
                 .thenThrow(new NotFoundException("Adoption not found"));
 
         // Act & Assert
         assertThrows(NotFoundException.class, () ->
-                adoptionController.updateAdoptionStatus(validAdoptionId, newStatus));
-        verify(adoptionService).updateAdoptionStatus(validAdoptionId, newStatus);
+                adoptionController.updateAdoptionStatus(validAdoptionId, newStatus, null));
+        verify(adoptionService).updateAdoptionStatus(validAdoptionId, newStatus, null);
     }
 
     @Test
     void updateAdoptionStatus_WithServiceReturningInvalidInputException_ShouldPropagateException() {
         // Arrange
         String invalidStatus = "INVALID_STATUS";
-        when(adoptionService.updateAdoptionStatus(validAdoptionId, invalidStatus))
+        when(adoptionService.updateAdoptionStatus(validAdoptionId, invalidStatus, null))
                 .thenThrow(new InvalidInputException("Invalid status"));
 
         // Act & Assert
         assertThrows(InvalidInputException.class, () ->
-                adoptionController.updateAdoptionStatus(validAdoptionId, invalidStatus));
-        verify(adoptionService).updateAdoptionStatus(validAdoptionId, invalidStatus);
+                adoptionController.updateAdoptionStatus(validAdoptionId, invalidStatus, null));
+        verify(adoptionService).updateAdoptionStatus(validAdoptionId, invalidStatus, null);
     }
 
     @Test
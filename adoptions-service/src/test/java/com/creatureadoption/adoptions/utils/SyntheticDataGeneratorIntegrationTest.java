@@ -0,0 +1,101 @@
+package com.creatureadoption.adoptions.utils;
+
+import com.creatureadoption.adoptions.dataaccesslayer.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataMongoTest
+@ActiveProfiles("test")
+class SyntheticDataGeneratorIntegrationTest {
+
+    private static final long CUSTOMERS = 50;
+    private static final long CREATURES = 80;
+    private static final long ADOPTIONS = 300;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private AdoptionRepository adoptionRepository;
+
+    @Autowired
+    private CustomerAdoptionStatsRepository statsRepository;
+
+    @Autowired
+    private AdoptionStatsRepository adoptionStatsRepository;
+
+    private SyntheticDataGenerator generator;
+
+    @BeforeEach
+    void setUp() {
+        statsRepository.deleteAll();
+        generator = generator(42);
+    }
+
+    @Test
+    void run_ShouldInsertEveryAdoptionAndCountThemForTheLimit() throws Exception {
+        // Act
+        generator.run();
+
+        // Assert
+        assertEquals(ADOPTIONS, adoptionRepository.count());
+        List<CustomerAdoptionStats> stats = statsRepository.findAll();
+        assertFalse(stats.isEmpty());
+        stats.forEach(customer -> assertTrue(customer.getCount(AdoptionStatus.COMPLETED)
+                <= SyntheticDataGenerator.MAX_COMPLETED_PER_CUSTOMER));
+    }
+
+    @Test
+    void generateAdoption_ShouldBeReproducibleForTheSameSeed() {
+        // Arrange
+        SyntheticDataGenerator sameSeed = generator(42);
+        SyntheticDataGenerator otherSeed = generator(7);
+
+        // Act & Assert
+        for (long index = 0; index < ADOPTIONS; index += 37) {
+            assertEquals(generator.generateAdoption(index), sameSeed.generateAdoption(index));
+            assertNotEquals(generator.generateAdoption(index).getAdoptionIdentifier().getAdoptionId(),
+                    otherSeed.generateAdoption(index).getAdoptionIdentifier().getAdoptionId());
+        }
+    }
+
+    @Test
+    void generateAdoptions_CurrentAdoptionShouldMatchItsCreatureStatus() {
+        // Act
+        List<Adoption> adoptions = generator.generateAdoptions(0, ADOPTIONS);
+
+        // Assert: the last adoption of each creature is the current one
+        Map<String, Adoption> current = new HashMap<>();
+        adoptions.forEach(adoption -> current.put(adoption.getCreatureId(), adoption));
+        assertEquals(CREATURES, current.size());
+        for (long creature = 0; creature < CREATURES; creature++) {
+            Adoption adoption = current.get(adoptions.get((int) creature).getCreatureId());
+            AdoptionStatus status = adoption.getAdoptionStatus();
+            switch (generator.creatureStatus(creature)) {
+                case ADOPTED -> assertEquals(AdoptionStatus.COMPLETED, status);
+                case ADOPTION_PENDING -> assertEquals(AdoptionStatus.PENDING, status);
+                case RESERVED -> assertEquals(AdoptionStatus.APPROVED, status);
+                default -> assertTrue(status == AdoptionStatus.CANCELLED || status == AdoptionStatus.RETURNED);
+            }
+        }
+        assertTrue(adoptions.stream()
+                .filter(adoption -> !current.containsValue(adoption))
+                .allMatch(adoption -> adoption.getAdoptionStatus() == AdoptionStatus.CANCELLED
+                        || adoption.getAdoptionStatus() == AdoptionStatus.RETURNED));
+    }
+
+    private SyntheticDataGenerator generator(long seed) {
+        return new SyntheticDataGenerator(mongoTemplate, adoptionRepository, statsRepository, adoptionStatsRepository,
+                seed, CUSTOMERS, CREATURES, 10, ADOPTIONS, 40, 3);
+    }
+}
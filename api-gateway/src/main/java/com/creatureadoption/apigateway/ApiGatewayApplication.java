@@ -1,25 +1,30 @@
 package com.creatureadoption.apigateway;
 
-import org.apache.hc.client5.http.classic.HttpClient;
-import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import com.creatureadoption.apigateway.domainclientlayer.HttpClientProperties;
+import com.creatureadoption.apigateway.domainclientlayer.PooledRequestFactory;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 @SpringBootApplication(exclude = {
 		org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration.class,
 		org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration.class
 })
+@EnableConfigurationProperties(HttpClientProperties.class)
 public class ApiGatewayApplication {
 
 	@Bean
-	RestTemplate restTemplate() {
+	PooledRequestFactory pooledRequestFactory(HttpClientProperties httpClientProperties, MeterRegistry meterRegistry) {
+		return new PooledRequestFactory(httpClientProperties, meterRegistry);
+	}
+
+	@Bean
+	RestTemplate restTemplate(PooledRequestFactory pooledRequestFactory) {
 		RestTemplate restTemplate = new RestTemplate();
-		HttpClient httpClient = HttpClientBuilder.create().build();
-		HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(httpClient);
-		restTemplate.setRequestFactory(requestFactory);
+		restTemplate.setRequestFactory(pooledRequestFactory);
 		return restTemplate;
 	}
 
@@ -1,16 +1,31 @@
 package com.creatureadoption.apigateway.businesslayer.adoptions;
 
+import com.creatureadoption.apigateway.domainclientlayer.adoptions.AdoptionPage;
+import com.creatureadoption.apigateway.domainclientlayer.adoptions.TaggedAdoption;
+import com.creatureadoption.apigateway.presentationlayer.adoptions.AdoptionFunnelResponseModel;
 import com.creatureadoption.apigateway.presentationlayer.adoptions.AdoptionRequestModel;
 import com.creatureadoption.apigateway.presentationlayer.adoptions.AdoptionResponseModel;
+import com.creatureadoption.apigateway.presentationlayer.adoptions.AdoptionStatsResponseModel;
+import com.creatureadoption.apigateway.presentationlayer.adoptions.AdoptionStatusHistoryEntryModel;
+import com.creatureadoption.apigateway.presentationlayer.adoptions.AdoptionStatusTransitionRequestModel;
+import com.creatureadoption.apigateway.presentationlayer.adoptions.AdoptionStatusTransitionResultModel;
 
+import java.io.OutputStream;
 import java.util.List;
 import java.util.Map;
 
 public interface AdoptionsService {
-    List<AdoptionResponseModel> getAdoptions(Map<String, String> queryParams);
-    AdoptionResponseModel getAdoptionByAdoptionId(String adoptionId);
-    AdoptionResponseModel addAdoption(AdoptionRequestModel adoptionRequestModel);
-    AdoptionResponseModel updateAdoption(AdoptionRequestModel adoptionRequestModel, String adoptionId);
-    AdoptionResponseModel updateAdoptionStatus(String adoptionId, String status);
+    AdoptionPage getAdoptions(Map<String, String> queryParams);
+    void exportAdoptions(Map<String, String> queryParams, OutputStream outputStream);
+    void streamAdoptionEvents(Map<String, String> queryParams, String lastEventId, OutputStream outputStream);
+    TaggedAdoption getAdoptionByAdoptionId(String adoptionId, String expand, String ifNoneMatch);
+    AdoptionResponseModel addAdoption(AdoptionRequestModel adoptionRequestModel, String idempotencyKey);
+    TaggedAdoption updateAdoption(AdoptionRequestModel adoptionRequestModel, String adoptionId, String ifMatch);
+    TaggedAdoption updateAdoptionStatus(String adoptionId, String status, String ifMatch);
+    List<AdoptionStatusTransitionResultModel> transitionAdoptionStatuses(AdoptionStatusTransitionRequestModel request);
     void removeAdoption(String adoptionId);
+    AdoptionStatsResponseModel getAdoptionStats(Map<String, String> queryParams);
+    void rebuildAdoptionStats();
+    List<AdoptionStatusHistoryEntryModel> getAdoptionStatusHistory(String adoptionId, Map<String, String> queryParams);
+    AdoptionFunnelResponseModel getAdoptionFunnel(Map<String, String> queryParams);
 }
\ No newline at end of file
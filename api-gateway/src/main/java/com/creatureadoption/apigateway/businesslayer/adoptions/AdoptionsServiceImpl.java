@@ -1,11 +1,19 @@
 package com.creatureadoption.apigateway.businesslayer.adoptions;
 
+import com.creatureadoption.apigateway.domainclientlayer.adoptions.AdoptionPage;
 import com.creatureadoption.apigateway.domainclientlayer.adoptions.AdoptionsServiceClient;
+import com.creatureadoption.apigateway.domainclientlayer.adoptions.TaggedAdoption;
+import com.creatureadoption.apigateway.presentationlayer.adoptions.AdoptionFunnelResponseModel;
 import com.creatureadoption.apigateway.presentationlayer.adoptions.AdoptionRequestModel;
 import com.creatureadoption.apigateway.presentationlayer.adoptions.AdoptionResponseModel;
+import com.creatureadoption.apigateway.presentationlayer.adoptions.AdoptionStatsResponseModel;
+import com.creatureadoption.apigateway.presentationlayer.adoptions.AdoptionStatusHistoryEntryModel;
+import com.creatureadoption.apigateway.presentationlayer.adoptions.AdoptionStatusTransitionRequestModel;
+import com.creatureadoption.apigateway.presentationlayer.adoptions.AdoptionStatusTransitionResultModel;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.io.OutputStream;
 import java.util.List;
 import java.util.Map;
 
@@ -20,32 +28,67 @@ public class AdoptionsServiceImpl implements AdoptionsService {
     }
 
     @Override
-    public List<AdoptionResponseModel> getAdoptions(Map<String, String> queryParams) {
-        return adoptionsServiceClient.getAdoptions(queryParams);
+    public AdoptionPage getAdoptions(Map<String, String> queryParams) {
+        return adoptionsServiceClient.getAdoptionPage(queryParams);
     }
 
     @Override
-    public AdoptionResponseModel getAdoptionByAdoptionId(String adoptionId) {
-        return adoptionsServiceClient.getAdoptionByAdoptionId(adoptionId);
+    public void exportAdoptions(Map<String, String> queryParams, OutputStream outputStream) {
+        adoptionsServiceClient.exportAdoptions(queryParams, outputStream);
     }
 
     @Override
-    public AdoptionResponseModel addAdoption(AdoptionRequestModel adoptionRequestModel) {
-        return adoptionsServiceClient.addAdoption(adoptionRequestModel);
+    public void streamAdoptionEvents(Map<String, String> queryParams, String lastEventId, OutputStream outputStream) {
+        adoptionsServiceClient.streamAdoptionEvents(queryParams, lastEventId, outputStream);
     }
 
     @Override
-    public AdoptionResponseModel updateAdoption(AdoptionRequestModel adoptionRequestModel, String adoptionId) {
-        return adoptionsServiceClient.updateAdoption(adoptionRequestModel, adoptionId);
+    public TaggedAdoption getAdoptionByAdoptionId(String adoptionId, String expand, String ifNoneMatch) {
+        return adoptionsServiceClient.getAdoptionByAdoptionId(adoptionId, expand, ifNoneMatch);
     }
 
     @Override
-    public AdoptionResponseModel updateAdoptionStatus(String adoptionId, String status) {
-        return adoptionsServiceClient.updateAdoptionStatus(adoptionId, status);
+    public AdoptionResponseModel addAdoption(AdoptionRequestModel adoptionRequestModel, String idempotencyKey) {
+        return adoptionsServiceClient.addAdoption(adoptionRequestModel, idempotencyKey);
+    }
+
+    @Override
+    public TaggedAdoption updateAdoption(AdoptionRequestModel adoptionRequestModel, String adoptionId, String ifMatch) {
+        return adoptionsServiceClient.updateAdoption(adoptionRequestModel, adoptionId, ifMatch);
+    }
+
+    @Override
+    public TaggedAdoption updateAdoptionStatus(String adoptionId, String status, String ifMatch) {
+        return adoptionsServiceClient.updateAdoptionStatus(adoptionId, status, ifMatch);
+    }
+
+    @Override
+    public List<AdoptionStatusTransitionResultModel> transitionAdoptionStatuses(AdoptionStatusTransitionRequestModel request) {
+        return adoptionsServiceClient.transitionAdoptionStatuses(request);
     }
 
     @Override
     public void removeAdoption(String adoptionId) {
         adoptionsServiceClient.removeAdoption(adoptionId);
     }
-}
\ No newline at end of file
+
+    @Override
+    public AdoptionStatsResponseModel getAdoptionStats(Map<String, String> queryParams) {
+        return adoptionsServiceClient.getAdoptionStats(queryParams);
+    }
+
+    @Override
+    public void rebuildAdoptionStats() {
+        adoptionsServiceClient.rebuildAdoptionStats();
+    }
+
+    @Override
+    public List<AdoptionStatusHistoryEntryModel> getAdoptionStatusHistory(String adoptionId, Map<String, String> queryParams) {
+        return adoptionsServiceClient.getAdoptionStatusHistory(adoptionId, queryParams);
+    }
+
+    @Override
+    public AdoptionFunnelResponseModel getAdoptionFunnel(Map<String, String> queryParams) {
+        return adoptionsServiceClient.getAdoptionFunnel(queryParams);
+    }
+}
@@ -2,6 +2,7 @@ package com.creatureadoption.apigateway.businesslayer.creatures;
 
 import com.creatureadoption.apigateway.presentationlayer.creatures.CreatureRequestModel;
 import com.creatureadoption.apigateway.presentationlayer.creatures.CreatureResponseModel;
+import com.creatureadoption.apigateway.presentationlayer.creatures.CreatureStatusRequestModel;
 
 import java.util.List;
 import java.util.Map;
@@ -9,7 +10,9 @@ import java.util.Map;
 public interface CreaturesService {
     List<CreatureResponseModel> getCreatures(Map<String, String> queryParams);
     CreatureResponseModel getCreatureByCreatureId(String creatureId);
+    List<CreatureResponseModel> getCreaturesByCreatureIds(List<String> creatureIds);
     CreatureResponseModel addCreature(CreatureRequestModel creatureRequestModel);
     CreatureResponseModel updateCreature(CreatureRequestModel creatureRequestModel, String creatureId);
+    CreatureResponseModel updateCreatureStatus(CreatureStatusRequestModel creatureStatusRequestModel, String creatureId);
     void removeCreature(String creatureId);
 }
\ No newline at end of file
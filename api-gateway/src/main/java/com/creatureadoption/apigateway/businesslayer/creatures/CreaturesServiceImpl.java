@@ -5,6 +5,7 @@ import com.creatureadoption.apigateway.domainclientlayer.creatures.CreaturesServ
 import com.creatureadoption.apigateway.presentationlayer.adoptions.AdoptionResponseModel;
 import com.creatureadoption.apigateway.presentationlayer.creatures.CreatureRequestModel;
 import com.creatureadoption.apigateway.presentationlayer.creatures.CreatureResponseModel;
+import com.creatureadoption.apigateway.presentationlayer.creatures.CreatureStatusRequestModel;
 import com.creatureadoption.apigateway.utils.exceptions.EntityInUseException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -34,20 +35,42 @@ public class CreaturesServiceImpl implements CreaturesService {
         return creaturesServiceClient.getCreatureByCreatureId(creatureId);
     }
 
+    @Override
+    public List<CreatureResponseModel> getCreaturesByCreatureIds(List<String> creatureIds) {
+        return creaturesServiceClient.getCreaturesByCreatureIds(creatureIds);
+    }
+
     @Override
     public CreatureResponseModel addCreature(CreatureRequestModel creatureRequestModel) {
-        return creaturesServiceClient.addCreature(creatureRequestModel);
+        CreatureResponseModel creature = creaturesServiceClient.addCreature(creatureRequestModel);
+        if (creature != null) {
+            adoptionsServiceClient.notifyCreatureChanged(creature);
+        }
+        return creature;
     }
 
     @Override
     public CreatureResponseModel updateCreature(CreatureRequestModel creatureRequestModel, String creatureId) {
-        return creaturesServiceClient.updateCreature(creatureRequestModel, creatureId);
+        CreatureResponseModel creature = creaturesServiceClient.updateCreature(creatureRequestModel, creatureId);
+        if (creature != null) {
+            adoptionsServiceClient.notifyCreatureChanged(creature);
+        }
+        return creature;
+    }
+
+    @Override
+    public CreatureResponseModel updateCreatureStatus(CreatureStatusRequestModel creatureStatusRequestModel, String creatureId) {
+        CreatureResponseModel creature = creaturesServiceClient.updateCreatureStatus(creatureStatusRequestModel, creatureId);
+        if (creature != null) {
+            adoptionsServiceClient.notifyCreatureChanged(creature);
+        }
+        return creature;
     }
 
     @Override
     public void removeCreature(String creatureId) {
-        // Check if creature has any adoptions
-        Map<String, String> queryParams = Map.of("creatureId", creatureId);
+        // Check if creature has any adoptions: one bare adoption is enough to tell
+        Map<String, String> queryParams = Map.of("creatureId", creatureId, "limit", "1", "expand", "none");
         List<AdoptionResponseModel> adoptions = adoptionsServiceClient.getAdoptions(queryParams);
 
         if (!adoptions.isEmpty()) {
@@ -56,5 +79,6 @@ public class CreaturesServiceImpl implements CreaturesService {
         }
 
         creaturesServiceClient.removeCreature(creatureId);
+        adoptionsServiceClient.notifyCreatureRemoved(creatureId);
     }
 }
\ No newline at end of file
@@ -10,6 +10,7 @@ import java.util.Map;
 public interface CustomersService {
     List<CustomerResponseModel> getCustomers(Map<String, String> queryParams);
     CustomerResponseModel getCustomerByCustomerId(String customerId);
+    List<CustomerResponseModel> getCustomersByCustomerIds(List<String> customerIds);
     CustomerResponseModel addCustomer(CustomerRequestModel customerRequestModel);
     CustomerResponseModel updateCustomer(CustomerRequestModel customerRequestModel, String customerId);
     void removeCustomer(String customerId);
@@ -34,20 +34,33 @@ public class CustomersServiceImpl implements CustomersService {
         return customersServiceClient.getCustomerByCustomerId(customerId);
     }
 
+    @Override
+    public List<CustomerResponseModel> getCustomersByCustomerIds(List<String> customerIds) {
+        return customersServiceClient.getCustomersByCustomerIds(customerIds);
+    }
+
     @Override
     public CustomerResponseModel addCustomer(CustomerRequestModel customerRequestModel) {
-        return customersServiceClient.addCustomer(customerRequestModel);
+        CustomerResponseModel customer = customersServiceClient.addCustomer(customerRequestModel);
+        if (customer != null) {
+            adoptionsServiceClient.notifyCustomerChanged(customer);
+        }
+        return customer;
     }
 
     @Override
     public CustomerResponseModel updateCustomer(CustomerRequestModel customerRequestModel, String customerId) {
-        return customersServiceClient.updateCustomer(customerRequestModel, customerId);
+        CustomerResponseModel customer = customersServiceClient.updateCustomer(customerRequestModel, customerId);
+        if (customer != null) {
+            adoptionsServiceClient.notifyCustomerChanged(customer);
+        }
+        return customer;
     }
 
     @Override
     public void removeCustomer(String customerId) {
-        // Check if customer has any adoptions
-        Map<String, String> queryParams = Map.of("customerId", customerId);
+        // Check if customer has any adoptions: one bare adoption is enough to tell
+        Map<String, String> queryParams = Map.of("customerId", customerId, "limit", "1", "expand", "none");
         List<AdoptionResponseModel> adoptions = adoptionsServiceClient.getAdoptions(queryParams);
 
         if (!adoptions.isEmpty()) {
@@ -56,5 +69,6 @@ public class CustomersServiceImpl implements CustomersService {
         }
 
         customersServiceClient.removeCustomer(customerId);
+        adoptionsServiceClient.notifyCustomerRemoved(customerId);
     }
 }
\ No newline at end of file
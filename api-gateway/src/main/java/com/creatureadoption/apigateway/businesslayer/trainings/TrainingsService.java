@@ -9,6 +9,7 @@ import java.util.Map;
 public interface TrainingsService {
     List<TrainingResponseModel> getTrainings(Map<String, String> queryParams);
     TrainingResponseModel getTrainingByTrainingId(String trainingId);
+    List<TrainingResponseModel> getTrainingsByTrainingIds(List<String> trainingIds);
     TrainingResponseModel addTraining(TrainingRequestModel trainingRequestModel);
     TrainingResponseModel updateTraining(TrainingRequestModel trainingRequestModel, String trainingId);
     void removeTraining(String trainingId);
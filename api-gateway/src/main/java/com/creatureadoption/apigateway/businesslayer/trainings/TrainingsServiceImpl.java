@@ -34,22 +34,35 @@ public class TrainingsServiceImpl implements TrainingsService {
         return trainingsServiceClient.getTrainingByTrainingId(trainingId);
     }
 
+    @Override
+    public List<TrainingResponseModel> getTrainingsByTrainingIds(List<String> trainingIds) {
+        return trainingsServiceClient.getTrainingsByTrainingIds(trainingIds);
+    }
+
     @Override
     public TrainingResponseModel addTraining(TrainingRequestModel trainingRequestModel) {
-        return trainingsServiceClient.addTraining(trainingRequestModel);
+        TrainingResponseModel training = trainingsServiceClient.addTraining(trainingRequestModel);
+        if (training != null) {
+            adoptionsServiceClient.notifyTrainingChanged(training);
+        }
+        return training;
     }
 
     @Override
     public TrainingResponseModel updateTraining(TrainingRequestModel trainingRequestModel, String trainingId) {
-        return trainingsServiceClient.updateTraining(trainingRequestModel, trainingId);
+        TrainingResponseModel training = trainingsServiceClient.updateTraining(trainingRequestModel, trainingId);
+        if (training != null) {
+            adoptionsServiceClient.notifyTrainingChanged(training);
+        }
+        return training;
     }
 
     @Override
     public void removeTraining(String trainingId) {
-        // Get all adoptions and check if any use this training
-        List<AdoptionResponseModel> allAdoptions = adoptionsServiceClient.getAdoptions(Map.of());
+        // Adoptions are paged, so let Adoptions-Service filter by training instead of scanning the first page
+        List<AdoptionResponseModel> adoptions = adoptionsServiceClient.getAdoptions(Map.of("trainingId", trainingId));
 
-        boolean trainingInUse = allAdoptions.stream()
+        boolean trainingInUse = adoptions.stream()
                 .anyMatch(adoption -> adoption.getTrainingId() != null &&
                         adoption.getTrainingId().equals(trainingId));
 
@@ -59,5 +72,6 @@ public class TrainingsServiceImpl implements TrainingsService {
         }
 
         trainingsServiceClient.removeTraining(trainingId);
+        adoptionsServiceClient.notifyTrainingRemoved(trainingId);
     }
 }
\ No newline at end of file
@@ -0,0 +1,116 @@
+package com.creatureadoption.apigateway.domainclientlayer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.ConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Gives each service behind the gateway its own connection pool, chosen by the request URL, so a
+ * service that stops answering ties up only its own connections. Pool usage is published as the
+ * httpcomponents.httpclient.pool.* gauges, tagged with the pool name.
+ * <p>
+ * Every request tells the service how long the gateway will wait for its answer, the response timeout
+ * of its pool, in the X-Time-Budget-Ms header.
+ */
+public class PooledRequestFactory implements ClientHttpRequestFactory, Closeable {
+
+    static final String FALLBACK_POOL = "fallback";
+    static final String TIME_BUDGET_HEADER = "X-Time-Budget-Ms";
+
+    private final List<CloseableHttpClient> httpClients = new ArrayList<>();
+    private final List<Route> routes = new ArrayList<>();
+    private final Route fallback;
+
+    public PooledRequestFactory(HttpClientProperties properties, MeterRegistry meterRegistry) {
+        properties.getPools().forEach((name, pool) ->
+                routes.add(new Route(name, pool.getBaseUrl(), requestFactory(name, pool, meterRegistry), pool.getResponseTimeoutMs())));
+        // The most specific base URL wins when one is a prefix of another
+        routes.sort(Comparator.comparingInt((Route route) -> route.baseUrl().length()).reversed());
+        this.fallback = new Route(FALLBACK_POOL, "", requestFactory(FALLBACK_POOL, properties.getFallback(), meterRegistry),
+                properties.getFallback().getResponseTimeoutMs());
+    }
+
+    @Override
+    public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) throws IOException {
+        Route route = route(uri);
+        ClientHttpRequest request = route.requestFactory().createRequest(uri, httpMethod);
+        request.getHeaders().set(TIME_BUDGET_HEADER, Long.toString(route.responseTimeoutMs()));
+        return request;
+    }
+
+    String poolFor(URI uri) {
+        return route(uri).pool();
+    }
+
+    @Override
+    public void close() {
+        httpClients.forEach(httpClient -> httpClient.close(CloseMode.GRACEFUL));
+    }
+
+    private Route route(URI uri) {
+        String url = uri.toString();
+        for (Route route : routes) {
+            if (url.startsWith(route.baseUrl())) {
+                return route;
+            }
+        }
+        return fallback;
+    }
+
+    private ClientHttpRequestFactory requestFactory(String name, HttpClientProperties.Pool pool, MeterRegistry meterRegistry) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(pool.getMaxTotal())
+                .setMaxConnPerRoute(pool.getMaxPerRoute())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(pool.getConnectTimeoutMs()))
+                        // Checked before reuse after a rest, since the service may have closed it meanwhile
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .build())
+                .build();
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, name).bindTo(meterRegistry);
+
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(pool.getConnectionRequestTimeoutMs()))
+                        .setResponseTimeout(Timeout.ofMilliseconds(pool.getResponseTimeoutMs()))
+                        .build())
+                .setKeepAliveStrategy(keepAliveAtMost(TimeValue.ofMilliseconds(pool.getKeepAliveMs())))
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(pool.getMaxIdleMs()))
+                .build();
+        httpClients.add(httpClient);
+        return new HttpComponentsClientHttpRequestFactory(httpClient);
+    }
+
+    private static ConnectionKeepAliveStrategy keepAliveAtMost(TimeValue keepAlive) {
+        return (response, context) -> {
+            TimeValue offered = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            return offered.compareTo(keepAlive) < 0 ? offered : keepAlive;
+        };
+    }
+
+    private record Route(String pool, String baseUrl, ClientHttpRequestFactory requestFactory, long responseTimeoutMs) {
+    }
+}
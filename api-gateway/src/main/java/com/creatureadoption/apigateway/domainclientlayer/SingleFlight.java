@@ -0,0 +1,79 @@
+package com.creatureadoption.apigateway.domainclientlayer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Collapses concurrent lookups of the same id into one downstream call. The first caller runs the
+ * lookup; callers arriving while it is in flight wait for the same future and get its result, or
+ * its exception. Nothing is kept once the call completes.
+ */
+public class SingleFlight<V> {
+
+    private final ConcurrentMap<String, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter executed;
+    private final Counter coalesced;
+
+    public SingleFlight(String name, MeterRegistry meterRegistry) {
+        this.executed = lookupCounter(meterRegistry, name, "executed");
+        this.coalesced = lookupCounter(meterRegistry, name, "coalesced");
+        Gauge.builder("client.lookups.coalescing.ratio", this, SingleFlight::coalescingRatio)
+                .description("Share of lookups answered by a call another caller already had in flight")
+                .tag("lookup", name)
+                .register(meterRegistry);
+    }
+
+    public V execute(String id, Function<String, V> lookup) {
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(id, call);
+        if (running != null) {
+            coalesced.increment();
+            return await(running);
+        }
+        executed.increment();
+        try {
+            V value = lookup.apply(id);
+            call.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(id, call);
+        }
+    }
+
+    private static <V> V await(CompletableFuture<V> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private double coalescingRatio() {
+        double total = executed.count() + coalesced.count();
+        return total == 0 ? 0 : coalesced.count() / total;
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String name, String result) {
+        return Counter.builder("client.lookups")
+                .description("Downstream lookups by id, by whether they made their own call or joined one in flight")
+                .tag("lookup", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,17 @@
+package com.creatureadoption.apigateway.domainclientlayer.adoptions;
+
+import com.creatureadoption.apigateway.presentationlayer.adoptions.AdoptionResponseModel;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class AdoptionPage {
+
+    private List<AdoptionResponseModel> adoptions;
+
+    // Opaque cursor issued by Adoptions-Service for the next page, or null on the last page
+    private String nextCursor;
+}
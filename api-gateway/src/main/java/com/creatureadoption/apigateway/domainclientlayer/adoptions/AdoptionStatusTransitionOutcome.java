@@ -0,0 +1,8 @@
+package com.creatureadoption.apigateway.domainclientlayer.adoptions;
+
+public enum AdoptionStatusTransitionOutcome {
+    UPDATED,
+    UNCHANGED,
+    NOT_FOUND,
+    REJECTED
+}
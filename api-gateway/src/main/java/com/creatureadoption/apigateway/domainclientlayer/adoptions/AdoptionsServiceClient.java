@@ -1,28 +1,50 @@
 package com.creatureadoption.apigateway.domainclientlayer.adoptions;
 
+import com.creatureadoption.apigateway.presentationlayer.adoptions.AdoptionFunnelResponseModel;
 import com.creatureadoption.apigateway.presentationlayer.adoptions.AdoptionRequestModel;
 import com.creatureadoption.apigateway.presentationlayer.adoptions.AdoptionResponseModel;
+import com.creatureadoption.apigateway.presentationlayer.adoptions.AdoptionStatsResponseModel;
+import com.creatureadoption.apigateway.presentationlayer.adoptions.AdoptionStatusHistoryEntryModel;
+import com.creatureadoption.apigateway.presentationlayer.adoptions.AdoptionStatusTransitionRequestModel;
+import com.creatureadoption.apigateway.presentationlayer.adoptions.AdoptionStatusTransitionResultModel;
+import com.creatureadoption.apigateway.presentationlayer.creatures.CreatureResponseModel;
+import com.creatureadoption.apigateway.presentationlayer.customers.CustomerResponseModel;
+import com.creatureadoption.apigateway.presentationlayer.trainings.TrainingResponseModel;
 import com.creatureadoption.apigateway.utils.HttpErrorInfo;
 import com.creatureadoption.apigateway.utils.exceptions.AdoptionLimitExceededException;
+import com.creatureadoption.apigateway.utils.exceptions.ConflictException;
+import com.creatureadoption.apigateway.utils.exceptions.IdempotencyConflictException;
 import com.creatureadoption.apigateway.utils.exceptions.InvalidInputException;
 import com.creatureadoption.apigateway.utils.exceptions.NotFoundException;
+import com.creatureadoption.apigateway.utils.exceptions.PreconditionFailedException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.core5.http.io.EofSensorInputStream;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Links;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.Map;
 
+import static org.springframework.http.HttpStatus.CONFLICT;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.http.HttpStatus.PRECONDITION_FAILED;
 import static org.springframework.http.HttpStatus.UNPROCESSABLE_ENTITY;
 
 @Slf4j
@@ -32,6 +54,10 @@ public class AdoptionsServiceClient {
     private final RestTemplate restTemplate;
     private final ObjectMapper mapper;
     private final String ADOPTIONS_SERVICE_BASE_URL;
+    private final String READ_MODEL_BASE_URL;
+    private static final int EXPORT_BUFFER_SIZE = 8192;
+    private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+    private static final String LAST_EVENT_ID = "Last-Event-ID";
 
     public AdoptionsServiceClient(
             RestTemplate restTemplate,
@@ -42,9 +68,14 @@ public class AdoptionsServiceClient {
         this.restTemplate = restTemplate;
         this.mapper = mapper;
         this.ADOPTIONS_SERVICE_BASE_URL = "http://" + adoptionsServiceHost + ":" + adoptionsServicePort + "/api/v1/adoptions";
+        this.READ_MODEL_BASE_URL = "http://" + adoptionsServiceHost + ":" + adoptionsServicePort + "/api/v1/read-model";
     }
 
     public List<AdoptionResponseModel> getAdoptions(Map<String, String> queryParams) {
+        return getAdoptionPage(queryParams).getAdoptions();
+    }
+
+    public AdoptionPage getAdoptionPage(Map<String, String> queryParams) {
         try {
             UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(ADOPTIONS_SERVICE_BASE_URL);
             queryParams.forEach(builder::queryParam);
@@ -52,56 +83,217 @@ public class AdoptionsServiceClient {
             String url = builder.build().toUriString();
             log.debug("Calling Adoptions-Service URL: {}", url);
 
-            return restTemplate.exchange(
+            ResponseEntity<List<AdoptionResponseModel>> response = restTemplate.exchange(
                     url,
                     HttpMethod.GET,
                     null,
-                    new ParameterizedTypeReference<List<AdoptionResponseModel>>() {}).getBody();
+                    new ParameterizedTypeReference<List<AdoptionResponseModel>>() {});
+            List<AdoptionResponseModel> adoptions = response.getBody();
+            return new AdoptionPage(adoptions != null ? adoptions : List.of(), getNextCursor(response.getHeaders()));
         } catch (HttpClientErrorException ex) {
             throw handleHttpClientException(ex);
         }
     }
 
-    public AdoptionResponseModel getAdoptionByAdoptionId(String adoptionId) {
+    /**
+     * Relays the NDJSON export as it arrives. Each chunk read from the Adoptions-Service is written and
+     * flushed straight away, so nothing beyond the copy buffer is held here and a slow reader slows the upstream.
+     */
+    public void exportAdoptions(Map<String, String> queryParams, OutputStream outputStream) {
         try {
-            String url = ADOPTIONS_SERVICE_BASE_URL + "/" + adoptionId;
+            UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(ADOPTIONS_SERVICE_BASE_URL + "/export");
+            queryParams.forEach(builder::queryParam);
+
+            String url = builder.build().toUriString();
+            log.debug("Calling Adoptions-Service URL: {}", url);
+
+            restTemplate.execute(url, HttpMethod.GET,
+                    request -> request.getHeaders().setAccept(List.of(MediaType.APPLICATION_NDJSON)),
+                    response -> relay(response.getBody(), outputStream));
+        } catch (HttpClientErrorException ex) {
+            throw handleHttpClientException(ex);
+        }
+    }
+
+    /**
+     * Relays the adoption events stream, flushing each chunk as it arrives so no event waits in a buffer.
+     * Last-Event-ID is passed on so a reconnecting client is sent the events it missed.
+     */
+    public void streamAdoptionEvents(Map<String, String> queryParams, String lastEventId, OutputStream outputStream) {
+        try {
+            UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(ADOPTIONS_SERVICE_BASE_URL + "/events");
+            queryParams.forEach(builder::queryParam);
+
+            String url = builder.build().toUriString();
+            log.debug("Calling Adoptions-Service URL: {}", url);
+
+            restTemplate.execute(url, HttpMethod.GET,
+                    request -> {
+                        request.getHeaders().setAccept(List.of(MediaType.TEXT_EVENT_STREAM));
+                        if (lastEventId != null) {
+                            request.getHeaders().set(LAST_EVENT_ID, lastEventId);
+                        }
+                    },
+                    response -> relay(response.getBody(), outputStream));
+        } catch (HttpClientErrorException ex) {
+            throw handleHttpClientException(ex);
+        }
+    }
+
+    /**
+     * Copies the body to the client chunk by chunk, flushing each one. When the client has gone away the
+     * upstream connection is aborted rather than closed: closing the response would read the rest of the body,
+     * which keeps an export streaming to no one and an event stream never reaches.
+     */
+    private static Void relay(InputStream body, OutputStream outputStream) throws IOException {
+        byte[] buffer = new byte[EXPORT_BUFFER_SIZE];
+        int read;
+        while ((read = body.read(buffer)) != -1) {
+            try {
+                outputStream.write(buffer, 0, read);
+                outputStream.flush();
+            } catch (IOException e) {
+                if (body instanceof EofSensorInputStream stream) {
+                    stream.abortConnection();
+                }
+                throw e;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Forwards If-None-Match so an unchanged adoption costs Adoptions-Service no enrichment; a 304 comes back
+     * as a TaggedAdoption without an adoption. Without expand the Adoptions-Service joins in every detail.
+     */
+    public TaggedAdoption getAdoptionByAdoptionId(String adoptionId, String expand, String ifNoneMatch) {
+        try {
+            UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(ADOPTIONS_SERVICE_BASE_URL + "/" + adoptionId);
+            if (expand != null) {
+                builder.queryParam("expand", expand);
+            }
+            String url = builder.toUriString();
             log.debug("Calling Adoptions-Service URL: {}", url);
 
-            return restTemplate.getForObject(url, AdoptionResponseModel.class);
+            HttpHeaders headers = new HttpHeaders();
+            if (ifNoneMatch != null) {
+                headers.set(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+            }
+            return tagged(restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), AdoptionResponseModel.class));
         } catch (HttpClientErrorException ex) {
             throw handleHttpClientException(ex);
         }
     }
 
-    public AdoptionResponseModel addAdoption(AdoptionRequestModel adoptionRequestModel) {
+    public AdoptionResponseModel addAdoption(AdoptionRequestModel adoptionRequestModel, String idempotencyKey) {
         try {
             String url = ADOPTIONS_SERVICE_BASE_URL;
             log.debug("Calling Adoptions-Service URL: {}", url);
 
-            return restTemplate.postForObject(url, adoptionRequestModel, AdoptionResponseModel.class);
+            // The key travels with the request so the Adoptions-Service can recognize a retry
+            HttpHeaders headers = new HttpHeaders();
+            if (idempotencyKey != null) {
+                headers.set(IDEMPOTENCY_KEY, idempotencyKey);
+            }
+            return restTemplate.postForObject(url, new HttpEntity<>(adoptionRequestModel, headers), AdoptionResponseModel.class);
         } catch (HttpClientErrorException ex) {
             throw handleHttpClientException(ex);
         }
     }
 
-    public AdoptionResponseModel updateAdoption(AdoptionRequestModel adoptionRequestModel, String adoptionId) {
+    public TaggedAdoption updateAdoption(AdoptionRequestModel adoptionRequestModel, String adoptionId, String ifMatch) {
         try {
             String url = ADOPTIONS_SERVICE_BASE_URL + "/" + adoptionId;
             log.debug("Calling Adoptions-Service URL: {}", url);
 
-            HttpEntity<AdoptionRequestModel> requestEntity = new HttpEntity<>(adoptionRequestModel);
-            return restTemplate.exchange(url, HttpMethod.PUT, requestEntity, AdoptionResponseModel.class).getBody();
+            HttpEntity<AdoptionRequestModel> requestEntity = new HttpEntity<>(adoptionRequestModel, ifMatchHeaders(ifMatch));
+            return tagged(restTemplate.exchange(url, HttpMethod.PUT, requestEntity, AdoptionResponseModel.class));
         } catch (HttpClientErrorException ex) {
             throw handleHttpClientException(ex);
         }
     }
 
-    public AdoptionResponseModel updateAdoptionStatus(String adoptionId, String status) {
+    public TaggedAdoption updateAdoptionStatus(String adoptionId, String status, String ifMatch) {
         try {
             String url = ADOPTIONS_SERVICE_BASE_URL + "/" + adoptionId + "/status/" + status;
             log.debug("Calling Adoptions-Service URL: {}", url);
 
-            return restTemplate.exchange(url, HttpMethod.PATCH, null, AdoptionResponseModel.class).getBody();
+            return tagged(restTemplate.exchange(url, HttpMethod.PATCH, new HttpEntity<>(ifMatchHeaders(ifMatch)),
+                    AdoptionResponseModel.class));
+        } catch (HttpClientErrorException ex) {
+            throw handleHttpClientException(ex);
+        }
+    }
+
+    public List<AdoptionStatusTransitionResultModel> transitionAdoptionStatuses(AdoptionStatusTransitionRequestModel request) {
+        try {
+            String url = ADOPTIONS_SERVICE_BASE_URL + "/status-transitions";
+            log.debug("Calling Adoptions-Service URL: {}", url);
+
+            List<AdoptionStatusTransitionResultModel> results = restTemplate.exchange(
+                    url,
+                    HttpMethod.POST,
+                    new HttpEntity<>(request),
+                    new ParameterizedTypeReference<List<AdoptionStatusTransitionResultModel>>() {}).getBody();
+            return results != null ? results : List.of();
+        } catch (HttpClientErrorException ex) {
+            throw handleHttpClientException(ex);
+        }
+    }
+
+    public AdoptionStatsResponseModel getAdoptionStats(Map<String, String> queryParams) {
+        try {
+            UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(ADOPTIONS_SERVICE_BASE_URL + "/stats");
+            queryParams.forEach(builder::queryParam);
+
+            String url = builder.build().toUriString();
+            log.debug("Calling Adoptions-Service URL: {}", url);
+
+            return restTemplate.getForObject(url, AdoptionStatsResponseModel.class);
+        } catch (HttpClientErrorException ex) {
+            throw handleHttpClientException(ex);
+        }
+    }
+
+    public void rebuildAdoptionStats() {
+        try {
+            String url = ADOPTIONS_SERVICE_BASE_URL + "/stats/rebuild";
+            log.debug("Calling Adoptions-Service URL: {}", url);
+
+            restTemplate.exchange(url, HttpMethod.POST, null, Void.class);
+        } catch (HttpClientErrorException ex) {
+            throw handleHttpClientException(ex);
+        }
+    }
+
+    public List<AdoptionStatusHistoryEntryModel> getAdoptionStatusHistory(String adoptionId, Map<String, String> queryParams) {
+        try {
+            UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(ADOPTIONS_SERVICE_BASE_URL + "/" + adoptionId + "/history");
+            queryParams.forEach(builder::queryParam);
+
+            String url = builder.build().toUriString();
+            log.debug("Calling Adoptions-Service URL: {}", url);
+
+            List<AdoptionStatusHistoryEntryModel> history = restTemplate.exchange(
+                    url,
+                    HttpMethod.GET,
+                    null,
+                    new ParameterizedTypeReference<List<AdoptionStatusHistoryEntryModel>>() {}).getBody();
+            return history != null ? history : List.of();
+        } catch (HttpClientErrorException ex) {
+            throw handleHttpClientException(ex);
+        }
+    }
+
+    public AdoptionFunnelResponseModel getAdoptionFunnel(Map<String, String> queryParams) {
+        try {
+            UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(ADOPTIONS_SERVICE_BASE_URL + "/funnel");
+            queryParams.forEach(builder::queryParam);
+
+            String url = builder.build().toUriString();
+            log.debug("Calling Adoptions-Service URL: {}", url);
+
+            return restTemplate.getForObject(url, AdoptionFunnelResponseModel.class);
         } catch (HttpClientErrorException ex) {
             throw handleHttpClientException(ex);
         }
@@ -118,6 +310,64 @@ public class AdoptionsServiceClient {
         }
     }
 
+    public void notifyCustomerChanged(CustomerResponseModel customer) {
+        notifyReadModel(READ_MODEL_BASE_URL + "/customers/" + customer.getCustomerId(), HttpMethod.PUT, customer);
+    }
+
+    public void notifyCustomerRemoved(String customerId) {
+        notifyReadModel(READ_MODEL_BASE_URL + "/customers/" + customerId, HttpMethod.DELETE, null);
+    }
+
+    public void notifyCreatureChanged(CreatureResponseModel creature) {
+        notifyReadModel(READ_MODEL_BASE_URL + "/creatures/" + creature.getCreatureId(), HttpMethod.PUT, creature);
+    }
+
+    public void notifyCreatureRemoved(String creatureId) {
+        notifyReadModel(READ_MODEL_BASE_URL + "/creatures/" + creatureId, HttpMethod.DELETE, null);
+    }
+
+    public void notifyTrainingChanged(TrainingResponseModel training) {
+        notifyReadModel(READ_MODEL_BASE_URL + "/trainings/" + training.getTrainingId(), HttpMethod.PUT, training);
+    }
+
+    public void notifyTrainingRemoved(String trainingId) {
+        notifyReadModel(READ_MODEL_BASE_URL + "/trainings/" + trainingId, HttpMethod.DELETE, null);
+    }
+
+    // Best effort: the write already succeeded, and the adoptions-service reconciliation sweep repairs a lost notification
+    private void notifyReadModel(String url, HttpMethod method, Object body) {
+        try {
+            log.debug("Notifying Adoptions-Service read model: {} {}", method, url);
+            restTemplate.exchange(url, method, body != null ? new HttpEntity<>(body) : null, Void.class);
+        } catch (RestClientException ex) {
+            log.warn("Could not notify Adoptions-Service read model at {}: {}", url, ex.getMessage());
+        }
+    }
+
+    private static HttpHeaders ifMatchHeaders(String ifMatch) {
+        HttpHeaders headers = new HttpHeaders();
+        if (ifMatch != null) {
+            headers.set(HttpHeaders.IF_MATCH, ifMatch);
+        }
+        return headers;
+    }
+
+    private static TaggedAdoption tagged(ResponseEntity<AdoptionResponseModel> response) {
+        AdoptionResponseModel adoption = response.getStatusCode() == HttpStatus.NOT_MODIFIED ? null : response.getBody();
+        return new TaggedAdoption(adoption, response.getHeaders().getETag());
+    }
+
+    // The cursor is taken from the next link as-is, so the gateway never needs to understand it
+    private String getNextCursor(HttpHeaders headers) {
+        String linkHeader = headers.getFirst(HttpHeaders.LINK);
+        if (linkHeader == null) {
+            return null;
+        }
+        return Links.parse(linkHeader).getLink(IanaLinkRelations.NEXT)
+                .map(next -> UriComponentsBuilder.fromUriString(next.getHref()).build().getQueryParams().getFirst("after"))
+                .orElse(null);
+    }
+
     private RuntimeException handleHttpClientException(HttpClientErrorException ex) {
         if (ex.getStatusCode() == NOT_FOUND) {
             return new NotFoundException(getErrorMessage(ex));
@@ -125,6 +375,16 @@ public class AdoptionsServiceClient {
         if (ex.getStatusCode() == UNPROCESSABLE_ENTITY) {
             return new InvalidInputException(getErrorMessage(ex));
         }
+        if (ex.getStatusCode() == CONFLICT) {
+            // Only a retry that came too early is an idempotency conflict; a concurrent write is any other 409
+            HttpErrorInfo errorInfo = getErrorInfo(ex);
+            return errorInfo != null && IdempotencyConflictException.ERROR_CODE.equals(errorInfo.getErrorCode())
+                    ? new IdempotencyConflictException(errorInfo.getMessage())
+                    : new ConflictException(errorInfo != null ? errorInfo.getMessage() : ex.getMessage());
+        }
+        if (ex.getStatusCode() == PRECONDITION_FAILED) {
+            return new PreconditionFailedException(getErrorMessage(ex));
+        }
 //        if (ex.getStatusCode() == HttpStatus.FORBIDDEN) {
 //            return new AdoptionLimitExceededException(getErrorMessage(ex));
 //        }
@@ -140,4 +400,12 @@ public class AdoptionsServiceClient {
             return ioex.getMessage();
         }
     }
+
+    private HttpErrorInfo getErrorInfo(HttpClientErrorException ex) {
+        try {
+            return mapper.readValue(ex.getResponseBodyAsString(), HttpErrorInfo.class);
+        } catch (IOException ioex) {
+            return null;
+        }
+    }
 }
\ No newline at end of file
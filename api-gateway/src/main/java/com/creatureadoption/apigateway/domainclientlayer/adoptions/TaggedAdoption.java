@@ -0,0 +1,16 @@
+package com.creatureadoption.apigateway.domainclientlayer.adoptions;
+
+import com.creatureadoption.apigateway.presentationlayer.adoptions.AdoptionResponseModel;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class TaggedAdoption {
+
+    // Null when Adoptions-Service answered 304 Not Modified
+    private AdoptionResponseModel adoption;
+
+    // Entity tag issued by Adoptions-Service, passed on as-is; null when it sent none
+    private String eTag;
+}
@@ -1,11 +1,15 @@
 package com.creatureadoption.apigateway.domainclientlayer.creatures;
 
+import com.creatureadoption.apigateway.domainclientlayer.SingleFlight;
 import com.creatureadoption.apigateway.presentationlayer.creatures.CreatureRequestModel;
 import com.creatureadoption.apigateway.presentationlayer.creatures.CreatureResponseModel;
+import com.creatureadoption.apigateway.presentationlayer.creatures.CreatureStatusRequestModel;
 import com.creatureadoption.apigateway.utils.HttpErrorInfo;
+import com.creatureadoption.apigateway.utils.exceptions.CreatureStatusConflictException;
 import com.creatureadoption.apigateway.utils.exceptions.InvalidInputException;
 import com.creatureadoption.apigateway.utils.exceptions.NotFoundException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
@@ -20,6 +24,7 @@ import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 
+import static org.springframework.http.HttpStatus.CONFLICT;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 import static org.springframework.http.HttpStatus.UNPROCESSABLE_ENTITY;
 
@@ -30,16 +35,19 @@ public class CreaturesServiceClient {
     private final RestTemplate restTemplate;
     private final ObjectMapper mapper;
     private final String CREATURES_SERVICE_BASE_URL;
+    private final SingleFlight<CreatureResponseModel> creatureLookups;
 
     public CreaturesServiceClient(
             RestTemplate restTemplate,
             ObjectMapper mapper,
             @Value("${app.creatures-service.host}") String creaturesServiceHost,
-            @Value("${app.creatures-service.port}") String creaturesServicePort) {
+            @Value("${app.creatures-service.port}") String creaturesServicePort,
+            MeterRegistry meterRegistry) {
 
         this.restTemplate = restTemplate;
         this.mapper = mapper;
         this.CREATURES_SERVICE_BASE_URL = "http://" + creaturesServiceHost + ":" + creaturesServicePort + "/api/v1/creatures";
+        this.creatureLookups = new SingleFlight<>("creatures", meterRegistry);
     }
 
     public List<CreatureResponseModel> getCreatures(Map<String, String> queryParams) {
@@ -61,6 +69,10 @@ public class CreaturesServiceClient {
     }
 
     public CreatureResponseModel getCreatureByCreatureId(String creatureId) {
+        return creatureLookups.execute(creatureId, this::fetchCreature);
+    }
+
+    private CreatureResponseModel fetchCreature(String creatureId) {
         try {
             String url = CREATURES_SERVICE_BASE_URL + "/" + creatureId;
             log.debug("Calling Creatures-Service URL: {}", url);
@@ -71,6 +83,21 @@ public class CreaturesServiceClient {
         }
     }
 
+    public List<CreatureResponseModel> getCreaturesByCreatureIds(List<String> creatureIds) {
+        try {
+            String url = CREATURES_SERVICE_BASE_URL + "/batch";
+            log.debug("Calling Creatures-Service URL: {} for {} ids", url, creatureIds.size());
+
+            return restTemplate.exchange(
+                    url,
+                    HttpMethod.POST,
+                    new HttpEntity<>(creatureIds),
+                    new ParameterizedTypeReference<List<CreatureResponseModel>>() {}).getBody();
+        } catch (HttpClientErrorException ex) {
+            throw handleHttpClientException(ex);
+        }
+    }
+
     public CreatureResponseModel addCreature(CreatureRequestModel creatureRequestModel) {
         try {
             String url = CREATURES_SERVICE_BASE_URL;
@@ -94,6 +121,18 @@ public class CreaturesServiceClient {
         }
     }
 
+    public CreatureResponseModel updateCreatureStatus(CreatureStatusRequestModel creatureStatusRequestModel, String creatureId) {
+        try {
+            String url = CREATURES_SERVICE_BASE_URL + "/" + creatureId + "/status";
+            log.debug("Calling Creatures-Service URL: {}", url);
+
+            HttpEntity<CreatureStatusRequestModel> requestEntity = new HttpEntity<>(creatureStatusRequestModel);
+            return restTemplate.exchange(url, HttpMethod.PATCH, requestEntity, CreatureResponseModel.class).getBody();
+        } catch (HttpClientErrorException ex) {
+            throw handleHttpClientException(ex);
+        }
+    }
+
     public void removeCreature(String creatureId) {
         try {
             String url = CREATURES_SERVICE_BASE_URL + "/" + creatureId;
@@ -112,6 +151,9 @@ public class CreaturesServiceClient {
         if (ex.getStatusCode() == UNPROCESSABLE_ENTITY) {
             return new InvalidInputException(getErrorMessage(ex));
         }
+        if (ex.getStatusCode() == CONFLICT) {
+            return new CreatureStatusConflictException(getErrorMessage(ex));
+        }
         log.warn("Got an unexpected HTTP error: {}, will rethrow it", ex.getStatusCode());
         log.warn("Error body: {}", ex.getResponseBodyAsString());
         return ex;
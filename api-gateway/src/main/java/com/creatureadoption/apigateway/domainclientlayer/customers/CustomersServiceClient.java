@@ -1,11 +1,13 @@
 package com.creatureadoption.apigateway.domainclientlayer.customers;
 
+import com.creatureadoption.apigateway.domainclientlayer.SingleFlight;
 import com.creatureadoption.apigateway.presentationlayer.customers.CustomerRequestModel;
 import com.creatureadoption.apigateway.presentationlayer.customers.CustomerResponseModel;
 import com.creatureadoption.apigateway.utils.HttpErrorInfo;
 import com.creatureadoption.apigateway.utils.exceptions.InvalidInputException;
 import com.creatureadoption.apigateway.utils.exceptions.NotFoundException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
@@ -30,16 +32,19 @@ public class CustomersServiceClient {
     private final RestTemplate restTemplate;
     private final ObjectMapper mapper;
     private final String CUSTOMERS_SERVICE_BASE_URL;
+    private final SingleFlight<CustomerResponseModel> customerLookups;
 
     public CustomersServiceClient(
             RestTemplate restTemplate,
             ObjectMapper mapper,
             @Value("${app.customers-service.host}") String customersServiceHost,
-            @Value("${app.customers-service.port}") String customersServicePort) {
+            @Value("${app.customers-service.port}") String customersServicePort,
+            MeterRegistry meterRegistry) {
 
         this.restTemplate = restTemplate;
         this.mapper = mapper;
         this.CUSTOMERS_SERVICE_BASE_URL = "http://" + customersServiceHost + ":" + customersServicePort + "/api/v1/customers";
+        this.customerLookups = new SingleFlight<>("customers", meterRegistry);
     }
 
     public List<CustomerResponseModel> getCustomers(Map<String, String> queryParams) {
@@ -61,6 +66,10 @@ public class CustomersServiceClient {
     }
 
     public CustomerResponseModel getCustomerByCustomerId(String customerId) {
+        return customerLookups.execute(customerId, this::fetchCustomer);
+    }
+
+    private CustomerResponseModel fetchCustomer(String customerId) {
         try {
             String url = CUSTOMERS_SERVICE_BASE_URL + "/" + customerId;
             log.debug("Calling Customers-Service URL: {}", url);
@@ -71,6 +80,21 @@ public class CustomersServiceClient {
         }
     }
 
+    public List<CustomerResponseModel> getCustomersByCustomerIds(List<String> customerIds) {
+        try {
+            String url = CUSTOMERS_SERVICE_BASE_URL + "/batch";
+            log.debug("Calling Customers-Service URL: {} for {} ids", url, customerIds.size());
+
+            return restTemplate.exchange(
+                    url,
+                    HttpMethod.POST,
+                    new HttpEntity<>(customerIds),
+                    new ParameterizedTypeReference<List<CustomerResponseModel>>() {}).getBody();
+        } catch (HttpClientErrorException ex) {
+            throw handleHttpClientException(ex);
+        }
+    }
+
     public CustomerResponseModel addCustomer(CustomerRequestModel customerRequestModel) {
         try {
             String url = CUSTOMERS_SERVICE_BASE_URL;
@@ -1,11 +1,13 @@
 package com.creatureadoption.apigateway.domainclientlayer.trainings;
 
+import com.creatureadoption.apigateway.domainclientlayer.SingleFlight;
 import com.creatureadoption.apigateway.presentationlayer.trainings.TrainingRequestModel;
 import com.creatureadoption.apigateway.presentationlayer.trainings.TrainingResponseModel;
 import com.creatureadoption.apigateway.utils.HttpErrorInfo;
 import com.creatureadoption.apigateway.utils.exceptions.InvalidInputException;
 import com.creatureadoption.apigateway.utils.exceptions.NotFoundException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
@@ -30,16 +32,19 @@ public class TrainingsServiceClient {
     private final RestTemplate restTemplate;
     private final ObjectMapper mapper;
     private final String TRAININGS_SERVICE_BASE_URL;
+    private final SingleFlight<TrainingResponseModel> trainingLookups;
 
     public TrainingsServiceClient(
             RestTemplate restTemplate,
             ObjectMapper mapper,
             @Value("${app.trainings-service.host}") String trainingsServiceHost,
-            @Value("${app.trainings-service.port}") String trainingsServicePort) {
+            @Value("${app.trainings-service.port}") String trainingsServicePort,
+            MeterRegistry meterRegistry) {
 
         this.restTemplate = restTemplate;
         this.mapper = mapper;
         this.TRAININGS_SERVICE_BASE_URL = "http://" + trainingsServiceHost + ":" + trainingsServicePort + "/api/v1/trainings";
+        this.trainingLookups = new SingleFlight<>("trainings", meterRegistry);
     }
 
     public List<TrainingResponseModel> getTrainings(Map<String, String> queryParams) {
@@ -61,6 +66,10 @@ public class TrainingsServiceClient {
     }
 
     public TrainingResponseModel getTrainingByTrainingId(String trainingId) {
+        return trainingLookups.execute(trainingId, this::fetchTraining);
+    }
+
+    private TrainingResponseModel fetchTraining(String trainingId) {
         try {
             String url = TRAININGS_SERVICE_BASE_URL + "/" + trainingId;
             log.debug("Calling Trainings-Service URL: {}", url);
@@ -71,6 +80,21 @@ public class TrainingsServiceClient {
         }
     }
 
+    public List<TrainingResponseModel> getTrainingsByTrainingIds(List<String> trainingIds) {
+        try {
+            String url = TRAININGS_SERVICE_BASE_URL + "/batch";
+            log.debug("Calling Trainings-Service URL: {} for {} ids", url, trainingIds.size());
+
+            return restTemplate.exchange(
+                    url,
+                    HttpMethod.POST,
+                    new HttpEntity<>(trainingIds),
+                    new ParameterizedTypeReference<List<TrainingResponseModel>>() {}).getBody();
+        } catch (HttpClientErrorException ex) {
+            throw handleHttpClientException(ex);
+        }
+    }
+
     public TrainingResponseModel addTraining(TrainingRequestModel trainingRequestModel) {
         try {
             String url = TRAININGS_SERVICE_BASE_URL;
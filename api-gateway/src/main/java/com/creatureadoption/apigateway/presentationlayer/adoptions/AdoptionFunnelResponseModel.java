@@ -0,0 +1,41 @@
+package com.creatureadoption.apigateway.presentationlayer.adoptions;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.hateoas.RepresentationModel;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public final class AdoptionFunnelResponseModel extends RepresentationModel<AdoptionFunnelResponseModel> {
+
+    LocalDateTime from;
+    LocalDateTime to;
+    String bucket;
+    Map<String, StatusFlow> totals;
+    List<Bucket> buckets;
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static final class Bucket {
+
+        LocalDateTime start;
+        Map<String, StatusFlow> byStatus;
+    }
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static final class StatusFlow {
+
+        long entered;
+        long left;
+        Long averageTimeInStatusMs;
+    }
+}
@@ -3,6 +3,7 @@ package com.creatureadoption.apigateway.presentationlayer.adoptions;
 import com.creatureadoption.apigateway.domainclientlayer.adoptions.AdoptionStatus;
 import com.creatureadoption.apigateway.domainclientlayer.adoptions.ProfileStatus;
 import com.creatureadoption.apigateway.domainclientlayer.creatures.CreatureStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -28,19 +29,29 @@ public final class AdoptionResponseModel extends RepresentationModel<AdoptionRes
     AdoptionStatus adoptionStatus;
     String specialNotes;
 
-    // Customer details
+    // Customer details; the joined ones only appear when the Adoptions-Service expanded them
     String customerId;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     String customerFirstName;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     String customerLastName;
 
     // Creature details
     String creatureId;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     String creatureName;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     String creatureSpecies;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     CreatureStatus creatureStatus;
 
     // Training details
     String trainingId;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     String trainingName;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     String trainingLocation;
+
+    // True when one of the enrichment lookups failed or missed its deadline
+    boolean partialDetails;
 }
\ No newline at end of file
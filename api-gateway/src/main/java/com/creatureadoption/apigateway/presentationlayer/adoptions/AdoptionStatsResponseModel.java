@@ -0,0 +1,19 @@
+package com.creatureadoption.apigateway.presentationlayer.adoptions;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.hateoas.RepresentationModel;
+
+import java.util.Map;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public final class AdoptionStatsResponseModel extends RepresentationModel<AdoptionStatsResponseModel> {
+
+    long total;
+    Map<String, Long> byStatus;
+    Map<String, Map<String, Long>> byLocation;
+    Map<String, Map<String, Long>> byMonth;
+}
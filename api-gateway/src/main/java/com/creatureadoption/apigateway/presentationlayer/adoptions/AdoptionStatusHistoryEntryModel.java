@@ -0,0 +1,21 @@
+package com.creatureadoption.apigateway.presentationlayer.adoptions;
+
+import com.creatureadoption.apigateway.domainclientlayer.adoptions.AdoptionStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public final class AdoptionStatusHistoryEntryModel {
+
+    AdoptionStatus previousStatus;
+    AdoptionStatus status;
+    boolean removed;
+    LocalDateTime timestamp;
+    Long adoptionVersion;
+    Long timeInPreviousStatusMs;
+}
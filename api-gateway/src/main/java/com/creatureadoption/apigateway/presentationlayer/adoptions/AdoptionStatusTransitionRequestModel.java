@@ -0,0 +1,18 @@
+package com.creatureadoption.apigateway.presentationlayer.adoptions;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+import java.util.Map;
+
+@Value
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class AdoptionStatusTransitionRequestModel {
+    List<String> adoptionIds;
+    Map<String, String> filter;
+    String status;
+}
@@ -0,0 +1,20 @@
+package com.creatureadoption.apigateway.presentationlayer.adoptions;
+
+import com.creatureadoption.apigateway.domainclientlayer.adoptions.AdoptionStatus;
+import com.creatureadoption.apigateway.domainclientlayer.adoptions.AdoptionStatusTransitionOutcome;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.hateoas.RepresentationModel;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public final class AdoptionStatusTransitionResultModel extends RepresentationModel<AdoptionStatusTransitionResultModel> {
+
+    String adoptionId;
+    AdoptionStatusTransitionOutcome outcome;
+    AdoptionStatus previousStatus;
+    AdoptionStatus adoptionStatus;
+    String message;
+}
@@ -1,12 +1,22 @@
 package com.creatureadoption.apigateway.presentationlayer.adoptions;
 
 import com.creatureadoption.apigateway.businesslayer.adoptions.AdoptionsService;
+import com.creatureadoption.apigateway.domainclientlayer.adoptions.AdoptionPage;
+import com.creatureadoption.apigateway.domainclientlayer.adoptions.AdoptionStatusTransitionOutcome;
+import com.creatureadoption.apigateway.domainclientlayer.adoptions.TaggedAdoption;
 import com.creatureadoption.apigateway.utils.exceptions.InvalidInputException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -20,6 +30,7 @@ public class AdoptionsController {
 
     private final AdoptionsService adoptionsService;
     private static final int UUID_LENGTH = 36;
+    private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
 
     public AdoptionsController(AdoptionsService adoptionsService) {
         this.adoptionsService = adoptionsService;
@@ -29,57 +40,127 @@ public class AdoptionsController {
             produces = "application/json"
     )
     public ResponseEntity<List<AdoptionResponseModel>> getAdoptions(@RequestParam(required = false) Map<String, String> queryParams) {
-        if (queryParams.containsKey("adoptionId")) {
-            String adoptionId = queryParams.get("adoptionId");
-            if (adoptionId != null && adoptionId.length() != UUID_LENGTH) {
-                throw new InvalidInputException("Invalid adoptionId provided: " + adoptionId);
-            }
-        }
-        if (queryParams.containsKey("customerId")) {
-            String customerId = queryParams.get("customerId");
-            if (customerId != null && customerId.length() != UUID_LENGTH) {
-                throw new InvalidInputException("Invalid customerId provided: " + customerId);
-            }
-        }
-        if (queryParams.containsKey("creatureId")) {
-            String creatureId = queryParams.get("creatureId");
-            if (creatureId != null && creatureId.length() != UUID_LENGTH) {
-                throw new InvalidInputException("Invalid creatureId provided: " + creatureId);
-            }
-        }
+        validateFilterIds(queryParams);
 
-        List<AdoptionResponseModel> adoptions = adoptionsService.getAdoptions(queryParams);
-        for(AdoptionResponseModel adoption : adoptions) {
+        AdoptionPage page = adoptionsService.getAdoptions(queryParams);
+        for(AdoptionResponseModel adoption : page.getAdoptions()) {
             addSelfLink(adoption);
         }
 
-        return ResponseEntity.ok(adoptions);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            // Forward the Adoptions-Service cursor unchanged, under the gateway's own URL
+            Map<String, String> nextParams = new HashMap<>(queryParams);
+            nextParams.put("after", page.getNextCursor());
+            Link next = linkTo(methodOn(AdoptionsController.class).getAdoptions(nextParams)).withRel(IanaLinkRelations.NEXT);
+            response.header(HttpHeaders.LINK, next.toString());
+        }
+        return response.body(page.getAdoptions());
+    }
+
+    @GetMapping(
+            value = "/export",
+            produces = "application/x-ndjson"
+    )
+    public ResponseEntity<StreamingResponseBody> exportAdoptions(@RequestParam(required = false) Map<String, String> queryParams) {
+        validateFilterIds(queryParams);
+
+        StreamingResponseBody body = outputStream -> adoptionsService.exportAdoptions(queryParams, outputStream);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    @GetMapping(
+            value = "/events",
+            produces = MediaType.TEXT_EVENT_STREAM_VALUE
+    )
+    public ResponseEntity<StreamingResponseBody> streamAdoptionEvents(@RequestParam(required = false) Map<String, String> queryParams,
+                                                                      @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        validateFilterIds(queryParams);
+
+        StreamingResponseBody body = outputStream -> adoptionsService.streamAdoptionEvents(queryParams, lastEventId, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.TEXT_EVENT_STREAM)
+                .cacheControl(CacheControl.noStore())
+                // Asks a buffering reverse proxy in front of the gateway to pass events on as they come
+                .header("X-Accel-Buffering", "no")
+                .body(body);
+    }
+
+    @GetMapping(
+            value = "/stats",
+            produces = "application/json"
+    )
+    public ResponseEntity<AdoptionStatsResponseModel> getAdoptionStats(@RequestParam(required = false) Map<String, String> queryParams) {
+        AdoptionStatsResponseModel stats = adoptionsService.getAdoptionStats(queryParams);
+        stats.add(linkTo(methodOn(AdoptionsController.class).getAdoptionStats(queryParams)).withSelfRel());
+
+        return ResponseEntity.ok(stats);
+    }
+
+    @PostMapping(
+            value = "/stats/rebuild"
+    )
+    public ResponseEntity<Void> rebuildAdoptionStats() {
+        adoptionsService.rebuildAdoptionStats();
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping(
+            value = "/funnel",
+            produces = "application/json"
+    )
+    public ResponseEntity<AdoptionFunnelResponseModel> getAdoptionFunnel(@RequestParam(required = false) Map<String, String> queryParams) {
+        AdoptionFunnelResponseModel funnel = adoptionsService.getAdoptionFunnel(queryParams);
+        funnel.add(linkTo(methodOn(AdoptionsController.class).getAdoptionFunnel(queryParams)).withSelfRel());
+
+        return ResponseEntity.ok(funnel);
     }
 
     @GetMapping(
             value = "/{adoptionId}",
             produces = "application/json"
     )
-    public ResponseEntity<AdoptionResponseModel> getAdoptionByAdoptionId(@PathVariable String adoptionId) {
+    public ResponseEntity<AdoptionResponseModel> getAdoptionByAdoptionId(@PathVariable String adoptionId,
+                                                                         @RequestParam(required = false) String expand,
+                                                                         @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         if (adoptionId.length() != UUID_LENGTH) {
             throw new InvalidInputException("Invalid adoptionId provided: " + adoptionId);
         }
 
-        AdoptionResponseModel adoption = adoptionsService.getAdoptionByAdoptionId(adoptionId);
-        addSelfLink(adoption);
+        TaggedAdoption tagged = adoptionsService.getAdoptionByAdoptionId(adoptionId, expand, ifNoneMatch);
+        if (tagged.getAdoption() == null) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(tagged.getETag()).build();
+        }
+        return withETag(tagged);
+    }
 
-        return ResponseEntity.ok(adoption);
+    @GetMapping(
+            value = "/{adoptionId}/history",
+            produces = "application/json"
+    )
+    public ResponseEntity<List<AdoptionStatusHistoryEntryModel>> getAdoptionStatusHistory(@PathVariable String adoptionId,
+                                                                                          @RequestParam(required = false) Map<String, String> queryParams) {
+        if (adoptionId.length() != UUID_LENGTH) {
+            throw new InvalidInputException("Invalid adoptionId provided: " + adoptionId);
+        }
+
+        return ResponseEntity.ok(adoptionsService.getAdoptionStatusHistory(adoptionId, queryParams));
     }
 
     @PostMapping(
             consumes = "application/json",
             produces = "application/json"
     )
-    public ResponseEntity<AdoptionResponseModel> addAdoption(@RequestBody AdoptionRequestModel adoptionRequestModel) {
-        AdoptionResponseModel adoption = adoptionsService.addAdoption(adoptionRequestModel);
+    public ResponseEntity<AdoptionResponseModel> addAdoption(@RequestBody AdoptionRequestModel adoptionRequestModel,
+                                                             @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
+        AdoptionResponseModel adoption = adoptionsService.addAdoption(adoptionRequestModel, idempotencyKey);
         addSelfLink(adoption);
 
-        return ResponseEntity.status(HttpStatus.CREATED).body(adoption);
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.CREATED);
+        if (idempotencyKey != null) {
+            response.header(IDEMPOTENCY_KEY, idempotencyKey);
+        }
+        return response.body(adoption);
     }
 
     @PutMapping(
@@ -87,30 +168,54 @@ public class AdoptionsController {
             consumes = "application/json",
             produces = "application/json"
     )
-    public ResponseEntity<AdoptionResponseModel> updateAdoption(@RequestBody AdoptionRequestModel adoptionRequestModel, @PathVariable String adoptionId) {
+    public ResponseEntity<AdoptionResponseModel> updateAdoption(@RequestBody AdoptionRequestModel adoptionRequestModel, @PathVariable String adoptionId,
+                                                                @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         if (adoptionId.length() != UUID_LENGTH) {
             throw new InvalidInputException("Invalid adoptionId provided: " + adoptionId);
         }
 
-        AdoptionResponseModel adoption = adoptionsService.updateAdoption(adoptionRequestModel, adoptionId);
-        addSelfLink(adoption);
-
-        return ResponseEntity.ok(adoption);
+        return withETag(adoptionsService.updateAdoption(adoptionRequestModel, adoptionId, ifMatch));
     }
 
     @PatchMapping(
             value = "/{adoptionId}/status/{status}",
             produces = "application/json"
     )
-    public ResponseEntity<AdoptionResponseModel> updateAdoptionStatus(@PathVariable String adoptionId, @PathVariable String status) {
+    public ResponseEntity<AdoptionResponseModel> updateAdoptionStatus(@PathVariable String adoptionId, @PathVariable String status,
+                                                                      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         if (adoptionId.length() != UUID_LENGTH) {
             throw new InvalidInputException("Invalid adoptionId provided: " + adoptionId);
         }
 
-        AdoptionResponseModel adoption = adoptionsService.updateAdoptionStatus(adoptionId, status);
-        addSelfLink(adoption);
+        return withETag(adoptionsService.updateAdoptionStatus(adoptionId, status, ifMatch));
+    }
+
+    @PostMapping(
+            value = "/status-transitions",
+            consumes = "application/json",
+            produces = "application/json"
+    )
+    public ResponseEntity<List<AdoptionStatusTransitionResultModel>> transitionAdoptionStatuses(@RequestBody AdoptionStatusTransitionRequestModel request) {
+        if (request.getAdoptionIds() != null) {
+            for (String adoptionId : request.getAdoptionIds()) {
+                if (adoptionId == null || adoptionId.length() != UUID_LENGTH) {
+                    throw new InvalidInputException("Invalid adoptionId provided: " + adoptionId);
+                }
+            }
+        }
+        if (request.getFilter() != null) {
+            validateFilterIds(request.getFilter());
+        }
 
-        return ResponseEntity.ok(adoption);
+        List<AdoptionStatusTransitionResultModel> results = adoptionsService.transitionAdoptionStatuses(request);
+        for (AdoptionStatusTransitionResultModel result : results) {
+            if (result.getOutcome() != AdoptionStatusTransitionOutcome.NOT_FOUND) {
+                result.add(linkTo(methodOn(AdoptionsController.class)
+                        .getAdoptionByAdoptionId(result.getAdoptionId(), null, null))
+                        .withRel("adoption"));
+            }
+        }
+        return ResponseEntity.ok(results);
     }
 
     @DeleteMapping(
@@ -125,10 +230,31 @@ public class AdoptionsController {
         return ResponseEntity.noContent().build();
     }
 
+    private void validateFilterIds(Map<String, String> queryParams) {
+        for (String idParam : List.of("adoptionId", "customerId", "creatureId")) {
+            String id = queryParams.get(idParam);
+            if (id != null && id.length() != UUID_LENGTH) {
+                throw new InvalidInputException("Invalid " + idParam + " provided: " + id);
+            }
+        }
+    }
+
+    // The Adoptions-Service tag is passed on unchanged, so a client's If-None-Match and If-Match reach it as issued
+    private ResponseEntity<AdoptionResponseModel> withETag(TaggedAdoption tagged) {
+        AdoptionResponseModel adoption = tagged.getAdoption();
+        addSelfLink(adoption);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (tagged.getETag() != null) {
+            response.eTag(tagged.getETag());
+        }
+        return response.body(adoption);
+    }
+
     private void addSelfLink(AdoptionResponseModel adoption) {
         adoption.add(
                 linkTo(methodOn(AdoptionsController.class)
-                        .getAdoptionByAdoptionId(adoption.getAdoptionId()))
+                        .getAdoptionByAdoptionId(adoption.getAdoptionId(), null, null))
                         .withSelfRel()
         );
 
@@ -0,0 +1,18 @@
+package com.creatureadoption.apigateway.presentationlayer.creatures;
+
+import com.creatureadoption.apigateway.domainclientlayer.creatures.CreatureStatus;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CreatureStatusRequestModel {
+
+    CreatureStatus status;
+    List<CreatureStatus> expectedStatuses;
+}
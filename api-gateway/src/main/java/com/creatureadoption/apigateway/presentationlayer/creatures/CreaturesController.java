@@ -60,6 +60,26 @@ public class CreaturesController {
         return ResponseEntity.ok(creature);
     }
 
+    @PostMapping(
+            value = "/batch",
+            consumes = "application/json",
+            produces = "application/json"
+    )
+    public ResponseEntity<List<CreatureResponseModel>> getCreaturesByCreatureIds(@RequestBody List<String> creatureIds) {
+        for (String creatureId : creatureIds) {
+            if (creatureId == null || creatureId.length() != UUID_LENGTH) {
+                throw new InvalidInputException("Invalid creatureId provided: " + creatureId);
+            }
+        }
+
+        List<CreatureResponseModel> creatures = creaturesService.getCreaturesByCreatureIds(creatureIds);
+        for(CreatureResponseModel creature : creatures) {
+            addSelfLink(creature);
+        }
+
+        return ResponseEntity.ok(creatures);
+    }
+
     @PostMapping(
             consumes = "application/json",
             produces = "application/json"
@@ -87,6 +107,22 @@ public class CreaturesController {
         return ResponseEntity.ok(creature);
     }
 
+    @PatchMapping(
+            value = "/{creatureId}/status",
+            consumes = "application/json",
+            produces = "application/json"
+    )
+    public ResponseEntity<CreatureResponseModel> updateCreatureStatus(@RequestBody CreatureStatusRequestModel creatureStatusRequestModel, @PathVariable String creatureId) {
+        if (creatureId.length() != UUID_LENGTH) {
+            throw new InvalidInputException("Invalid creatureId provided: " + creatureId);
+        }
+
+        CreatureResponseModel creature = creaturesService.updateCreatureStatus(creatureStatusRequestModel, creatureId);
+        addSelfLink(creature);
+
+        return ResponseEntity.ok(creature);
+    }
+
     @DeleteMapping(
             value = "/{creatureId}"
     )
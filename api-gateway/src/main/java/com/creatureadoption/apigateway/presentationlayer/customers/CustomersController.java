@@ -60,6 +60,26 @@ public class CustomersController {
         return ResponseEntity.ok(customer);
     }
 
+    @PostMapping(
+            value = "/batch",
+            consumes = "application/json",
+            produces = "application/json"
+    )
+    public ResponseEntity<List<CustomerResponseModel>> getCustomersByCustomerIds(@RequestBody List<String> customerIds) {
+        for (String customerId : customerIds) {
+            if (customerId == null || customerId.length() != UUID_LENGTH) {
+                throw new InvalidInputException("Invalid customerId provided: " + customerId);
+            }
+        }
+
+        List<CustomerResponseModel> customers = customersService.getCustomersByCustomerIds(customerIds);
+        for(CustomerResponseModel customer : customers) {
+            addSelfLink(customer);
+        }
+
+        return ResponseEntity.ok(customers);
+    }
+
     @PostMapping(
             consumes = "application/json",
             produces = "application/json"
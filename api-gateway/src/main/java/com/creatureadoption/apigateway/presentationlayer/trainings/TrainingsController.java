@@ -60,6 +60,26 @@ public class TrainingsController {
         return ResponseEntity.ok(training);
     }
 
+    @PostMapping(
+            value = "/batch",
+            consumes = "application/json",
+            produces = "application/json"
+    )
+    public ResponseEntity<List<TrainingResponseModel>> getTrainingsByTrainingIds(@RequestBody List<String> trainingIds) {
+        for (String trainingId : trainingIds) {
+            if (trainingId == null || trainingId.length() != UUID_LENGTH) {
+                throw new InvalidInputException("Invalid trainingId provided: " + trainingId);
+            }
+        }
+
+        List<TrainingResponseModel> trainings = trainingsService.getTrainingsByTrainingIds(trainingIds);
+        for(TrainingResponseModel training : trainings) {
+            addSelfLink(training);
+        }
+
+        return ResponseEntity.ok(trainings);
+    }
+
     @PostMapping(
             consumes = "application/json",
             produces = "application/json"
@@ -41,14 +41,42 @@ public class GlobalControllerExceptionHandler {
         return createHttpErrorInfo(HttpStatus.CONFLICT, request, ex);
     }
 
+    @ResponseStatus(HttpStatus.CONFLICT)
+    @ExceptionHandler(CreatureStatusConflictException.class)
+    public HttpErrorInfo handleCreatureStatusConflictException(WebRequest request, Exception ex) {
+        return createHttpErrorInfo(HttpStatus.CONFLICT, request, ex);
+    }
+
+    @ResponseStatus(HttpStatus.CONFLICT)
+    @ExceptionHandler(IdempotencyConflictException.class)
+    public HttpErrorInfo handleIdempotencyConflictException(WebRequest request, Exception ex) {
+        return createHttpErrorInfo(HttpStatus.CONFLICT, request, ex, IdempotencyConflictException.ERROR_CODE);
+    }
+
+    @ResponseStatus(HttpStatus.CONFLICT)
+    @ExceptionHandler(ConflictException.class)
+    public HttpErrorInfo handleConflictException(WebRequest request, Exception ex) {
+        return createHttpErrorInfo(HttpStatus.CONFLICT, request, ex);
+    }
+
     @ResponseStatus(FORBIDDEN)
     @ExceptionHandler(AdoptionLimitExceededException.class)
     public HttpErrorInfo handleAdoptionLimitExceededException(WebRequest request, Exception ex) {
         return createHttpErrorInfo(FORBIDDEN, request, ex);
     }
 
+    @ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+    @ExceptionHandler(PreconditionFailedException.class)
+    public HttpErrorInfo handlePreconditionFailedException(WebRequest request, Exception ex) {
+        return createHttpErrorInfo(HttpStatus.PRECONDITION_FAILED, request, ex);
+    }
+
 
     private HttpErrorInfo createHttpErrorInfo(HttpStatus httpStatus, WebRequest request, Exception ex) {
+        return createHttpErrorInfo(httpStatus, request, ex, null);
+    }
+
+    private HttpErrorInfo createHttpErrorInfo(HttpStatus httpStatus, WebRequest request, Exception ex, String errorCode) {
         final String path = request.getDescription(false);
         // final String path = request.getPath().pathWithinApplication().value();
         final String message = ex.getMessage();
@@ -56,6 +84,6 @@ public class GlobalControllerExceptionHandler {
 
         log.debug("Returning HTTP status: {} for path: {}, message: {}", httpStatus, path, message);
 
-        return new HttpErrorInfo(httpStatus, path, message);
+        return new HttpErrorInfo(httpStatus, path, message, errorCode);
     }
 }
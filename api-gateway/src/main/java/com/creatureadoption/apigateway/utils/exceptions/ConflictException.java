@@ -0,0 +1,6 @@
+package com.creatureadoption.apigateway.utils.exceptions;
+
+// A 409 from a downstream service that has no more specific exception
+public class ConflictException extends RuntimeException {
+    public ConflictException(String message) { super(message); }
+}
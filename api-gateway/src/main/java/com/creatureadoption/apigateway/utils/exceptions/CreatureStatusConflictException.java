@@ -0,0 +1,5 @@
+package com.creatureadoption.apigateway.utils.exceptions;
+
+public class CreatureStatusConflictException extends RuntimeException {
+    public CreatureStatusConflictException(String message) { super(message); }
+}
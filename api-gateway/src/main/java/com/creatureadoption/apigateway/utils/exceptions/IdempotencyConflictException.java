@@ -0,0 +1,9 @@
+package com.creatureadoption.apigateway.utils.exceptions;
+
+public class IdempotencyConflictException extends RuntimeException {
+
+    // The error code adoptions-service answers a retry with while the first attempt is still running
+    public static final String ERROR_CODE = "IDEMPOTENCY_KEY_IN_PROGRESS";
+
+    public IdempotencyConflictException(String message) { super(message); }
+}
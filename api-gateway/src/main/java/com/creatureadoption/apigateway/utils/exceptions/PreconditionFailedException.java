@@ -0,0 +1,5 @@
+package com.creatureadoption.apigateway.utils.exceptions;
+
+public class PreconditionFailedException extends RuntimeException {
+    public PreconditionFailedException(String message) { super(message); }
+}
@@ -4,6 +4,9 @@ import com.creatureadoption.apigateway.domainclientlayer.adoptions.*;
 import com.creatureadoption.apigateway.domainclientlayer.creatures.CreatureStatus;
 import com.creatureadoption.apigateway.presentationlayer.adoptions.AdoptionRequestModel;
 import com.creatureadoption.apigateway.presentationlayer.adoptions.AdoptionResponseModel;
+import com.creatureadoption.apigateway.presentationlayer.adoptions.AdoptionStatsResponseModel;
+import com.creatureadoption.apigateway.presentationlayer.adoptions.AdoptionStatusTransitionRequestModel;
+import com.creatureadoption.apigateway.presentationlayer.adoptions.AdoptionStatusTransitionResultModel;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -91,52 +94,85 @@ class AdoptionsServiceImplTest {
 
     @Test
     void getAdoptions_ShouldCallClientAndReturnAdoptions() {
-        when(adoptionsServiceClient.getAdoptions(queryParams)).thenReturn(adoptionResponseModels);
+        AdoptionPage page = new AdoptionPage(adoptionResponseModels, "next-cursor");
+        when(adoptionsServiceClient.getAdoptionPage(queryParams)).thenReturn(page);
 
-        List<AdoptionResponseModel> result = adoptionsService.getAdoptions(queryParams);
+        AdoptionPage result = adoptionsService.getAdoptions(queryParams);
 
-        assertEquals(adoptionResponseModels, result);
-        verify(adoptionsServiceClient, times(1)).getAdoptions(queryParams);
+        assertEquals(adoptionResponseModels, result.getAdoptions());
+        assertEquals("next-cursor", result.getNextCursor());
+        verify(adoptionsServiceClient, times(1)).getAdoptionPage(queryParams);
     }
 
     @Test
     void getAdoptionByAdoptionId_ShouldCallClientAndReturnAdoption() {
-        when(adoptionsServiceClient.getAdoptionByAdoptionId(ADOPTION_ID)).thenReturn(adoptionResponseModel);
+        TaggedAdoption tagged = new TaggedAdoption(adoptionResponseModel, "\"1-0123456789abcdef\"");
+        when(adoptionsServiceClient.getAdoptionByAdoptionId(ADOPTION_ID, null, null)).thenReturn(tagged);
 
-        AdoptionResponseModel result = adoptionsService.getAdoptionByAdoptionId(ADOPTION_ID);
+        TaggedAdoption result = adoptionsService.getAdoptionByAdoptionId(ADOPTION_ID, null, null);
 
-        assertEquals(adoptionResponseModel, result);
-        verify(adoptionsServiceClient, times(1)).getAdoptionByAdoptionId(ADOPTION_ID);
+        assertEquals(tagged, result);
+        verify(adoptionsServiceClient, times(1)).getAdoptionByAdoptionId(ADOPTION_ID, null, null);
     }
 
     @Test
     void addAdoption_ShouldCallClientAndReturnCreatedAdoption() {
-        when(adoptionsServiceClient.addAdoption(adoptionRequestModel)).thenReturn(adoptionResponseModel);
+        when(adoptionsServiceClient.addAdoption(adoptionRequestModel, "retry-key-1")).thenReturn(adoptionResponseModel);
 
-        AdoptionResponseModel result = adoptionsService.addAdoption(adoptionRequestModel);
+        AdoptionResponseModel result = adoptionsService.addAdoption(adoptionRequestModel, "retry-key-1");
 
         assertEquals(adoptionResponseModel, result);
-        verify(adoptionsServiceClient, times(1)).addAdoption(adoptionRequestModel);
+        verify(adoptionsServiceClient, times(1)).addAdoption(adoptionRequestModel, "retry-key-1");
     }
 
     @Test
     void updateAdoption_ShouldCallClientAndReturnUpdatedAdoption() {
-        when(adoptionsServiceClient.updateAdoption(adoptionRequestModel, ADOPTION_ID)).thenReturn(adoptionResponseModel);
+        TaggedAdoption tagged = new TaggedAdoption(adoptionResponseModel, "\"2-0123456789abcdef\"");
+        when(adoptionsServiceClient.updateAdoption(adoptionRequestModel, ADOPTION_ID, null)).thenReturn(tagged);
 
-        AdoptionResponseModel result = adoptionsService.updateAdoption(adoptionRequestModel, ADOPTION_ID);
+        TaggedAdoption result = adoptionsService.updateAdoption(adoptionRequestModel, ADOPTION_ID, null);
 
-        assertEquals(adoptionResponseModel, result);
-        verify(adoptionsServiceClient, times(1)).updateAdoption(adoptionRequestModel, ADOPTION_ID);
+        assertEquals(tagged, result);
+        verify(adoptionsServiceClient, times(1)).updateAdoption(adoptionRequestModel, ADOPTION_ID, null);
     }
 
     @Test
     void updateAdoptionStatus_ShouldCallClientAndReturnUpdatedAdoption() {
-        when(adoptionsServiceClient.updateAdoptionStatus(ADOPTION_ID, "COMPLETED")).thenReturn(adoptionResponseModel);
+        TaggedAdoption tagged = new TaggedAdoption(adoptionResponseModel, "\"2-0123456789abcdef\"");
+        when(adoptionsServiceClient.updateAdoptionStatus(ADOPTION_ID, "COMPLETED", "\"1-0123456789abcdef\"")).thenReturn(tagged);
 
-        AdoptionResponseModel result = adoptionsService.updateAdoptionStatus(ADOPTION_ID, "COMPLETED");
+        TaggedAdoption result = adoptionsService.updateAdoptionStatus(ADOPTION_ID, "COMPLETED", "\"1-0123456789abcdef\"");
 
-        assertEquals(adoptionResponseModel, result);
-        verify(adoptionsServiceClient, times(1)).updateAdoptionStatus(ADOPTION_ID, "COMPLETED");
+        assertEquals(tagged, result);
+        verify(adoptionsServiceClient, times(1)).updateAdoptionStatus(ADOPTION_ID, "COMPLETED", "\"1-0123456789abcdef\"");
+    }
+
+    @Test
+    void transitionAdoptionStatuses_ShouldCallClientAndReturnResults() {
+        AdoptionStatusTransitionRequestModel request = AdoptionStatusTransitionRequestModel.builder()
+                .adoptionIds(List.of(ADOPTION_ID))
+                .status("COMPLETED")
+                .build();
+        List<AdoptionStatusTransitionResultModel> results = List.of(new AdoptionStatusTransitionResultModel(
+                ADOPTION_ID, AdoptionStatusTransitionOutcome.UPDATED, AdoptionStatus.APPROVED, AdoptionStatus.COMPLETED, null));
+        when(adoptionsServiceClient.transitionAdoptionStatuses(request)).thenReturn(results);
+
+        List<AdoptionStatusTransitionResultModel> result = adoptionsService.transitionAdoptionStatuses(request);
+
+        assertEquals(results, result);
+        verify(adoptionsServiceClient, times(1)).transitionAdoptionStatuses(request);
+    }
+
+    @Test
+    void getAdoptionStats_ShouldCallClientAndReturnStats() {
+        Map<String, String> queryParams = Map.of("fromMonth", "2025-01");
+        AdoptionStatsResponseModel stats = new AdoptionStatsResponseModel(1, Map.of("COMPLETED", 1L), Map.of(), Map.of());
+        when(adoptionsServiceClient.getAdoptionStats(queryParams)).thenReturn(stats);
+
+        AdoptionStatsResponseModel result = adoptionsService.getAdoptionStats(queryParams);
+
+        assertSame(stats, result);
+        verify(adoptionsServiceClient, times(1)).getAdoptionStats(queryParams);
     }
 
     @Test
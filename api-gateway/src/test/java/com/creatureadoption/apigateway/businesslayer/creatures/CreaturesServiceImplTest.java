@@ -7,6 +7,7 @@ import com.creatureadoption.apigateway.domainclientlayer.creatures.*;
 import com.creatureadoption.apigateway.presentationlayer.adoptions.AdoptionResponseModel;
 import com.creatureadoption.apigateway.presentationlayer.creatures.CreatureRequestModel;
 import com.creatureadoption.apigateway.presentationlayer.creatures.CreatureResponseModel;
+import com.creatureadoption.apigateway.presentationlayer.creatures.CreatureStatusRequestModel;
 import com.creatureadoption.apigateway.utils.exceptions.EntityInUseException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -148,6 +149,20 @@ class CreaturesServiceImplTest {
         verify(creaturesServiceClient, times(1)).updateCreature(creatureRequestModel, CREATURE_ID);
     }
 
+    @Test
+    void updateCreatureStatus_ShouldCallClientAndNotifyAdoptions() {
+        CreatureStatusRequestModel statusRequest = CreatureStatusRequestModel.builder()
+                .status(CreatureStatus.RESERVED)
+                .build();
+        when(creaturesServiceClient.updateCreatureStatus(statusRequest, CREATURE_ID)).thenReturn(creatureResponseModel);
+
+        CreatureResponseModel result = creaturesService.updateCreatureStatus(statusRequest, CREATURE_ID);
+
+        assertEquals(creatureResponseModel, result);
+        verify(creaturesServiceClient, times(1)).updateCreatureStatus(statusRequest, CREATURE_ID);
+        verify(adoptionsServiceClient, times(1)).notifyCreatureChanged(creatureResponseModel);
+    }
+
     @Test
     void removeCreature_ShouldCallClient() {
         doNothing().when(creaturesServiceClient).removeCreature(CREATURE_ID);
@@ -160,7 +175,7 @@ class CreaturesServiceImplTest {
     @Test
     void removeCreature_ShouldThrowEntityInUseException_WhenAdoptionsExist() {
         // Setup
-        Map<String, String> expectedQueryParams = Collections.singletonMap("creatureId", CREATURE_ID);
+        Map<String, String> expectedQueryParams = Map.of("creatureId", CREATURE_ID, "limit", "1", "expand", "none");
         when(adoptionsServiceClient.getAdoptions(expectedQueryParams))
                 .thenReturn(Collections.singletonList(new AdoptionResponseModel()));
 
@@ -177,7 +192,7 @@ class CreaturesServiceImplTest {
     @Test
     void removeCreature_ShouldRemoveCreature_WhenNoAdoptionsExist() {
         // Setup
-        Map<String, String> expectedQueryParams = Collections.singletonMap("creatureId", CREATURE_ID);
+        Map<String, String> expectedQueryParams = Map.of("creatureId", CREATURE_ID, "limit", "1", "expand", "none");
         when(adoptionsServiceClient.getAdoptions(expectedQueryParams))
                 .thenReturn(Collections.emptyList());
 
@@ -136,6 +136,7 @@ class CustomersServiceImplTest {
 
         assertEquals(customerResponseModel, result);
         verify(customersServiceClient, times(1)).addCustomer(customerRequestModel);
+        verify(adoptionsServiceClient, times(1)).notifyCustomerChanged(customerResponseModel);
     }
 
     @Test
@@ -146,6 +147,7 @@ class CustomersServiceImplTest {
 
         assertEquals(customerResponseModel, result);
         verify(customersServiceClient, times(1)).updateCustomer(customerRequestModel, CUSTOMER_ID);
+        verify(adoptionsServiceClient, times(1)).notifyCustomerChanged(customerResponseModel);
     }
 
     @Test
@@ -160,7 +162,7 @@ class CustomersServiceImplTest {
     @Test
     void removeCustomer_ShouldThrowEntityInUseException_WhenAdoptionsExist() {
         // Setup
-        Map<String, String> expectedQueryParams = Collections.singletonMap("customerId", CUSTOMER_ID);
+        Map<String, String> expectedQueryParams = Map.of("customerId", CUSTOMER_ID, "limit", "1", "expand", "none");
         when(adoptionsServiceClient.getAdoptions(expectedQueryParams))
                 .thenReturn(Collections.singletonList(adoptionResponseModel));
 
@@ -172,12 +174,13 @@ class CustomersServiceImplTest {
                 " because they have existing adoptions", exception.getMessage());
         verify(adoptionsServiceClient).getAdoptions(expectedQueryParams);
         verify(customersServiceClient, never()).removeCustomer(CUSTOMER_ID);
+        verify(adoptionsServiceClient, never()).notifyCustomerRemoved(CUSTOMER_ID);
     }
 
     @Test
     void removeCustomer_ShouldRemoveCustomer_WhenNoAdoptionsExist() {
         // Setup
-        Map<String, String> expectedQueryParams = Collections.singletonMap("customerId", CUSTOMER_ID);
+        Map<String, String> expectedQueryParams = Map.of("customerId", CUSTOMER_ID, "limit", "1", "expand", "none");
         when(adoptionsServiceClient.getAdoptions(expectedQueryParams))
                 .thenReturn(Collections.emptyList());
 
@@ -187,5 +190,6 @@ class CustomersServiceImplTest {
         // Verify
         verify(adoptionsServiceClient).getAdoptions(expectedQueryParams);
         verify(customersServiceClient).removeCustomer(CUSTOMER_ID);
+        verify(adoptionsServiceClient).notifyCustomerRemoved(CUSTOMER_ID);
     }
 }
\ No newline at end of file
@@ -151,7 +151,7 @@ class TrainingsServiceImplTest {
     @Test
     void removeTraining_ShouldThrowEntityInUseException_WhenAdoptionsWithTrainingExist() {
         // Setup
-        when(adoptionsServiceClient.getAdoptions(Map.of()))
+        when(adoptionsServiceClient.getAdoptions(Map.of("trainingId", TRAINING_ID)))
                 .thenReturn(Collections.singletonList(adoptionResponseModel));
 
         // Execute and verify
@@ -170,7 +170,7 @@ class TrainingsServiceImplTest {
         AdoptionResponseModel differentTraining = new AdoptionResponseModel();
         differentTraining.setTrainingId("different-training-id");
 
-        when(adoptionsServiceClient.getAdoptions(Map.of()))
+        when(adoptionsServiceClient.getAdoptions(Map.of("trainingId", TRAINING_ID)))
                 .thenReturn(Collections.singletonList(differentTraining));
 
         // Execute
@@ -3,11 +3,20 @@ package com.creatureadoption.apigateway.domainclientlayer.adoptions;
 import com.creatureadoption.apigateway.domainclientlayer.creatures.CreatureStatus;
 import com.creatureadoption.apigateway.presentationlayer.adoptions.AdoptionRequestModel;
 import com.creatureadoption.apigateway.presentationlayer.adoptions.AdoptionResponseModel;
+import com.creatureadoption.apigateway.presentationlayer.adoptions.AdoptionFunnelResponseModel;
+import com.creatureadoption.apigateway.presentationlayer.adoptions.AdoptionStatsResponseModel;
+import com.creatureadoption.apigateway.presentationlayer.adoptions.AdoptionStatusHistoryEntryModel;
+import com.creatureadoption.apigateway.presentationlayer.adoptions.AdoptionStatusTransitionRequestModel;
+import com.creatureadoption.apigateway.presentationlayer.adoptions.AdoptionStatusTransitionResultModel;
 import com.creatureadoption.apigateway.utils.HttpErrorInfo;
+import com.creatureadoption.apigateway.utils.exceptions.ConflictException;
+import com.creatureadoption.apigateway.utils.exceptions.IdempotencyConflictException;
 import com.creatureadoption.apigateway.utils.exceptions.InvalidInputException;
 import com.creatureadoption.apigateway.utils.exceptions.NotFoundException;
+import com.creatureadoption.apigateway.utils.exceptions.PreconditionFailedException;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.hc.core5.http.io.EofSensorInputStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -15,12 +24,24 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Collections;
@@ -131,35 +152,206 @@ class AdoptionsServiceClientTest {
         );
     }
 
+    @Test
+    void getAdoptionPage_ShouldExtractCursorFromNextLink() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.add(HttpHeaders.LINK, "<http://adoptions-service:8080/api/v1/adoptions?limit=1&after=abc_-123>;rel=\"next\"");
+        ResponseEntity<List<AdoptionResponseModel>> responseEntity = new ResponseEntity<>(adoptionResponseModels, headers, HttpStatus.OK);
+        when(restTemplate.exchange(
+                anyString(),
+                eq(HttpMethod.GET),
+                eq(null),
+                any(ParameterizedTypeReference.class)
+        )).thenReturn(responseEntity);
+
+        AdoptionPage page = adoptionsServiceClient.getAdoptionPage(Map.of("limit", "1"));
+
+        assertEquals(adoptionResponseModels, page.getAdoptions());
+        assertEquals("abc_-123", page.getNextCursor());
+    }
+
+    @Test
+    void exportAdoptions_ShouldCopyTheResponseStreamToTheOutput() throws IOException {
+        String ndjson = "{\"adoptionId\":\"" + ADOPTION_ID + "\"}\n{\"adoptionId\":\"other\"}\n";
+        ClientHttpResponse response = mock(ClientHttpResponse.class);
+        when(response.getBody()).thenReturn(new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)));
+        when(restTemplate.execute(eq(BASE_URL + "/export?customerId=" + CUSTOMER_ID), eq(HttpMethod.GET),
+                any(RequestCallback.class), any(ResponseExtractor.class)))
+                .thenAnswer(invocation -> {
+                    ResponseExtractor<?> extractor = invocation.getArgument(3);
+                    return extractor.extractData(response);
+                });
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        adoptionsServiceClient.exportAdoptions(Map.of("customerId", CUSTOMER_ID), output);
+
+        assertEquals(ndjson, output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void exportAdoptions_WhenTheClientGoesAway_ShouldAbortTheUpstreamInsteadOfReadingItToTheEnd() throws IOException {
+        EofSensorInputStream body = spy(new EofSensorInputStream(
+                new ByteArrayInputStream("{\"adoptionId\":\"other\"}\n".getBytes(StandardCharsets.UTF_8)), null));
+        ClientHttpResponse response = mock(ClientHttpResponse.class);
+        when(response.getBody()).thenReturn(body);
+        when(restTemplate.execute(anyString(), eq(HttpMethod.GET), any(RequestCallback.class), any(ResponseExtractor.class)))
+                .thenAnswer(invocation -> {
+                    ResponseExtractor<?> extractor = invocation.getArgument(3);
+                    return extractor.extractData(response);
+                });
+        OutputStream disconnected = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        assertThrows(IOException.class,
+                () -> adoptionsServiceClient.exportAdoptions(Map.of("customerId", CUSTOMER_ID), disconnected));
+        verify(body).abortConnection();
+    }
+
+    @Test
+    void streamAdoptionEvents_ShouldForwardLastEventIdAndCopyTheEvents() throws IOException {
+        String events = "event:adoption\nid:8263A1\ndata:{\"adoptionId\":\"" + ADOPTION_ID + "\"}\n\n";
+        ClientHttpResponse response = mock(ClientHttpResponse.class);
+        when(response.getBody()).thenReturn(new ByteArrayInputStream(events.getBytes(StandardCharsets.UTF_8)));
+        ClientHttpRequest request = mock(ClientHttpRequest.class);
+        HttpHeaders requestHeaders = new HttpHeaders();
+        when(request.getHeaders()).thenReturn(requestHeaders);
+        when(restTemplate.execute(eq(BASE_URL + "/events?customerId=" + CUSTOMER_ID), eq(HttpMethod.GET),
+                any(RequestCallback.class), any(ResponseExtractor.class)))
+                .thenAnswer(invocation -> {
+                    RequestCallback callback = invocation.getArgument(2);
+                    callback.doWithRequest(request);
+                    ResponseExtractor<?> extractor = invocation.getArgument(3);
+                    return extractor.extractData(response);
+                });
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        adoptionsServiceClient.streamAdoptionEvents(Map.of("customerId", CUSTOMER_ID), "8263A0", output);
+
+        assertEquals(events, output.toString(StandardCharsets.UTF_8));
+        assertEquals("8263A0", requestHeaders.getFirst("Last-Event-ID"));
+        assertEquals(List.of(MediaType.TEXT_EVENT_STREAM), requestHeaders.getAccept());
+    }
+
+    @Test
+    void exportAdoptions_WhenAdoptionsServiceRejectsFilter_ShouldThrowInvalidInputException() throws IOException {
+        when(restTemplate.execute(anyString(), eq(HttpMethod.GET), any(RequestCallback.class), any(ResponseExtractor.class)))
+                .thenThrow(new HttpClientErrorException(HttpStatus.UNPROCESSABLE_ENTITY, "Unprocessable Entity",
+                        "{}".getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8));
+        when(mapper.readValue(anyString(), eq(HttpErrorInfo.class))).thenReturn(errorInfo);
+
+        assertThrows(InvalidInputException.class,
+                () -> adoptionsServiceClient.exportAdoptions(Map.of("profileStatus", "unknown"), new ByteArrayOutputStream()));
+    }
+
     @Test
     void getAdoptionByAdoptionId_ShouldReturnAdoption() {
-        when(restTemplate.getForObject(BASE_URL + "/" + ADOPTION_ID, AdoptionResponseModel.class))
-                .thenReturn(adoptionResponseModel);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag("\"3-0123456789abcdef\"");
+        when(restTemplate.exchange(eq(BASE_URL + "/" + ADOPTION_ID), eq(HttpMethod.GET), any(HttpEntity.class),
+                eq(AdoptionResponseModel.class)))
+                .thenReturn(new ResponseEntity<>(adoptionResponseModel, headers, HttpStatus.OK));
 
-        AdoptionResponseModel result = adoptionsServiceClient.getAdoptionByAdoptionId(ADOPTION_ID);
+        TaggedAdoption result = adoptionsServiceClient.getAdoptionByAdoptionId(ADOPTION_ID, null, null);
 
-        assertEquals(adoptionResponseModel, result);
-        verify(restTemplate, times(1)).getForObject(
+        assertEquals(adoptionResponseModel, result.getAdoption());
+        assertEquals("\"3-0123456789abcdef\"", result.getETag());
+        verify(restTemplate, times(1)).exchange(
                 eq(BASE_URL + "/" + ADOPTION_ID),
+                eq(HttpMethod.GET),
+                argThat((HttpEntity<?> entity) -> !entity.getHeaders().containsKey(HttpHeaders.IF_NONE_MATCH)),
                 eq(AdoptionResponseModel.class)
         );
     }
 
+    @Test
+    void getAdoptionByAdoptionId_NotModified_ShouldForwardIfNoneMatchAndReturnNoAdoption() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag("\"3-0123456789abcdef\"");
+        when(restTemplate.exchange(eq(BASE_URL + "/" + ADOPTION_ID), eq(HttpMethod.GET), any(HttpEntity.class),
+                eq(AdoptionResponseModel.class)))
+                .thenReturn(new ResponseEntity<>(headers, HttpStatus.NOT_MODIFIED));
+
+        TaggedAdoption result = adoptionsServiceClient.getAdoptionByAdoptionId(ADOPTION_ID, null, "\"3-0123456789abcdef\"");
+
+        assertNull(result.getAdoption());
+        assertEquals("\"3-0123456789abcdef\"", result.getETag());
+        verify(restTemplate).exchange(
+                eq(BASE_URL + "/" + ADOPTION_ID),
+                eq(HttpMethod.GET),
+                argThat((HttpEntity<?> entity) ->
+                        "\"3-0123456789abcdef\"".equals(entity.getHeaders().getFirst(HttpHeaders.IF_NONE_MATCH))),
+                eq(AdoptionResponseModel.class)
+        );
+    }
+
+    @Test
+    void getAdoptionByAdoptionId_WithExpand_ShouldForwardIt() {
+        when(restTemplate.exchange(eq(BASE_URL + "/" + ADOPTION_ID + "?expand=creature"), eq(HttpMethod.GET),
+                any(HttpEntity.class), eq(AdoptionResponseModel.class)))
+                .thenReturn(new ResponseEntity<>(adoptionResponseModel, HttpStatus.OK));
+
+        TaggedAdoption result = adoptionsServiceClient.getAdoptionByAdoptionId(ADOPTION_ID, "creature", null);
+
+        assertEquals(adoptionResponseModel, result.getAdoption());
+    }
+
     @Test
     void addAdoption_ShouldReturnCreatedAdoption() {
-        when(restTemplate.postForObject(BASE_URL, adoptionRequestModel, AdoptionResponseModel.class))
+        when(restTemplate.postForObject(eq(BASE_URL), any(HttpEntity.class), eq(AdoptionResponseModel.class)))
                 .thenReturn(adoptionResponseModel);
 
-        AdoptionResponseModel result = adoptionsServiceClient.addAdoption(adoptionRequestModel);
+        AdoptionResponseModel result = adoptionsServiceClient.addAdoption(adoptionRequestModel, null);
 
         assertEquals(adoptionResponseModel, result);
         verify(restTemplate, times(1)).postForObject(
                 eq(BASE_URL),
-                eq(adoptionRequestModel),
+                argThat((HttpEntity<?> entity) -> adoptionRequestModel.equals(entity.getBody())
+                        && !entity.getHeaders().containsKey("Idempotency-Key")),
                 eq(AdoptionResponseModel.class)
         );
     }
 
+    @Test
+    void addAdoption_WithIdempotencyKey_ShouldForwardTheKey() {
+        when(restTemplate.postForObject(eq(BASE_URL), any(HttpEntity.class), eq(AdoptionResponseModel.class)))
+                .thenReturn(adoptionResponseModel);
+
+        adoptionsServiceClient.addAdoption(adoptionRequestModel, "retry-key-1");
+
+        verify(restTemplate).postForObject(
+                eq(BASE_URL),
+                argThat((HttpEntity<?> entity) -> "retry-key-1".equals(entity.getHeaders().getFirst("Idempotency-Key"))),
+                eq(AdoptionResponseModel.class));
+    }
+
+    @Test
+    void addAdoption_WhileSameKeyInProgress_ShouldThrowIdempotencyConflictException() throws IOException {
+        when(restTemplate.postForObject(eq(BASE_URL), any(HttpEntity.class), eq(AdoptionResponseModel.class)))
+                .thenThrow(new HttpClientErrorException(HttpStatus.CONFLICT, "Conflict",
+                        "{}".getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8));
+        when(mapper.readValue(anyString(), eq(HttpErrorInfo.class))).thenReturn(new HttpErrorInfo(HttpStatus.CONFLICT,
+                "/api/v1/adoptions", "Still in progress", IdempotencyConflictException.ERROR_CODE));
+
+        assertThrows(IdempotencyConflictException.class,
+                () -> adoptionsServiceClient.addAdoption(adoptionRequestModel, "retry-key-1"));
+    }
+
+    @Test
+    void updateAdoption_ConcurrentWrite_ShouldThrowConflictException() throws IOException {
+        when(restTemplate.exchange(eq(BASE_URL + "/" + ADOPTION_ID), eq(HttpMethod.PUT), any(HttpEntity.class),
+                eq(AdoptionResponseModel.class)))
+                .thenThrow(new HttpClientErrorException(HttpStatus.CONFLICT, "Conflict",
+                        "{}".getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8));
+        when(mapper.readValue(anyString(), eq(HttpErrorInfo.class))).thenReturn(errorInfo);
+
+        assertThrows(ConflictException.class,
+                () -> adoptionsServiceClient.updateAdoption(adoptionRequestModel, ADOPTION_ID, null));
+    }
+
     @Test
     void updateAdoption_ShouldReturnUpdatedAdoption() {
         ResponseEntity<AdoptionResponseModel> responseEntity = new ResponseEntity<>(adoptionResponseModel, HttpStatus.OK);
@@ -170,9 +362,9 @@ class AdoptionsServiceClientTest {
                 eq(AdoptionResponseModel.class)
         )).thenReturn(responseEntity);
 
-        AdoptionResponseModel result = adoptionsServiceClient.updateAdoption(adoptionRequestModel, ADOPTION_ID);
+        TaggedAdoption result = adoptionsServiceClient.updateAdoption(adoptionRequestModel, ADOPTION_ID, null);
 
-        assertEquals(adoptionResponseModel, result);
+        assertEquals(adoptionResponseModel, result.getAdoption());
         verify(restTemplate, times(1)).exchange(
                 eq(BASE_URL + "/" + ADOPTION_ID),
                 eq(HttpMethod.PUT),
@@ -187,21 +379,101 @@ class AdoptionsServiceClientTest {
         when(restTemplate.exchange(
                 eq(BASE_URL + "/" + ADOPTION_ID + "/status/COMPLETED"),
                 eq(HttpMethod.PATCH),
-                eq(null),
+                any(HttpEntity.class),
                 eq(AdoptionResponseModel.class)
         )).thenReturn(responseEntity);
 
-        AdoptionResponseModel result = adoptionsServiceClient.updateAdoptionStatus(ADOPTION_ID, "COMPLETED");
+        TaggedAdoption result = adoptionsServiceClient.updateAdoptionStatus(ADOPTION_ID, "COMPLETED", "\"2-0123456789abcdef\"");
 
-        assertEquals(adoptionResponseModel, result);
+        assertEquals(adoptionResponseModel, result.getAdoption());
         verify(restTemplate, times(1)).exchange(
                 eq(BASE_URL + "/" + ADOPTION_ID + "/status/COMPLETED"),
                 eq(HttpMethod.PATCH),
-                eq(null),
+                argThat((HttpEntity<?> entity) ->
+                        "\"2-0123456789abcdef\"".equals(entity.getHeaders().getFirst(HttpHeaders.IF_MATCH))),
                 eq(AdoptionResponseModel.class)
         );
     }
 
+    @Test
+    void updateAdoptionStatus_WithStaleIfMatch_ShouldThrowPreconditionFailedException() throws IOException {
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.PATCH), any(HttpEntity.class), eq(AdoptionResponseModel.class)))
+                .thenThrow(new HttpClientErrorException(HttpStatus.PRECONDITION_FAILED, "Precondition Failed",
+                        "{}".getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8));
+        when(mapper.readValue(anyString(), eq(HttpErrorInfo.class))).thenReturn(errorInfo);
+
+        assertThrows(PreconditionFailedException.class,
+                () -> adoptionsServiceClient.updateAdoptionStatus(ADOPTION_ID, "COMPLETED", "\"1-0123456789abcdef\""));
+    }
+
+    @Test
+    void transitionAdoptionStatuses_ShouldPostRequestAndReturnResults() {
+        AdoptionStatusTransitionRequestModel request = AdoptionStatusTransitionRequestModel.builder()
+                .filter(Map.of("adoptionStatus", "APPROVED", "adoptionLocation", "North Haven"))
+                .status("COMPLETED")
+                .build();
+        List<AdoptionStatusTransitionResultModel> results = List.of(new AdoptionStatusTransitionResultModel(
+                ADOPTION_ID, AdoptionStatusTransitionOutcome.UPDATED, AdoptionStatus.APPROVED, AdoptionStatus.COMPLETED, null));
+        when(restTemplate.exchange(
+                eq(BASE_URL + "/status-transitions"),
+                eq(HttpMethod.POST),
+                any(HttpEntity.class),
+                any(ParameterizedTypeReference.class)
+        )).thenReturn(new ResponseEntity<>(results, HttpStatus.OK));
+
+        List<AdoptionStatusTransitionResultModel> result = adoptionsServiceClient.transitionAdoptionStatuses(request);
+
+        assertEquals(results, result);
+        verify(restTemplate).exchange(
+                eq(BASE_URL + "/status-transitions"),
+                eq(HttpMethod.POST),
+                argThat((HttpEntity<?> entity) -> request.equals(entity.getBody())),
+                any(ParameterizedTypeReference.class)
+        );
+    }
+
+    @Test
+    void getAdoptionStats_ShouldForwardFilters() {
+        AdoptionStatsResponseModel stats = new AdoptionStatsResponseModel(2, Map.of("PENDING", 2L),
+                Map.of("Nimbasa", Map.of("PENDING", 2L)), Map.of("2025-01", Map.of("PENDING", 2L)));
+        when(restTemplate.getForObject(BASE_URL + "/stats?location=Nimbasa", AdoptionStatsResponseModel.class))
+                .thenReturn(stats);
+
+        AdoptionStatsResponseModel result = adoptionsServiceClient.getAdoptionStats(Map.of("location", "Nimbasa"));
+
+        assertSame(stats, result);
+    }
+
+    @Test
+    void getAdoptionStatusHistory_ShouldForwardTheRange() {
+        List<AdoptionStatusHistoryEntryModel> history = List.of(new AdoptionStatusHistoryEntryModel());
+        when(restTemplate.exchange(eq(BASE_URL + "/" + ADOPTION_ID + "/history?from=2025-03-01"), eq(HttpMethod.GET), isNull(),
+                any(ParameterizedTypeReference.class))).thenReturn(ResponseEntity.ok(history));
+
+        List<AdoptionStatusHistoryEntryModel> result = adoptionsServiceClient.getAdoptionStatusHistory(ADOPTION_ID,
+                Map.of("from", "2025-03-01"));
+
+        assertSame(history, result);
+    }
+
+    @Test
+    void getAdoptionFunnel_ShouldForwardFilters() {
+        AdoptionFunnelResponseModel funnel = new AdoptionFunnelResponseModel();
+        when(restTemplate.getForObject(BASE_URL + "/funnel?bucket=week", AdoptionFunnelResponseModel.class))
+                .thenReturn(funnel);
+
+        AdoptionFunnelResponseModel result = adoptionsServiceClient.getAdoptionFunnel(Map.of("bucket", "week"));
+
+        assertSame(funnel, result);
+    }
+
+    @Test
+    void rebuildAdoptionStats_ShouldPostToRebuild() {
+        adoptionsServiceClient.rebuildAdoptionStats();
+
+        verify(restTemplate).exchange(BASE_URL + "/stats/rebuild", HttpMethod.POST, null, Void.class);
+    }
+
     @Test
     void removeAdoption_ShouldCallRestTemplate() {
         doNothing().when(restTemplate).delete(BASE_URL + "/" + ADOPTION_ID);
@@ -211,14 +483,33 @@ class AdoptionsServiceClientTest {
         verify(restTemplate, times(1)).delete(eq(BASE_URL + "/" + ADOPTION_ID));
     }
 
+    @Test
+    void notifyCustomerRemoved_ShouldCallReadModel() {
+        adoptionsServiceClient.notifyCustomerRemoved(CUSTOMER_ID);
+
+        verify(restTemplate, times(1)).exchange(
+                endsWith("/api/v1/read-model/customers/" + CUSTOMER_ID),
+                eq(HttpMethod.DELETE),
+                isNull(),
+                eq(Void.class));
+    }
+
+    @Test
+    void notifyCustomerRemoved_ShouldNotThrow_WhenAdoptionsServiceUnavailable() {
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.DELETE), isNull(), eq(Void.class)))
+                .thenThrow(new ResourceAccessException("Connection refused"));
+
+        assertDoesNotThrow(() -> adoptionsServiceClient.notifyCustomerRemoved(CUSTOMER_ID));
+    }
+
     @Test
     void handleHttpClientException_NotFound_ShouldThrowNotFoundException() throws JsonProcessingException {
         HttpClientErrorException ex = HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", null, null, null);
-        when(restTemplate.getForObject(anyString(), eq(AdoptionResponseModel.class))).thenThrow(ex);
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(AdoptionResponseModel.class))).thenThrow(ex);
         when(mapper.readValue(anyString(), eq(HttpErrorInfo.class))).thenReturn(errorInfo);
 
         Exception exception = assertThrows(NotFoundException.class, () -> {
-            adoptionsServiceClient.getAdoptionByAdoptionId("non-existent-id");
+            adoptionsServiceClient.getAdoptionByAdoptionId("non-existent-id", null, null);
         });
 
         verify(mapper, times(1)).readValue(anyString(), eq(HttpErrorInfo.class));
@@ -227,11 +518,11 @@ class AdoptionsServiceClientTest {
     @Test
     void handleHttpClientException_UnprocessableEntity_ShouldThrowInvalidInputException() throws JsonProcessingException {
         HttpClientErrorException ex = HttpClientErrorException.create(HttpStatus.UNPROCESSABLE_ENTITY, "Unprocessable Entity", null, null, null);
-        when(restTemplate.getForObject(anyString(), eq(AdoptionResponseModel.class))).thenThrow(ex);
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(AdoptionResponseModel.class))).thenThrow(ex);
         when(mapper.readValue(anyString(), eq(HttpErrorInfo.class))).thenReturn(errorInfo);
 
         Exception exception = assertThrows(InvalidInputException.class, () -> {
-            adoptionsServiceClient.getAdoptionByAdoptionId("invalid-id");
+            adoptionsServiceClient.getAdoptionByAdoptionId("invalid-id", null, null);
         });
 
         verify(mapper, times(1)).readValue(anyString(), eq(HttpErrorInfo.class));
@@ -240,10 +531,10 @@ class AdoptionsServiceClientTest {
     @Test
     void handleHttpClientException_OtherStatus_ShouldRethrowException() {
         HttpClientErrorException ex = HttpClientErrorException.create(HttpStatus.BAD_REQUEST, "Bad Request", null, null, null);
-        when(restTemplate.getForObject(anyString(), eq(AdoptionResponseModel.class))).thenThrow(ex);
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(AdoptionResponseModel.class))).thenThrow(ex);
 
         Exception exception = assertThrows(HttpClientErrorException.class, () -> {
-            adoptionsServiceClient.getAdoptionByAdoptionId(ADOPTION_ID);
+            adoptionsServiceClient.getAdoptionByAdoptionId(ADOPTION_ID, null, null);
         });
 
         assertEquals(ex, exception);
@@ -252,11 +543,11 @@ class AdoptionsServiceClientTest {
     @Test
     void handleHttpClientException_JsonProcessingException_ShouldHandleCorrectly() throws JsonProcessingException {
         HttpClientErrorException ex = HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", null, null, null);
-        when(restTemplate.getForObject(anyString(), eq(AdoptionResponseModel.class))).thenThrow(ex);
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(AdoptionResponseModel.class))).thenThrow(ex);
         when(mapper.readValue(anyString(), eq(HttpErrorInfo.class))).thenThrow(new JsonProcessingException("Error parsing JSON") {});
 
         Exception exception = assertThrows(NotFoundException.class, () -> {
-            adoptionsServiceClient.getAdoptionByAdoptionId("non-existent-id");
+            adoptionsServiceClient.getAdoptionByAdoptionId("non-existent-id", null, null);
         });
 
         assertTrue(exception.getMessage().contains("Error parsing JSON"));
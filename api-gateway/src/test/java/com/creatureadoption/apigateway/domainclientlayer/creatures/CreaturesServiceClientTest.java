@@ -2,16 +2,21 @@ package com.creatureadoption.apigateway.domainclientlayer.creatures;
 
 import com.creatureadoption.apigateway.presentationlayer.creatures.CreatureRequestModel;
 import com.creatureadoption.apigateway.presentationlayer.creatures.CreatureResponseModel;
+import com.creatureadoption.apigateway.presentationlayer.creatures.CreatureStatusRequestModel;
 import com.creatureadoption.apigateway.utils.HttpErrorInfo;
+import com.creatureadoption.apigateway.utils.exceptions.CreatureStatusConflictException;
 import com.creatureadoption.apigateway.utils.exceptions.InvalidInputException;
 import com.creatureadoption.apigateway.utils.exceptions.NotFoundException;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpMethod;
@@ -20,10 +25,16 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -37,6 +48,9 @@ class CreaturesServiceClientTest {
     @Mock
     private ObjectMapper mapper;
 
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private CreaturesServiceClient creaturesServiceClient;
 
@@ -131,6 +145,39 @@ class CreaturesServiceClientTest {
         );
     }
 
+    @Test
+    void getCreatureByCreatureId_ConcurrentCallers_ShouldShareOneDownstreamCall() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(restTemplate.getForObject(BASE_URL + "/" + CREATURE_ID, CreatureResponseModel.class))
+                .thenAnswer(invocation -> {
+                    release.await();
+                    return creatureResponseModel;
+                });
+
+        List<Future<CreatureResponseModel>> results = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            for (int i = 0; i < 3; i++) {
+                results.add(executor.submit(() -> creaturesServiceClient.getCreatureByCreatureId(CREATURE_ID)));
+            }
+            while (meterRegistry.get("client.lookups").tag("result", "coalesced").counter().count() < 2) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+            for (Future<CreatureResponseModel> result : results) {
+                assertEquals(creatureResponseModel, result.get());
+            }
+        } finally {
+            release.countDown();
+            executor.shutdown();
+            if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        }
+
+        verify(restTemplate, times(1)).getForObject(BASE_URL + "/" + CREATURE_ID, CreatureResponseModel.class);
+    }
+
     @Test
     void addCreature_ShouldReturnCreatedCreature() {
         when(restTemplate.postForObject(BASE_URL, creatureRequestModel, CreatureResponseModel.class))
@@ -167,6 +214,43 @@ class CreaturesServiceClientTest {
         );
     }
 
+    @Test
+    void updateCreatureStatus_ShouldPatchStatusEndpoint() {
+        CreatureStatusRequestModel statusRequest = CreatureStatusRequestModel.builder()
+                .status(CreatureStatus.ADOPTED)
+                .expectedStatuses(List.of(CreatureStatus.RESERVED))
+                .build();
+        ResponseEntity<CreatureResponseModel> responseEntity = new ResponseEntity<>(creatureResponseModel, HttpStatus.OK);
+        when(restTemplate.exchange(
+                eq(BASE_URL + "/" + CREATURE_ID + "/status"),
+                eq(HttpMethod.PATCH),
+                any(HttpEntity.class),
+                eq(CreatureResponseModel.class)
+        )).thenReturn(responseEntity);
+
+        CreatureResponseModel result = creaturesServiceClient.updateCreatureStatus(statusRequest, CREATURE_ID);
+
+        assertEquals(creatureResponseModel, result);
+        verify(restTemplate, times(1)).exchange(
+                eq(BASE_URL + "/" + CREATURE_ID + "/status"),
+                eq(HttpMethod.PATCH),
+                argThat((HttpEntity<?> entity) -> statusRequest.equals(entity.getBody())),
+                eq(CreatureResponseModel.class)
+        );
+    }
+
+    @Test
+    void updateCreatureStatus_Conflict_ShouldThrowCreatureStatusConflictException() throws JsonProcessingException {
+        HttpClientErrorException ex = HttpClientErrorException.create(HttpStatus.CONFLICT, "Conflict", null, null, null);
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.PATCH), any(HttpEntity.class), eq(CreatureResponseModel.class)))
+                .thenThrow(ex);
+        when(mapper.readValue(anyString(), eq(HttpErrorInfo.class))).thenReturn(errorInfo);
+
+        assertThrows(CreatureStatusConflictException.class, () ->
+                creaturesServiceClient.updateCreatureStatus(
+                        CreatureStatusRequestModel.builder().status(CreatureStatus.ADOPTED).build(), CREATURE_ID));
+    }
+
     @Test
     void removeCreature_ShouldCallRestTemplate() {
         doNothing().when(restTemplate).delete(BASE_URL + "/" + CREATURE_ID);
@@ -1,11 +1,15 @@
 package com.creatureadoption.apigateway.presentationlayer.adoptions;
 
 import com.creatureadoption.apigateway.businesslayer.adoptions.AdoptionsService;
+import com.creatureadoption.apigateway.domainclientlayer.adoptions.AdoptionPage;
 import com.creatureadoption.apigateway.domainclientlayer.adoptions.AdoptionStatus;
+import com.creatureadoption.apigateway.domainclientlayer.adoptions.AdoptionStatusTransitionOutcome;
 import com.creatureadoption.apigateway.domainclientlayer.adoptions.ProfileStatus;
+import com.creatureadoption.apigateway.domainclientlayer.adoptions.TaggedAdoption;
 import com.creatureadoption.apigateway.domainclientlayer.creatures.CreatureStatus;
 import com.creatureadoption.apigateway.utils.exceptions.InvalidInputException;
 import com.creatureadoption.apigateway.utils.exceptions.NotFoundException;
+import com.creatureadoption.apigateway.utils.exceptions.PreconditionFailedException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -13,15 +17,20 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -42,6 +51,7 @@ class AdoptionsControllerTest {
     private final String CREATURE_ID = "c2c7b5a0-8f9a-4b9c-8b9a-8f9a4b9c8b9a";
     private final String INVALID_CREATURE_ID = "invalid-creature-id";
     private final String TRAINING_ID = "t2t7b5a0-8f9a-4b9c-8b9a-8f9a4b9c8b9a";
+    private final String ETAG = "\"1-0123456789abcdef\"";
 
     private AdoptionResponseModel adoptionResponseModel;
     private AdoptionRequestModel adoptionRequestModel;
@@ -113,7 +123,7 @@ class AdoptionsControllerTest {
     @Test
     void getAdoptions_WithValidAdoptionId_ShouldReturnFilteredAdoptions() throws Exception {
         Map<String, String> queryParams = Collections.singletonMap("adoptionId", ADOPTION_ID);
-        when(adoptionsService.getAdoptions(eq(queryParams))).thenReturn(adoptionResponseModels);
+        when(adoptionsService.getAdoptions(eq(queryParams))).thenReturn(new AdoptionPage(adoptionResponseModels, null));
 
         mockMvc.perform(get("/api/v1/adoptions")
                         .param("adoptionId", ADOPTION_ID)
@@ -125,6 +135,63 @@ class AdoptionsControllerTest {
         verify(adoptionsService, times(1)).getAdoptions(eq(queryParams));
     }
 
+    @Test
+    void exportAdoptions_ShouldRelayTheNdjsonStream() throws Exception {
+        String ndjson = "{\"adoptionId\":\"" + ADOPTION_ID + "\"}\n";
+        doAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(1);
+            outputStream.write(ndjson.getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(adoptionsService).exportAdoptions(eq(Map.of("customerId", CUSTOMER_ID)), any(OutputStream.class));
+
+        MvcResult started = mockMvc.perform(get("/api/v1/adoptions/export").param("customerId", CUSTOMER_ID))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(ndjson));
+    }
+
+    @Test
+    void streamAdoptionEvents_ShouldRelayTheEventStreamWithTheLastEventId() throws Exception {
+        String events = "event:adoption\nid:8263A1\ndata:{\"adoptionId\":\"" + ADOPTION_ID + "\"}\n\n";
+        doAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(2);
+            outputStream.write(events.getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(adoptionsService).streamAdoptionEvents(eq(Map.of("customerId", CUSTOMER_ID)), eq("8263A0"), any(OutputStream.class));
+
+        MvcResult started = mockMvc.perform(get("/api/v1/adoptions/events")
+                        .param("customerId", CUSTOMER_ID)
+                        .header("Last-Event-ID", "8263A0"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(header().string("X-Accel-Buffering", "no"))
+                .andExpect(content().string(events));
+    }
+
+    @Test
+    void streamAdoptionEvents_WithInvalidCustomerId_ShouldThrowInvalidInputException() throws Exception {
+        mockMvc.perform(get("/api/v1/adoptions/events").param("customerId", INVALID_CUSTOMER_ID))
+                .andExpect(status().isUnprocessableEntity());
+
+        verify(adoptionsService, never()).streamAdoptionEvents(any(), any(), any());
+    }
+
+    @Test
+    void exportAdoptions_WithInvalidCreatureId_ShouldThrowInvalidInputException() throws Exception {
+        mockMvc.perform(get("/api/v1/adoptions/export").param("creatureId", INVALID_CREATURE_ID))
+                .andExpect(status().isUnprocessableEntity());
+
+        verify(adoptionsService, never()).exportAdoptions(any(), any());
+    }
+
     @Test
     void getAdoptions_WithInvalidAdoptionId_ShouldThrowInvalidInputException() throws Exception {
         mockMvc.perform(get("/api/v1/adoptions")
@@ -138,7 +205,7 @@ class AdoptionsControllerTest {
     @Test
     void getAdoptions_WithValidCustomerId_ShouldReturnFilteredAdoptions() throws Exception {
         Map<String, String> queryParams = Collections.singletonMap("customerId", CUSTOMER_ID);
-        when(adoptionsService.getAdoptions(eq(queryParams))).thenReturn(adoptionResponseModels);
+        when(adoptionsService.getAdoptions(eq(queryParams))).thenReturn(new AdoptionPage(adoptionResponseModels, null));
 
         mockMvc.perform(get("/api/v1/adoptions")
                         .param("customerId", CUSTOMER_ID)
@@ -163,7 +230,7 @@ class AdoptionsControllerTest {
     @Test
     void getAdoptions_WithValidCreatureId_ShouldReturnFilteredAdoptions() throws Exception {
         Map<String, String> queryParams = Collections.singletonMap("creatureId", CREATURE_ID);
-        when(adoptionsService.getAdoptions(eq(queryParams))).thenReturn(adoptionResponseModels);
+        when(adoptionsService.getAdoptions(eq(queryParams))).thenReturn(new AdoptionPage(adoptionResponseModels, null));
 
         mockMvc.perform(get("/api/v1/adoptions")
                         .param("creatureId", CREATURE_ID)
@@ -185,19 +252,71 @@ class AdoptionsControllerTest {
         verify(adoptionsService, never()).getAdoptions(any(Map.class));
     }
 
+    @Test
+    void getAdoptions_WithNextCursor_ShouldForwardCursorInNextLink() throws Exception {
+        Map<String, String> queryParams = Map.of("customerId", CUSTOMER_ID, "limit", "1");
+        when(adoptionsService.getAdoptions(eq(queryParams)))
+                .thenReturn(new AdoptionPage(adoptionResponseModels, "opaque-cursor"));
+
+        mockMvc.perform(get("/api/v1/adoptions")
+                        .param("customerId", CUSTOMER_ID)
+                        .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(header().string("Link", containsString("/api/v1/adoptions?")))
+                .andExpect(header().string("Link", containsString("after=opaque-cursor")))
+                .andExpect(header().string("Link", containsString("limit=1")))
+                .andExpect(header().string("Link", containsString("rel=\"next\"")));
+    }
+
     @Test
     void getAdoptionByAdoptionId_WithValidId_ShouldReturnAdoption() throws Exception {
-        when(adoptionsService.getAdoptionByAdoptionId(ADOPTION_ID)).thenReturn(adoptionResponseModel);
+        when(adoptionsService.getAdoptionByAdoptionId(ADOPTION_ID, null, null))
+                .thenReturn(new TaggedAdoption(adoptionResponseModel, ETAG));
 
         mockMvc.perform(get("/api/v1/adoptions/{adoptionId}", ADOPTION_ID)
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", ETAG))
                 .andExpect(jsonPath("$.adoptionId", is(ADOPTION_ID)))
                 .andExpect(jsonPath("$.summary", is("First adoption")))
                 .andExpect(jsonPath("$._links.self.href").exists())
                 .andExpect(jsonPath("$._links.allAdoptions.href").exists());
 
-        verify(adoptionsService, times(1)).getAdoptionByAdoptionId(ADOPTION_ID);
+        verify(adoptionsService, times(1)).getAdoptionByAdoptionId(ADOPTION_ID, null, null);
+    }
+
+    @Test
+    void getAdoptionByAdoptionId_WithExpand_ShouldPassItOnAndLeaveOutUnexpandedDetails() throws Exception {
+        adoptionResponseModel.setCustomerFirstName(null);
+        adoptionResponseModel.setCustomerLastName(null);
+        adoptionResponseModel.setTrainingName(null);
+        adoptionResponseModel.setTrainingLocation(null);
+        when(adoptionsService.getAdoptionByAdoptionId(ADOPTION_ID, "creature", null))
+                .thenReturn(new TaggedAdoption(adoptionResponseModel, ETAG));
+
+        mockMvc.perform(get("/api/v1/adoptions/{adoptionId}", ADOPTION_ID)
+                        .param("expand", "creature"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.creatureName", is("Sparky")))
+                .andExpect(jsonPath("$.customerId", is(CUSTOMER_ID)))
+                .andExpect(jsonPath("$.customerFirstName").doesNotExist())
+                .andExpect(jsonPath("$.trainingName").doesNotExist());
+
+        verify(adoptionsService, times(1)).getAdoptionByAdoptionId(ADOPTION_ID, "creature", null);
+    }
+
+    @Test
+    void getAdoptionByAdoptionId_WithMatchingIfNoneMatch_ShouldPassNotModifiedThrough() throws Exception {
+        when(adoptionsService.getAdoptionByAdoptionId(ADOPTION_ID, null, ETAG)).thenReturn(new TaggedAdoption(null, ETAG));
+
+        mockMvc.perform(get("/api/v1/adoptions/{adoptionId}", ADOPTION_ID)
+                        .header("If-None-Match", ETAG))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", ETAG))
+                .andExpect(content().string(""));
+
+        verify(adoptionsService, times(1)).getAdoptionByAdoptionId(ADOPTION_ID, null, ETAG);
     }
 
     @Test
@@ -206,23 +325,23 @@ class AdoptionsControllerTest {
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isUnprocessableEntity());
 
-        verify(adoptionsService, never()).getAdoptionByAdoptionId(anyString());
+        verify(adoptionsService, never()).getAdoptionByAdoptionId(anyString(), any(), any());
     }
 
     @Test
     void getAdoptionByAdoptionId_AdoptionNotFound_ShouldThrowNotFoundException() throws Exception {
-        when(adoptionsService.getAdoptionByAdoptionId(ADOPTION_ID)).thenThrow(new NotFoundException("Adoption not found"));
+        when(adoptionsService.getAdoptionByAdoptionId(ADOPTION_ID, null, null)).thenThrow(new NotFoundException("Adoption not found"));
 
         mockMvc.perform(get("/api/v1/adoptions/{adoptionId}", ADOPTION_ID)
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isNotFound());
 
-        verify(adoptionsService, times(1)).getAdoptionByAdoptionId(ADOPTION_ID);
+        verify(adoptionsService, times(1)).getAdoptionByAdoptionId(ADOPTION_ID, null, null);
     }
 
     @Test
     void addAdoption_ShouldCreateAdoption() throws Exception {
-        when(adoptionsService.addAdoption(any(AdoptionRequestModel.class))).thenReturn(adoptionResponseModel);
+        when(adoptionsService.addAdoption(any(AdoptionRequestModel.class), isNull())).thenReturn(adoptionResponseModel);
 
         mockMvc.perform(post("/api/v1/adoptions")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -233,12 +352,28 @@ class AdoptionsControllerTest {
                 .andExpect(jsonPath("$._links.self.href").exists())
                 .andExpect(jsonPath("$._links.allAdoptions.href").exists());
 
-        verify(adoptionsService, times(1)).addAdoption(any(AdoptionRequestModel.class));
+        verify(adoptionsService, times(1)).addAdoption(any(AdoptionRequestModel.class), isNull());
+    }
+
+    @Test
+    void addAdoption_WithIdempotencyKey_ShouldPassItThroughAndEchoIt() throws Exception {
+        when(adoptionsService.addAdoption(any(AdoptionRequestModel.class), eq("retry-key-1"))).thenReturn(adoptionResponseModel);
+
+        mockMvc.perform(post("/api/v1/adoptions")
+                        .header("Idempotency-Key", "retry-key-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"summary\":\"First adoption\",\"customerId\":\"" + CUSTOMER_ID + "\",\"creatureId\":\"" + CREATURE_ID + "\"}"))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotency-Key", "retry-key-1"))
+                .andExpect(jsonPath("$.adoptionId", is(ADOPTION_ID)));
+
+        verify(adoptionsService, times(1)).addAdoption(any(AdoptionRequestModel.class), eq("retry-key-1"));
     }
 
     @Test
     void updateAdoption_WithValidId_ShouldUpdateAdoption() throws Exception {
-        when(adoptionsService.updateAdoption(any(AdoptionRequestModel.class), eq(ADOPTION_ID))).thenReturn(adoptionResponseModel);
+        when(adoptionsService.updateAdoption(any(AdoptionRequestModel.class), eq(ADOPTION_ID), isNull()))
+                .thenReturn(new TaggedAdoption(adoptionResponseModel, ETAG));
 
         mockMvc.perform(put("/api/v1/adoptions/{adoptionId}", ADOPTION_ID)
                         .contentType(MediaType.APPLICATION_JSON)
@@ -249,7 +384,7 @@ class AdoptionsControllerTest {
                 .andExpect(jsonPath("$._links.self.href").exists())
                 .andExpect(jsonPath("$._links.allAdoptions.href").exists());
 
-        verify(adoptionsService, times(1)).updateAdoption(any(AdoptionRequestModel.class), eq(ADOPTION_ID));
+        verify(adoptionsService, times(1)).updateAdoption(any(AdoptionRequestModel.class), eq(ADOPTION_ID), isNull());
     }
 
     @Test
@@ -259,21 +394,33 @@ class AdoptionsControllerTest {
                         .content("{\"summary\":\"First adoption\",\"totalAdoptions\":1,\"profileCreationDate\":\"2023-01-01\",\"profileStatus\":\"ACTIVE\",\"adoptionDate\":\"2023-02-01\",\"adoptionLocation\":\"Creature Adoption Center\",\"adoptionStatus\":\"APPROVED\",\"specialNotes\":\"Special notes for this adoption\",\"customerId\":\"" + CUSTOMER_ID + "\",\"creatureId\":\"" + CREATURE_ID + "\",\"trainingId\":\"" + TRAINING_ID + "\"}"))
                 .andExpect(status().isUnprocessableEntity());
 
-        verify(adoptionsService, never()).updateAdoption(any(AdoptionRequestModel.class), anyString());
+        verify(adoptionsService, never()).updateAdoption(any(AdoptionRequestModel.class), anyString(), any());
     }
 
     @Test
     void updateAdoptionStatus_WithValidIdAndStatus_ShouldUpdateStatus() throws Exception {
-        when(adoptionsService.updateAdoptionStatus(eq(ADOPTION_ID), eq("COMPLETED"))).thenReturn(adoptionResponseModel);
+        when(adoptionsService.updateAdoptionStatus(eq(ADOPTION_ID), eq("COMPLETED"), isNull()))
+                .thenReturn(new TaggedAdoption(adoptionResponseModel, ETAG));
 
         mockMvc.perform(patch("/api/v1/adoptions/{adoptionId}/status/{status}", ADOPTION_ID, "COMPLETED")
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", ETAG))
                 .andExpect(jsonPath("$.adoptionId", is(ADOPTION_ID)))
                 .andExpect(jsonPath("$._links.self.href").exists())
                 .andExpect(jsonPath("$._links.allAdoptions.href").exists());
 
-        verify(adoptionsService, times(1)).updateAdoptionStatus(eq(ADOPTION_ID), eq("COMPLETED"));
+        verify(adoptionsService, times(1)).updateAdoptionStatus(eq(ADOPTION_ID), eq("COMPLETED"), isNull());
+    }
+
+    @Test
+    void updateAdoptionStatus_WithStaleIfMatch_ShouldReturnPreconditionFailed() throws Exception {
+        when(adoptionsService.updateAdoptionStatus(ADOPTION_ID, "COMPLETED", ETAG))
+                .thenThrow(new PreconditionFailedException("Adoption " + ADOPTION_ID + " has changed"));
+
+        mockMvc.perform(patch("/api/v1/adoptions/{adoptionId}/status/{status}", ADOPTION_ID, "COMPLETED")
+                        .header("If-Match", ETAG))
+                .andExpect(status().isPreconditionFailed());
     }
 
     @Test
@@ -282,7 +429,108 @@ class AdoptionsControllerTest {
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isUnprocessableEntity());
 
-        verify(adoptionsService, never()).updateAdoptionStatus(anyString(), anyString());
+        verify(adoptionsService, never()).updateAdoptionStatus(anyString(), anyString(), any());
+    }
+
+    @Test
+    void transitionAdoptionStatuses_ShouldReturnOneResultPerAdoption() throws Exception {
+        String missingId = "d3d7b5a0-8f9a-4b9c-8b9a-8f9a4b9c8b9a";
+        when(adoptionsService.transitionAdoptionStatuses(any(AdoptionStatusTransitionRequestModel.class))).thenReturn(List.of(
+                new AdoptionStatusTransitionResultModel(ADOPTION_ID, AdoptionStatusTransitionOutcome.UPDATED,
+                        AdoptionStatus.APPROVED, AdoptionStatus.COMPLETED, null),
+                new AdoptionStatusTransitionResultModel(missingId, AdoptionStatusTransitionOutcome.NOT_FOUND,
+                        null, null, "Provided adoptionId not found: " + missingId)));
+
+        mockMvc.perform(post("/api/v1/adoptions/status-transitions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"adoptionIds\":[\"" + ADOPTION_ID + "\",\"" + missingId + "\"],\"status\":\"COMPLETED\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].outcome", is("UPDATED")))
+                .andExpect(jsonPath("$[1].outcome", is("NOT_FOUND")));
+
+        verify(adoptionsService, times(1)).transitionAdoptionStatuses(any(AdoptionStatusTransitionRequestModel.class));
+    }
+
+    @Test
+    void transitionAdoptionStatuses_WithInvalidCustomerIdInFilter_ShouldThrowInvalidInputException() throws Exception {
+        mockMvc.perform(post("/api/v1/adoptions/status-transitions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"filter\":{\"customerId\":\"" + INVALID_CUSTOMER_ID + "\"},\"status\":\"CANCELLED\"}"))
+                .andExpect(status().isUnprocessableEntity());
+
+        verify(adoptionsService, never()).transitionAdoptionStatuses(any());
+    }
+
+    @Test
+    void getAdoptionStats_ShouldReturnStats() throws Exception {
+        when(adoptionsService.getAdoptionStats(anyMap())).thenReturn(new AdoptionStatsResponseModel(3,
+                Map.of("PENDING", 2L, "COMPLETED", 1L),
+                Map.of("North Haven", Map.of("PENDING", 2L, "COMPLETED", 1L)),
+                Map.of("2025-01", Map.of("PENDING", 2L, "COMPLETED", 1L))));
+
+        mockMvc.perform(get("/api/v1/adoptions/stats")
+                        .param("location", "North Haven")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", is(3)))
+                .andExpect(jsonPath("$.byStatus.COMPLETED", is(1)))
+                .andExpect(jsonPath("$.byLocation['North Haven'].PENDING", is(2)));
+
+        verify(adoptionsService, times(1)).getAdoptionStats(Map.of("location", "North Haven"));
+    }
+
+    @Test
+    void getAdoptionStatusHistory_ShouldReturnHistory() throws Exception {
+        when(adoptionsService.getAdoptionStatusHistory(eq(ADOPTION_ID), anyMap())).thenReturn(List.of(
+                new AdoptionStatusHistoryEntryModel(null, AdoptionStatus.PENDING, false, LocalDateTime.of(2025, 3, 1, 9, 0), 0L, null),
+                new AdoptionStatusHistoryEntryModel(AdoptionStatus.PENDING, AdoptionStatus.APPROVED, false,
+                        LocalDateTime.of(2025, 3, 1, 11, 0), 1L, 7_200_000L)));
+
+        mockMvc.perform(get("/api/v1/adoptions/{adoptionId}/history", ADOPTION_ID)
+                        .param("to", "2025-04-01")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[1].status", is("APPROVED")))
+                .andExpect(jsonPath("$[1].timeInPreviousStatusMs", is(7_200_000)));
+
+        verify(adoptionsService, times(1)).getAdoptionStatusHistory(ADOPTION_ID, Map.of("to", "2025-04-01"));
+    }
+
+    @Test
+    void getAdoptionStatusHistory_WithInvalidId_ShouldReturnUnprocessableEntity() throws Exception {
+        mockMvc.perform(get("/api/v1/adoptions/{adoptionId}/history", INVALID_ADOPTION_ID))
+                .andExpect(status().isUnprocessableEntity());
+
+        verify(adoptionsService, never()).getAdoptionStatusHistory(any(), any());
+    }
+
+    @Test
+    void getAdoptionFunnel_ShouldReturnFunnel() throws Exception {
+        AdoptionFunnelResponseModel.StatusFlow pending = new AdoptionFunnelResponseModel.StatusFlow(5, 4, 60_000L);
+        when(adoptionsService.getAdoptionFunnel(anyMap())).thenReturn(new AdoptionFunnelResponseModel(
+                LocalDateTime.of(2025, 3, 1, 0, 0), LocalDateTime.of(2025, 4, 1, 0, 0), "month",
+                Map.of("PENDING", pending),
+                List.of(new AdoptionFunnelResponseModel.Bucket(LocalDateTime.of(2025, 3, 1, 0, 0), Map.of("PENDING", pending)))));
+
+        mockMvc.perform(get("/api/v1/adoptions/funnel")
+                        .param("bucket", "month")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totals.PENDING.entered", is(5)))
+                .andExpect(jsonPath("$.buckets[0].byStatus.PENDING.averageTimeInStatusMs", is(60000)))
+                .andExpect(jsonPath("$._links.self.href", containsString("/api/v1/adoptions/funnel")));
+
+        verify(adoptionsService, times(1)).getAdoptionFunnel(Map.of("bucket", "month"));
+    }
+
+    @Test
+    void rebuildAdoptionStats_ShouldReturnNoContent() throws Exception {
+        mockMvc.perform(post("/api/v1/adoptions/stats/rebuild"))
+                .andExpect(status().isNoContent());
+
+        verify(adoptionsService, times(1)).rebuildAdoptionStats();
     }
 
     @Test
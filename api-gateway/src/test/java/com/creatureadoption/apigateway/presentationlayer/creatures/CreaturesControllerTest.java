@@ -2,6 +2,7 @@ package com.creatureadoption.apigateway.presentationlayer.creatures;
 
 import com.creatureadoption.apigateway.businesslayer.creatures.CreaturesService;
 import com.creatureadoption.apigateway.domainclientlayer.creatures.*;
+import com.creatureadoption.apigateway.utils.exceptions.CreatureStatusConflictException;
 import com.creatureadoption.apigateway.utils.exceptions.InvalidInputException;
 import com.creatureadoption.apigateway.utils.exceptions.NotFoundException;
 import org.junit.jupiter.api.BeforeEach;
@@ -208,6 +209,44 @@ class CreaturesControllerTest {
         verify(creaturesService, times(1)).updateCreature(any(CreatureRequestModel.class), eq(CREATURE_ID));
     }
 
+    @Test
+    void updateCreatureStatus_WithValidId_ShouldReturnUpdatedCreature() throws Exception {
+        when(creaturesService.updateCreatureStatus(any(CreatureStatusRequestModel.class), eq(CREATURE_ID))).thenReturn(creatureResponseModel);
+
+        mockMvc.perform(patch("/api/v1/creatures/{creatureId}/status", CREATURE_ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"RESERVED\",\"expectedStatuses\":[\"AVAILABLE\"]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.creatureId", is(CREATURE_ID)))
+                .andExpect(jsonPath("$._links.self.href").exists());
+
+        verify(creaturesService, times(1)).updateCreatureStatus(
+                argThat(request -> request.getStatus() == CreatureStatus.RESERVED
+                        && request.getExpectedStatuses().equals(List.of(CreatureStatus.AVAILABLE))),
+                eq(CREATURE_ID));
+    }
+
+    @Test
+    void updateCreatureStatus_WhenTransitionRefused_ShouldReturnConflict() throws Exception {
+        when(creaturesService.updateCreatureStatus(any(CreatureStatusRequestModel.class), eq(CREATURE_ID)))
+                .thenThrow(new CreatureStatusConflictException("Creature cannot move to ADOPTED"));
+
+        mockMvc.perform(patch("/api/v1/creatures/{creatureId}/status", CREATURE_ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"ADOPTED\",\"expectedStatuses\":[\"RESERVED\"]}"))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void updateCreatureStatus_WithInvalidId_ShouldThrowInvalidInputException() throws Exception {
+        mockMvc.perform(patch("/api/v1/creatures/{creatureId}/status", INVALID_CREATURE_ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"ADOPTED\"}"))
+                .andExpect(status().isUnprocessableEntity());
+
+        verify(creaturesService, never()).updateCreatureStatus(any(CreatureStatusRequestModel.class), anyString());
+    }
+
     @Test
     void deleteCreature_WithValidId_ShouldDeleteCreature() throws Exception {
         doNothing().when(creaturesService).removeCreature(CREATURE_ID);
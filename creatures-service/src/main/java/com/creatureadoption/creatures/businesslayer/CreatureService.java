@@ -2,6 +2,7 @@ package com.creatureadoption.creatures.businesslayer;
 
 import com.creatureadoption.creatures.presentationlayer.CreatureRequestModel;
 import com.creatureadoption.creatures.presentationlayer.CreatureResponseModel;
+import com.creatureadoption.creatures.presentationlayer.CreatureStatusRequestModel;
 
 import java.util.List;
 import java.util.Map;
@@ -10,7 +11,9 @@ public interface CreatureService {
 
     List<CreatureResponseModel> getCreatures(Map<String, String> queryParams);
     CreatureResponseModel getCreatureByCreatureId(String creatureId);
+    List<CreatureResponseModel> getCreaturesByCreatureIds(List<String> creatureIds);
     CreatureResponseModel addCreature(CreatureRequestModel creatureRequestModel);
     CreatureResponseModel updateCreature(CreatureRequestModel updatedCreature, String creatureId);
+    CreatureResponseModel updateCreatureStatus(CreatureStatusRequestModel creatureStatusRequestModel, String creatureId);
     void removeCreature(String creatureId);
 }
\ No newline at end of file
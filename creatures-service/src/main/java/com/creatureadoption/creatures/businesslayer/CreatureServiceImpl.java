@@ -3,16 +3,24 @@ package com.creatureadoption.creatures.businesslayer;
 import com.creatureadoption.creatures.dataaccesslayer.Creature;
 import com.creatureadoption.creatures.dataaccesslayer.CreatureIdentifier;
 import com.creatureadoption.creatures.dataaccesslayer.CreatureRepository;
+import com.creatureadoption.creatures.dataaccesslayer.CreatureStatus;
 import com.creatureadoption.creatures.dataaccesslayer.CreatureTraits;
 import com.creatureadoption.creatures.mappinglayer.CreatureRequestMapper;
 import com.creatureadoption.creatures.mappinglayer.CreatureResponseMapper;
 import com.creatureadoption.creatures.presentationlayer.CreatureRequestModel;
 import com.creatureadoption.creatures.presentationlayer.CreatureResponseModel;
+import com.creatureadoption.creatures.presentationlayer.CreatureStatusRequestModel;
+import com.creatureadoption.creatures.utils.exceptions.CreatureStatusConflictException;
 import com.creatureadoption.creatures.utils.exceptions.DuplicateCreatureNameException;
+import com.creatureadoption.creatures.utils.exceptions.InvalidInputException;
 import com.creatureadoption.creatures.utils.exceptions.NotFoundException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.EnumSet;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -21,6 +29,8 @@ import java.util.stream.Collectors;
 @Service
 public class CreatureServiceImpl implements CreatureService {
 
+    private static final int MAX_PAGE_SIZE = 1000;
+
     private final CreatureRepository creatureRepository;
     private final CreatureResponseMapper creatureResponseMapper;
     private final CreatureRequestMapper creatureRequestMapper;
@@ -33,7 +43,7 @@ public class CreatureServiceImpl implements CreatureService {
 
     @Override
     public List<CreatureResponseModel> getCreatures(Map<String, String> queryParams) {
-        List<Creature> creatures = creatureRepository.findAll();
+        List<Creature> creatures = findCreatures(queryParams);
 
         String creatureId = queryParams.get("creatureId");
         String name = queryParams.get("name");
@@ -64,6 +74,29 @@ public class CreatureServiceImpl implements CreatureService {
         return creatureResponseMapper.entityListToResponseModelList(creatures);
     }
 
+    /**
+     * Everything, or with a limit one page in creatureId order starting after the creatureId given as after,
+     * so a caller can walk every creature without loading them all at once. The filters apply to the page.
+     */
+    private List<Creature> findCreatures(Map<String, String> queryParams) {
+        String limit = queryParams.get("limit");
+        if (limit == null || limit.isEmpty()) {
+            return creatureRepository.findAll();
+        }
+        int pageSize;
+        try {
+            pageSize = Integer.parseInt(limit);
+        } catch (NumberFormatException e) {
+            throw new InvalidInputException("Invalid limit provided: " + limit);
+        }
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new InvalidInputException("Invalid limit provided: " + limit + ". Expected 1 to " + MAX_PAGE_SIZE);
+        }
+        String after = queryParams.get("after");
+        return creatureRepository.findByCreatureIdentifier_CreatureIdGreaterThanOrderByCreatureIdentifier_CreatureIdAsc(
+                after != null ? after : "", Limit.of(pageSize));
+    }
+
     @Override
     public CreatureResponseModel getCreatureByCreatureId(String creatureId) {
         Creature creature = creatureRepository.findByCreatureIdentifier_CreatureId(creatureId);
@@ -74,6 +107,16 @@ public class CreatureServiceImpl implements CreatureService {
         return creatureResponseMapper.entityToResponseModel(creature);
     }
 
+    @Override
+    public List<CreatureResponseModel> getCreaturesByCreatureIds(List<String> creatureIds) {
+        if (creatureIds == null || creatureIds.isEmpty()) {
+            return List.of();
+        }
+        // Single IN query, ids that do not exist are simply left out of the result
+        List<Creature> creatures = creatureRepository.findByCreatureIdentifier_CreatureIdIn(new HashSet<>(creatureIds));
+        return creatureResponseMapper.entityListToResponseModelList(creatures);
+    }
+
     @Override
     public CreatureResponseModel addCreature(CreatureRequestModel creatureRequestModel) {
         List<Creature> existingCreatures = creatureRepository.findAll().stream() //microservice specific exception
@@ -130,6 +173,32 @@ public class CreatureServiceImpl implements CreatureService {
         return creatureResponseMapper.entityToResponseModel(response);
     }
 
+    @Override
+    @Transactional
+    public CreatureResponseModel updateCreatureStatus(CreatureStatusRequestModel creatureStatusRequestModel, String creatureId) {
+        CreatureStatus newStatus = creatureStatusRequestModel.getStatus();
+        if (newStatus == null) {
+            throw new InvalidInputException("A status must be provided for creatureId: " + creatureId);
+        }
+
+        List<CreatureStatus> expectedStatuses = creatureStatusRequestModel.getExpectedStatuses();
+        EnumSet<CreatureStatus> allowedCurrent = expectedStatuses == null || expectedStatuses.isEmpty()
+                ? EnumSet.allOf(CreatureStatus.class)
+                : EnumSet.copyOf(expectedStatuses);
+
+        int updated = creatureRepository.updateStatusIfCurrentIn(creatureId, newStatus, allowedCurrent);
+        if (updated == 0) {
+            // Only the failure path pays for a second lookup, to tell a missing creature from a refused transition
+            if (!creatureRepository.existsByCreatureIdentifier_CreatureId(creatureId)) {
+                throw new NotFoundException("Provided creatureId not found: " + creatureId);
+            }
+            throw new CreatureStatusConflictException("Creature " + creatureId + " cannot move to " + newStatus +
+                    " from its current status, expected one of " + allowedCurrent);
+        }
+
+        return creatureResponseMapper.entityToResponseModel(creatureRepository.findByCreatureIdentifier_CreatureId(creatureId));
+    }
+
     @Override
     public void removeCreature(String creatureId) {
         Creature existingCreature = creatureRepository.findByCreatureIdentifier_CreatureId(creatureId);
@@ -1,8 +1,32 @@
 package com.creatureadoption.creatures.dataaccesslayer;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface CreatureRepository extends JpaRepository<Creature, Integer> {
 
     Creature findByCreatureIdentifier_CreatureId(String creatureId);
-}
\ No newline at end of file
+
+    List<Creature> findByCreatureIdentifier_CreatureIdIn(Collection<String> creatureIds);
+
+    // Keyset page in creatureId order, read over the unique creature_id index
+    List<Creature> findByCreatureIdentifier_CreatureIdGreaterThanOrderByCreatureIdentifier_CreatureIdAsc(String creatureId, Limit limit);
+
+    boolean existsByCreatureIdentifier_CreatureId(String creatureId);
+
+    // Conditional update on the unique creature_id index, returns the number of rows changed (0 or 1)
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Creature c SET c.status = :status " +
+            "WHERE c.creatureIdentifier.creatureId = :creatureId AND c.status IN :expectedStatuses")
+    int updateStatusIfCurrentIn(@Param("creatureId") String creatureId,
+                                @Param("status") CreatureStatus status,
+                                @Param("expectedStatuses") Collection<CreatureStatus> expectedStatuses);
+}
@@ -43,6 +43,16 @@ public class CreatureController {
         return ResponseEntity.ok().body(creatureService.getCreatureByCreatureId(creatureId));
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<CreatureResponseModel>> getCreaturesByCreatureIds(@RequestBody List<String> creatureIds) {
+        for (String creatureId : creatureIds) {
+            if (creatureId == null || creatureId.length() != UUID_LENGTH) {
+                throw new InvalidInputException("Invalid creatureId provided: " + creatureId);
+            }
+        }
+        return ResponseEntity.ok().body(creatureService.getCreaturesByCreatureIds(creatureIds));
+    }
+
     @PostMapping()
     public ResponseEntity<CreatureResponseModel> addCreature(@RequestBody CreatureRequestModel creatureRequestModel) {
         return ResponseEntity.status(HttpStatus.CREATED).body(creatureService.addCreature(creatureRequestModel));
@@ -56,6 +66,14 @@ public class CreatureController {
         return ResponseEntity.ok().body(creatureService.updateCreature(creatureRequestModel, creatureId));
     }
 
+    @PatchMapping("/{creatureId}/status")
+    public ResponseEntity<CreatureResponseModel> updateCreatureStatus(@RequestBody CreatureStatusRequestModel creatureStatusRequestModel, @PathVariable String creatureId) {
+        if (creatureId.length() != UUID_LENGTH) {
+            throw new InvalidInputException("Invalid creatureId provided: " + creatureId);
+        }
+        return ResponseEntity.ok().body(creatureService.updateCreatureStatus(creatureStatusRequestModel, creatureId));
+    }
+
     @DeleteMapping("/{creatureId}")
     public ResponseEntity<Void> deleteCreature(@PathVariable String creatureId) {
         if (creatureId.length() != UUID_LENGTH) {
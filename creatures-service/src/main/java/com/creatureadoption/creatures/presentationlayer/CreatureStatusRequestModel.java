@@ -0,0 +1,22 @@
+package com.creatureadoption.creatures.presentationlayer;
+
+import com.creatureadoption.creatures.dataaccesslayer.CreatureStatus;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Status change for a single creature. When expectedStatuses is not empty the change is
+ * only applied if the creature is currently in one of those statuses.
+ */
+@Value
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CreatureStatusRequestModel {
+
+    CreatureStatus status;
+    List<CreatureStatus> expectedStatuses;
+}
@@ -2,6 +2,7 @@ package com.creatureadoption.creatures.utils;
 
 
 
+import com.creatureadoption.creatures.utils.exceptions.CreatureStatusConflictException;
 import com.creatureadoption.creatures.utils.exceptions.DuplicateCreatureNameException;
 import com.creatureadoption.creatures.utils.exceptions.InvalidInputException;
 import com.creatureadoption.creatures.utils.exceptions.NotFoundException;
@@ -12,6 +13,7 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
 
+import static org.springframework.http.HttpStatus.CONFLICT;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 import static org.springframework.http.HttpStatus.UNPROCESSABLE_ENTITY;
 
@@ -37,6 +39,12 @@ public class GlobalControllerExceptionHandler {
         return createHttpErrorInfo(UNPROCESSABLE_ENTITY, request, ex);
     }
 
+    @ResponseStatus(CONFLICT)
+    @ExceptionHandler(CreatureStatusConflictException.class)
+    public HttpErrorInfo handleCreatureStatusConflictException(WebRequest request, Exception ex) {
+        return createHttpErrorInfo(CONFLICT, request, ex);
+    }
+
 
 
     private HttpErrorInfo createHttpErrorInfo(HttpStatus httpStatus, WebRequest request, Exception ex) {
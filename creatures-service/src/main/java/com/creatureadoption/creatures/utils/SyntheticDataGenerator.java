@@ -0,0 +1,171 @@
+package com.creatureadoption.creatures.utils;
+
+import com.creatureadoption.creatures.dataaccesslayer.CreatureStatus;
+import com.creatureadoption.creatures.dataaccesslayer.CreatureType;
+import com.creatureadoption.creatures.dataaccesslayer.Rarity;
+import com.creatureadoption.creatures.dataaccesslayer.Temperament;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adds a large, reproducible set of creatures for load testing on top of the sample data. Ids and statuses
+ * are derived from the seed and the creature's index exactly as the adoptions-service generator derives them,
+ * so the adoptions it writes point at these creatures and agree with their status, as long as both services
+ * run with the same app.synthetic settings.
+ */
+@Slf4j
+@Component
+@Profile("synthetic")
+public class SyntheticDataGenerator implements CommandLineRunner {
+
+    private static final String INSERT_CREATURE = "INSERT INTO creatures (creature_id, registration_code, name, species, "
+            + "type, rarity, level, age, health, experience, status, strength, intelligence, agility, temperament) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final List<String> NAMES = List.of("Spark", "Ember", "Cascade", "Terra", "Shadow", "Mystic",
+            "Boulder", "Freeze", "Wave", "Splash", "Blaze", "Leaf", "Bolt", "Psyche", "Phantom", "Wisp", "Glow",
+            "Breeze", "Dusk", "Aurora");
+    private static final List<String> SPECIES = List.of("Electabuzz", "Charmeleon", "Vaporeon", "Torterra", "Gengar",
+            "Alakazam", "Golem", "Glaceon", "Oshawott", "Piplup", "Infernape", "Serperior", "Zebstrika", "Gothitelle",
+            "Chandelure", "Misdreavus", "Lanturn", "Jumpluff", "Umbreon", "Lapras");
+    // Same limit the adoptions service enforces on completed adoptions per customer
+    static final int MAX_COMPLETED_PER_CUSTOMER = 2;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long seed;
+    private final long customers;
+    private final long creatures;
+    private final long adoptions;
+    private final int batchSize;
+    private final int threads;
+
+    public SyntheticDataGenerator(JdbcTemplate jdbcTemplate,
+                                  @Value("${app.synthetic.seed:42}") long seed,
+                                  @Value("${app.synthetic.customers:200000}") long customers,
+                                  @Value("${app.synthetic.creatures:300000}") long creatures,
+                                  @Value("${app.synthetic.adoptions:1000000}") long adoptions,
+                                  @Value("${app.synthetic.batch-size:5000}") int batchSize,
+                                  @Value("${app.synthetic.threads:4}") int threads) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.seed = seed;
+        this.customers = customers;
+        this.creatures = creatures;
+        this.adoptions = adoptions;
+        this.batchSize = batchSize;
+        this.threads = threads;
+    }
+
+    @Override
+    public void run(String... args) throws Exception {
+        log.info("Generating {} synthetic creatures with seed {}...", creatures, seed);
+        long started = System.currentTimeMillis();
+
+        // Each batch is one JDBC batch on its own connection; rows depend only on their index
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> batches = new ArrayList<>();
+            for (long from = 0; from < creatures; from += batchSize) {
+                long start = from;
+                long end = Math.min(from + batchSize, creatures);
+                batches.add(executor.submit(() -> jdbcTemplate.batchUpdate(INSERT_CREATURE, generateCreatures(start, end))));
+            }
+            for (Future<?> batch : batches) {
+                batch.get();
+            }
+        } finally {
+            executor.shutdown();
+            if (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                executor.shutdownNow();
+            }
+        }
+
+        log.info("Generated {} synthetic creatures in {} ms", creatures, System.currentTimeMillis() - started);
+    }
+
+    List<Object[]> generateCreatures(long from, long to) {
+        List<Object[]> rows = new ArrayList<>((int) (to - from));
+        for (long index = from; index < to; index++) {
+            SplittableRandom random = random("creature", index);
+            int level = 1 + random.nextInt(100);
+            rows.add(new Object[]{
+                    id("creature", index),
+                    String.format("SYN-%08X", index),
+                    NAMES.get(random.nextInt(NAMES.size())),
+                    SPECIES.get(random.nextInt(SPECIES.size())),
+                    pick(random, CreatureType.values()).name(),
+                    rarity(random).name(),
+                    level,
+                    1 + random.nextInt(20),
+                    50 + random.nextInt(51),
+                    level * 180 + random.nextInt(180),
+                    creatureStatus(index).name(),
+                    1 + random.nextInt(100),
+                    1 + random.nextInt(100),
+                    1 + random.nextInt(100),
+                    pick(random, Temperament.values()).name()
+            });
+        }
+        return rows;
+    }
+
+    // Must stay identical to SyntheticDataGenerator.creatureStatus in the adoptions service
+    CreatureStatus creatureStatus(long creature) {
+        int roll = random("creature-status", creature).nextInt(100);
+        if (roll < 5) {
+            return CreatureStatus.UNAVAILABLE;
+        }
+        if (creature >= adoptions) {
+            return CreatureStatus.AVAILABLE;
+        }
+        if (roll < 35) {
+            return creature / customers < MAX_COMPLETED_PER_CUSTOMER ? CreatureStatus.ADOPTED : CreatureStatus.AVAILABLE;
+        }
+        if (roll < 45) {
+            return CreatureStatus.ADOPTION_PENDING;
+        }
+        if (roll < 55) {
+            return CreatureStatus.RESERVED;
+        }
+        return CreatureStatus.AVAILABLE;
+    }
+
+    // Mostly common creatures, very few legendary ones
+    private static Rarity rarity(SplittableRandom random) {
+        int roll = random.nextInt(100);
+        if (roll < 50) {
+            return Rarity.COMMON;
+        }
+        if (roll < 78) {
+            return Rarity.UNCOMMON;
+        }
+        if (roll < 93) {
+            return Rarity.RARE;
+        }
+        return roll < 99 ? Rarity.EPIC : Rarity.LEGENDARY;
+    }
+
+    private static <T> T pick(SplittableRandom random, T[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private SplittableRandom random(String kind, long index) {
+        return new SplittableRandom(seed ^ kind.hashCode() * 0x9E3779B97F4A7C15L ^ index * 0xC2B2AE3D27D4EB4FL);
+    }
+
+    private String id(String kind, long index) {
+        return UUID.nameUUIDFromBytes((seed + "/" + kind + "/" + index).getBytes(StandardCharsets.UTF_8)).toString();
+    }
+}
@@ -0,0 +1,12 @@
+package com.creatureadoption.creatures.utils.exceptions;
+
+public class CreatureStatusConflictException extends RuntimeException {
+
+    public CreatureStatusConflictException() {}
+
+    public CreatureStatusConflictException(String message) { super(message); }
+
+    public CreatureStatusConflictException(Throwable cause) { super(cause); }
+
+    public CreatureStatusConflictException(String message, Throwable cause) { super(message, cause); }
+}
@@ -110,6 +110,36 @@ public class CreatureRepositoryIntegrationTest {
         assertThat(retrieved.getCreatureIdentifier().getCreatureId()).isEqualTo(newIdentifier.getCreatureId());
     }
 
+    @Test
+    public void whenCurrentStatusIsExpected_thenStatusUpdateShouldApply() {
+        //arrange
+        String creatureId = savedEntity.getCreatureIdentifier().getCreatureId();
+
+        //act
+        int updated = repository.updateStatusIfCurrentIn(creatureId, CreatureStatus.ADOPTION_PENDING,
+                List.of(CreatureStatus.AVAILABLE, CreatureStatus.RESERVED));
+
+        //assert
+        assertThat(updated).isEqualTo(1);
+        assertThat(repository.findByCreatureIdentifier_CreatureId(creatureId).getStatus())
+                .isEqualTo(CreatureStatus.ADOPTION_PENDING);
+    }
+
+    @Test
+    public void whenCurrentStatusIsNotExpected_thenStatusUpdateShouldBeRefused() {
+        //arrange
+        String creatureId = savedEntity.getCreatureIdentifier().getCreatureId();
+
+        //act
+        int updated = repository.updateStatusIfCurrentIn(creatureId, CreatureStatus.ADOPTED,
+                List.of(CreatureStatus.RESERVED));
+
+        //assert
+        assertThat(updated).isZero();
+        assertThat(repository.findByCreatureIdentifier_CreatureId(creatureId).getStatus())
+                .isEqualTo(CreatureStatus.AVAILABLE);
+    }
+
     @Test
     public void whenDeleteCreature_thenItShouldBeRemoved() {
         //arrange
@@ -14,10 +14,12 @@ import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.reactive.server.WebTestClient;
 
+import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+import static org.springframework.http.HttpStatus.CONFLICT;
 import static org.springframework.http.HttpStatus.UNPROCESSABLE_ENTITY;
 
 @SpringBootTest(webEnvironment = RANDOM_PORT)
@@ -51,6 +53,32 @@ public class CreatureControllerIntegrationTest {
                 });
     }
 
+    @Test
+    public void whenGetCreaturesWithLimit_thenReturnPagesInCreatureIdOrder() {
+        //arrange
+        List<CreatureResponseModel> firstPage = webTestClient.get()
+                .uri(BASE_URI + "?limit=2")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(CreatureResponseModel.class)
+                .returnResult().getResponseBody();
+        String after = firstPage.get(firstPage.size() - 1).getCreatureId();
+        //act
+        webTestClient.get()
+                .uri(BASE_URI + "?limit=2&after=" + after)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                //assert
+                .expectStatus().isOk()
+                .expectBodyList(CreatureResponseModel.class)
+                .value(nextPage -> {
+                    assertThat(firstPage).hasSize(2);
+                    assertThat(firstPage.get(0).getCreatureId()).isLessThan(firstPage.get(1).getCreatureId());
+                    assertThat(nextPage).allMatch(creature -> creature.getCreatureId().compareTo(after) > 0);
+                });
+    }
+
     @Test
     public void whenGetCreaturesWithTypeFilter_thenReturnFilteredCreatures() {
         //arrange
@@ -134,6 +162,41 @@ public class CreatureControllerIntegrationTest {
                 .jsonPath("$.creatureId").isEqualTo(creatureId);
     }
 
+    @Test
+    public void whenGetCreaturesByBatchIds_thenReturnOnlyExistingCreatures() {
+        //arrange
+        Creature creature = creatureRepository.findAll().get(0);
+        String creatureId = creature.getCreatureIdentifier().getCreatureId();
+        List<String> creatureIds = List.of(creatureId, UUID.randomUUID().toString());
+        //act
+        webTestClient.post()
+                .uri(BASE_URI + "/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .bodyValue(creatureIds)
+                .exchange()
+                //assert
+                .expectStatus().isOk()
+                .expectBodyList(CreatureResponseModel.class)
+                .value(list -> {
+                    assertThat(list).hasSize(1);
+                    assertThat(list.get(0).getCreatureId()).isEqualTo(creatureId);
+                });
+    }
+
+    @Test
+    public void whenGetCreaturesByBatchWithInvalidId_thenReturnUnprocessableEntity() {
+        //arrange
+        //act
+        webTestClient.post()
+                .uri(BASE_URI + "/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(List.of("invalid-id"))
+                .exchange()
+                //assert
+                .expectStatus().isEqualTo(UNPROCESSABLE_ENTITY);
+    }
+
     @Test
     public void whenGetCreatureByInvalidId_thenReturnNotFound() {
         //arrange
@@ -304,6 +367,75 @@ public class CreatureControllerIntegrationTest {
                 .expectStatus().isNotFound();
     }
 
+    @Test
+    public void whenUpdateCreatureStatus_thenReturnCreatureInNewStatus() {
+        //arrange
+        Creature creature = creatureRepository.findAll().stream()
+                .filter(c -> c.getStatus() == CreatureStatus.AVAILABLE)
+                .findFirst().orElseThrow();
+        String creatureId = creature.getCreatureIdentifier().getCreatureId();
+        CreatureStatusRequestModel request = CreatureStatusRequestModel.builder()
+                .status(CreatureStatus.ADOPTION_PENDING)
+                .expectedStatuses(List.of(CreatureStatus.AVAILABLE, CreatureStatus.RESERVED))
+                .build();
+        //act
+        webTestClient.patch()
+                .uri(BASE_URI + "/" + creatureId + "/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                //assert
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.creatureId").isEqualTo(creatureId)
+                .jsonPath("$.name").isEqualTo(creature.getName())
+                .jsonPath("$.status").isEqualTo(CreatureStatus.ADOPTION_PENDING.toString());
+    }
+
+    @Test
+    public void whenUpdateCreatureStatusFromUnexpectedStatus_thenReturnConflict() {
+        //arrange
+        Creature creature = creatureRepository.findAll().stream()
+                .filter(c -> c.getStatus() == CreatureStatus.AVAILABLE)
+                .findFirst().orElseThrow();
+        String creatureId = creature.getCreatureIdentifier().getCreatureId();
+        CreatureStatusRequestModel request = CreatureStatusRequestModel.builder()
+                .status(CreatureStatus.ADOPTED)
+                .expectedStatuses(List.of(CreatureStatus.RESERVED))
+                .build();
+        //act
+        webTestClient.patch()
+                .uri(BASE_URI + "/" + creatureId + "/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                //assert
+                .expectStatus().isEqualTo(CONFLICT);
+
+        assertThat(creatureRepository.findByCreatureIdentifier_CreatureId(creatureId).getStatus())
+                .isEqualTo(CreatureStatus.AVAILABLE);
+    }
+
+    @Test
+    public void whenUpdateCreatureStatusWithNonExistentId_thenReturnNotFound() {
+        //arrange
+        String nonExistentId = UUID.randomUUID().toString();
+        CreatureStatusRequestModel request = CreatureStatusRequestModel.builder()
+                .status(CreatureStatus.ADOPTED)
+                .build();
+        //act
+        webTestClient.patch()
+                .uri(BASE_URI + "/" + nonExistentId + "/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                //assert
+                .expectStatus().isNotFound();
+    }
+
     @Test
     public void whenDeleteCreature_thenReturnNoContent() {
         //arrange
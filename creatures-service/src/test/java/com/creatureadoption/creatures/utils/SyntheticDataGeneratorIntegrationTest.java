@@ -0,0 +1,73 @@
+package com.creatureadoption.creatures.utils;
+
+import com.creatureadoption.creatures.dataaccesslayer.Creature;
+import com.creatureadoption.creatures.dataaccesslayer.CreatureRepository;
+import com.creatureadoption.creatures.dataaccesslayer.CreatureStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.transaction.annotation.Propagation.NOT_SUPPORTED;
+
+@DataJpaTest
+@Transactional(propagation = NOT_SUPPORTED)
+public class SyntheticDataGeneratorIntegrationTest {
+
+    private static final long SEED = 42;
+    private static final long CUSTOMERS = 30;
+    private static final long CREATURES = 150;
+    private static final long ADOPTIONS = 100;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CreatureRepository repository;
+
+    private SyntheticDataGenerator generator;
+
+    @BeforeEach
+    public void setupDb() {
+        repository.deleteAll();
+        generator = new SyntheticDataGenerator(jdbcTemplate, SEED, CUSTOMERS, CREATURES, ADOPTIONS, 40, 3);
+    }
+
+    @Test
+    public void whenRun_thenEveryCreatureIsStoredUnderTheIdTheAdoptionsReferTo() throws Exception {
+        generator.run();
+
+        assertThat(repository.count()).isEqualTo(CREATURES);
+        for (long index = 0; index < CREATURES; index += 13) {
+            Creature creature = repository.findByCreatureIdentifier_CreatureId(syntheticId("creature", index));
+            assertThat(creature).isNotNull();
+            assertThat(creature.getStatus()).isEqualTo(generator.creatureStatus(index));
+        }
+    }
+
+    @Test
+    public void whenCreatureStatusIsDerived_thenItAgreesWithTheAdoptionsThatCanExist() {
+        for (long creature = 0; creature < CREATURES; creature++) {
+            CreatureStatus status = generator.creatureStatus(creature);
+            // Creatures past the adoption count never had an adoption
+            if (creature >= ADOPTIONS) {
+                assertThat(status).isIn(CreatureStatus.AVAILABLE, CreatureStatus.UNAVAILABLE);
+            }
+            // Completed adoptions go round the customers, so only the first rounds stay within the limit
+            if (status == CreatureStatus.ADOPTED) {
+                assertThat(creature / CUSTOMERS).isLessThan(SyntheticDataGenerator.MAX_COMPLETED_PER_CUSTOMER);
+            }
+        }
+    }
+
+    // The adoptions-service generator derives the creature ids it refers to this way
+    private static String syntheticId(String kind, long index) {
+        return UUID.nameUUIDFromBytes((SEED + "/" + kind + "/" + index).getBytes(StandardCharsets.UTF_8)).toString();
+    }
+}
@@ -11,6 +11,7 @@ public interface CustomerService {
 
     List<CustomerResponseModel> getCustomers(Map<String, String> queryParams);
     CustomerResponseModel getCustomerByCustomerId(String customerId);
+    List<CustomerResponseModel> getCustomersByCustomerIds(List<String> customerIds);
     CustomerResponseModel addCustomer(CustomerRequestModel customerRequestModel);
     CustomerResponseModel updateCustomer(CustomerRequestModel updatedCustomer, String customerId);
     void removeCustomer(String customerId);
@@ -10,10 +10,13 @@ import com.creatureadoption.customers.mappinglayer.CustomerResponseMapper;
 import com.creatureadoption.customers.presentationlayer.CustomerRequestModel;
 import com.creatureadoption.customers.presentationlayer.CustomerResponseModel;
 import com.creatureadoption.customers.utils.exceptions.DuplicateEmailException;
+import com.creatureadoption.customers.utils.exceptions.InvalidInputException;
 import com.creatureadoption.customers.utils.exceptions.NotFoundException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -22,6 +25,8 @@ import java.util.stream.Collectors;
 @Service
 public class CustomerServiceImpl implements CustomerService {
 
+    private static final int MAX_PAGE_SIZE = 1000;
+
     private final CustomerRepository customerRepository;
     private final CustomerResponseMapper customerResponseMapper;
     private final CustomerRequestMapper customerRequestMapper;
@@ -35,7 +40,7 @@ public class CustomerServiceImpl implements CustomerService {
 
     @Override
     public List<CustomerResponseModel> getCustomers(Map<String, String> queryParams) {
-        List<Customer> customers = customerRepository.findAll();
+        List<Customer> customers = findCustomers(queryParams);
 
         String customerId = queryParams.get("customerId");
         String firstName = queryParams.get("firstName");
@@ -75,6 +80,29 @@ public class CustomerServiceImpl implements CustomerService {
     }
 
 
+    /**
+     * Everything, or with a limit one page in customerId order starting after the customerId given as after,
+     * so a caller can walk every customer without loading them all at once. The filters apply to the page.
+     */
+    private List<Customer> findCustomers(Map<String, String> queryParams) {
+        String limit = queryParams.get("limit");
+        if (limit == null || limit.isEmpty()) {
+            return customerRepository.findAll();
+        }
+        int pageSize;
+        try {
+            pageSize = Integer.parseInt(limit);
+        } catch (NumberFormatException e) {
+            throw new InvalidInputException("Invalid limit provided: " + limit);
+        }
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new InvalidInputException("Invalid limit provided: " + limit + ". Expected 1 to " + MAX_PAGE_SIZE);
+        }
+        String after = queryParams.get("after");
+        return customerRepository.findByCustomerIdentifier_CustomerIdGreaterThanOrderByCustomerIdentifier_CustomerIdAsc(
+                after != null ? after : "", Limit.of(pageSize));
+    }
+
     @Override
     public CustomerResponseModel getCustomerByCustomerId(String customerId) {
         Customer customer = customerRepository.findByCustomerIdentifier_CustomerId(customerId);
@@ -85,6 +113,16 @@ public class CustomerServiceImpl implements CustomerService {
         return customerResponseMapper.entityToResponseModel(customer);
     }
 
+    @Override
+    public List<CustomerResponseModel> getCustomersByCustomerIds(List<String> customerIds) {
+        if (customerIds == null || customerIds.isEmpty()) {
+            return List.of();
+        }
+        // Single IN query, ids that do not exist are simply left out of the result
+        List<Customer> customers = customerRepository.findByCustomerIdentifier_CustomerIdIn(new HashSet<>(customerIds));
+        return customerResponseMapper.entityListToResponseModelList(customers);
+    }
+
     @Override
     public CustomerResponseModel addCustomer(CustomerRequestModel customerRequestModel) {
         List<Customer> existingCustomers = customerRepository.findAll().stream() //subdomain specific exception
@@ -1,9 +1,18 @@
 package com.creatureadoption.customers.dataaccesslayer;
 
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface CustomerRepository extends JpaRepository<Customer, Integer> {
 
     Customer findByCustomerIdentifier_CustomerId(String customerId);
+
+    List<Customer> findByCustomerIdentifier_CustomerIdIn(Collection<String> customerIds);
+
+    // Keyset page in customerId order, read over the unique customer_id index
+    List<Customer> findByCustomerIdentifier_CustomerIdGreaterThanOrderByCustomerIdentifier_CustomerIdAsc(String customerId, Limit limit);
 }
\ No newline at end of file
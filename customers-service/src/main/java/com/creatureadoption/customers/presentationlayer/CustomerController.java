@@ -46,6 +46,16 @@ public class CustomerController {
         return ResponseEntity.ok().body(customerService.getCustomerByCustomerId(customerId));
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<CustomerResponseModel>> getCustomersByCustomerIds(@RequestBody List<String> customerIds) {
+        for (String customerId : customerIds) {
+            if (customerId == null || customerId.length() != UUID_LENGTH) {
+                throw new InvalidInputException("Invalid customerId provided: " + customerId);
+            }
+        }
+        return ResponseEntity.ok().body(customerService.getCustomersByCustomerIds(customerIds));
+    }
+
     @PostMapping()
     public ResponseEntity<CustomerResponseModel> addCustomer(@RequestBody CustomerRequestModel customerRequestModel) {
         return ResponseEntity.status(HttpStatus.CREATED).body(customerService.addCustomer(customerRequestModel));
@@ -0,0 +1,159 @@
+package com.creatureadoption.customers.utils;
+
+import com.creatureadoption.customers.dataaccesslayer.ContactMethodPreference;
+import com.creatureadoption.customers.dataaccesslayer.PhoneType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adds a large, reproducible set of customers for load testing on top of the sample data. Customer ids are
+ * derived from the seed and the customer's index the same way the adoptions-service generator derives the
+ * ids it refers to, so both services must run with the same app.synthetic settings.
+ */
+@Slf4j
+@Component
+@Profile("synthetic")
+public class SyntheticDataGenerator implements CommandLineRunner {
+
+    private static final String INSERT_CUSTOMER = "INSERT INTO customers (customer_id, first_name, last_name, "
+            + "email_address, contact_method_preference, street_address, city, province, country, postal_code) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    // Phone numbers reference the generated row id, which is only known to the database
+    private static final String INSERT_PHONE_NUMBER = "INSERT INTO customer_phonenumbers (customer_id, type, number) "
+            + "SELECT id, ?, ? FROM customers WHERE customer_id = ?";
+    private static final List<String> FIRST_NAMES = List.of("Ash", "Misty", "Brock", "Dawn", "Serena", "Gary", "May",
+            "Max", "Iris", "Cilan", "Clemont", "Bonnie", "Lillie", "Kiawe", "Lana", "Mallow", "Sophocles", "Gladion",
+            "Hilda", "Nate");
+    private static final List<String> LAST_NAMES = List.of("Ketchum", "Waterflower", "Harrison", "Berlitz", "Yvonne",
+            "Oak", "Maple", "Birch", "Rowan", "Juniper", "Sycamore", "Kukui", "Magnolia", "Elm", "Cedar", "Willow",
+            "Hawthorn", "Aspen", "Laurel", "Hazel");
+    private static final List<String> STREETS = List.of("Main Street", "Oak Avenue", "Maple Road", "Pine Lane",
+            "Cedar Boulevard", "Elm Street", "Birch Way", "Willow Drive", "Spruce Court", "Ash Crescent");
+    // city, province, country, postal code prefix
+    private static final List<String[]> CITIES = List.of(
+            new String[]{"Montreal", "Quebec", "Canada", "H2X"},
+            new String[]{"Toronto", "Ontario", "Canada", "M5V"},
+            new String[]{"Vancouver", "British Columbia", "Canada", "V6B"},
+            new String[]{"Calgary", "Alberta", "Canada", "T2P"},
+            new String[]{"Ottawa", "Ontario", "Canada", "K1P"},
+            new String[]{"Quebec City", "Quebec", "Canada", "G1R"},
+            new String[]{"Halifax", "Nova Scotia", "Canada", "B3H"},
+            new String[]{"Winnipeg", "Manitoba", "Canada", "R3C"},
+            new String[]{"Edmonton", "Alberta", "Canada", "T5J"},
+            new String[]{"Victoria", "British Columbia", "Canada", "V8W"});
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long seed;
+    private final long customers;
+    private final int batchSize;
+    private final int threads;
+
+    public SyntheticDataGenerator(JdbcTemplate jdbcTemplate,
+                                  @Value("${app.synthetic.seed:42}") long seed,
+                                  @Value("${app.synthetic.customers:200000}") long customers,
+                                  @Value("${app.synthetic.batch-size:5000}") int batchSize,
+                                  @Value("${app.synthetic.threads:4}") int threads) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.seed = seed;
+        this.customers = customers;
+        this.batchSize = batchSize;
+        this.threads = threads;
+    }
+
+    @Override
+    public void run(String... args) throws Exception {
+        log.info("Generating {} synthetic customers with seed {}...", customers, seed);
+        long started = System.currentTimeMillis();
+
+        // A batch writes its customers and then their phone numbers; rows depend only on their index
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> batches = new ArrayList<>();
+            for (long from = 0; from < customers; from += batchSize) {
+                long start = from;
+                long end = Math.min(from + batchSize, customers);
+                batches.add(executor.submit(() -> {
+                    jdbcTemplate.batchUpdate(INSERT_CUSTOMER, generateCustomers(start, end));
+                    jdbcTemplate.batchUpdate(INSERT_PHONE_NUMBER, generatePhoneNumbers(start, end));
+                }));
+            }
+            for (Future<?> batch : batches) {
+                batch.get();
+            }
+        } finally {
+            executor.shutdown();
+            if (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                executor.shutdownNow();
+            }
+        }
+
+        log.info("Generated {} synthetic customers in {} ms", customers, System.currentTimeMillis() - started);
+    }
+
+    List<Object[]> generateCustomers(long from, long to) {
+        List<Object[]> rows = new ArrayList<>((int) (to - from));
+        for (long index = from; index < to; index++) {
+            SplittableRandom random = random("customer", index);
+            String firstName = FIRST_NAMES.get(random.nextInt(FIRST_NAMES.size()));
+            String lastName = LAST_NAMES.get(random.nextInt(LAST_NAMES.size()));
+            String[] city = CITIES.get((int) skewed(random, CITIES.size()));
+            rows.add(new Object[]{
+                    id("customer", index),
+                    firstName,
+                    lastName,
+                    (firstName + "." + lastName + "." + index + "@example.com").toLowerCase(),
+                    ContactMethodPreference.values()[random.nextInt(ContactMethodPreference.values().length)].name(),
+                    (1 + random.nextInt(9999)) + " " + STREETS.get(random.nextInt(STREETS.size())),
+                    city[0],
+                    city[1],
+                    city[2],
+                    city[3] + " " + random.nextInt(10) + (char) ('A' + random.nextInt(26)) + random.nextInt(10)
+            });
+        }
+        return rows;
+    }
+
+    // One to three phone numbers per customer, each of a different type
+    List<Object[]> generatePhoneNumbers(long from, long to) {
+        List<Object[]> rows = new ArrayList<>((int) (to - from) * 2);
+        for (long index = from; index < to; index++) {
+            SplittableRandom random = random("customer-phone", index);
+            String customerId = id("customer", index);
+            int count = 1 + random.nextInt(PhoneType.values().length);
+            for (int i = 0; i < count; i++) {
+                String number = String.format("%03d-%03d-%04d",
+                        200 + random.nextInt(800), random.nextInt(1000), random.nextInt(10000));
+                rows.add(new Object[]{PhoneType.values()[i].name(), number, customerId});
+            }
+        }
+        return rows;
+    }
+
+    // Cubing a uniform draw piles most picks onto the lowest indexes
+    private static long skewed(SplittableRandom random, long bound) {
+        double u = random.nextDouble();
+        return Math.min((long) (u * u * u * bound), bound - 1);
+    }
+
+    private SplittableRandom random(String kind, long index) {
+        return new SplittableRandom(seed ^ kind.hashCode() * 0x9E3779B97F4A7C15L ^ index * 0xC2B2AE3D27D4EB4FL);
+    }
+
+    private String id(String kind, long index) {
+        return UUID.nameUUIDFromBytes((seed + "/" + kind + "/" + index).getBytes(StandardCharsets.UTF_8)).toString();
+    }
+}
@@ -20,6 +20,7 @@ import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
 
 @SpringBootTest(webEnvironment = RANDOM_PORT)
@@ -61,6 +62,32 @@ public class CustomerControllerIntegrationTest {
                 });
     }
 
+    @Test
+    void whenGetCustomersWithLimit_thenReturnPagesInCustomerIdOrder() {
+        //arrange
+        List<CustomerResponseModel> firstPage = webTestClient.get()
+                .uri(BASE_URI_CUSTOMERS + "?limit=2")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(CustomerResponseModel.class)
+                .returnResult().getResponseBody();
+        String after = firstPage.get(firstPage.size() - 1).getCustomerId();
+        //act
+        webTestClient.get()
+                .uri(BASE_URI_CUSTOMERS + "?limit=2&after=" + after)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                //assert
+                .expectStatus().isOk()
+                .expectBodyList(CustomerResponseModel.class)
+                .value(nextPage -> {
+                    assertEquals(2, firstPage.size());
+                    assertTrue(firstPage.get(0).getCustomerId().compareTo(firstPage.get(1).getCustomerId()) < 0);
+                    assertTrue(nextPage.stream().allMatch(customer -> customer.getCustomerId().compareTo(after) > 0));
+                });
+    }
+
     @Test
     void whenGetCustomerWithValidId_thenReturnCustomer() {
         //arrange
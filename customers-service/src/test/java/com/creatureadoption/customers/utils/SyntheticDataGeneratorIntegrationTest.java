@@ -0,0 +1,73 @@
+package com.creatureadoption.customers.utils;
+
+import com.creatureadoption.customers.dataaccesslayer.CustomerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.transaction.annotation.Propagation.NOT_SUPPORTED;
+
+@DataJpaTest
+@Transactional(propagation = NOT_SUPPORTED)
+public class SyntheticDataGeneratorIntegrationTest {
+
+    private static final long SEED = 42;
+    private static final long CUSTOMERS = 120;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CustomerRepository repository;
+
+    private SyntheticDataGenerator generator;
+
+    @BeforeEach
+    public void setupDb() {
+        repository.deleteAll();
+        // Batches smaller than the total, so several are written concurrently
+        generator = new SyntheticDataGenerator(jdbcTemplate, SEED, CUSTOMERS, 50, 3);
+    }
+
+    @Test
+    public void whenRun_thenEveryCustomerIsStoredUnderTheIdTheAdoptionsReferTo() throws Exception {
+        generator.run();
+
+        assertThat(repository.count()).isEqualTo(CUSTOMERS);
+        for (long index = 0; index < CUSTOMERS; index += 17) {
+            assertThat(repository.findByCustomerIdentifier_CustomerId(syntheticId("customer", index))).isNotNull();
+        }
+    }
+
+    @Test
+    public void whenRun_thenEveryCustomerHasOneToThreePhoneNumbersOfItsOwn() throws Exception {
+        generator.run();
+
+        Long orphans = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM customer_phonenumbers p "
+                + "LEFT JOIN customers c ON c.id = p.customer_id WHERE c.id IS NULL", Long.class);
+        List<Long> perCustomer = jdbcTemplate.queryForList("SELECT COUNT(p.id) FROM customers c "
+                + "LEFT JOIN customer_phonenumbers p ON p.customer_id = c.id GROUP BY c.id", Long.class);
+        assertThat(orphans).isZero();
+        assertThat(perCustomer).hasSize((int) CUSTOMERS).allSatisfy(count -> assertThat(count).isBetween(1L, 3L));
+    }
+
+    @Test
+    public void whenGeneratedTwiceWithTheSameSeed_thenTheRowsAreTheSame() {
+        SyntheticDataGenerator sameSeed = new SyntheticDataGenerator(jdbcTemplate, SEED, CUSTOMERS, 50, 3);
+
+        assertThat(sameSeed.generateCustomers(0, CUSTOMERS)).containsExactlyElementsOf(generator.generateCustomers(0, CUSTOMERS));
+    }
+
+    // The adoptions-service generator derives the customer ids it refers to this way
+    private static String syntheticId(String kind, long index) {
+        return UUID.nameUUIDFromBytes((SEED + "/" + kind + "/" + index).getBytes(StandardCharsets.UTF_8)).toString();
+    }
+}
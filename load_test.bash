@@ -0,0 +1,81 @@
+#!/usr/bin/env bash
+set -e
+
+# Load test for adoptions-service: runs the same enrichment-heavy reads against the service on platform
+# threads (one Tomcat thread per request, capped at 200) and on virtual threads, then prints both side by side.
+# Needs the docker compose stack and hey (https://github.com/rakyll/hey).
+# Usage: ./load_test.bash [concurrency] [requests]
+
+CONCURRENCY=${1:-1000}
+REQUESTS=${2:-20000}
+BASE_URL="http://localhost:8084"
+
+if ! command -v hey > /dev/null; then
+  echo "hey is required: go install github.com/rakyll/hey@latest"
+  exit 1
+fi
+
+function waitForService() {
+  url=$1
+  echo -n "Wait for: $url... "
+  n=0
+  until curl -s -f -o /dev/null "$url"; do
+    n=$((n + 1))
+    if [[ $n == 100 ]]; then
+      echo " Give up"
+      exit 1
+    fi
+    sleep 3
+    echo -n "."
+  done
+  echo " Ok"
+}
+
+function metric() {
+  curl -s "$BASE_URL/actuator/metrics/$1" | grep -o '"value":[0-9.E]*' | head -1 | cut -d: -f2
+}
+
+# Prints "requests/sec average-ms p99-ms non-2xx" for one hey run
+function load() {
+  out=$(hey -n "$REQUESTS" -c "$CONCURRENCY" -t 30 "$1")
+  rps=$(echo "$out" | awk '/Requests\/sec/ {print $2}')
+  avg=$(echo "$out" | awk '/Average:/ {printf "%.0f", $2 * 1000; exit}')
+  p99=$(echo "$out" | awk '/99%/ {printf "%.0f", $3 * 1000}')
+  # Non-2xx responses plus client-side errors such as timeouts, which hey lists as "[count] error"
+  failed=$(echo "$out" | awk '/Status code distribution/ {s = 1; next} /Error distribution/ {s = 2; next}
+    s == 1 && $1 ~ /^\[/ && $1 !~ /^\[2/ {sum += $2}
+    s == 2 && $1 ~ /^\[/ {gsub(/[\[\]]/, "", $1); sum += $1}
+    END {print sum + 0}')
+  echo "$rps $avg $p99 $failed"
+}
+
+declare -A results
+
+for variant in platform virtual; do
+  echo "----------------------------------------------------------------------------------------------------------$variant threads"
+  [[ $variant == virtual ]] && enabled=true || enabled=false
+  ADOPTIONS_VIRTUAL_THREADS=$enabled docker compose up -d --no-deps --force-recreate adoptions-service > /dev/null
+  waitForService "$BASE_URL/actuator/health"
+
+  adoptionId=$(curl -s "$BASE_URL/api/v1/adoptions?limit=1" | grep -o '"adoptionId":"[^"]*"' | head -1 | cut -d'"' -f4)
+  echo "Warming up..."
+  hey -n 2000 -c 50 "$BASE_URL/api/v1/adoptions?limit=50" > /dev/null
+
+  results[$variant,list]=$(load "$BASE_URL/api/v1/adoptions?limit=50")
+  results[$variant,get]=$(load "$BASE_URL/api/v1/adoptions/$adoptionId")
+  results[$variant,threads]=$(metric jvm.threads.peak)
+done
+
+echo
+echo "$REQUESTS requests per scenario, $CONCURRENCY concurrent"
+printf "%-10s %-28s %12s %10s %10s %8s %13s\n" variant scenario req/s avg-ms p99-ms non-2xx peak-threads
+for variant in platform virtual; do
+  for scenario in list get; do
+    read -r rps avg p99 failed <<< "${results[$variant,$scenario]}"
+    [[ $scenario == list ]] && name="GET /adoptions?limit=50" || name="GET /adoptions/{id}"
+    printf "%-10s %-28s %12s %10s %10s %8s %13s\n" "$variant" "$name" "$rps" "$avg" "$p99" "$failed" "${results[$variant,threads]}"
+  done
+done
+
+# Leave the stack on the default variant
+docker compose up -d --no-deps --force-recreate adoptions-service > /dev/null
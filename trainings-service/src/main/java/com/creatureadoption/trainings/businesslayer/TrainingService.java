@@ -10,6 +10,7 @@ public interface TrainingService {
 
     List<TrainingResponseModel> getTrainings(Map<String, String> queryParams);
     TrainingResponseModel getTrainingByTrainingId(String trainingId);
+    List<TrainingResponseModel> getTrainingsByTrainingIds(List<String> trainingIds);
     TrainingResponseModel addTraining(TrainingRequestModel trainingRequestModel);
     TrainingResponseModel updateTraining(TrainingRequestModel updatedTraining, String trainingId);
     void removeTraining(String trainingId);
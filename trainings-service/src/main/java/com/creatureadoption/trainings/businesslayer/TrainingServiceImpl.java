@@ -8,10 +8,13 @@ import com.creatureadoption.trainings.mappinglayer.TrainingResponseMapper;
 import com.creatureadoption.trainings.presentationlayer.TrainingRequestModel;
 import com.creatureadoption.trainings.presentationlayer.TrainingResponseModel;
 import com.creatureadoption.trainings.utils.exceptions.DuplicateTrainingNameException;
+import com.creatureadoption.trainings.utils.exceptions.InvalidInputException;
 import com.creatureadoption.trainings.utils.exceptions.NotFoundException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -20,6 +23,8 @@ import java.util.stream.Collectors;
 @Service
 public class TrainingServiceImpl implements TrainingService {
 
+    private static final int MAX_PAGE_SIZE = 1000;
+
     private final TrainingRepository trainingRepository;
     private final TrainingResponseMapper trainingResponseMapper;
     private final TrainingRequestMapper trainingRequestMapper;
@@ -32,7 +37,7 @@ public class TrainingServiceImpl implements TrainingService {
 
     @Override
     public List<TrainingResponseModel> getTrainings(Map<String, String> queryParams) {
-        List<Training> trainings = trainingRepository.findAll();
+        List<Training> trainings = findTrainings(queryParams);
 
         String trainingId = queryParams.get("trainingId");
         String name = queryParams.get("name");
@@ -62,6 +67,29 @@ public class TrainingServiceImpl implements TrainingService {
         return trainingResponseMapper.entityListToResponseModelList(trainings);
     }
 
+    /**
+     * Everything, or with a limit one page in trainingId order starting after the trainingId given as after,
+     * so a caller can walk every training without loading them all at once. The filters apply to the page.
+     */
+    private List<Training> findTrainings(Map<String, String> queryParams) {
+        String limit = queryParams.get("limit");
+        if (limit == null || limit.isEmpty()) {
+            return trainingRepository.findAll();
+        }
+        int pageSize;
+        try {
+            pageSize = Integer.parseInt(limit);
+        } catch (NumberFormatException e) {
+            throw new InvalidInputException("Invalid limit provided: " + limit);
+        }
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new InvalidInputException("Invalid limit provided: " + limit + ". Expected 1 to " + MAX_PAGE_SIZE);
+        }
+        String after = queryParams.get("after");
+        return trainingRepository.findByTrainingIdentifier_TrainingIdGreaterThanOrderByTrainingIdentifier_TrainingIdAsc(
+                after != null ? after : "", Limit.of(pageSize));
+    }
+
     @Override
     public TrainingResponseModel getTrainingByTrainingId(String trainingId) {
         Training training = trainingRepository.findByTrainingIdentifier_TrainingId(trainingId);
@@ -72,6 +100,16 @@ public class TrainingServiceImpl implements TrainingService {
         return trainingResponseMapper.entityToResponseModel(training);
     }
 
+    @Override
+    public List<TrainingResponseModel> getTrainingsByTrainingIds(List<String> trainingIds) {
+        if (trainingIds == null || trainingIds.isEmpty()) {
+            return List.of();
+        }
+        // Single IN query, ids that do not exist are simply left out of the result
+        List<Training> trainings = trainingRepository.findByTrainingIdentifier_TrainingIdIn(new HashSet<>(trainingIds));
+        return trainingResponseMapper.entityListToResponseModelList(trainings);
+    }
+
     @Override
     public TrainingResponseModel addTraining(TrainingRequestModel trainingRequestModel) {
         List<Training> existingTrainings = trainingRepository.findAll().stream() //subdomamin specific
@@ -1,8 +1,17 @@
 package com.creatureadoption.trainings.dataaccesslayer;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface TrainingRepository extends JpaRepository<Training, Integer> {
 
     Training findByTrainingIdentifier_TrainingId(String trainingId);
+
+    List<Training> findByTrainingIdentifier_TrainingIdIn(Collection<String> trainingIds);
+
+    // Keyset page in trainingId order, read over the unique training_id index
+    List<Training> findByTrainingIdentifier_TrainingIdGreaterThanOrderByTrainingIdentifier_TrainingIdAsc(String trainingId, Limit limit);
 }
\ No newline at end of file
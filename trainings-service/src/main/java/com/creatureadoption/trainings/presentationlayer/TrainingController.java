@@ -43,6 +43,16 @@ public class TrainingController {
         return ResponseEntity.ok().body(trainingService.getTrainingByTrainingId(trainingId));
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<TrainingResponseModel>> getTrainingsByTrainingIds(@RequestBody List<String> trainingIds) {
+        for (String trainingId : trainingIds) {
+            if (trainingId == null || trainingId.length() != UUID_LENGTH) {
+                throw new InvalidInputException("Invalid trainingId provided: " + trainingId);
+            }
+        }
+        return ResponseEntity.ok().body(trainingService.getTrainingsByTrainingIds(trainingIds));
+    }
+
     @PostMapping()
     public ResponseEntity<TrainingResponseModel> addTraining(@RequestBody TrainingRequestModel trainingRequestModel) {
         return ResponseEntity.status(HttpStatus.CREATED).body(trainingService.addTraining(trainingRequestModel));
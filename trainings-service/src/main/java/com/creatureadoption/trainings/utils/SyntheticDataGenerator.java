@@ -0,0 +1,119 @@
+package com.creatureadoption.trainings.utils;
+
+import com.creatureadoption.trainings.dataaccesslayer.Difficulty;
+import com.creatureadoption.trainings.dataaccesslayer.TrainingCategory;
+import com.creatureadoption.trainings.dataaccesslayer.TrainingStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adds a large, reproducible set of trainings for load testing on top of the sample data. Training ids are
+ * derived from the seed and the training's index the same way the adoptions-service generator derives the
+ * ids it refers to, so both services must run with the same app.synthetic settings.
+ */
+@Slf4j
+@Component
+@Profile("synthetic")
+public class SyntheticDataGenerator implements CommandLineRunner {
+
+    private static final String INSERT_TRAINING = "INSERT INTO trainings (training_id, training_code, name, "
+            + "description, difficulty, duration, status, category, price, location) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final List<String> SKILLS = List.of("Agility", "Endurance", "Precision", "Evasion", "Stamina",
+            "Focus", "Combo", "Counter", "Appeal", "Teamwork");
+    private static final List<String> LOCATIONS = List.of("Nimbasa Musical Theater", "Castelia Battle Hall",
+            "Jubilife Training Grounds", "Hearthome Contest Hall", "Veilstone Dojo", "Driftveil Gym",
+            "Mistralton Airfield", "Icirrus Ice Rink", "Opelucid Academy", "Sunyshore Tower");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long seed;
+    private final long trainings;
+    private final int batchSize;
+    private final int threads;
+
+    public SyntheticDataGenerator(JdbcTemplate jdbcTemplate,
+                                  @Value("${app.synthetic.seed:42}") long seed,
+                                  @Value("${app.synthetic.trainings:2000}") long trainings,
+                                  @Value("${app.synthetic.batch-size:5000}") int batchSize,
+                                  @Value("${app.synthetic.threads:4}") int threads) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.seed = seed;
+        this.trainings = trainings;
+        this.batchSize = batchSize;
+        this.threads = threads;
+    }
+
+    @Override
+    public void run(String... args) throws Exception {
+        log.info("Generating {} synthetic trainings with seed {}...", trainings, seed);
+        long started = System.currentTimeMillis();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> batches = new ArrayList<>();
+            for (long from = 0; from < trainings; from += batchSize) {
+                long start = from;
+                long end = Math.min(from + batchSize, trainings);
+                batches.add(executor.submit(() -> jdbcTemplate.batchUpdate(INSERT_TRAINING, generateTrainings(start, end))));
+            }
+            for (Future<?> batch : batches) {
+                batch.get();
+            }
+        } finally {
+            executor.shutdown();
+            if (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                executor.shutdownNow();
+            }
+        }
+
+        log.info("Generated {} synthetic trainings in {} ms", trainings, System.currentTimeMillis() - started);
+    }
+
+    List<Object[]> generateTrainings(long from, long to) {
+        List<Object[]> rows = new ArrayList<>((int) (to - from));
+        for (long index = from; index < to; index++) {
+            SplittableRandom random = random("training", index);
+            Difficulty difficulty = Difficulty.values()[random.nextInt(Difficulty.values().length)];
+            TrainingCategory category = TrainingCategory.values()[random.nextInt(TrainingCategory.values().length)];
+            String skill = SKILLS.get(random.nextInt(SKILLS.size()));
+            int roll = random.nextInt(10);
+            TrainingStatus status = roll < 8 ? TrainingStatus.ACTIVE : roll < 9 ? TrainingStatus.FULL : TrainingStatus.INACTIVE;
+            rows.add(new Object[]{
+                    id("training", index),
+                    String.format("SYN-%08X", index),
+                    skill + " " + category.name().charAt(0) + category.name().substring(1).toLowerCase() + " " + index,
+                    "Synthetic " + difficulty.name().toLowerCase() + " training focused on " + skill.toLowerCase(),
+                    difficulty.name(),
+                    1 + random.nextInt(8),
+                    status.name(),
+                    category.name(),
+                    BigDecimal.valueOf(4999 + random.nextInt(30000), 2),
+                    LOCATIONS.get(random.nextInt(LOCATIONS.size()))
+            });
+        }
+        return rows;
+    }
+
+    private SplittableRandom random(String kind, long index) {
+        return new SplittableRandom(seed ^ kind.hashCode() * 0x9E3779B97F4A7C15L ^ index * 0xC2B2AE3D27D4EB4FL);
+    }
+
+    private String id(String kind, long index) {
+        return UUID.nameUUIDFromBytes((seed + "/" + kind + "/" + index).getBytes(StandardCharsets.UTF_8)).toString();
+    }
+}
@@ -9,6 +9,7 @@ import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.reactive.server.WebTestClient;
 
+import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -46,6 +47,32 @@ public class TrainingControllerIntegrationTest {
                 });
     }
 
+    @Test
+    public void whenGetTrainingsWithLimit_thenReturnPagesInTrainingIdOrder() {
+        //arrange
+        List<TrainingResponseModel> firstPage = webTestClient.get()
+                .uri(BASE_URI + "?limit=2")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(TrainingResponseModel.class)
+                .returnResult().getResponseBody();
+        String after = firstPage.get(firstPage.size() - 1).getTrainingId();
+        //act
+        webTestClient.get()
+                .uri(BASE_URI + "?limit=2&after=" + after)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                //assert
+                .expectStatus().isOk()
+                .expectBodyList(TrainingResponseModel.class)
+                .value(nextPage -> {
+                    assertThat(firstPage).hasSize(2);
+                    assertThat(firstPage.get(0).getTrainingId()).isLessThan(firstPage.get(1).getTrainingId());
+                    assertThat(nextPage).allMatch(training -> training.getTrainingId().compareTo(after) > 0);
+                });
+    }
+
     @Test
     public void whenGetTrainingsWithDifficultyFilter_thenReturnFilteredTrainings() {
         //arrange
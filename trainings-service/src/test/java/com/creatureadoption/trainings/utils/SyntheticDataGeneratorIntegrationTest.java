@@ -0,0 +1,60 @@
+package com.creatureadoption.trainings.utils;
+
+import com.creatureadoption.trainings.dataaccesslayer.TrainingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.transaction.annotation.Propagation.NOT_SUPPORTED;
+
+@DataJpaTest
+@Transactional(propagation = NOT_SUPPORTED)
+public class SyntheticDataGeneratorIntegrationTest {
+
+    private static final long SEED = 42;
+    private static final long TRAININGS = 90;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TrainingRepository repository;
+
+    private SyntheticDataGenerator generator;
+
+    @BeforeEach
+    public void setupDb() {
+        repository.deleteAll();
+        generator = new SyntheticDataGenerator(jdbcTemplate, SEED, TRAININGS, 25, 3);
+    }
+
+    @Test
+    public void whenRun_thenEveryTrainingIsStoredUnderTheIdTheAdoptionsReferTo() throws Exception {
+        generator.run();
+
+        assertThat(repository.count()).isEqualTo(TRAININGS);
+        for (long index = 0; index < TRAININGS; index += 11) {
+            assertThat(repository.findByTrainingIdentifier_TrainingId(syntheticId("training", index))).isNotNull();
+        }
+    }
+
+    @Test
+    public void whenGeneratedWithAnotherSeed_thenTheIdsDiffer() {
+        SyntheticDataGenerator otherSeed = new SyntheticDataGenerator(jdbcTemplate, 7, TRAININGS, 25, 3);
+
+        assertThat(otherSeed.generateTrainings(0, 1).get(0)[0]).isNotEqualTo(generator.generateTrainings(0, 1).get(0)[0]);
+        assertThat(generator.generateTrainings(0, 1).get(0)[0]).isEqualTo(syntheticId("training", 0));
+    }
+
+    // The adoptions-service generator derives the training ids it refers to this way
+    private static String syntheticId(String kind, long index) {
+        return UUID.nameUUIDFromBytes((SEED + "/" + kind + "/" + index).getBytes(StandardCharsets.UTF_8)).toString();
+    }
+}